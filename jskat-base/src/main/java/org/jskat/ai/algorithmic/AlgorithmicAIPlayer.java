@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.algorithmic;
 
-import org.apache.log4j.Logger;
 import org.jskat.ai.AbstractAIPlayer;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
@@ -23,6 +22,8 @@ import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Markus J. Luzius <br>
@@ -30,7 +31,7 @@ import org.jskat.util.GameType;
  * 
  */
 public class AlgorithmicAIPlayer extends AbstractAIPlayer {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmicAIPlayer.class);
 
 	private IAlgorithmicAIPlayer aiPlayer = null;
@@ -43,7 +44,7 @@ public class AlgorithmicAIPlayer extends AbstractAIPlayer {
 	 */
 	@Override
 	public void preparateForNewGame() {
-		log.debug("New game preparation for player <" + playerName + ">");
+		log.debug("New game preparation for player <{}>", playerName);
 		aiPlayer = null;
 	}
 
@@ -131,10 +132,8 @@ public class AlgorithmicAIPlayer extends AbstractAIPlayer {
 						"AIPlayer has not been correctly set");
 			}
 		}
-		log.debug("-+-+-+-+-+-+-+-+-+- Trick #" + knowledge.getNoOfTricks()
-				+ " - " + playerName + " is playing a card of "
-				+ knowledge.getOwnCards() + " (" + aiPlayer.getClass()
-				+ ") -+-+-+-+-+-+-+-+-+-");
+		log.debug("-+-+-+-+-+-+-+-+-+- Trick #{} - {} is playing a card of {} ({}) -+-+-+-+-+-+-+-+-+-",
+				knowledge.getNoOfTricks(), playerName, knowledge.getOwnCards(), aiPlayer.getClass());
 		Card c = aiPlayer.playCard();
 		if (c != null) {
 			return c;
@@ -158,15 +157,12 @@ public class AlgorithmicAIPlayer extends AbstractAIPlayer {
 		if (aiPlayer == null || !(aiPlayer instanceof AlgorithmicSinglePlayer)) {
 			if (knowledge.getGameType() == null
 					|| knowledge.getGameType() == GameType.RAMSCH) {
-				log.debug("GameType = "
-						+ knowledge.getGameType()
-						+ (knowledge.getGameType() == null ? " - assuming Ramsch"
-								: ""));
+				log.debug("GameType = {}{}",
+						knowledge.getGameType(), knowledge.getGameType() == null ? " - assuming Ramsch" : "");
 				aiPlayer = new AlgorithmicRamschPlayer(this);
 				return aiPlayer.discardSkat(null);
 			}
-			log.warn("aiPlayer for " + knowledge.getGameType()
-					+ " game is not a single player instance: " + aiPlayer);
+			log.warn("aiPlayer for {} game is not a single player instance: {}", knowledge.getGameType(), aiPlayer);
 			aiPlayer = new AlgorithmicSinglePlayer(this);
 		}
 		return aiPlayer.discardSkat(bidEvaluator);
@@ -181,20 +177,20 @@ public class AlgorithmicAIPlayer extends AbstractAIPlayer {
 	public void startGame() {
 		if (aiPlayer == null) {
 			if (knowledge.getGameType() == GameType.RAMSCH) {
-				log.debug("GameType = " + knowledge.getGameType());
+				log.debug("GameType = {}", knowledge.getGameType());
 				aiPlayer = new AlgorithmicRamschPlayer(this);
 			} else {
-				log.debug("GameType = " + knowledge.getGameType());
+				log.debug("GameType = {}", knowledge.getGameType());
 				aiPlayer = new AlgorithmicOpponentPlayer(this);
 			}
-			log.debug("aiPlayer set to " + aiPlayer);
+			log.debug("aiPlayer set to {}", aiPlayer);
 		} else {
 			if (aiPlayer instanceof AlgorithmicRamschPlayer
 					&& knowledge.getGameType() != GameType.RAMSCH) {
 				log.debug("Game is grand hand - switching from RamschPlayer to OpponentPlayer");
 				aiPlayer = new AlgorithmicOpponentPlayer(this);
 			}
-			log.debug("game started for aiPlayer " + aiPlayer);
+			log.debug("game started for aiPlayer {}", aiPlayer);
 		}
 	}
 
@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.algorithmic;
 
-import org.apache.log4j.Logger;
 import org.jskat.data.Trick;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
@@ -25,6 +24,8 @@ import org.jskat.util.Player;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
 import org.jskat.util.rule.SkatRuleFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Markus J. Luzius <br>
@@ -32,7 +33,7 @@ import org.jskat.util.rule.SkatRuleFactory;
  * 
  */
 public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmicOpponentPlayer.class);
 
 	private final AlgorithmicAIPlayer myPlayer;
@@ -44,8 +45,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 	AlgorithmicOpponentPlayer(AlgorithmicAIPlayer p) {
 		myPlayer = p;
 		knowledge = p.getKnowledge();
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as "
-				+ this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	/*
@@ -136,8 +136,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 			// log.debug("playCard (5)");
 			// return cards.get(cards.getLastIndexOfSuit(shortSuit));
 		} else {
-			log.warn(".openGame(): wrong declarer position: "
-					+ knowledge.getDeclarer());
+			log.warn(".openGame(): wrong declarer position: {}", knowledge.getDeclarer());
 			log.debug("playCard (6)");
 			return cards.get(cards.size() - 1);
 		}
@@ -156,8 +155,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 	}
 
 	private Card playMiddlehandCard() {
-		log.debug("I (" + myPlayer.getPlayerName()
-				+ ") am in middlehand (OpponentPlayer)");
+		log.debug("I ({}) am in middlehand (OpponentPlayer)", myPlayer.getPlayerName());
 		// fallback: take the first valid card
 		CardList cards = knowledge.getOwnCards();
 		Card initialCard = knowledge.getTrickCards().get(0);
@@ -205,8 +203,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 						}
 					}
 					if (cnt > 0) {
-						log.debug("Looking for a high value card - rearhand might have "
-								+ cnt + " beating card(s)");
+						log.debug("Looking for a high value card - rearhand might have {} beating card(s)", cnt);
 						for (Card c : cards) {
 							if (c.isAllowed(gameType, initialCard, cards)) {
 								if (result == null
@@ -222,8 +219,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 															Card.getCard(
 																	c.getSuit(),
 																	Rank.TEN))) {
-										log.debug("Keeping my ace of "
-												+ c.getSuit());
+										log.debug("Keeping my ace of {}", c.getSuit());
 									} else {
 										result = c;
 									}
@@ -231,7 +227,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 							}
 						}
 						if (result != null) {
-							log.debug("playCard (14), cnt=" + cnt);
+							log.debug("playCard (14), cnt={}", cnt);
 							return result;
 						}
 					}
@@ -274,13 +270,11 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 								initialCard.getSuit(), false));
 					}
 
-					log.debug("playCard (13pre1), cnt=" + cntSuit + " / "
-							+ cntTrump);
+					log.debug("playCard (13pre1), cnt={} / {}", cntSuit, cntTrump);
 				} else {
 					result = cards.get(cards.getLastIndexOfSuit(
 							initialCard.getSuit(), false));
-					log.debug("playCard (13pre2), cnt=" + cntSuit + " / "
-							+ cntTrump);
+					log.debug("playCard (13pre2), cnt={} / {}", cntSuit, cntTrump);
 				}
 				if (result == null) {
 					for (Card c : cards) {
@@ -327,8 +321,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 	}
 
 	private Card playRearhandCard() {
-		log.debug("I (" + myPlayer.getPlayerName()
-				+ ") am in rearhand (OpponentPlayer)");
+		log.debug("I ({}) am in rearhand (OpponentPlayer)", myPlayer.getPlayerName());
 		// fallback: take the first valid card
 		CardList cards = knowledge.getOwnCards();
 		Card initialCard = knowledge.getTrickCards().get(0);
@@ -337,7 +330,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 
 		if (initialCard.beats(gameType, knowledge.getTrickCards().get(1))) {
 			// forehand win
-			log.debug("forehand win - declarer=" + knowledge.getDeclarer());
+			log.debug("forehand win - declarer={}", knowledge.getDeclarer());
 
 			if (knowledge.getDeclarer() == knowledge.getCurrentTrick()
 					.getForeHand()) {
@@ -358,7 +351,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 							.calculateTrickWinner(gameType, tmpTrick) != knowledge
 							.getDeclarer()) {
 						if (!myTrick) {
-							log.debug("I can take the trick with " + c);
+							log.debug("I can take the trick with {}", c);
 							result = c;
 							myTrick = true;
 						} else if (c.getPoints() >= result.getPoints())
@@ -426,7 +419,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 							.calculateTrickWinner(gameType, tmpTrick) != knowledge
 							.getDeclarer()) {
 						if (!myTrick) {
-							log.debug("I can take the trick with " + c);
+							log.debug("I can take the trick with {}", c);
 							result = c;
 							myTrick = true;
 						} else if (c.getPoints() >= result.getPoints())
@@ -511,8 +504,7 @@ public class AlgorithmicOpponentPlayer implements IAlgorithmicAIPlayer {
 			log.debug("playCard (8)");
 			return result;
 		}
-		log.warn("no possible card found in card list [" + cards + "] with "
-				+ gameType + " / " + initialCard);
+		log.warn("no possible card found in card list [{}] with {} / {}", cards, gameType, initialCard);
 		log.debug("playCard (9)");
 		return cards.get(0);
 	}
@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.algorithmic;
 
-import org.apache.log4j.Logger;
 import org.jskat.data.JSkatOptions;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
@@ -23,6 +22,8 @@ import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Markus J. Luzius <br>
@@ -30,7 +31,7 @@ import org.jskat.util.Suit;
  * 
  */
 public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
-	private static final Logger log = Logger.getLogger(AlgorithmicRamschPlayer.class);
+	private static final Logger log = LoggerFactory.getLogger(AlgorithmicRamschPlayer.class);
 
 	private final AlgorithmicAIPlayer myPlayer;
 	private final ImmutablePlayerKnowledge knowledge;
@@ -41,7 +42,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	AlgorithmicRamschPlayer(final AlgorithmicAIPlayer p) {
 		myPlayer = p;
 		knowledge = p.getKnowledge();
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as " + this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	/*
@@ -119,7 +120,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 		}
 		if (resultIndex >= 0) {
 			Card result = cards.get(resultIndex);
-			log.debug("Playing single (or high double) suit card: " + result + " of " + cards);
+			log.debug("Playing single (or high double) suit card: {} of {}", result, cards);
 			return result;
 		}
 
@@ -147,7 +148,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	}
 
 	private Card playMiddlehandCard() {
-		log.debug("I (" + myPlayer.getPlayerName() + ") am in middlehand (OpponentPlayer)");
+		log.debug("I ({}) am in middlehand (OpponentPlayer)", myPlayer.getPlayerName());
 		CardList cards = knowledge.getOwnCards();
 		Card initialCard = knowledge.getTrickCards().get(0);
 		GameType gameType = knowledge.getGameType();
@@ -157,7 +158,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	}
 
 	private Card playRearhandCard() {
-		log.debug("I (" + myPlayer.getPlayerName() + ") am in rearhand (OpponentPlayer)");
+		log.debug("I ({}) am in rearhand (OpponentPlayer)", myPlayer.getPlayerName());
 		CardList cards = knowledge.getOwnCards();
 		Card initialCard = knowledge.getTrickCards().get(0);
 		Card middlehandCard = knowledge.getTrickCards().get(1);
@@ -205,7 +206,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 			log.debug("playCard (8)");
 			return result;
 		}
-		log.warn("no possible card found in card list [" + cards + "] with " + gameType + " / " + initialCard);
+		log.warn("no possible card found in card list [{}] with {} / {}", cards, gameType, initialCard);
 		log.debug("playCard (9)");
 		return cards.get(0);
 	}
@@ -219,7 +220,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	 */
 	@Override
 	public CardList discardSkat(final BidEvaluator bidEvaluator) {
-		log.debug(myPlayer.getPlayerName() + " (" + this.getClass() + ") is discarding cards");
+		log.debug("{} ({}) is discarding cards", myPlayer.getPlayerName(), this.getClass());
 		if (JSkatOptions.instance().isSchieberamschJacksInSkat()) {
 			return discardWithJacks();
 		}
@@ -229,7 +230,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 	private CardList discardWithJacks() {
 		CardList result = new CardList();
 		CardList cards = new CardList(knowledge.getOwnCards());
-		log.debug("cards left before discarding(withJacks): " + cards.size() + " - " + cards);
+		log.debug("cards left before discarding(withJacks): {} - {}", cards.size(), cards);
 		cards.sort(GameType.RAMSCH);
 		if (cards.get(0).getRank() == Rank.JACK && cards.get(0).getSuit() == Suit.CLUBS
 				|| cards.get(0).getSuit() == Suit.SPADES) {
@@ -245,7 +246,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 		while (result.size() > 2) {
 			cards.add(result.remove(result.size() - 1));
 		}
-		log.debug("cards left after discarding(withJacks): " + cards.size() + " - " + cards);
+		log.debug("cards left after discarding(withJacks): {} - {}", cards.size(), cards);
 		return result;
 	}
 
@@ -253,7 +254,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 		CardList result = new CardList();
 		CardList cards = new CardList(knowledge.getOwnCards());
 		cards.sort(GameType.RAMSCH);
-		log.debug("cards left before discarding(noJacks): " + cards.size() + " - " + cards);
+		log.debug("cards left before discarding(noJacks): {} - {}", cards.size(), cards);
 		for (Card c : cards) {
 			if (result.size() < 2 && c.getRank() == Rank.ACE) {
 				result.add(c);
@@ -296,7 +297,7 @@ public class AlgorithmicRamschPlayer implements IAlgorithmicAIPlayer {
 				result.add(c);
 			}
 		}
-		log.debug("cards left after discarding(noJacks): " + cards.size() + " - " + cards);
+		log.debug("cards left after discarding(noJacks): {} - {}", cards.size(), cards);
 		return result;
 
 	}
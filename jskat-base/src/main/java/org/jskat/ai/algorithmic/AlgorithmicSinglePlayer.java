@@ -15,13 +15,14 @@
  */
 package org.jskat.ai.algorithmic;
 
-import org.apache.log4j.Logger;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Markus J. Luzius <br>
@@ -29,7 +30,7 @@ import org.jskat.util.Suit;
  * 
  */
 public class AlgorithmicSinglePlayer implements IAlgorithmicAIPlayer {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmicSinglePlayer.class);
 
 	private final AlgorithmicAIPlayer myPlayer;
@@ -41,8 +42,7 @@ public class AlgorithmicSinglePlayer implements IAlgorithmicAIPlayer {
 	AlgorithmicSinglePlayer(final AlgorithmicAIPlayer p) {
 		myPlayer = p;
 		knowledge = p.getKnowledge();
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as "
-				+ this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	/*
@@ -202,9 +202,8 @@ public class AlgorithmicSinglePlayer implements IAlgorithmicAIPlayer {
 				return c;
 			}
 		}
-		log.warn("no possible card found in card list [" + cards + "] with "
-				+ knowledge.getGameType() + " / "
-				+ knowledge.getTrickCards().get(0));
+		log.warn("no possible card found in card list [{}] with {} / {}",
+				cards, knowledge.getGameType(), knowledge.getTrickCards().get(0));
 		return cards.get(0);
 	}
 
@@ -220,9 +219,8 @@ public class AlgorithmicSinglePlayer implements IAlgorithmicAIPlayer {
 				return c;
 			}
 		}
-		log.warn("no possible card found in card list [" + cards + "] with "
-				+ knowledge.getGameType() + " / "
-				+ knowledge.getTrickCards().get(0));
+		log.warn("no possible card found in card list [{}] with {} / {}",
+				cards, knowledge.getGameType(), knowledge.getTrickCards().get(0));
 		return cards.get(0);
 	}
 
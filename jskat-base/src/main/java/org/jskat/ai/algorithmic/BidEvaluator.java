@@ -18,7 +18,7 @@ package org.jskat.ai.algorithmic;
 import org.jskat.ai.mjl.Helper;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
-import org.jskat.util.SkatConstants;
+import org.jskat.util.GameValueTable;
 import org.jskat.util.Suit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,30 +47,20 @@ class BidEvaluator {
 	 *            hand of the player
 	 */
 	BidEvaluator(final CardList cards) {
-		log.debug("Checking out what to bid with [" + cards + "]" + cards.dumpFlag());
+		log.debug("Checking out what to bid with [{}]{}", cards, cards.dumpFlag());
 		if (cards.size() < 10) {
 			log.warn("Not enough cards for bid evaluation!");
 			return;
 		}
 
-		Suit mostFrequentSuitColor;
-		int mostFrequentSuitColorValue = 0;
-		int multiplier = Helper.getMultiplier(cards);
+		Suit mostFrequentSuitColor = cards.getMostFrequentSuit();
+		GameType mostFrequentSuitGameType = getSuitGameType(mostFrequentSuitColor);
+		int multiplier = GameValueTable.getMultiplier(cards.getMask(), mostFrequentSuitGameType);
 
-		mostFrequentSuitColor = cards.getMostFrequentSuit();
 		int noOfTrumps = cards.getSuitCount(mostFrequentSuitColor, false);
 		int noOfJacks = Helper.countJacks(cards);
 
-		if (mostFrequentSuitColor == Suit.CLUBS) {
-			mostFrequentSuitColorValue = SkatConstants.getGameBaseValue(GameType.CLUBS, false, false);
-		} else if (mostFrequentSuitColor == Suit.SPADES) {
-			mostFrequentSuitColorValue = SkatConstants.getGameBaseValue(GameType.SPADES, false, false);
-		} else if (mostFrequentSuitColor == Suit.HEARTS) {
-			mostFrequentSuitColorValue = SkatConstants.getGameBaseValue(GameType.HEARTS, false, false);
-		} else if (mostFrequentSuitColor == Suit.DIAMONDS) {
-			mostFrequentSuitColorValue = SkatConstants.getGameBaseValue(GameType.DIAMONDS, false, false);
-		}
-		maxBid = mostFrequentSuitColorValue * multiplier;
+		maxBid = GameValueTable.getMaxBid(cards.getMask(), mostFrequentSuitGameType, GameValueTable.NO_FLAGS);
 
 		// but I will only play, if I have at least 1 jack and 4 color cards or
 		// 2 jacks and 3 color cards
@@ -85,24 +75,24 @@ class BidEvaluator {
 		}
 
 		if (maxBid > 0) {
-			switch (mostFrequentSuitColor) {
-			case CLUBS:
-				suggestedGameType = GameType.CLUBS;
-				break;
-			case SPADES:
-				suggestedGameType = GameType.SPADES;
-				break;
-			case HEARTS:
-				suggestedGameType = GameType.HEARTS;
-				break;
-			case DIAMONDS:
-				suggestedGameType = GameType.DIAMONDS;
-				break;
-			}
+			suggestedGameType = mostFrequentSuitGameType;
 		}
 
-		log.debug("I will bid until " + maxBid + " (m=" + multiplier + "x) - I have " + noOfJacks
-				+ " Jacks and an additional " + noOfTrumps + " trump cards in suit " + mostFrequentSuitColor);
+		log.debug("I will bid until {} (m={}x) - I have {} Jacks and an additional {} trump cards in suit {}",
+				maxBid, multiplier, noOfJacks, noOfTrumps, mostFrequentSuitColor);
+	}
+
+	private static GameType getSuitGameType(final Suit suit) {
+		switch (suit) {
+		case CLUBS:
+			return GameType.CLUBS;
+		case SPADES:
+			return GameType.SPADES;
+		case HEARTS:
+			return GameType.HEARTS;
+		default:
+			return GameType.DIAMONDS;
+		}
 	}
 
 	/**
@@ -121,10 +121,8 @@ public class AIPlayerMJL extends AbstractAIPlayer {
 		if (aiPlayer == null || aiPlayer instanceof OpponentPlayer) {
 			knowledge.getOwnCards().remove(knowledge.getSkat().get(0));
 			knowledge.getOwnCards().remove(knowledge.getSkat().get(1));
-			log.debug("aiplayer is not SinglePlayer, discarding original skat of ["
-					+ knowledge.getSkat()
-					+ "], cards.size="
-					+ knowledge.getOwnCards().size());
+			log.debug("aiplayer is not SinglePlayer, discarding original skat of [{}], cards.size={}",
+					knowledge.getSkat(), knowledge.getOwnCards().size());
 			return knowledge.getSkat();
 		}
 
@@ -138,15 +136,13 @@ public class AIPlayerMJL extends AbstractAIPlayer {
 	 */
 	@Override
 	public void startGame() {
-		log.debug("Starting game for player (" + getPlayerName() + ")");
+		log.debug("Starting game for player ({})", getPlayerName());
 		if (knowledge.getDeclarer() != knowledge.getPlayerPosition()) {
-			log.debug("ok? AIPlayerMJL should be OpponentPlayer - actually is: "
-					+ (aiPlayer == null ? "null" : aiPlayer.getClass()
-							.getName()));
+			log.debug("ok? AIPlayerMJL should be OpponentPlayer - actually is: {}",
+					aiPlayer == null ? "null" : aiPlayer.getClass().getName());
 		} else {
-			log.debug("ok? setting AIPlayerMJL to be SinglePlayer - actually is: "
-					+ (aiPlayer == null ? "null" : aiPlayer.getClass()
-							.getName()));
+			log.debug("ok? setting AIPlayerMJL to be SinglePlayer - actually is: {}",
+					aiPlayer == null ? "null" : aiPlayer.getClass().getName());
 			aiPlayer = new SinglePlayer(knowledge.getOwnCards(), rules);
 		}
 		aiPlayer.startGame(knowledge);
@@ -159,10 +155,9 @@ public class AIPlayerMJL extends AbstractAIPlayer {
 	 */
 	@Override
 	public Card playCard() {
-		log.debug("--------------------- start (" + playerName
-				+ ") ----------------------------------");
-		log.debug(".playCard(): my position: " + knowledge.getPlayerPosition()
-				+ ", single player: " + knowledge.getDeclarer());
+		log.debug("--------------------- start ({}) ----------------------------------", playerName);
+		log.debug(".playCard(): my position: {}, single player: {}",
+				knowledge.getPlayerPosition(), knowledge.getDeclarer());
 		Card toPlay = aiPlayer.playNextCard(knowledge);
 		// make sure, that there is a card
 		if (toPlay != null) {
@@ -173,10 +168,8 @@ public class AIPlayerMJL extends AbstractAIPlayer {
 		CardList result = getPlayableCards(this.knowledge.getTrickCards());
 		if (result.size() < 1) {
 			log.warn("no playable cards - shouldn't be possible!");
-			log.debug("my cards: " + knowledge.getOwnCards() + ", trick: "
-					+ this.knowledge.getTrickCards());
-			log.debug("--------------------- done (" + playerName
-					+ ") -----------------------------------");
+			log.debug("my cards: {}, trick: {}", knowledge.getOwnCards(), this.knowledge.getTrickCards());
+			log.debug("--------------------- done ({}) -----------------------------------", playerName);
 			return null;
 		}
 		log.debug("--------------------- done -----------------------------------");
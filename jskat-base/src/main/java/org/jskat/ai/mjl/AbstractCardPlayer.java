@@ -15,9 +15,10 @@
  */
 package org.jskat.ai.mjl;
 
-import org.apache.log4j.Logger;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.CardList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Markus J. Luzius <br>
@@ -25,7 +26,7 @@ import org.jskat.util.CardList;
  * 
  */
 public abstract class AbstractCardPlayer implements CardPlayer {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AbstractCardPlayer.class);
 
 	protected CardList cards = null;
@@ -43,7 +43,7 @@ class Bidding {
 	 *            hand of the player
 	 */
 	Bidding(final CardList cards) {
-		log.debug("Checking out what to bid with [" + cards + "]");
+		log.debug("Checking out what to bid with [{}]", cards);
 
 		Suit mostFrequentSuitColor;
 		int mostFrequentSuitColorValue = 0;
@@ -93,8 +93,8 @@ class Bidding {
 			}
 		}
 
-		log.debug("I will bid until " + maxBid + " - I have " + noOfJacks + " Jacks and " + noOfTrumps
-				+ " Trumps in suit " + mostFrequentSuitColor);
+		log.debug("I will bid until {} - I have {} Jacks and {} Trumps in suit {}",
+				maxBid, noOfJacks, noOfTrumps, mostFrequentSuitColor);
 	}
 
 	/**
@@ -84,10 +84,10 @@ public class CardMemory {
 		cardsPlayed[(forehandPlayer + 1) % 3].add(trick.get(1));
 		cardsPlayed[(forehandPlayer + 2) % 3].add(trick.get(2));
 		log.debug("Cards played so far:");
-		log.debug("Player 0: " + cardsPlayed[0]);
-		log.debug("Player 1: " + cardsPlayed[1]);
-		log.debug("Player 2: " + cardsPlayed[2]);
-		log.debug("Initial cards: " + initialCardsPlayed);
+		log.debug("Player 0: {}", cardsPlayed[0]);
+		log.debug("Player 1: {}", cardsPlayed[1]);
+		log.debug("Player 2: {}", cardsPlayed[2]);
+		log.debug("Initial cards: {}", initialCardsPlayed);
 	}
 
 	/**
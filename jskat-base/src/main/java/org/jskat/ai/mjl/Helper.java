@@ -19,6 +19,7 @@ import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
@@ -68,8 +69,7 @@ public class Helper {
 				return false;
 			}
 		} else {
-			log.warn("Request for wrong singlePlayerPos ("
-					+ knowledge.getDeclarer() + ")!");
+			log.warn("Request for wrong singlePlayerPos ({})!", knowledge.getDeclarer());
 			return false;
 		}
 	}
@@ -185,34 +185,7 @@ public class Helper {
 	 * @return multiplier (only positive values)
 	 */
 	public static int getMultiplier(final CardList cards) {
-
-		// TODO (js) this might be a candidate for SkatRules
-
-		int multiplier = 2;
-		if (cards.contains(Card.CJ)) {
-			// game was played with jacks
-			if (cards.contains(Card.SJ)) {
-				multiplier++;
-				if (cards.contains(Card.HJ)) {
-					multiplier++;
-					if (cards.contains(Card.DJ)) {
-						multiplier++;
-					}
-				}
-			}
-		} else {
-			// game was played without jacks
-			if (!cards.contains(Card.SJ)) {
-				multiplier++;
-				if (!cards.contains(Card.HJ)) {
-					multiplier++;
-					if (!cards.contains(Card.DJ)) {
-						multiplier++;
-					}
-				}
-			}
-		}
-		return multiplier;
+		return GameValueTable.getMultiplier(cards.getMask(), GameType.GRAND);
 	}
 
 	/**
@@ -401,8 +374,7 @@ public class Helper {
 	public static Suit binaryToSuit(final int binary) {
 		Suit result = null;
 		if (!(binary == 1 || binary == 2 || binary == 4 || binary == 8)) {
-			log.warn(".binaryToSuit(): warning: more than one suit possible! -->"
-					+ binary);
+			log.warn(".binaryToSuit(): warning: more than one suit possible! -->{}", binary);
 			return result;
 		}
 		if ((binary & 1) > 0) {
@@ -49,7 +49,7 @@ public class OpponentPlayer extends AbstractCardPlayer {
 	OpponentPlayer(final CardList cards, final String name) {
 		super(cards);
 		this.name = name;
-		log.debug("Constructing a new opponent player called <" + name + ">...");
+		log.debug("Constructing a new opponent player called <{}>...", name);
 	}
 
 	/**
@@ -62,16 +62,14 @@ public class OpponentPlayer extends AbstractCardPlayer {
 	 */
 	@Override
 	public Card playNextCard(final ImmutablePlayerKnowledge knowledge) {
-		log.debug("Play next card with trick size "
-				+ knowledge.getTrickCards().size());
+		log.debug("Play next card with trick size {}", knowledge.getTrickCards().size());
 		if (knowledge.getGameType() == GameType.NULL) {
 			return playNextCardNullGame(knowledge);
 		}
 
 		int bestToBePlayed = -1;
-		log.debug(".playNextCard(): Processing hand [" + cards
-				+ "] with trick [" + knowledge.getTrickCards()
-				+ "]. Game type is " + knowledge.getGameType() + ".");
+		log.debug(".playNextCard(): Processing hand [{}] with trick [{}]. Game type is {}.",
+				cards, knowledge.getTrickCards(), knowledge.getGameType());
 
 		if (knowledge.getTrickCards().size() > 1) {
 			bestToBePlayed = findRearhandCard(knowledge);
@@ -84,17 +82,15 @@ public class OpponentPlayer extends AbstractCardPlayer {
 			} else {
 				bestToBePlayed = findInitial(knowledge);
 			}
-			log.debug(".playNextCard(): (in forehand) " + name + ": "
-					+ cards.get(bestToBePlayed));
+			log.debug(".playNextCard(): (in forehand) {}: {}", name, cards.get(bestToBePlayed));
 		}
 
 		if (bestToBePlayed < 0 || bestToBePlayed > cards.size() - 1) {
-			log.debug("----- Error in finding a good opponent card: "
-					+ bestToBePlayed + " -----");
+			log.debug("----- Error in finding a good opponent card: {} -----", bestToBePlayed);
 			bestToBePlayed = 0;
 		}
 
-		log.debug("Playing " + cards.get(bestToBePlayed));
+		log.debug("Playing {}", cards.get(bestToBePlayed));
 
 		if (bestToBePlayed < 0) {
 			log.warn("Can't find a suitable card!");
@@ -219,8 +215,7 @@ public class OpponentPlayer extends AbstractCardPlayer {
 			}
 		}
 
-		log.debug(".playNextCard(): player " + name + ": "
-				+ cards.get(bestToBePlayed));
+		log.debug(".playNextCard(): player {}: {}", name, cards.get(bestToBePlayed));
 		return bestToBePlayed;
 	}
 
@@ -318,7 +313,7 @@ public class OpponentPlayer extends AbstractCardPlayer {
 				log.debug(".playNextCard(): I cannot match but it's our trick already...");
 				// 1.2.2: if yes: find highest value card (but no ace)
 				bestToBePlayed = findHighCard(cards, trumpSuit);
-				log.debug(".playNextCard(): got back value " + bestToBePlayed);
+				log.debug(".playNextCard(): got back value {}", bestToBePlayed);
 
 			}
 		}
@@ -333,7 +328,7 @@ public class OpponentPlayer extends AbstractCardPlayer {
 	 */
 	private Card playNextCardNullGame(final ImmutablePlayerKnowledge knowledge) {
 		int bestToBePlayed = -1;
-		log.debug(".playNextCardNullGame(): cards: [" + cards + "]");
+		log.debug(".playNextCardNullGame(): cards: [{}]", cards);
 
 		if (knowledge.getTrickCards().size() > 0) {
 			Card initialCard = knowledge.getTrickCards().get(0);
@@ -354,12 +349,10 @@ public class OpponentPlayer extends AbstractCardPlayer {
 			}
 		} else {
 			int toBePlayed = findInitialForNullGame(cards);
-			log.debug(".playNextCardNullGame(): (initial for null): "
-					+ toBePlayed);
+			log.debug(".playNextCardNullGame(): (initial for null): {}", toBePlayed);
 			bestToBePlayed = toBePlayed;
 		}
-		log.debug(".playNextCardNullGame(): playing: ["
-				+ cards.get(bestToBePlayed) + "]");
+		log.debug(".playNextCardNullGame(): playing: [{}]", cards.get(bestToBePlayed));
 		if (bestToBePlayed < 0) {
 			return null;
 		}
@@ -512,7 +505,7 @@ public class OpponentPlayer extends AbstractCardPlayer {
 			index = rand.nextInt(cards.size());
 		}
 
-		log.debug(".findLowerCard(): " + index);
+		log.debug(".findLowerCard(): {}", index);
 		return index;
 	}
 
@@ -576,16 +569,19 @@ public class OpponentPlayer extends AbstractCardPlayer {
 						c.getSuit(), false));
 			}
 		}
-		StringBuilder sb = new StringBuilder();
 		int result = 0;
-		sb.append("[" + rating[0] + "]");
 		for (int i = 1; i < rating.length; i++) {
-			sb.append("[" + rating[i] + "]");
 			if (rating[i] > rating[result]) {
 				result = i;
 			}
 		}
-		log.debug("Rating={" + sb + "}");
+		if (log.isDebugEnabled()) {
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < rating.length; i++) {
+				sb.append('[').append(rating[i]).append(']');
+			}
+			log.debug("Rating={{}}", sb);
+		}
 		return result;
 	}
 
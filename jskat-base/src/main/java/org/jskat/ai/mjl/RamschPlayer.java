@@ -58,12 +58,12 @@ public class RamschPlayer extends AbstractCardPlayer {
 	 */
 	@Override
 	public Card playNextCard(final ImmutablePlayerKnowledge knowledge) {
-		log.debug(".playNextCard(): Processing hand: " + cards);
+		log.debug(".playNextCard(): Processing hand: {}", cards);
 		log.debug(".playNextCard(): Not really implemented yet...");
 		int result = 0;
 		if (knowledge.getTrickCards().size() == 0) {
 			result = playInitialCard(cards);
-			log.info(".playNextCard(): playing " + (cards.get(result)));
+			log.info(".playNextCard(): playing {}", (cards.get(result)));
 			return cards.remove(result);
 		} else if (knowledge.getTrickCards().size() == 1) {
 			result = playOtherCard(cards, knowledge.getTrickCards().get(0));
@@ -98,7 +98,7 @@ public class RamschPlayer extends AbstractCardPlayer {
 		// }
 		// }
 		// }
-		log.info(".playNextCard(): playing " + (cards.get(result)));
+		log.info(".playNextCard(): playing {}", (cards.get(result)));
 		return cards.remove(result);
 	}
 
@@ -53,13 +53,15 @@ public class RamschSkatProcessor {
 			if (c.getRank() == Rank.JACK) {
 				rel = 0.0;
 			}
-			log.debug("Card(" + i + "): " + c + ", Rel=" + rel);
+			log.debug("Card({}): {}, Rel={}", i, c, rel);
 			// TODO (js) changed due to refactoring,
 			// don't know if it's still work as intended
 			// int tmpBin = cardBin[c.getSuit()];
 			int tmpBin = Helper.suitCardsToBinaryWithSkat(cards, skat,
 					c.getSuit());
-			log.debug("suit=" + bin(tmpBin, 8) + " & 15 = " + (tmpBin & 15));
+			if (log.isDebugEnabled()) {
+				log.debug("suit={} & 15 = {}", bin(tmpBin, 8), tmpBin & 15);
+			}
 			if (Tools.isIn(tmpBin & 15, new int[] { 7, 11, 13 })) {
 				rel = 0.0;
 			} else if (Tools.isIn(tmpBin & 15, new int[] { 3, 5 })) {
@@ -69,21 +71,21 @@ public class RamschSkatProcessor {
 			} else if (Tools.isIn(tmpBin & 15, new int[] { 4, 10 })) {
 				rel = rel * 0.5;
 			}
-			log.debug("Card(" + i + "): " + c + ", Rel=" + rel);
+			log.debug("Card({}): {}, Rel={}", i, c, rel);
 			relevance.add(new Double(rel));
 		}
-		log.debug("cards    =" + cards);
-		log.debug("relevance=" + relevance);
+		log.debug("cards    ={}", cards);
+		log.debug("relevance={}", relevance);
 
 		int maxIndex = findMax(relevance);
-		log.debug("Max: " + maxIndex);
+		log.debug("Max: {}", maxIndex);
 		skat.add(cards.remove(maxIndex));
 		relevance.remove(maxIndex);
 		maxIndex = findMax(relevance);
-		log.debug("Max: " + maxIndex);
+		log.debug("Max: {}", maxIndex);
 		skat.add(cards.remove(maxIndex));
 		relevance.remove(maxIndex);
-		log.debug("New skat: " + skat);
+		log.debug("New skat: {}", skat);
 	}
 
 	/**
@@ -99,7 +101,7 @@ public class RamschSkatProcessor {
 		testProcessor(cards, skat);
 		log.debug("\n================================================================\n\n");
 		// TODO (mjl) check for potential Durchmarsch when processing the skat
-		log.debug("My cards:" + cards + ", Skat=" + skat);
+		log.debug("My cards:{}, Skat={}", cards, skat);
 		// int cDiamonds = cards.getSuitCount(GameType.RAMSCH, Suit.DIAMONDS);
 		// int cHearts = cards.getSuitCount(GameType.RAMSCH, Suit.HEARTS);
 		// int cSpades = cards.getSuitCount(GameType.RAMSCH, Suit.SPADES);
@@ -225,7 +227,7 @@ public class RamschSkatProcessor {
 		// }
 		// }
 
-		log.debug("Done - my cards:" + cards + ", Skat=" + skat);
+		log.debug("Done - my cards:{}, Skat={}", cards, skat);
 	}
 
 	/**
@@ -50,8 +50,7 @@ public class SinglePlayer extends AbstractCardPlayer {
 		// should be done: check which cards should best be discarded
 		cards.remove(skat.get(0));
 		cards.remove(skat.get(1));
-		log.debug("no algorithm yet, discarding original skat of [" + skat
-				+ "], cards.size=" + cards.size());
+		log.debug("no algorithm yet, discarding original skat of [{}], cards.size={}", skat, cards.size());
 
 		return skat;
 	}
@@ -65,7 +64,7 @@ public class SinglePlayer extends AbstractCardPlayer {
 	 */
 	@Override
 	public Card playNextCard(final ImmutablePlayerKnowledge knowledge) {
-		log.debug(".playNextCard(): Processing hand: " + cards);
+		log.debug(".playNextCard(): Processing hand: {}", cards);
 		log.debug(".playNextCard(): Not really implemented yet...");
 		int result = -1;
 		// TODO implementation of single player strategies...
@@ -38,7 +38,7 @@ public class SkatProcessor {
 	 * @return suit to be played (0-3), grand (4), null (-1)
 	 */
 	public static Suit processSkat(final CardList cards, final CardList skat) {
-		log.debug("My cards:" + cards + ", Skat=" + skat);
+		log.debug("My cards:{}, Skat={}", cards, skat);
 		// int cDiamonds = cards.getSuitCount(GameType.SUIT, Suit.DIAMONDS);
 		// int cHearts = cards.getSuitCount(GameType.SUIT, Suit.HEARTS);
 		// int cSpades = cards.getSuitCount(GameType.SUIT, Suit.SPADES);
@@ -106,7 +106,7 @@ public class SkatProcessor {
 		// skat.add(skatOne);
 		// skat.add(skatTwo);
 		// }
-		log.debug("Done - my cards:" + cards + ", Skat=" + skat);
+		log.debug("Done - my cards:{}, Skat={}", cards, skat);
 		return cards.getMostFrequentSuit();
 	}
 
@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.newalgorithm;
 
-import org.apache.log4j.Logger;
 import org.jskat.ai.AbstractAIPlayer;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
@@ -23,13 +22,15 @@ import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Daniel Loreck
  * 
  */
 public class AlgorithmAI extends AbstractAIPlayer {
-	private static final Logger log = Logger.getLogger(AlgorithmAI.class);
+	private static final Logger log = LoggerFactory.getLogger(AlgorithmAI.class);
 
 	private AbstractAlgorithmAI aiPlayer = null;
 	BidEvaluator bidEvaluator = null;
@@ -41,7 +42,7 @@ public class AlgorithmAI extends AbstractAIPlayer {
 	 */
 	@Override
 	public void preparateForNewGame() {
-		log.debug("New game preparation for player <" + playerName + ">");
+		log.debug("New game preparation for player <{}>", playerName);
 		aiPlayer = null;
 	}
 
@@ -124,15 +125,13 @@ public class AlgorithmAI extends AbstractAIPlayer {
 			if (bidEvaluator.getSuggestedGameType() == GameType.NULL) {
 				// aiPlayer = new AlgorithmNull(this,
 				// bidEvaluator.getSuggestedGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmNull-Spieler / getCardsToDiscard");
+				log.debug("{} ist AlgorithmNull-Spieler / getCardsToDiscard", this.playerName);
 			}
 			// Wenn Grand
 			else if (bidEvaluator.getSuggestedGameType() == GameType.GRAND) {
 				aiPlayer = new AlgorithmGrand(this,
 						bidEvaluator.getSuggestedGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmGrand-Spieler / getCardsToDiscard");
+				log.debug("{} ist AlgorithmGrand-Spieler / getCardsToDiscard", this.playerName);
 			}
 			// Wenn Farb-Spiel
 			else if (bidEvaluator.getSuggestedGameType() == GameType.CLUBS
@@ -141,8 +140,7 @@ public class AlgorithmAI extends AbstractAIPlayer {
 					|| bidEvaluator.getSuggestedGameType() == GameType.DIAMONDS) {
 				aiPlayer = new AlgorithmSuit(this,
 						bidEvaluator.getSuggestedGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmSuit-Spieler / getCardsToDiscard");
+				log.debug("{} ist AlgorithmSuit-Spieler / getCardsToDiscard", this.playerName);
 			}
 		}
 
@@ -167,15 +165,13 @@ public class AlgorithmAI extends AbstractAIPlayer {
 		if (bidEvaluator.getSuggestedGameType() == GameType.NULL) {
 			// aiPlayer = new AlgorithmNull(this,
 			// bidEvaluator.getSuggestedGameType());
-			log.debug(this.playerName
-					+ " ist AlgorithmNull-Spieler / announceGame");
+			log.debug("{} ist AlgorithmNull-Spieler / announceGame", this.playerName);
 		}
 		// Wenn Grand
 		else if (bidEvaluator.getSuggestedGameType() == GameType.GRAND) {
 			aiPlayer = new AlgorithmGrand(this,
 					bidEvaluator.getSuggestedGameType());
-			log.debug(this.playerName
-					+ " ist AlgorithmGrand-Spieler / announceGame");
+			log.debug("{} ist AlgorithmGrand-Spieler / announceGame", this.playerName);
 		}
 		// Wenn Farb-Spiel
 		else if (bidEvaluator.getSuggestedGameType() == GameType.CLUBS
@@ -184,8 +180,7 @@ public class AlgorithmAI extends AbstractAIPlayer {
 				|| bidEvaluator.getSuggestedGameType() == GameType.DIAMONDS) {
 			aiPlayer = new AlgorithmSuit(this,
 					bidEvaluator.getSuggestedGameType());
-			log.debug(this.playerName
-					+ " ist AlgorithmSuit-Spieler / announceGame");
+			log.debug("{} ist AlgorithmSuit-Spieler / announceGame", this.playerName);
 		}
 
 		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
@@ -233,22 +228,19 @@ public class AlgorithmAI extends AbstractAIPlayer {
 			// Wenn RAMSCH-Spiel
 			if (knowledge.getGameType() == GameType.RAMSCH) {
 				aiPlayer = new AlgorithmRamsch(this, knowledge.getGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmRamsch-Spieler / startGame");
+				log.debug("{} ist AlgorithmRamsch-Spieler / startGame", this.playerName);
 			}
 			// Wenn Null-Spiel
 			if (knowledge.getGameType() == GameType.NULL) {
 				aiPlayer = new AlgorithmOpponentNull(this,
 						knowledge.getGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmOpponentNull-Spieler / startGame");
+				log.debug("{} ist AlgorithmOpponentNull-Spieler / startGame", this.playerName);
 			}
 			// Wenn Grand
 			else if (knowledge.getGameType() == GameType.GRAND) {
 				aiPlayer = new AlgorithmOpponentGrand(this,
 						knowledge.getGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmOpponentGrand-Spieler / startGame");
+				log.debug("{} ist AlgorithmOpponentGrand-Spieler / startGame", this.playerName);
 			}
 			// Wenn Farb-Spiel
 			else if (knowledge.getGameType() == GameType.CLUBS
@@ -257,8 +249,7 @@ public class AlgorithmAI extends AbstractAIPlayer {
 					|| knowledge.getGameType() == GameType.DIAMONDS) {
 				aiPlayer = new AlgorithmOpponentSuit(this,
 						knowledge.getGameType());
-				log.debug(this.playerName
-						+ " ist AlgorithmOpponentSuit-Spieler / startGame");
+				log.debug("{} ist AlgorithmOpponentSuit-Spieler / startGame", this.playerName);
 			}
 		}
 	}
@@ -17,26 +17,26 @@ package org.jskat.ai.newalgorithm;
 
 import java.util.ArrayList;
 
-import org.apache.log4j.Logger;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AlgorithmGrand extends AbstractAlgorithmAI {
-	private static final Logger log = Logger.getLogger(AlgorithmGrand.class);
+	private static final Logger log = LoggerFactory.getLogger(AlgorithmGrand.class);
 
 	AlgorithmGrand(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as "
-				+ this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
 	protected Card startGame() {
-		log.debug("Grand starts Game: " + knowledge.getPlayerPosition());
+		log.debug("Grand starts Game: {}", knowledge.getPlayerPosition());
 
 		return playStartGameCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -45,7 +45,7 @@ public class AlgorithmGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playForehandCard() {
-		log.debug("Grand plays Forehand-Card: " + knowledge.getPlayerPosition());
+		log.debug("Grand plays Forehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playForehandCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -54,8 +54,7 @@ public class AlgorithmGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playMiddlehandCard() {
-		log.debug("Grand plays Middlehand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("Grand plays Middlehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playMiddlehandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -65,7 +64,7 @@ public class AlgorithmGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playRearhandCard() {
-		log.debug("Grand plays Rearhand-Card: " + knowledge.getPlayerPosition());
+		log.debug("Grand plays Rearhand-Card: {}", knowledge.getPlayerPosition());
 
 		return playRearhandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
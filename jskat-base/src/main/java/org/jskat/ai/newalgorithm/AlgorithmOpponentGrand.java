@@ -15,7 +15,6 @@
  */
 package org.jskat.ai.newalgorithm;
 
-import org.apache.log4j.Logger;
 import org.jskat.ai.newalgorithm.exception.IllegalMethodException;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -23,21 +22,22 @@ import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AlgorithmOpponentGrand extends AbstractAlgorithmAI {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmOpponentGrand.class);
 
 	AlgorithmOpponentGrand(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as "
-				+ this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
 	protected Card startGame() {
-		log.debug("OpponentGrand starts Game: " + knowledge.getPlayerPosition());
+		log.debug("OpponentGrand starts Game: {}", knowledge.getPlayerPosition());
 
 		return playStartGameCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -46,8 +46,7 @@ public class AlgorithmOpponentGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playForehandCard() {
-		log.debug("OpponentGrand plays Forehand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentGrand plays Forehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playForehandCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -56,8 +55,7 @@ public class AlgorithmOpponentGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playMiddlehandCard() {
-		log.debug("OpponentGrand plays Middlehand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentGrand plays Middlehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playMiddlehandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -67,8 +65,7 @@ public class AlgorithmOpponentGrand extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playRearhandCard() {
-		log.debug("OpponentGrand plays Rearhand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentGrand plays Rearhand-Card: {}", knowledge.getPlayerPosition());
 
 		return playRearhandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -17,28 +17,28 @@ package org.jskat.ai.newalgorithm;
 
 import java.util.ArrayList;
 
-import org.apache.log4j.Logger;
 import org.jskat.ai.newalgorithm.exception.IllegalMethodException;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AlgorithmOpponentNull extends AbstractAlgorithmAI {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmOpponentNull.class);
 
 	AlgorithmOpponentNull(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug("Defining player <" + myPlayer.getPlayerName() + "> as "
-				+ this.getClass().getName());
+		log.debug("Defining player <{}> as {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
 	protected Card startGame() {
-		log.debug("OpponentNull starts Game: " + knowledge.getPlayerPosition());
+		log.debug("OpponentNull starts Game: {}", knowledge.getPlayerPosition());
 
 		return playStartGameCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -47,8 +47,7 @@ public class AlgorithmOpponentNull extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playForehandCard() {
-		log.debug("OpponentNull plays Forehand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentNull plays Forehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playForehandCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -57,8 +56,7 @@ public class AlgorithmOpponentNull extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playMiddlehandCard() {
-		log.debug("OpponentNull plays Middlehand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentNull plays Middlehand-Card: {}", knowledge.getPlayerPosition());
 
 		return playMiddlehandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -68,8 +66,7 @@ public class AlgorithmOpponentNull extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playRearhandCard() {
-		log.debug("OpponentNull plays Rearhand-Card: "
-				+ knowledge.getPlayerPosition());
+		log.debug("OpponentNull plays Rearhand-Card: {}", knowledge.getPlayerPosition());
 
 		return playRearhandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -18,7 +18,6 @@ package org.jskat.ai.newalgorithm;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.log4j.Logger;
 import org.jskat.ai.newalgorithm.exception.IllegalMethodException;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -26,22 +25,22 @@ import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AlgorithmOpponentSuit extends AbstractAlgorithmAI {
-	private static final Logger log = Logger
+	private static final Logger log = LoggerFactory
 			.getLogger(AlgorithmOpponentSuit.class);
 
 	AlgorithmOpponentSuit(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug(String.format("/s is %s", myPlayer.getPlayerName(), this
-				.getClass().getName()));
+		log.debug("{} is {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
 	protected Card startGame() {
-		log.debug("Suit-Opponent starts Game: "
-				+ knowledge.getCurrentTrick().getForeHand());
+		log.debug("Suit-Opponent starts Game: {}", knowledge.getCurrentTrick().getForeHand());
 
 		return playStartGameCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -51,8 +50,7 @@ public class AlgorithmOpponentSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playForehandCard() {
-		log.debug("Suit-Opponent plays Forehand-Card: "
-				+ knowledge.getCurrentTrick().getForeHand());
+		log.debug("Suit-Opponent plays Forehand-Card: {}", knowledge.getCurrentTrick().getForeHand());
 
 		return playForehandCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -62,8 +60,7 @@ public class AlgorithmOpponentSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playMiddlehandCard() {
-		log.debug("Suit-Opponent plays Middlehand-Card: "
-				+ knowledge.getCurrentTrick().getMiddleHand());
+		log.debug("Suit-Opponent plays Middlehand-Card: {}", knowledge.getCurrentTrick().getMiddleHand());
 
 		return playMiddlehandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -74,8 +71,7 @@ public class AlgorithmOpponentSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playRearhandCard() {
-		log.debug("Suit-Opponent plays Rearhand-Card: "
-				+ knowledge.getCurrentTrick().getRearHand());
+		log.debug("Suit-Opponent plays Rearhand-Card: {}", knowledge.getCurrentTrick().getRearHand());
 
 		return playRearhandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -15,20 +15,21 @@
  */
 package org.jskat.ai.newalgorithm;
 
-import org.apache.log4j.Logger;
 import org.jskat.data.JSkatOptions;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Daniel Loreck
  *
  */
 public class AlgorithmRamsch extends AbstractAlgorithmAI {
-	private static final Logger log = Logger.getLogger(AlgorithmRamsch.class);
+	private static final Logger log = LoggerFactory.getLogger(AlgorithmRamsch.class);
 
 	/**
 	 *
@@ -36,8 +37,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 	AlgorithmRamsch(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug(String.format("/s is %s", myPlayer.getPlayerName(), this
-				.getClass().getName()));
+		log.debug("{} is {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
@@ -99,8 +99,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 		}
 		if (resultIndex >= 0) {
 			Card result = cards.get(resultIndex);
-			log.debug("Playing single (or high double) suit card: " + result
-					+ " of " + cards);
+			log.debug("Playing single (or high double) suit card: {} of {}", result, cards);
 			return result;
 		}
 
@@ -131,8 +130,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 
 	@Override
 	public Card playMiddlehandCard() {
-		log.debug("I (" + myPlayer.getPlayerName()
-				+ ") am in middlehand (OpponentPlayer)");
+		log.debug("I ({}) am in middlehand (OpponentPlayer)", myPlayer.getPlayerName());
 		CardList cards = myPlayer.getPlayableCards(knowledge.getTrickCards());
 		Card initialCard = knowledge.getTrickCards().get(0);
 		GameType gameType = knowledge.getGameType();
@@ -143,8 +141,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 
 	@Override
 	public Card playRearhandCard() {
-		log.debug("I (" + myPlayer.getPlayerName()
-				+ ") am in rearhand (OpponentPlayer)");
+		log.debug("I ({}) am in rearhand (OpponentPlayer)", myPlayer.getPlayerName());
 		CardList cards = myPlayer.getPlayableCards(knowledge.getTrickCards());
 		Card initialCard = knowledge.getTrickCards().get(0);
 		Card middlehandCard = knowledge.getTrickCards().get(1);
@@ -196,8 +193,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 			log.debug("playCard (8)");
 			return result;
 		}
-		log.warn("no possible card found in card list [" + cards + "] with "
-				+ gameType + " / " + initialCard);
+		log.warn("no possible card found in card list [{}] with {} / {}", cards, gameType, initialCard);
 		log.debug("playCard (9)");
 		return cards.get(0);
 	}
@@ -211,8 +207,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 	 */
 	@Override
 	public CardList discardSkat(final BidEvaluator bidEvaluator) {
-		log.debug(myPlayer.getPlayerName() + " (" + this.getClass()
-				+ ") is discarding cards");
+		log.debug("{} ({}) is discarding cards", myPlayer.getPlayerName(), this.getClass());
 		if (JSkatOptions.instance().isSchieberamschJacksInSkat()) {
 			return discardWithJacks();
 		}
@@ -222,8 +217,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 	private CardList discardWithJacks() {
 		CardList result = new CardList();
 		CardList cards = new CardList(knowledge.getOwnCards());
-		log.debug("cards left before discarding(withJacks): " + cards.size()
-				+ " - " + cards);
+		log.debug("cards left before discarding(withJacks): {} - {}", cards.size(), cards);
 		cards.sort(GameType.RAMSCH);
 		if (cards.get(0).getRank() == Rank.JACK
 				&& cards.get(0).getSuit() == Suit.CLUBS
@@ -241,8 +235,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 		while (result.size() > 2) {
 			cards.add(result.remove(result.size() - 1));
 		}
-		log.debug("cards left after discarding(withJacks): " + cards.size()
-				+ " - " + cards);
+		log.debug("cards left after discarding(withJacks): {} - {}", cards.size(), cards);
 		return result;
 	}
 
@@ -250,8 +243,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 		CardList result = new CardList();
 		CardList cards = new CardList(knowledge.getOwnCards());
 		cards.sort(GameType.RAMSCH);
-		log.debug("cards left before discarding(noJacks): " + cards.size()
-				+ " - " + cards);
+		log.debug("cards left before discarding(noJacks): {} - {}", cards.size(), cards);
 		for (Card c : cards) {
 			if (result.size() < 2 && c.getRank() == Rank.ACE) {
 				result.add(c);
@@ -300,8 +292,7 @@ public class AlgorithmRamsch extends AbstractAlgorithmAI {
 				result.add(c);
 			}
 		}
-		log.debug("cards left after discarding(noJacks): " + cards.size()
-				+ " - " + cards);
+		log.debug("cards left after discarding(noJacks): {} - {}", cards.size(), cards);
 		return result;
 
 	}
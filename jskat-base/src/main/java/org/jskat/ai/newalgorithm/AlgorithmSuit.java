@@ -17,27 +17,26 @@ package org.jskat.ai.newalgorithm;
 
 import java.util.ArrayList;
 
-import org.apache.log4j.Logger;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AlgorithmSuit extends AbstractAlgorithmAI {
-	private static final Logger log = Logger.getLogger(AlgorithmSuit.class);
+	private static final Logger log = LoggerFactory.getLogger(AlgorithmSuit.class);
 
 	AlgorithmSuit(final AlgorithmAI p, GameType pGameType) {
 		super(p, pGameType);
 
-		log.debug(String.format("/s is %s", myPlayer.getPlayerName(), this
-				.getClass().getName()));
+		log.debug("{} is {}", myPlayer.getPlayerName(), this.getClass().getName());
 	}
 
 	@Override
 	protected Card startGame() {
-		log.debug("Suit-Declarer starts Game: "
-				+ knowledge.getCurrentTrick().getForeHand());
+		log.debug("Suit-Declarer starts Game: {}", knowledge.getCurrentTrick().getForeHand());
 
 		return playStartGameCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -46,8 +45,7 @@ public class AlgorithmSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playForehandCard() {
-		log.debug("Suit-Declarer plays Forehand-Card: "
-				+ knowledge.getCurrentTrick().getForeHand());
+		log.debug("Suit-Declarer plays Forehand-Card: {}", knowledge.getCurrentTrick().getForeHand());
 
 		return playForehandCard(knowledge.getOwnCards(),
 				knowledge.getTrickCards(), oPlayedCards, oNotOpponentCards,
@@ -56,8 +54,7 @@ public class AlgorithmSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playMiddlehandCard() {
-		log.debug("Suit-Declarer plays Middlehand-Card: "
-				+ knowledge.getCurrentTrick().getMiddleHand());
+		log.debug("Suit-Declarer plays Middlehand-Card: {}", knowledge.getCurrentTrick().getMiddleHand());
 
 		return playMiddlehandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -67,8 +64,7 @@ public class AlgorithmSuit extends AbstractAlgorithmAI {
 
 	@Override
 	protected Card playRearhandCard() {
-		log.debug("Suit-Declarer plays Rearhand-Card: "
-				+ knowledge.getCurrentTrick().getRearHand());
+		log.debug("Suit-Declarer plays Rearhand-Card: {}", knowledge.getCurrentTrick().getRearHand());
 
 		return playRearhandCard(
 				myPlayer.getPlayableCards(knowledge.getTrickCards()),
@@ -18,9 +18,9 @@ package org.jskat.ai.newalgorithm;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
-import org.jskat.util.SkatConstants;
 import org.jskat.util.Suit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +71,7 @@ class BidEvaluator {
 	}
 
 	public void eval(CardList pCards) {
-		oLog.debug("CARDLISTSIZE: " + pCards.size());
+		oLog.debug("CARDLISTSIZE: {}", pCards.size());
 		if (pCards.size() < 10) {
 			oLog.warn("Not enough cards for bid evaluation!");
 			return;
@@ -226,8 +226,10 @@ class BidEvaluator {
 
 	private void getHighestSuitMultiplier(CardList pCards) {
 		Suit tMostFrequentSuitColor = pCards.getMostFrequentSuit();
-		int tMultiplier = Helper.getSuitMultiplier(pCards,
-				tMostFrequentSuitColor);
+		GameType tSuitGameType = GameType.valueOf(tMostFrequentSuitColor
+				.longString().toUpperCase());
+		int tMultiplier = GameValueTable.getMultiplier(pCards.getMask(),
+				tSuitGameType);
 		int tNumberOfTrumpCards = pCards.getTrumpCount(tMostFrequentSuitColor);
 
 		// Count fast blank
@@ -279,13 +281,10 @@ class BidEvaluator {
 				oSuitSchneider = true;
 			}
 			oSuitHand = true;
-			int tMaxBid = (tMultiplier + 1)
-					* SkatConstants.getGameBaseValue(GameType
-							.valueOf(tMostFrequentSuitColor.longString()
-									.toUpperCase()), false, false);
+			int tMaxBid = GameValueTable.getMaxBid(pCards.getMask(),
+					tSuitGameType, GameValueTable.HAND);
 			if (tMaxBid > oMaxBid) {
-				oSuggestedGameType = GameType.valueOf(tMostFrequentSuitColor
-						.longString().toUpperCase());
+				oSuggestedGameType = tSuitGameType;
 				oSuggestedTrumpSuit = tMostFrequentSuitColor;
 				oMaxBid = tMaxBid;
 			}
@@ -295,13 +294,10 @@ class BidEvaluator {
 				|| tNumberOfTrumpCards >= 5 && tWinCardCount >= 1
 				&& tBlankCount + t1CardCount > 0 || tNumberOfTrumpCards >= 6
 				&& (tWinCardCount >= 1 || t1CardCount == 2 && t2CardCount == 1)) {
-			int tMaxBid = tMultiplier
-					* SkatConstants.getGameBaseValue(GameType
-							.valueOf(tMostFrequentSuitColor.longString()
-									.toUpperCase()), false, false);
+			int tMaxBid = GameValueTable.getMaxBid(pCards.getMask(),
+					tSuitGameType, GameValueTable.NO_FLAGS);
 			if (tMaxBid > oMaxBid) {
-				oSuggestedGameType = GameType.valueOf(tMostFrequentSuitColor
-						.longString().toUpperCase());
+				oSuggestedGameType = tSuitGameType;
 				oSuggestedTrumpSuit = tMostFrequentSuitColor;
 				oMaxBid = tMaxBid;
 			}
@@ -18,6 +18,7 @@ package org.jskat.ai.newalgorithm;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
 import org.jskat.util.Rank;
 import org.jskat.util.Suit;
 import org.slf4j.Logger;
@@ -301,47 +302,12 @@ public class Helper {
 	}
 
 	public static int getGrandMultiplier(CardList pCards) {
-		int tMultiplier = 2;
-
-		if (pCards.contains(Card.CJ)) { // With Jacks
-			if (pCards.contains(Card.SJ)) {
-				tMultiplier++;
-				if (pCards.contains(Card.HJ)) {
-					tMultiplier++;
-					if (pCards.contains(Card.DJ)) {
-						tMultiplier++;
-					}
-				}
-			}
-		} else { // Without Jacks
-			if (!pCards.contains(Card.SJ)) {
-				tMultiplier++;
-				if (!pCards.contains(Card.HJ)) {
-					tMultiplier++;
-					if (!pCards.contains(Card.DJ)) {
-						tMultiplier++;
-					}
-				}
-			}
-		}
-		return tMultiplier;
+		return GameValueTable.getMultiplier(pCards.getMask(), GameType.GRAND);
 	}
 
 	public static int getSuitMultiplier(CardList pCards, Suit pSuit) {
-		int tMultiplier = 2;
-		int tCardsBinary = getTrumpCardsToBinary(pCards, pSuit);
-		int tStartBinary = 1024;
-
-		if ((tCardsBinary & tStartBinary) > 0) { // With
-			while ((tCardsBinary & (tStartBinary = tStartBinary >> 1)) > 0) {
-				tMultiplier++;
-			}
-		} else { // Without
-			while ((tCardsBinary & (tStartBinary = tStartBinary >> 1)) == 0) {
-				tMultiplier++;
-			}
-		}
-		return tMultiplier;
+		return GameValueTable.getMultiplier(pCards.getMask(),
+				GameType.valueOf(pSuit.longString().toUpperCase()));
 	}
 
 	/**
@@ -15,30 +15,28 @@
  */
 package org.jskat.ai.nn;
 
-import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jskat.ai.AbstractAIPlayer;
 import org.jskat.ai.nn.data.SkatNetworks;
 import org.jskat.ai.nn.input.GenericNetworkInputGenerator;
 import org.jskat.ai.nn.input.NetworkInputGenerator;
+import org.jskat.ai.nn.util.CandidateSelector;
 import org.jskat.ai.nn.util.INeuralNetwork;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.GameSummary;
-import org.jskat.data.SkatGameData;
-import org.jskat.data.SkatGameResult;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
 import org.jskat.util.Player;
-import org.jskat.util.rule.SkatRule;
-import org.jskat.util.rule.SkatRuleFactory;
 import org.slf4j.Logger;
 
 /**
@@ -78,12 +76,17 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		return ramschGameWon;
 	}
 
-	private final DecimalFormat formatter = new DecimalFormat("0.00000000000000000"); //$NON-NLS-1$
-	private final GameSimulator2 gameSimulator2;
+	/**
+	 * Simulator for bidding and discarding, created on first use, so that
+	 * players that only play cards, e.g. during training, never create one
+	 */
+	private GameSimulator2 gameSimulator2;
 
 	private final NetworkInputGenerator inputGenerator;
-	private final static Random RANDOM = new Random();
-	private final List<double[]> allInputs = new ArrayList<>();
+	/**
+	 * Inputs of the played cards by trick number in the game
+	 */
+	private final Map<Integer, List<double[]>> allInputs = new TreeMap<>();
 
 	private GameType bestGameTypeFromDiscarding;
 	private boolean isLearning = false;
@@ -126,7 +129,6 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		}
 
 		inputGenerator = new GenericNetworkInputGenerator();
-		gameSimulator2 = new GameSimulator2();
 
 		for (final GameType gameType : GameType.values()) {
 			if (gameType != GameType.RAMSCH && gameType != GameType.PASSED_IN) {
@@ -140,10 +142,9 @@ public class AIPlayerNN extends AbstractAIPlayer {
 	 */
 	@Override
 	public GameAnnouncement announceGame() {
-		log.debug("position: " + knowledge.getPlayerPosition()); //$NON-NLS-1$
-		log.debug("bids: " + knowledge.getHighestBid(Player.FOREHAND) + //$NON-NLS-1$
-				" " + knowledge.getHighestBid(Player.MIDDLEHAND) + //$NON-NLS-1$
-				" " + knowledge.getHighestBid(Player.REARHAND)); //$NON-NLS-1$
+		log.debug("position: {}", knowledge.getPlayerPosition()); //$NON-NLS-1$
+		log.debug("bids: {} {} {}", knowledge.getHighestBid(Player.FOREHAND), //$NON-NLS-1$
+				knowledge.getHighestBid(Player.MIDDLEHAND), knowledge.getHighestBid(Player.REARHAND));
 
 		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
 
@@ -159,7 +160,7 @@ public class AIPlayerNN extends AbstractAIPlayer {
 
 		final GameAnnouncement newGame = factory.getAnnouncement();
 
-		log.debug("Announcing: " + newGame); //$NON-NLS-1$
+		log.debug("Announcing: {}", newGame); //$NON-NLS-1$
 
 		return newGame;
 	}
@@ -210,12 +211,13 @@ public class AIPlayerNN extends AbstractAIPlayer {
 	public CardList getCardsToDiscard() {
 		final CardList cards = knowledge.getOwnCards();
 
-		log.debug("Player cards before discarding: " + knowledge.getOwnCards()); //$NON-NLS-1$
+		log.debug("Player cards before discarding: {}", knowledge.getOwnCards()); //$NON-NLS-1$
 
 		final List<GameType> filteredGameTypes = filterFeasibleGameTypes(
 				knowledge.getHighestBid(knowledge.getPlayerPosition()).intValue());
 
-		gameSimulator2.reset();
+		final GameSimulator2 simulator = getGameSimulator();
+		simulator.reset();
 
 		// create all possible discards
 		int simCount = 0;
@@ -228,26 +230,39 @@ public class AIPlayerNN extends AbstractAIPlayer {
 
 				simCards.removeAll(currSkat);
 
-				log.debug("Discard simulation no. " + simCount + ": skat " + currSkat);
+				log.debug("Discard simulation no. {}: skat {}", simCount, currSkat);
 
+				final ConstrainedDealSampler sampler = createDealSampler(simCards, currSkat);
 				for (final GameType gameType : filteredGameTypes) {
 
-					gameSimulator2.add(new GameSimulation(gameType, knowledge.getPlayerPosition(), simCards, currSkat));
+					simulator.add(new GameSimulation(gameType, sampler));
 				}
 			}
 		}
 
-		final GameSimulation bestSimulation = gameSimulator2.simulateMaxEpisodes(1000L);
+		// many skat/game type combinations --> drop the weak ones early
+		simulator.setAllocator(new SuccessiveHalvingAllocator());
+		final GameSimulation bestSimulation = simulator.simulateMaxEpisodes(1000L);
 		bestGameTypeFromDiscarding = bestSimulation.getGameType();
 
-		log.warn("Simulated " + bestSimulation.getEpisodes() + " episodes with highest won rate of "
-				+ bestSimulation.getWonRate() + " discarded cards " + bestSimulation.getSkatCards());
+		log.warn("Simulated {} episodes with highest won rate of {} discarded cards {}", bestSimulation.getEpisodes(),
+				bestSimulation.getWonRate(), bestSimulation.getSkatCards());
 
 		return bestSimulation.getSkatCards();
 	}
 
+	/**
+	 * Creates a sampler for the simulated games, the card distributions are
+	 * weighted by the bids of the other players
+	 */
+	private ConstrainedDealSampler createDealSampler(final CardList ownCards, final CardList skatCards) {
+		final ConstrainedDealSampler sampler = new ConstrainedDealSampler(knowledge, ownCards, skatCards);
+		sampler.setBidWeighting(true);
+		return sampler;
+	}
+
 	private CardList getRandomEntry(final List<CardList> possibleSkats) {
-		return possibleSkats.get(RANDOM.nextInt(possibleSkats.size()));
+		return possibleSkats.get(ThreadLocalRandom.current().nextInt(possibleSkats.size()));
 	}
 
 	/**
@@ -275,18 +290,21 @@ public class AIPlayerNN extends AbstractAIPlayer {
 
 		log.warn("Check hand game or pick up skat...");
 
-		gameSimulator2.reset();
+		final GameSimulator2 simulator = getGameSimulator();
+		simulator.reset();
 
 		final List<GameType> filteredGameTypes = filterFeasibleGameTypes(
 				knowledge.getHighestBid(knowledge.getPlayerPosition()).intValue());
+		final ConstrainedDealSampler sampler = createDealSampler(knowledge.getOwnCards(), new CardList());
 		for (final GameType gameType : filteredGameTypes) {
-			gameSimulator2.add(new GameSimulation(gameType, knowledge.getPlayerPosition(), knowledge.getOwnCards()));
+			simulator.add(new GameSimulation(gameType, sampler));
 		}
 
-		final GameSimulation bestSimulation = gameSimulator2.simulateMaxEpisodes(MAX_SIMULATIONS_HAND_GAME);
+		simulator.setAllocator(new Ucb1Allocator());
+		final GameSimulation bestSimulation = simulator.simulateMaxEpisodes(MAX_SIMULATIONS_HAND_GAME);
 
-		log.warn("Simulated " + bestSimulation.getEpisodes() + " episodes with best won rate of "
-				+ bestSimulation.getWonRate());
+		log.warn("Simulated {} episodes with best won rate of {}", bestSimulation.getEpisodes(),
+				bestSimulation.getWonRate());
 
 		if (bestSimulation.getWonRate() >= MIN_WON_RATE_FOR_HAND_GAME) {
 			log.warn("Min won rate reached. Playing hand...");
@@ -303,72 +321,48 @@ public class AIPlayerNN extends AbstractAIPlayer {
 	 */
 	@Override
 	public Card playCard() {
-		int bestCardIndex = -1;
-
-		log.debug('\n' + knowledge.toString());
+		log.debug("\n{}", knowledge); //$NON-NLS-1$
 
 		// first find all possible cards
 		final CardList possibleCards = getPlayableCards(knowledge.getTrickCards());
 
-		log.debug("found " + possibleCards.size() + " possible cards: " //$NON-NLS-1$//$NON-NLS-2$
-				+ possibleCards);
-
-		final Map<Card, double[]> cardInputs = new HashMap<Card, double[]>();
+		log.debug("found {} possible cards: {}", possibleCards.size(), possibleCards); //$NON-NLS-1$
 
 		final INeuralNetwork net = SkatNetworks.getNetwork(knowledge.getGameAnnouncement().getGameType(), isDeclarer(),
 				knowledge.getCurrentTrick().getTrickNumberInGame());
 
-		final CardList bestCards = new CardList();
-		final CardList highestOutputCards = new CardList();
-		Double highestOutput = Double.NEGATIVE_INFINITY;
-		for (final Card card : possibleCards) {
-			log.debug("Testing card " + card); //$NON-NLS-1$
-
-			final double[] inputs = inputGenerator.getNetInputs(knowledge, card);
-
-			cardInputs.put(card, inputs);
-			final Double currOutput = net.getPredictedOutcome(inputs);
-			log.warn("net output for card " + card + ": " //$NON-NLS-1$
-					+ formatter.format(currOutput));
+		// evaluate all possible cards at once
+		final double[][] inputs = inputGenerator.getNetInputs(knowledge, possibleCards);
+		final double[] outputs = new double[inputs.length];
+		net.getPredictedOutcomes(inputs, outputs);
 
-			if (currOutput > (IDEAL_WON - EPSILON)) {
-				bestCards.add(card);
-			}
-			if (currOutput > highestOutput && !formatter.format(currOutput).equals(formatter.format(highestOutput))) {
-				highestOutput = currOutput;
-				highestOutputCards.clear();
-				highestOutputCards.add(card);
-			} else if (currOutput == highestOutput
-					|| formatter.format(currOutput).equals(formatter.format(highestOutput))) {
-				highestOutputCards.add(card);
+		if (log.isWarnEnabled()) {
+			for (int i = 0; i < possibleCards.size(); i++) {
+				log.warn("net output for card {}: {}", possibleCards.get(i), outputs[i]); //$NON-NLS-1$
 			}
 		}
 
-		if (bestCards.size() > 0) {
-			// get random card out of the best cards
-			bestCardIndex = chooseRandomCard(possibleCards, bestCards);
-			log.warn("Trick " + (knowledge.getNoOfTricks() + 1) //$NON-NLS-1$
-					+ ": Found best cards. Choosing random from " //$NON-NLS-1$
-					+ bestCards.size() + " out of " + possibleCards.size() + ": " //$NON-NLS-1$ //$NON-NLS-2$
-					+ possibleCards.get(bestCardIndex));
+		final Random random = ThreadLocalRandom.current();
+		// get random card out of the best cards
+		int bestCardIndex = CandidateSelector.selectAboveThreshold(outputs, outputs.length, IDEAL_WON - EPSILON,
+				random);
+		if (bestCardIndex > -1) {
+			log.warn("Trick {}: Found best cards. Choosing {}", knowledge.getNoOfTricks() + 1, //$NON-NLS-1$
+					possibleCards.get(bestCardIndex));
 		} else {
 			// no best card, get card with best output
-			bestCardIndex = chooseRandomCard(possibleCards, highestOutputCards);
-			log.warn("Trick " + (knowledge.getNoOfTricks() + 1) //$NON-NLS-1$
-					+ ": Found no best cards. Choosing card from " //$NON-NLS-1$
-					+ highestOutputCards.size() + " out of " + possibleCards.size() + " with highest output: "
-					+ possibleCards.get(bestCardIndex));
-			// no best card, get random card out of all cards
-			// bestCardIndex = chooseRandomCard(possibleCards, possibleCards);
+			bestCardIndex = CandidateSelector.selectHighest(outputs, outputs.length, CandidateSelector.DEFAULT_EPSILON,
+					random);
+			log.warn("Trick {}: Found no best cards. Choosing card with highest output: {}", //$NON-NLS-1$
+					knowledge.getNoOfTricks() + 1, possibleCards.get(bestCardIndex));
 		}
 
 		// store parameters for the card to play
 		// for adjustment of weights after the game
-		storeInputParameters(cardInputs.get(possibleCards.get(bestCardIndex)));
+		storeInputParameters(knowledge.getCurrentTrick().getTrickNumberInGame(), inputs[bestCardIndex]);
 
-		log.debug("choosing card " + bestCardIndex); //$NON-NLS-1$
-		log.debug("as player " + knowledge.getPlayerPosition() + ": " //$NON-NLS-1$//$NON-NLS-2$
-				+ possibleCards.get(bestCardIndex));
+		log.debug("choosing card {}", bestCardIndex); //$NON-NLS-1$
+		log.debug("as player {}: {}", knowledge.getPlayerPosition(), possibleCards.get(bestCardIndex)); //$NON-NLS-1$
 
 		return possibleCards.get(bestCardIndex);
 	}
@@ -387,6 +381,13 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		allInputs.clear();
 	}
 
+	private GameSimulator2 getGameSimulator() {
+		if (gameSimulator2 == null) {
+			gameSimulator2 = new GameSimulator2();
+		}
+		return gameSimulator2;
+	}
+
 	/**
 	 * Sets the player into learning mode
 	 *
@@ -405,7 +406,7 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		// CHECK Auto-generated method stub
 	}
 
-	private void adjustNeuralNetworks(final List<double[]> inputs) {
+	private void adjustNeuralNetworks(final Map<Integer, List<double[]>> inputsByTrick) {
 
 		double output = 0.0d;
 		if (!GameType.PASSED_IN.equals(knowledge.getGameType())) {
@@ -431,29 +432,30 @@ public class AIPlayerNN extends AbstractAIPlayer {
 				}
 			}
 
-			log.warn("Learning output: " + output);
+			log.warn("Learning output: {}", output);
 
-			final double[][] inputsArray = new double[inputs.size()][];
-			final double[][] outputsArray = new double[inputs.size()][];
-			for (int i = 0; i < inputs.size(); i++) {
-				inputsArray[i] = inputs.get(i);
-				outputsArray[i] = new double[] { output };
-			}
+			// every trick has its own network
+			double networkErrorSum = 0.0;
+			for (final Map.Entry<Integer, List<double[]>> trickInputs : inputsByTrick.entrySet()) {
 
-			final INeuralNetwork net = SkatNetworks.getNetwork(knowledge.getGameAnnouncement().getGameType(), isDeclarer(),
-					0);
-			final double networkError = net.adjustWeightsBatch(inputsArray, outputsArray);
+				final List<double[]> inputs = trickInputs.getValue();
+				final double[][] inputsArray = new double[inputs.size()][];
+				final double[][] outputsArray = new double[inputs.size()][];
+				for (int i = 0; i < inputs.size(); i++) {
+					inputsArray[i] = inputs.get(i);
+					outputsArray[i] = new double[] { output };
+				}
 
-			log.warn("learning error: " + networkError);
-			lastAvgNetworkError = networkError;
-		}
-	}
+				final INeuralNetwork net = SkatNetworks.getNetwork(knowledge.getGameAnnouncement().getGameType(),
+						isDeclarer(), trickInputs.getKey());
+				final double networkError = net.adjustWeightsBatch(inputsArray, outputsArray);
 
-	private static int chooseRandomCard(final CardList possibleCards, final CardList goodCards) {
-		int bestCardIndex;
-		final Card choosenCard = goodCards.get(RANDOM.nextInt(goodCards.size()));
-		bestCardIndex = possibleCards.indexOf(choosenCard);
-		return bestCardIndex;
+				log.warn("learning error for trick {}: {}", trickInputs.getKey(), networkError);
+				networkErrorSum += networkError;
+			}
+
+			lastAvgNetworkError = networkErrorSum / inputsByTrick.size();
+		}
 	}
 
 	private List<GameType> filterFeasibleGameTypes(final int bidValue) {
@@ -461,18 +463,12 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		// return game announcement instead
 		final List<GameType> result = new ArrayList<GameType>();
 
-		final SkatGameData data = getGameDataForWonGame();
+		final int cardMask = knowledge.getOwnCardMask();
 
 		for (final GameType gameType : feasibleGameTypes) {
 
-			final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
-			factory.setGameType(gameType);
-			data.setAnnouncement(factory.getAnnouncement());
-
-			final SkatRule skatRules = SkatRuleFactory.getSkatRules(gameType);
-			final int currGameResult = skatRules.calcGameResult(data);
-
-			if (currGameResult >= bidValue) {
+			if (GameValueTable.getGameValue(cardMask, gameType,
+					GameValueTable.NO_FLAGS) >= bidValue) {
 
 				result.add(gameType);
 			}
@@ -481,39 +477,26 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		return result;
 	}
 
-	private SkatGameData getGameDataForWonGame() {
-		final SkatGameData data = new SkatGameData();
-
-		// it doesn't matter which position is set for declarer
-		// skat game data are only used to calculate the game value
-		data.setDeclarer(Player.FOREHAND);
-		data.addDealtCards(Player.FOREHAND, knowledge.getOwnCards());
-		data.addSkatToPlayer(Player.FOREHAND);
-
-		final SkatGameResult result = new SkatGameResult();
-		result.setWon(true);
-		data.setResult(result);
-
-		return data;
-	}
-
 	private boolean isAnyGamePossible(final int bidValue) {
 
 		final List<GameType> filteredGameTypes = filterFeasibleGameTypes(bidValue);
 
-		log.warn("Game simulation on bidding: bid value " + bidValue);
-		log.warn("Player position: " + knowledge.getPlayerPosition() + " cards: " + knowledge.getOwnCards());
+		log.warn("Game simulation on bidding: bid value {}", bidValue);
+		log.warn("Player position: {} cards: {}", knowledge.getPlayerPosition(), knowledge.getOwnCards());
 
-		gameSimulator2.reset();
+		final GameSimulator2 simulator = getGameSimulator();
+		simulator.reset();
 
+		final ConstrainedDealSampler sampler = createDealSampler(knowledge.getOwnCards(), new CardList());
 		for (final GameType gameType : filteredGameTypes) {
-			gameSimulator2.add(new GameSimulation(gameType, knowledge.getPlayerPosition(), knowledge.getOwnCards()));
+			simulator.add(new GameSimulation(gameType, sampler));
 		}
 
-		final GameSimulation bestSimulation = gameSimulator2.simulateMaxEpisodes(MAX_SIMULATIONS_BIDDING);
+		simulator.setAllocator(new Ucb1Allocator());
+		final GameSimulation bestSimulation = simulator.simulateMaxEpisodes(MAX_SIMULATIONS_BIDDING);
 
-		log.warn("Simulated " + bestSimulation.getEpisodes() + " episodes with highest won rate of "
-				+ bestSimulation.getWonRate());
+		log.warn("Simulated {} episodes with highest won rate of {}", bestSimulation.getEpisodes(),
+				bestSimulation.getWonRate());
 
 		if (bestSimulation.getWonRate() >= MIN_WON_RATE_FOR_BIDDING) {
 			log.warn("Min won rate reached. Bidding...");
@@ -525,7 +508,12 @@ public class AIPlayerNN extends AbstractAIPlayer {
 		return false;
 	}
 
-	private void storeInputParameters(final double[] inputParameters) {
-		allInputs.add(inputParameters);
+	private void storeInputParameters(final int trickNumberInGame, final double[] inputParameters) {
+		List<double[]> trickInputs = allInputs.get(trickNumberInGame);
+		if (trickInputs == null) {
+			trickInputs = new ArrayList<>();
+			allInputs.put(trickNumberInGame, trickInputs);
+		}
+		trickInputs.add(inputParameters);
 	}
 }
@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import org.jskat.player.JSkatPlayerFactory;
+
+/**
+ * Factory for {@link AIPlayerNN}
+ */
+public class AIPlayerNNFactory implements JSkatPlayerFactory<AIPlayerNN> {
+
+	@Override
+	public Class<AIPlayerNN> getPlayerClass() {
+		return AIPlayerNN.class;
+	}
+
+	@Override
+	public AIPlayerNN createPlayer() {
+		return new AIPlayerNN();
+	}
+}
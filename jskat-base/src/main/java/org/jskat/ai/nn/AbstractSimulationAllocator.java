@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.List;
+
+/**
+ * Base class for all simulation allocators
+ */
+abstract class AbstractSimulationAllocator implements SimulationAllocator {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void start(List<GameSimulation> simulations, long maxEpisodes) {
+		// most allocators don't need to prepare anything
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Returns the simulation with the highest won rate.
+	 */
+	@Override
+	public GameSimulation getBestSimulation(List<GameSimulation> simulations) {
+		double maxWonRate = Double.NEGATIVE_INFINITY;
+		GameSimulation bestSimulation = null;
+		for (GameSimulation simulation : simulations) {
+			if (simulation.getWonRate() > maxWonRate) {
+				maxWonRate = simulation.getWonRate();
+				bestSimulation = simulation;
+			}
+		}
+		return bestSimulation;
+	}
+
+	/**
+	 * Gets the number of finished and currently running episodes of a
+	 * simulation
+	 *
+	 * @param simulation
+	 *            Game simulation
+	 * @return Number of scheduled episodes
+	 */
+	protected static long getScheduledEpisodes(GameSimulation simulation) {
+		return simulation.getEpisodes() + simulation.getRunningEpisodes();
+	}
+
+	/**
+	 * Gets the first simulation that has never been scheduled
+	 *
+	 * @param simulations
+	 *            Game simulations
+	 * @return Game simulation or NULL, if all simulations were scheduled
+	 */
+	protected static GameSimulation getUnscheduledSimulation(List<GameSimulation> simulations) {
+		for (GameSimulation simulation : simulations) {
+			if (getScheduledEpisodes(simulation) == 0L) {
+				return simulation;
+			}
+		}
+		return null;
+	}
+}
@@ -15,9 +15,7 @@
  */
 package org.jskat.ai.nn;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
 import org.jskat.util.CardDeck;
 import org.jskat.util.CardList;
@@ -28,6 +26,19 @@ import org.jskat.util.Player;
  */
 public class CardDeckSimulator {
 
+	/**
+	 * Simulates a card distribution that is consistent with the knowledge of
+	 * a player, see {@link ConstrainedDealSampler}
+	 * 
+	 * @param knowledge
+	 *            Player knowledge
+	 * @return Simulated card distribution
+	 */
+	public static CardDeck simulateUnknownCards(
+			ImmutablePlayerKnowledge knowledge) {
+		return new ConstrainedDealSampler(knowledge).sample();
+	}
+
 	/**
 	 * Simulates a card distribution
 	 * 
@@ -57,14 +68,14 @@ public class CardDeckSimulator {
 			CardList playerHand, CardList knownSkat) {
 
 		// prepare result
-		Map<Player, CardList> playerHands = new HashMap<Player, CardList>();
+		CardList[] playerHands = new CardList[Player.values().length];
 		CardList skat = new CardList(knownSkat);
 
 		for (Player player : Player.values()) {
 			// set empty card list
-			playerHands.put(player, new CardList());
+			playerHands[player.ordinal()] = new CardList();
 		}
-		playerHands.get(playerPosition).addAll(playerHand);
+		playerHands[playerPosition.ordinal()].addAll(playerHand);
 
 		// get unknown cards
 		CardDeck unknownCards = new CardDeck();
@@ -73,22 +84,18 @@ public class CardDeckSimulator {
 
 		unknownCards.shuffle();
 
-		// set unknown cards
+		// set unknown cards, the hands are filled in the order fore hand,
+		// middle hand, rear hand, the remaining cards are put into the skat
+		int hand = 0;
 		for (Card card : unknownCards) {
 
-			Player player = null;
-			if (playerHands.get(Player.FOREHAND).size() < 10) {
-				player = Player.FOREHAND;
-			} else if (playerHands.get(Player.MIDDLEHAND).size() < 10) {
-				player = Player.MIDDLEHAND;
-			} else if (playerHands.get(Player.REARHAND).size() < 10) {
-				player = Player.REARHAND;
+			while (hand < playerHands.length && playerHands[hand].size() == 10) {
+				hand++;
 			}
 
-			if (player != null) {
-				playerHands.get(player).add(card);
+			if (hand < playerHands.length) {
+				playerHands[hand].add(card);
 			} else {
-				// player hands are filled -> put card into skat
 				skat.add(card);
 			}
 		}
@@ -96,44 +103,39 @@ public class CardDeckSimulator {
 		return createCardDeck(playerHands, skat);
 	}
 
-	private static CardDeck createCardDeck(Map<Player, CardList> playerHands,
-			CardList skat) {
+	/**
+	 * Creates a card deck in the order of the card dealing, see
+	 * SkatGame#dealCards()
+	 *
+	 * @param playerHands
+	 *            Cards of fore hand, middle hand and rear hand
+	 * @param skat
+	 *            Cards of the skat
+	 * @return Card deck
+	 */
+	static CardDeck createCardDeck(CardList[] playerHands, CardList skat) {
 
 		CardList cards = new CardList();
 
-		// Simulate card dealing
-		for (int i = 0; i < 3; i++) {
-			// FIXME (jan 17.01.2011) code duplication with
-			// SimpleSkatGame#dealCards()
-			// deal three rounds of cards
-			switch (i) {
-			case 0:
-				// deal three cards
-				dealCards(cards, playerHands, 3);
-				// and put two cards into the skat
-				cards.add(skat.get(0));
-				cards.add(skat.get(1));
-				break;
-			case 1:
-				// deal four cards
-				dealCards(cards, playerHands, 4);
-				break;
-			case 2:
-				// deal three cards
-				dealCards(cards, playerHands, 3);
-				break;
-			}
-		}
+		// deal three cards
+		dealCards(cards, playerHands, 0, 3);
+		// and put two cards into the skat
+		cards.add(skat.get(0));
+		cards.add(skat.get(1));
+		// deal four cards
+		dealCards(cards, playerHands, 3, 4);
+		// deal three cards
+		dealCards(cards, playerHands, 7, 3);
 
 		return new CardDeck(cards);
 	}
 
-	private static void dealCards(CardList result,
-			Map<Player, CardList> playerHands, int cardCount) {
+	private static void dealCards(CardList result, CardList[] playerHands,
+			int firstCard, int cardCount) {
 
-		for (Player player : Player.values()) {
-			for (int i = 0; i < cardCount; i++) {
-				result.add(playerHands.get(player).remove(0));
+		for (CardList hand : playerHands) {
+			for (int i = firstCard; i < firstCard + cardCount; i++) {
+				result.add(hand.get(i));
 			}
 		}
 	}
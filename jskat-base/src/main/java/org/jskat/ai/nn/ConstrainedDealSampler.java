@@ -0,0 +1,455 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.player.ImmutablePlayerKnowledge;
+import org.jskat.util.Card;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Samples card distributions that are consistent with the knowledge of a
+ * player<br>
+ * The unknown cards are only given to the other players or the skat, if they
+ * could still be there (see
+ * {@link ImmutablePlayerKnowledge#couldHaveCard(Player, Card)} and
+ * {@link ImmutablePlayerKnowledge#couldLieInSkat(Card)}). The number of
+ * consistent completions is counted once in advance, so every sample is drawn
+ * uniformly from all consistent card distributions without rejections.<br>
+ * The sampler doesn't change after the set up and can be used by several
+ * threads at the same time.
+ */
+public class ConstrainedDealSampler {
+
+	private static final Logger LOG = LoggerFactory
+			.getLogger(ConstrainedDealSampler.class);
+
+	/**
+	 * Default number of candidate distributions for the bid weighting
+	 */
+	public static final int DEFAULT_BID_CANDIDATES = 8;
+
+	/**
+	 * Weight of a card distribution, that doesn't support the highest bid of
+	 * a player
+	 */
+	static final double BID_MISMATCH_WEIGHT = 0.1;
+
+	private static final int CARDS_PER_HAND = 10;
+	private static final int CARDS_IN_SKAT = 2;
+
+	private static final int MIN_SUIT_TRUMPS = 5;
+	private static final int MIN_GRAND_JACKS = 2;
+
+	/**
+	 * Position bits for the unknown cards
+	 */
+	private static final int FIRST_PLAYER = 1;
+	private static final int SECOND_PLAYER = 2;
+	private static final int SKAT = 4;
+
+	private final Player playerPosition;
+	private final Player firstPlayer;
+	private final Player secondPlayer;
+
+	/**
+	 * Known cards of all players, indexed by the player ordinal, and of the
+	 * skat as card masks
+	 */
+	private final int[] knownCards = new int[Player.values().length + 1];
+
+	private final Card[] unknownCards;
+	private final int[] allowedPositions;
+	private final int firstPlayerQuota;
+	private final int secondPlayerQuota;
+
+	/**
+	 * Number of consistent completions for the unknown cards from an index
+	 * on, with a number of cards still needed by the first and the second
+	 * player
+	 */
+	private final long[][][] completions;
+
+	private final int[] highestBids = new int[Player.values().length];
+	private boolean bidWeighting = false;
+	private int bidCandidates = DEFAULT_BID_CANDIDATES;
+
+	/**
+	 * Constructor
+	 *
+	 * @param knowledge
+	 *            Player knowledge
+	 */
+	public ConstrainedDealSampler(final ImmutablePlayerKnowledge knowledge) {
+		this(knowledge, knowledge.getOwnCards(), getKnownSkat(knowledge));
+	}
+
+	/**
+	 * Constructor for hypothetical own cards, e.g. while simulating different
+	 * discards
+	 *
+	 * @param knowledge
+	 *            Player knowledge
+	 * @param ownCards
+	 *            Cards of the player
+	 * @param skatCards
+	 *            Known cards in the skat
+	 */
+	public ConstrainedDealSampler(final ImmutablePlayerKnowledge knowledge,
+			final CardList ownCards, final CardList skatCards) {
+
+		playerPosition = knowledge.getPlayerPosition();
+		firstPlayer = playerPosition.getLeftNeighbor();
+		secondPlayer = playerPosition.getRightNeighbor();
+
+		int playedCards = CardMask.EMPTY;
+		for (Player player : Player.values()) {
+			knownCards[player.ordinal()] = knowledge.getPlayedCardMask(player);
+			playedCards |= knowledge.getPlayedCardMask(player);
+
+			Integer bid = knowledge.getHighestBid(player);
+			highestBids[player.ordinal()] = bid == null ? 0 : bid.intValue();
+		}
+		knownCards[playerPosition.ordinal()] |= ownCards.getMask();
+		knownCards[Player.values().length] = skatCards.getMask();
+
+		int unknownMask = CardMask.ALL & ~playedCards & ~ownCards.getMask()
+				& ~skatCards.getMask();
+		CardList unknownCardList = CardMask.toCardList(unknownMask);
+		unknownCards = new Card[unknownCardList.size()];
+		for (int i = 0; i < unknownCards.length; i++) {
+			unknownCards[i] = unknownCardList.get(i);
+		}
+
+		firstPlayerQuota = CARDS_PER_HAND
+				- CardMask.size(knownCards[firstPlayer.ordinal()]);
+		secondPlayerQuota = CARDS_PER_HAND
+				- CardMask.size(knownCards[secondPlayer.ordinal()]);
+		int skatQuota = CARDS_IN_SKAT - skatCards.size();
+		if (firstPlayerQuota < 0 || secondPlayerQuota < 0 || skatQuota < 0
+				|| firstPlayerQuota + secondPlayerQuota
+						+ skatQuota != unknownCards.length) {
+			throw new IllegalArgumentException(
+					"Known cards don't fit into a card distribution"); //$NON-NLS-1$
+		}
+
+		allowedPositions = new int[unknownCards.length];
+		for (int i = 0; i < unknownCards.length; i++) {
+			allowedPositions[i] = getAllowedPositions(knowledge,
+					unknownCards[i]);
+		}
+
+		long[][][] counts = countCompletions();
+		if (counts[0][firstPlayerQuota][secondPlayerQuota] == 0) {
+			// the "could have" information is uncertain, fall back to all
+			// positions instead of failing
+			LOG.debug("No consistent card distribution, ignoring constraints"); //$NON-NLS-1$
+			for (int i = 0; i < allowedPositions.length; i++) {
+				allowedPositions[i] = FIRST_PLAYER | SECOND_PLAYER | SKAT;
+			}
+			counts = countCompletions();
+		}
+		completions = counts;
+	}
+
+	private static CardList getKnownSkat(
+			final ImmutablePlayerKnowledge knowledge) {
+
+		GameAnnouncement announcement = knowledge.getGameAnnouncement();
+		if (knowledge.getPlayerPosition() == knowledge.getDeclarer()
+				&& announcement != null
+				&& announcement.getDiscardedCards() != null) {
+			// the declarer knows the discarded cards
+			return announcement.getDiscardedCards();
+		}
+		return new CardList();
+	}
+
+	private int getAllowedPositions(final ImmutablePlayerKnowledge knowledge,
+			final Card card) {
+
+		int result = 0;
+		if (knowledge.couldHaveCard(firstPlayer, card)) {
+			result |= FIRST_PLAYER;
+		}
+		if (knowledge.couldHaveCard(secondPlayer, card)) {
+			result |= SECOND_PLAYER;
+		}
+		if (knowledge.couldLieInSkat(card)) {
+			result |= SKAT;
+		}
+		if (result == 0) {
+			// card must be somewhere
+			result = FIRST_PLAYER | SECOND_PLAYER | SKAT;
+		}
+		return result;
+	}
+
+	/**
+	 * Counts the completions backwards from the last unknown card, the skat
+	 * gets all cards that are not needed by the players
+	 */
+	private long[][][] countCompletions() {
+
+		int cardCount = unknownCards.length;
+		long[][][] result = new long[cardCount + 1][firstPlayerQuota + 1][secondPlayerQuota + 1];
+		result[cardCount][0][0] = 1;
+
+		for (int i = cardCount - 1; i >= 0; i--) {
+			int remainingCards = cardCount - i;
+			for (int first = 0; first <= firstPlayerQuota; first++) {
+				for (int second = 0; second <= secondPlayerQuota; second++) {
+					int skat = remainingCards - first - second;
+					if (skat < 0) {
+						continue;
+					}
+					long count = 0;
+					if ((allowedPositions[i] & FIRST_PLAYER) != 0 && first > 0) {
+						count += result[i + 1][first - 1][second];
+					}
+					if ((allowedPositions[i] & SECOND_PLAYER) != 0
+							&& second > 0) {
+						count += result[i + 1][first][second - 1];
+					}
+					if ((allowedPositions[i] & SKAT) != 0 && skat > 0) {
+						count += result[i + 1][first][second];
+					}
+					result[i][first][second] = count;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Enables the weighting of the card distributions by the highest bids of
+	 * the other players<br>
+	 * Several candidate distributions are sampled and one is chosen with a
+	 * probability proportional to its weight. Distributions where a player
+	 * couldn't plausibly announce a game worth the highest bid get a lower
+	 * weight.
+	 *
+	 * @param isBidWeighting
+	 *            TRUE, if the bids should be used
+	 */
+	public void setBidWeighting(final boolean isBidWeighting) {
+		bidWeighting = isBidWeighting;
+	}
+
+	/**
+	 * Sets the number of candidate distributions for the bid weighting
+	 *
+	 * @param candidates
+	 *            Number of candidates
+	 */
+	public void setBidCandidates(final int candidates) {
+		if (candidates < 1) {
+			throw new IllegalArgumentException(
+					"At least one candidate is needed"); //$NON-NLS-1$
+		}
+		bidCandidates = candidates;
+	}
+
+	/**
+	 * Gets the number of card distributions that are consistent with the
+	 * knowledge
+	 *
+	 * @return Number of card distributions
+	 */
+	public long getDealCount() {
+		return completions[0][firstPlayerQuota][secondPlayerQuota];
+	}
+
+	/**
+	 * Gets the player position
+	 *
+	 * @return Player position
+	 */
+	public Player getPlayerPosition() {
+		return playerPosition;
+	}
+
+	/**
+	 * Gets all cards dealt to the player, including the cards played already
+	 *
+	 * @return Cards of the player
+	 */
+	public CardList getPlayerCards() {
+		return CardMask.toCardList(knownCards[playerPosition.ordinal()]);
+	}
+
+	/**
+	 * Gets the known skat cards
+	 *
+	 * @return Known skat cards
+	 */
+	public CardList getSkatCards() {
+		return CardMask.toCardList(knownCards[Player.values().length]);
+	}
+
+	/**
+	 * Samples a card distribution with the random generator of the current
+	 * thread
+	 *
+	 * @return Card deck in dealing order
+	 */
+	public CardDeck sample() {
+		return sample(ThreadLocalRandom.current());
+	}
+
+	/**
+	 * Samples a card distribution
+	 *
+	 * @param random
+	 *            Random generator
+	 * @return Card deck in dealing order
+	 */
+	public CardDeck sample(final Random random) {
+		return toCardDeck(sampleHands(random));
+	}
+
+	/**
+	 * Samples the cards of all players and the skat, the cards of the players
+	 * include the cards they already played
+	 *
+	 * @param random
+	 *            Random generator
+	 * @return Card masks indexed by the player ordinal, the last mask holds
+	 *         the skat
+	 */
+	public int[] sampleHands(final Random random) {
+
+		if (!bidWeighting || !hasBids()) {
+			return sampleUniformHands(random);
+		}
+
+		int[] result = null;
+		double totalWeight = 0.0;
+		for (int i = 0; i < bidCandidates; i++) {
+			int[] candidate = sampleUniformHands(random);
+			double weight = getBidWeight(candidate);
+			totalWeight += weight;
+			// weighted reservoir sampling with a single candidate
+			if (result == null || random.nextDouble() * totalWeight < weight) {
+				result = candidate;
+			}
+		}
+		return result;
+	}
+
+	private int[] sampleUniformHands(final Random random) {
+
+		int[] result = knownCards.clone();
+
+		int first = firstPlayerQuota;
+		int second = secondPlayerQuota;
+		for (int i = 0; i < unknownCards.length; i++) {
+			int skat = unknownCards.length - i - first - second;
+			long firstCount = (allowedPositions[i] & FIRST_PLAYER) != 0
+					&& first > 0 ? completions[i + 1][first - 1][second] : 0;
+			long secondCount = (allowedPositions[i] & SECOND_PLAYER) != 0
+					&& second > 0 ? completions[i + 1][first][second - 1] : 0;
+			long skatCount = (allowedPositions[i] & SKAT) != 0 && skat > 0
+					? completions[i + 1][first][second] : 0;
+
+			long choice = (long) (random.nextDouble() * (firstCount
+					+ secondCount + skatCount));
+			int cardMask = CardMask.of(unknownCards[i]);
+			if (choice < firstCount) {
+				result[firstPlayer.ordinal()] |= cardMask;
+				first--;
+			} else if (choice < firstCount + secondCount) {
+				result[secondPlayer.ordinal()] |= cardMask;
+				second--;
+			} else {
+				result[Player.values().length] |= cardMask;
+			}
+		}
+		return result;
+	}
+
+	private boolean hasBids() {
+		return highestBids[firstPlayer.ordinal()] > 0
+				|| highestBids[secondPlayer.ordinal()] > 0;
+	}
+
+	private double getBidWeight(final int[] hands) {
+
+		double result = 1.0;
+		for (Player player : new Player[] { firstPlayer, secondPlayer }) {
+			int bid = highestBids[player.ordinal()];
+			if (bid > 0
+					&& getPlausibleMaxBid(hands[player.ordinal()]) < bid) {
+				result *= BID_MISMATCH_WEIGHT;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the highest value of a game the cards could plausibly be announced
+	 * with, without hand, schneider or schwarz<br>
+	 * Suit games need at least five trump cards, grand games at least two
+	 * jacks. A null game is always possible.
+	 *
+	 * @param cards
+	 *            Dealt cards
+	 * @return Highest game value
+	 */
+	static int getPlausibleMaxBid(final CardList cards) {
+		return getPlausibleMaxBid(cards.getMask());
+	}
+
+	private static int getPlausibleMaxBid(final int cardMask) {
+
+		int result = GameValueTable.getGameValue(cardMask, GameType.NULL,
+				GameValueTable.NO_FLAGS);
+		for (GameType gameType : new GameType[] { GameType.CLUBS,
+				GameType.SPADES, GameType.HEARTS, GameType.DIAMONDS,
+				GameType.GRAND }) {
+			int trumpCount = CardMask.size(cardMask
+					& CardMask.getTrumpCards(gameType));
+			if (trumpCount < (gameType == GameType.GRAND ? MIN_GRAND_JACKS
+					: MIN_SUIT_TRUMPS)) {
+				continue;
+			}
+			result = Math.max(result, GameValueTable.getGameValue(cardMask,
+					gameType, GameValueTable.NO_FLAGS));
+		}
+		return result;
+	}
+
+	private static CardDeck toCardDeck(final int[] hands) {
+
+		CardList[] playerHands = new CardList[Player.values().length];
+		for (Player player : Player.values()) {
+			playerHands[player.ordinal()] = CardMask.toCardList(hands[player
+					.ordinal()]);
+		}
+		return CardDeckSimulator.createCardDeck(playerHands,
+				CardMask.toCardList(hands[Player.values().length]));
+	}
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Allocates rollouts to the simulation with the highest won rate, or explores
+ * the least simulated simulations with a fixed exploration rate
+ */
+class EpsilonGreedyAllocator extends AbstractSimulationAllocator {
+
+	private final static Double EXPLORATION_RATE = 0.2;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GameSimulation getNextSimulation(List<GameSimulation> simulations) {
+		if (ThreadLocalRandom.current().nextDouble() > EXPLORATION_RATE) {
+			return getNextSimulationByWonRate(simulations);
+			// return getNextSimulationByWonRateAndMedian(simulations);
+		}
+		return getNextSimulationByExploring(simulations);
+	}
+
+	GameSimulation getNextSimulationByWonRate(List<GameSimulation> simulations) {
+
+		GameSimulation unscheduledSimulation = getUnscheduledSimulation(simulations);
+		if (unscheduledSimulation != null) {
+			// simulation has never been run --> return immediately
+			return unscheduledSimulation;
+		}
+
+		List<GameSimulation> bestSimulations = new ArrayList<>();
+
+		double maxWonRate = Double.NEGATIVE_INFINITY;
+		for (GameSimulation simulation : simulations) {
+			if (simulation.getWonRate() >= maxWonRate) {
+				if (simulation.getWonRate() > maxWonRate) {
+					// prefer higher won rates
+					maxWonRate = simulation.getWonRate();
+					bestSimulations.clear();
+				}
+				bestSimulations.add(simulation);
+			}
+		}
+
+		Long minSimulationCount = Long.MAX_VALUE;
+		GameSimulation result = null;
+		for (GameSimulation simulation : bestSimulations) {
+			if (getScheduledEpisodes(simulation) < minSimulationCount) {
+				minSimulationCount = getScheduledEpisodes(simulation);
+				result = simulation;
+			}
+		}
+		return result;
+	}
+
+	GameSimulation getNextSimulationByWonRateAndMedian(List<GameSimulation> simulations) {
+
+		GameSimulation unscheduledSimulation = getUnscheduledSimulation(simulations);
+		if (unscheduledSimulation != null) {
+			// simulation has never been run --> return immediately
+			return unscheduledSimulation;
+		}
+
+		double maxMedian = Double.NEGATIVE_INFINITY;
+		GameSimulation result = null;
+		for (GameSimulation simulation : simulations) {
+			if (simulation.getDeclarerPointsMedian() > maxMedian) {
+				maxMedian = simulation.getDeclarerPointsMedian();
+				result = simulation;
+			}
+		}
+
+		return result;
+	}
+
+	GameSimulation getNextSimulationByExploring(List<GameSimulation> simulations) {
+
+		GameSimulation unscheduledSimulation = getUnscheduledSimulation(simulations);
+		if (unscheduledSimulation != null) {
+			// simulation has never been run --> return immediately
+			return unscheduledSimulation;
+		}
+
+		List<GameSimulation> bestSimulations = new ArrayList<>();
+
+		long minEpisodes = Long.MAX_VALUE;
+		for (GameSimulation simulation : simulations) {
+			if (getScheduledEpisodes(simulation) <= minEpisodes) {
+				if (getScheduledEpisodes(simulation) < minEpisodes) {
+					// prefer fewer episodes
+					minEpisodes = getScheduledEpisodes(simulation);
+					bestSimulations.clear();
+				}
+				bestSimulations.add(simulation);
+			}
+		}
+
+		return bestSimulations.get(ThreadLocalRandom.current().nextInt(bestSimulations.size()));
+	}
+}
@@ -15,13 +15,15 @@
  */
 package org.jskat.ai.nn;
 
-import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
 import org.jskat.control.SkatGame;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatGameResult;
-import org.jskat.gui.NullView;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.CardDeck;
 import org.jskat.util.CardList;
@@ -41,11 +43,41 @@ class GameSimulation {
 	private final CardList playerCards;
 	private final CardList skatCards;
 
+	/**
+	 * Sampler for the card distributions, NULL if the unknown cards are
+	 * distributed uniformly
+	 */
+	private final ConstrainedDealSampler sampler;
+
+	/**
+	 * Players for the simulated games, every simulation thread gets its own
+	 * players, so that game simulations can run in parallel
+	 */
+	private final static ThreadLocal<JSkatPlayer[]> PLAYERS = new ThreadLocal<JSkatPlayer[]>() {
+		@Override
+		protected JSkatPlayer[] initialValue() {
+			return new JSkatPlayer[] { new AIPlayerNN(NOPLogger.NOP_LOGGER), new AIPlayerNN(NOPLogger.NOP_LOGGER),
+					new AIPlayerNN(NOPLogger.NOP_LOGGER) };
+		}
+	};
+
+	/**
+	 * Game data for the simulated games, every simulation thread reuses its
+	 * own game data for all games it simulates
+	 */
+	private final static ThreadLocal<SkatGameData> GAME_DATA = new ThreadLocal<SkatGameData>() {
+		@Override
+		protected SkatGameData initialValue() {
+			return new SkatGameData();
+		}
+	};
+
 	private final Statistics statistics = new Statistics();
 
-	private final JSkatPlayer player1;
-	private final JSkatPlayer player2;
-	private final JSkatPlayer player3;
+	/**
+	 * Number of episodes that are currently simulated
+	 */
+	private final AtomicLong runningEpisodes = new AtomicLong();
 
 	GameSimulation(GameType gameType, Player playerPosition, CardList playerCards) {
 
@@ -58,20 +90,51 @@ class GameSimulation {
 		this.playerPosition = playerPosition;
 		this.playerCards = new CardList(playerCards);
 		this.skatCards = new CardList(skatCards);
+		this.sampler = null;
+	}
+
+	/**
+	 * Constructor for simulations with card distributions that are consistent
+	 * with the knowledge of the player
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param sampler
+	 *            Sampler for the card distributions
+	 */
+	GameSimulation(GameType gameType, ConstrainedDealSampler sampler) {
 
-		player1 = new AIPlayerNN(NOPLogger.NOP_LOGGER);
-		player2 = new AIPlayerNN(NOPLogger.NOP_LOGGER);
-		player3 = new AIPlayerNN(NOPLogger.NOP_LOGGER);
+		this.gameType = gameType;
+		this.playerPosition = sampler.getPlayerPosition();
+		this.playerCards = sampler.getPlayerCards();
+		this.skatCards = sampler.getSkatCards();
+		this.sampler = sampler;
 	}
 
+	/**
+	 * Simulates one game<br>
+	 * Can be called from several threads at the same time, the statistics are
+	 * merged without locking.
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return Game result
+	 */
 	SkatGameResult simulateGame(String tableName) {
 
-		SkatGame game = new SkatGame(tableName, GameVariant.STANDARD, player1, player2, player3);
-		game.setView(new NullView());
-		game.setLogger(NOPLogger.NOP_LOGGER);
-
-		CardDeck deck = CardDeckSimulator.simulateUnknownCards(playerPosition, playerCards, skatCards);
-		LOG.debug("Simulated card deck: " + deck); //$NON-NLS-1$
+		JSkatPlayer[] players = PLAYERS.get();
+		SkatGame game = new SkatGame(tableName, GameVariant.STANDARD, players[0], players[1], players[2],
+				GAME_DATA.get());
+		game.setHeadless(true);
+		game.setLogger(SkatGame.getHeadlessLogger(tableName));
+
+		CardDeck deck;
+		if (sampler != null) {
+			deck = sampler.sample();
+		} else {
+			deck = CardDeckSimulator.simulateUnknownCards(playerPosition, playerCards, skatCards);
+		}
+		LOG.debug("Simulated card deck: {}", deck); //$NON-NLS-1$
 		game.setCardDeck(deck);
 		game.dealCards();
 
@@ -83,13 +146,8 @@ class GameSimulation {
 
 		game.setGameState(GameState.TRICK_PLAYING);
 
-		game.start();
-		try {
-			game.join();
-		} catch (InterruptedException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+		// run the game on the current thread
+		game.run();
 
 		// FIXME (jansch 28.06.2011) have to call getGameResult() for result
 		// calculation
@@ -104,6 +162,24 @@ class GameSimulation {
 		return statistics.getEpisodes();
 	}
 
+	/**
+	 * Marks the start of an episode that is simulated by a scheduler
+	 */
+	void startEpisode() {
+		runningEpisodes.incrementAndGet();
+	}
+
+	/**
+	 * Marks the end of an episode that is simulated by a scheduler
+	 */
+	void finishEpisode() {
+		runningEpisodes.decrementAndGet();
+	}
+
+	long getRunningEpisodes() {
+		return runningEpisodes.get();
+	}
+
 	long getWonGames() {
 		return statistics.getWonGames();
 	}
@@ -145,64 +221,94 @@ class GameSimulation {
 		return "Game simulation " + gameType + " " + statistics.getEpisodes() + " episodes";
 	}
 
+	/**
+	 * Statistics of the simulated games<br>
+	 * All counters are atomic, so that results of parallel simulations can be
+	 * added without locking.
+	 */
 	class Statistics {
 
-		private long episodes;
-		private long wonGames;
-		private double wonRate;
-		private long wonGamesWithSchneider;
-		private double wonRateWithSchneider;
-		private long wonGamesWithSchwarz;
-		private double wonRateWithSchwarz;
-		private final SynchronizedDescriptiveStatistics declarerPointsStats = new SynchronizedDescriptiveStatistics();
+		private final static int MAX_DECLARER_POINTS = 120;
+
+		private final AtomicLong episodes = new AtomicLong();
+		private final AtomicLong wonGames = new AtomicLong();
+		private final AtomicLong wonGamesWithSchneider = new AtomicLong();
+		private final AtomicLong wonGamesWithSchwarz = new AtomicLong();
+		private final AtomicLongArray declarerPointsCounts = new AtomicLongArray(MAX_DECLARER_POINTS + 1);
 
 		void adjust(SkatGameResult gameResult) {
-			episodes++;
 			if (gameResult.isWon()) {
-				wonGames++;
+				wonGames.incrementAndGet();
 				if (gameResult.isSchneider()) {
-					wonGamesWithSchneider++;
+					wonGamesWithSchneider.incrementAndGet();
 				}
 				if (gameResult.isSchwarz()) {
-					wonGamesWithSchwarz++;
+					wonGamesWithSchwarz.incrementAndGet();
 				}
 			}
-			wonRate = ((double) wonGames) / ((double) episodes);
-			wonRateWithSchneider = ((double) wonGamesWithSchneider) / ((double) episodes);
-			wonRateWithSchwarz = ((double) wonGamesWithSchwarz) / ((double) episodes);
-			declarerPointsStats.addValue(gameResult.getFinalDeclarerPoints());
+			int declarerPoints = Math.max(0, Math.min(MAX_DECLARER_POINTS, gameResult.getFinalDeclarerPoints()));
+			declarerPointsCounts.incrementAndGet(declarerPoints);
+			episodes.incrementAndGet();
 		}
 
 		long getEpisodes() {
-			return episodes;
+			return episodes.get();
 		}
 
 		long getWonGames() {
-			return wonGames;
+			return wonGames.get();
 		}
 
 		double getWonRate() {
-			return wonRate;
+			return getRate(wonGames);
 		}
 
 		long getWonGamesWithSchneider() {
-			return wonGamesWithSchneider;
+			return wonGamesWithSchneider.get();
 		}
 
 		double getWonRateWithSchneider() {
-			return wonRateWithSchneider;
+			return getRate(wonGamesWithSchneider);
 		}
 
 		long getWonGamesWithSchwarz() {
-			return wonGamesWithSchwarz;
+			return wonGamesWithSchwarz.get();
 		}
 
 		double getWonRateWithSchwarz() {
-			return wonRateWithSchwarz;
+			return getRate(wonGamesWithSchwarz);
+		}
+
+		private double getRate(AtomicLong counter) {
+			long currentEpisodes = episodes.get();
+			if (currentEpisodes == 0L) {
+				return 0.0;
+			}
+			return Math.min(1.0, ((double) counter.get()) / ((double) currentEpisodes));
 		}
 
 		double getDeclarerPointsMedian() {
-			return declarerPointsStats.getPercentile(50);
+			long[] counts = new long[declarerPointsCounts.length()];
+			long total = 0L;
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = declarerPointsCounts.get(i);
+				total += counts[i];
+			}
+			if (total == 0L) {
+				return Double.NaN;
+			}
+			return (getDeclarerPointsAt(counts, (total - 1) / 2) + getDeclarerPointsAt(counts, total / 2)) / 2.0;
+		}
+
+		private int getDeclarerPointsAt(long[] counts, long index) {
+			long seen = 0L;
+			for (int points = 0; points < counts.length; points++) {
+				seen += counts[points];
+				if (seen > index) {
+					return points;
+				}
+			}
+			return MAX_DECLARER_POINTS;
 		}
 	}
 }
@@ -20,7 +20,6 @@ import org.jskat.control.SkatGame;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.SkatGameData.GameState;
-import org.jskat.gui.NullView;
 import org.jskat.util.CardDeck;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
@@ -111,18 +110,18 @@ class GameSimulationThread extends JSkatThread {
 				return false;
 			}
 		}
-		log.warn(simulatedGames + " episodes simulated for game type " + gameType + ": won rate " + getWonRate() + ".");
+		log.warn("{} episodes simulated for game type {}: won rate {}.", simulatedGames, gameType, getWonRate());
 		return true;
 	}
 
 	private boolean simulateGame() {
 
 		SkatGame game = new SkatGame("SIM" + gameType.name(), GameVariant.STANDARD, nnPlayer1, nnPlayer2, nnPlayer3);
-		game.setView(new NullView());
-		game.setLogger(NOPLogger.NOP_LOGGER);
+		game.setHeadless(true);
+		game.setLogger(SkatGame.getHeadlessLogger("SIM" + gameType.name())); //$NON-NLS-1$
 
 		CardDeck deck = CardDeckSimulator.simulateUnknownCards(position, cards, skat);
-		log.debug("Card deck: " + deck); //$NON-NLS-1$
+		log.debug("Card deck: {}", deck); //$NON-NLS-1$
 		game.setCardDeck(deck);
 		game.dealCards();
 
@@ -134,13 +133,8 @@ class GameSimulationThread extends JSkatThread {
 
 		game.setGameState(GameState.TRICK_PLAYING);
 
-		game.start();
-		try {
-			game.join();
-		} catch (InterruptedException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+		// run the game on the current thread
+		game.run();
 
 		// FIXME (jansch 28.06.2011) have to call getGameResult() for result
 		// calculation
@@ -19,7 +19,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.jskat.control.JSkatEventBus;
 import org.jskat.control.command.table.CreateTableCommand;
@@ -32,12 +33,20 @@ class GameSimulator2 {
 
 	private final static Logger LOG = LoggerFactory.getLogger(GameSimulator2.class);
 
-	private final static Random RANDOM = new Random();
+	/**
+	 * Minimum number of episodes that are simulated by one rollout task
+	 */
+	private final static long MIN_EPISODES_PER_TASK = 8L;
 
-	private final static Double EXPLORATION_RATE = 0.2;
+	/**
+	 * Pool for parallel game simulations, shared by all simulators
+	 */
+	private final static ForkJoinPool SIMULATION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
 	private final Map<GameType, List<GameSimulation>> gameSimulations = new HashMap<>();
 
+	private SimulationAllocator allocator = new EpsilonGreedyAllocator();
+
 	GameSimulator2() {
 
 		for (GameType gameType : GameType.values()) {
@@ -61,137 +70,127 @@ class GameSimulator2 {
 		gameSimulations.get(gameSimulation.getGameType()).add(gameSimulation);
 	}
 
-	GameSimulation simulateMaxEpisodes(long maxEpisodes) {
-		long episodes = 0L;
-		while (episodes < maxEpisodes) {
-			GameSimulation simulation = getNextSimulation();
-			LOG.debug("Simulating " + simulation.getGameType() + " game. Current won rate: " + simulation.getWonRate()
-					+ " in " + simulation.getEpisodes() + " episodes.");
-			simulation.simulateGame(getTrainingTableName(simulation.getGameType()));
-			episodes++;
+	/**
+	 * Sets the allocator that distributes the rollouts to the game simulations
+	 *
+	 * @param allocator
+	 *            Simulation allocator
+	 */
+	void setAllocator(SimulationAllocator allocator) {
+		this.allocator = allocator;
+	}
+
+	private List<GameSimulation> getSimulations() {
+		List<GameSimulation> result = new ArrayList<>();
+		for (GameType gameType : GameType.values()) {
+			result.addAll(gameSimulations.get(gameType));
 		}
+		return result;
+	}
+
+	/**
+	 * Simulates a maximum number of episodes on all available cores
+	 *
+	 * @param maxEpisodes
+	 *            Maximum number of episodes
+	 * @return Best game simulation
+	 */
+	GameSimulation simulateMaxEpisodes(long maxEpisodes) {
+		int tasks = (int) Math.max(1L,
+				Math.min(SIMULATION_POOL.getParallelism() * 4L, maxEpisodes / MIN_EPISODES_PER_TASK));
+		allocator.start(getSimulations(), maxEpisodes);
+		SIMULATION_POOL.invoke(new RolloutTask(maxEpisodes, Long.MAX_VALUE, tasks));
 
 		return getBestGameSimulation();
 	}
 
 	GameSimulation getNextSimulation() {
-		if (RANDOM.nextDouble() > EXPLORATION_RATE) {
-			return getNextSimulationByWonRate();
-			// return getNextSimulationByWonRateAndMedian();
-		}
-		return getNextSimulationByExploring();
+		return allocator.getNextSimulation(getSimulations());
 	}
 
+	/**
+	 * Simulates games on all available cores until the maximum time is reached
+	 *
+	 * @param maxTimeInMilliseconds
+	 *            Maximum time in milliseconds
+	 * @return Best game simulation
+	 */
 	GameSimulation simulateMaxTime(long maxTimeInMilliseconds) {
 		long endTime = System.currentTimeMillis() + maxTimeInMilliseconds;
-		while (System.currentTimeMillis() <= endTime) {
-			GameSimulation simulation = getNextSimulation();
-			LOG.warn("Simulating " + simulation.getGameType() + " game. Current won rate: " + simulation.getWonRate()
-					+ " in " + simulation.getEpisodes() + " episodes.");
-			simulation.simulateGame(getTrainingTableName(simulation.getGameType()));
-		}
+		allocator.start(getSimulations(), Long.MAX_VALUE);
+		SIMULATION_POOL.invoke(new RolloutTask(Long.MAX_VALUE, endTime, SIMULATION_POOL.getParallelism()));
 
 		return getBestGameSimulation();
 	}
 
-	private GameSimulation getBestGameSimulation() {
-		double maxWonRate = Double.NEGATIVE_INFINITY;
-		GameSimulation bestSimulation = null;
-		for (GameType gameType : GameType.values()) {
-			for (GameSimulation simulation : gameSimulations.get(gameType)) {
-				if (simulation.getWonRate() > maxWonRate) {
-					maxWonRate = simulation.getWonRate();
-					bestSimulation = simulation;
-				}
-			}
-		}
-
-		LOG.warn("Best game simulation " + bestSimulation.getGameType() + " after " + bestSimulation.getEpisodes()
-				+ " episodes with won rate " + bestSimulation.getWonRate() + " and median of "
-				+ bestSimulation.getDeclarerPointsMedian() + " of declarer points");
-
-		return bestSimulation;
-	}
-
-	GameSimulation getNextSimulationByWonRate() {
-		List<GameSimulation> bestSimulations = new ArrayList<>();
-
-		double maxWonRate = Double.NEGATIVE_INFINITY;
-		for (GameType gameType : GameType.values()) {
-			for (GameSimulation simulation : gameSimulations.get(gameType)) {
-				if (simulation.getEpisodes() == 0L) {
-					// simulation has never been run --> return immediately
-					return simulation;
-				}
-				if (simulation.getWonRate() >= maxWonRate) {
-					if (simulation.getWonRate() > maxWonRate) {
-						// prefer higher won rates
-						maxWonRate = simulation.getWonRate();
-						bestSimulations.clear();
-					}
-					bestSimulations.add(simulation);
-				}
+	private boolean simulateNextGame() {
+		GameSimulation simulation;
+		// selection and start of the episode must be atomic, otherwise parallel
+		// rollouts would select the same simulation
+		synchronized (gameSimulations) {
+			simulation = getNextSimulation();
+			if (simulation == null) {
+				// allocator needs no more rollouts
+				return false;
 			}
+			simulation.startEpisode();
 		}
-
-		Long minSimulationCount = Long.MAX_VALUE;
-		GameSimulation result = null;
-		for (GameSimulation simulation : bestSimulations) {
-			if (simulation.getEpisodes() < minSimulationCount) {
-				minSimulationCount = simulation.getEpisodes();
-				result = simulation;
-			}
+		LOG.debug("Simulating {} game. Current won rate: {} in {} episodes.",
+				simulation.getGameType(), simulation.getWonRate(), simulation.getEpisodes());
+		try {
+			simulation.simulateGame(getTrainingTableName(simulation.getGameType()));
+		} finally {
+			simulation.finishEpisode();
 		}
-		return result;
+		return true;
 	}
 
-	GameSimulation getNextSimulationByWonRateAndMedian() {
+	private GameSimulation getBestGameSimulation() {
 
-		List<GameSimulation> allSimulations = new ArrayList<>();
+		GameSimulation bestSimulation = allocator.getBestSimulation(getSimulations());
 
-		for (GameType gameType : GameType.values()) {
-			for (GameSimulation simulation : gameSimulations.get(gameType)) {
-				if (simulation.getEpisodes() == 0L) {
-					// simulation has never been run --> return immediately
-					return simulation;
-				}
-				allSimulations.add(simulation);
-			}
-		}
-
-		double maxMedian = Double.NEGATIVE_INFINITY;
-		GameSimulation result = null;
-		for (GameSimulation simulation : allSimulations) {
-			if (simulation.getDeclarerPointsMedian() > maxMedian) {
-				maxMedian = simulation.getDeclarerPointsMedian();
-				result = simulation;
-			}
-		}
+		LOG.warn("Best game simulation {} after {} episodes with won rate {} and median of {} of declarer points",
+				bestSimulation.getGameType(), bestSimulation.getEpisodes(), bestSimulation.getWonRate(),
+				bestSimulation.getDeclarerPointsMedian());
 
-		return result;
+		return bestSimulation;
 	}
 
-	GameSimulation getNextSimulationByExploring() {
-		List<GameSimulation> bestSimulations = new ArrayList<>();
+	/**
+	 * Fork/join task for game rollouts<br>
+	 * The task is split until every sub task runs on its own worker, idle
+	 * workers steal the remaining sub tasks. Every rollout selects the next game
+	 * simulation with {@link GameSimulator2#getNextSimulation()} according to
+	 * the statistics merged so far.
+	 */
+	private final class RolloutTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long episodes;
+		private final long endTime;
+		private final int tasks;
+
+		RolloutTask(long episodes, long endTime, int tasks) {
+			this.episodes = episodes;
+			this.endTime = endTime;
+			this.tasks = tasks;
+		}
 
-		long minEpisodes = Long.MAX_VALUE;
-		for (GameType gameType : GameType.values()) {
-			for (GameSimulation simulation : gameSimulations.get(gameType)) {
-				if (simulation.getEpisodes() == 0L) {
-					// simulation has never been run --> return immediately
-					return simulation;
-				}
-				if (simulation.getEpisodes() <= minEpisodes) {
-					if (simulation.getEpisodes() < minEpisodes) {
-						// prefer fewer episodes
-						minEpisodes = simulation.getEpisodes();
-						bestSimulations.clear();
+		@Override
+		protected void compute() {
+			if (tasks > 1) {
+				int firstTasks = tasks / 2;
+				long firstEpisodes = episodes / tasks * firstTasks;
+				invokeAll(new RolloutTask(firstEpisodes, endTime, firstTasks),
+						new RolloutTask(episodes - firstEpisodes, endTime, tasks - firstTasks));
+			} else {
+				for (long episode = 0L; episode < episodes && System.currentTimeMillis() <= endTime; episode++) {
+					if (!simulateNextGame()) {
+						break;
 					}
-					bestSimulations.add(simulation);
 				}
 			}
 		}
-
-		return bestSimulations.get(RANDOM.nextInt(bestSimulations.size()));
 	}
 }
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.List;
+
+/**
+ * Allocates the rollouts of a {@link GameSimulator2} to its game simulations
+ * (the arms of a multi-armed bandit)
+ */
+interface SimulationAllocator {
+
+	/**
+	 * Starts a new simulation run
+	 *
+	 * @param simulations
+	 *            All game simulations
+	 * @param maxEpisodes
+	 *            Maximum number of episodes for the run, {@link Long#MAX_VALUE}
+	 *            if the run is limited by time
+	 */
+	void start(List<GameSimulation> simulations, long maxEpisodes);
+
+	/**
+	 * Gets the game simulation for the next rollout
+	 *
+	 * @param simulations
+	 *            All game simulations
+	 * @return Game simulation or NULL, if no more rollouts are needed
+	 */
+	GameSimulation getNextSimulation(List<GameSimulation> simulations);
+
+	/**
+	 * Gets the best game simulation after a simulation run
+	 *
+	 * @param simulations
+	 *            All game simulations
+	 * @return Best game simulation
+	 */
+	GameSimulation getBestSimulation(List<GameSimulation> simulations);
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Allocates rollouts with successive halving<br>
+ * All remaining simulations get the same number of episodes per round. After
+ * every round simulations that are worse than the best simulation with high
+ * confidence are eliminated early, afterwards the worse half of the remaining
+ * simulations is dropped. Simulations are only ranked after all episodes of a
+ * round are finished. The run ends as soon as only one simulation is left.
+ */
+class SuccessiveHalvingAllocator extends AbstractSimulationAllocator {
+
+	/**
+	 * Episodes per simulation and round, if the run is limited by time
+	 */
+	private final static long EPISODES_PER_ROUND_WITHOUT_LIMIT = 8L;
+
+	/**
+	 * Error probability for the early elimination
+	 */
+	private final static double ELIMINATION_ERROR_PROBABILITY = 0.05;
+
+	private final static Comparator<SimulationResult> BY_WON_RATE = new Comparator<SimulationResult>() {
+		@Override
+		public int compare(SimulationResult first, SimulationResult second) {
+			int result = Double.compare(second.wonRate, first.wonRate);
+			if (result == 0) {
+				result = Long.compare(second.episodes, first.episodes);
+			}
+			return result;
+		}
+	};
+
+	private final List<GameSimulation> remainingSimulations = new ArrayList<>();
+	private long maxEpisodes;
+	private int rounds;
+	private long roundTarget;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void start(List<GameSimulation> simulations, long maxEpisodes) {
+		remainingSimulations.clear();
+		remainingSimulations.addAll(simulations);
+		this.maxEpisodes = maxEpisodes;
+		if (simulations.isEmpty()) {
+			return;
+		}
+		rounds = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, simulations.size() - 1)));
+		startRound();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GameSimulation getNextSimulation(List<GameSimulation> simulations) {
+
+		if (remainingSimulations.isEmpty()) {
+			// allocator was not started
+			start(simulations, Long.MAX_VALUE);
+		}
+
+		while (remainingSimulations.size() > 1) {
+			GameSimulation simulation = getLeastScheduledSimulation();
+			if (getScheduledEpisodes(simulation) < roundTarget) {
+				return simulation;
+			}
+			if (!isRoundFinished()) {
+				// episodes of this round are still running, keep the rollout
+				// workers busy until they can be ranked
+				return getLeastFinishedSimulation();
+			}
+			// all remaining simulations finished the round target
+			eliminateSimulations();
+			startRound();
+		}
+
+		// decision is made
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Returns the remaining simulation with the highest won rate.
+	 */
+	@Override
+	public GameSimulation getBestSimulation(List<GameSimulation> simulations) {
+		if (remainingSimulations.isEmpty()) {
+			return super.getBestSimulation(simulations);
+		}
+		return getSortedResults().get(0).simulation;
+	}
+
+	private GameSimulation getLeastScheduledSimulation() {
+		GameSimulation result = null;
+		for (GameSimulation simulation : remainingSimulations) {
+			if (result == null || getScheduledEpisodes(simulation) < getScheduledEpisodes(result)) {
+				result = simulation;
+			}
+		}
+		return result;
+	}
+
+	private GameSimulation getLeastFinishedSimulation() {
+		GameSimulation result = null;
+		for (GameSimulation simulation : remainingSimulations) {
+			if (result == null || simulation.getEpisodes() < result.getEpisodes()
+					|| simulation.getEpisodes() == result.getEpisodes()
+							&& getScheduledEpisodes(simulation) < getScheduledEpisodes(result)) {
+				result = simulation;
+			}
+		}
+		return result;
+	}
+
+	private boolean isRoundFinished() {
+		for (GameSimulation simulation : remainingSimulations) {
+			if (simulation.getRunningEpisodes() > 0L || simulation.getEpisodes() < roundTarget) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void startRound() {
+		long episodesPerSimulation = EPISODES_PER_ROUND_WITHOUT_LIMIT;
+		if (maxEpisodes != Long.MAX_VALUE) {
+			episodesPerSimulation = Math.max(1L, maxEpisodes / (remainingSimulations.size() * (long) rounds));
+		}
+		roundTarget = getLeastFinishedSimulation().getEpisodes() + episodesPerSimulation;
+	}
+
+	private void eliminateSimulations() {
+
+		List<SimulationResult> results = getSortedResults();
+
+		// early elimination of all simulations that are worse than the best
+		// simulation with high confidence (Hoeffding bounds)
+		double bestLowerBound = Double.NEGATIVE_INFINITY;
+		for (SimulationResult result : results) {
+			bestLowerBound = Math.max(bestLowerBound, result.wonRate - getConfidenceRadius(result));
+		}
+		for (int i = results.size() - 1; i > 0; i--) {
+			SimulationResult result = results.get(i);
+			if (result.wonRate + getConfidenceRadius(result) < bestLowerBound) {
+				results.remove(i);
+			}
+		}
+
+		// keep the better half
+		int remainingCount = (results.size() + 1) / 2;
+		remainingSimulations.clear();
+		for (SimulationResult result : results.subList(0, remainingCount)) {
+			remainingSimulations.add(result.simulation);
+		}
+	}
+
+	/**
+	 * Takes a snapshot of the remaining simulations, because their statistics
+	 * can change while parallel rollouts finish
+	 */
+	private List<SimulationResult> getSortedResults() {
+		List<SimulationResult> results = new ArrayList<>();
+		for (GameSimulation simulation : remainingSimulations) {
+			results.add(new SimulationResult(simulation));
+		}
+		Collections.sort(results, BY_WON_RATE);
+		return results;
+	}
+
+	private double getConfidenceRadius(SimulationResult result) {
+		long episodes = Math.max(1L, result.episodes);
+		return Math.sqrt(Math.log(2.0 * remainingSimulations.size() / ELIMINATION_ERROR_PROBABILITY) / (2.0 * episodes));
+	}
+
+	private final static class SimulationResult {
+
+		private final GameSimulation simulation;
+		private final double wonRate;
+		private final long episodes;
+
+		SimulationResult(GameSimulation simulation) {
+			this.simulation = simulation;
+			wonRate = simulation.getWonRate();
+			episodes = simulation.getEpisodes();
+		}
+	}
+}
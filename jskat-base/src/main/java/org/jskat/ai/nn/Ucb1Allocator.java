@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import java.util.List;
+
+/**
+ * Allocates rollouts with the UCB1 algorithm<br>
+ * Every simulation is scored with its won rate plus an exploration bonus that
+ * shrinks with the number of its episodes. Running episodes count as scheduled,
+ * so that parallel rollouts spread over the promising simulations.
+ */
+class Ucb1Allocator extends AbstractSimulationAllocator {
+
+	/**
+	 * Default exploration constant for rewards between 0 and 1
+	 */
+	final static double DEFAULT_EXPLORATION_CONSTANT = Math.sqrt(2.0);
+
+	private final double explorationConstant;
+
+	/**
+	 * Constructor
+	 */
+	Ucb1Allocator() {
+		this(DEFAULT_EXPLORATION_CONSTANT);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param explorationConstant
+	 *            Weight of the exploration bonus
+	 */
+	Ucb1Allocator(double explorationConstant) {
+		this.explorationConstant = explorationConstant;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public GameSimulation getNextSimulation(List<GameSimulation> simulations) {
+
+		GameSimulation unscheduledSimulation = getUnscheduledSimulation(simulations);
+		if (unscheduledSimulation != null) {
+			return unscheduledSimulation;
+		}
+
+		long totalEpisodes = 0L;
+		for (GameSimulation simulation : simulations) {
+			totalEpisodes += getScheduledEpisodes(simulation);
+		}
+		double logTotalEpisodes = Math.log(totalEpisodes);
+
+		double maxScore = Double.NEGATIVE_INFINITY;
+		GameSimulation result = null;
+		for (GameSimulation simulation : simulations) {
+			double score = simulation.getWonRate()
+					+ explorationConstant * Math.sqrt(logTotalEpisodes / getScheduledEpisodes(simulation));
+			if (score > maxScore) {
+				maxScore = score;
+				result = simulation;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Returns the most simulated simulation, ties are broken by the won rate.
+	 */
+	@Override
+	public GameSimulation getBestSimulation(List<GameSimulation> simulations) {
+		GameSimulation bestSimulation = null;
+		for (GameSimulation simulation : simulations) {
+			if (bestSimulation == null || simulation.getEpisodes() > bestSimulation.getEpisodes()
+					|| (simulation.getEpisodes() == bestSimulation.getEpisodes()
+							&& simulation.getWonRate() > bestSimulation.getWonRate())) {
+				bestSimulation = simulation;
+			}
+		}
+		return bestSimulation;
+	}
+}
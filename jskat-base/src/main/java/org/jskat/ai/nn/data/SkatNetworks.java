@@ -22,8 +22,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jskat.ai.nn.input.GenericNetworkInputGenerator;
-import org.jskat.ai.nn.util.EncogNetworkWrapper;
 import org.jskat.ai.nn.util.INeuralNetwork;
+import org.jskat.ai.nn.util.MultiLayerPerceptron;
 import org.jskat.ai.nn.util.NetworkTopology;
 import org.jskat.util.GameType;
 
@@ -87,16 +87,17 @@ public final class SkatNetworks {
 	}
 
 	/**
-	 * Loads all neural networks from files.
+	 * Loads all neural networks from files.<br>
+	 * Every trick gets its own network.
 	 */
 	public static void loadNetworks() {
 		for (Entry<GameType, Map<PlayerParty, List<INeuralNetwork>>> gameTypeNets : networks.entrySet()) {
 			for (Entry<PlayerParty, List<INeuralNetwork>> playerPartyNet : gameTypeNets.getValue().entrySet()) {
 				for (int trick = 0; trick < 10; trick++) {
-					playerPartyNet.getValue().get(trick)
-							.loadNetwork("/org/jskat/ai/nn/data/jskat".concat("." + gameTypeNets.getKey())
-									.concat("." + playerPartyNet.getKey()).concat(".TRICK" + trick).concat(".nnet"),
-							INPUT_NEURONS, HIDDEN_NEURONS, OUTPUT_NEURONS);
+					playerPartyNet.getValue().set(trick,
+							MultiLayerPerceptron.fromFile("/org/jskat/ai/nn/data/jskat"
+									.concat("." + gameTypeNets.getKey()).concat("." + playerPartyNet.getKey())
+									.concat(".TRICK" + trick).concat(".nnet")));
 				}
 			}
 		}
@@ -152,9 +153,8 @@ public final class SkatNetworks {
 			for (PlayerParty playerParty : PlayerParty.values()) {
 				List<INeuralNetwork> networkList = new ArrayList<>();
 				networks.get(gameType).put(playerParty, networkList);
-				EncogNetworkWrapper network = new EncogNetworkWrapper(topo, USE_BIAS);
 				for (int trick = 0; trick < 10; trick++) {
-					networkList.add(network);
+					networkList.add(new MultiLayerPerceptron(topo, USE_BIAS));
 				}
 			}
 		}
@@ -22,6 +22,11 @@ public abstract class AbstractInputStrategy implements InputStrategy {
 	public final static double ON = 1.0d;
 	public final static double OFF = 0.0d;
 
+	@Override
+	public boolean isNextCardDependent() {
+		return false;
+	}
+
 	protected final double[] getEmptyInputs() {
 		double[] result = new double[getNeuronCount()];
 		for (int i = 0; i < result.length; i++) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.jskat.data.Trick;
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
+import org.jskat.util.CardList;
 import org.jskat.util.CardDeck;
 import org.jskat.util.GameType;
 import org.jskat.util.Player;
@@ -84,6 +85,16 @@ class DetailedNetworkInputGenerator implements NetworkInputGenerator {
 		return netInputs;
 	}
 
+	@Override
+	public double[][] getNetInputs(ImmutablePlayerKnowledge knowledge,
+			CardList cardsToPlay) {
+		double[][] result = new double[cardsToPlay.size()][];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = getNetInputs(knowledge, cardsToPlay.get(i));
+		}
+		return result;
+	}
+
 	private static void setTrickInputs(ImmutablePlayerKnowledge knowledge,
 			double[] inputs, int playerLength, int trickLength, int cardOffset) {
 
@@ -20,11 +20,19 @@ import java.util.List;
 
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
+import org.jskat.util.CardList;
 
 public class GenericNetworkInputGenerator implements NetworkInputGenerator {
 
 	private static final List<InputStrategy> strategies = new ArrayList<>();
 
+	/**
+	 * Start index of every strategy in the net inputs
+	 */
+	private static final int[] strategyOffsets;
+
+	private static final int neuronCount;
+
 	static {
 		strategies.add(new DeclarerPositionInputStrategy());
 		strategies.add(new CurrentTrickForehandPositionStrategy());
@@ -34,40 +42,82 @@ public class GenericNetworkInputGenerator implements NetworkInputGenerator {
 		strategies.add(new OpponentPartyMadeCardsStrategy());
 		strategies.add(new UnplayedOpponentPartyCardsStrategy());
 		strategies.add(new CurrentTrickAndNextCardStrategy());
+
+		strategyOffsets = new int[strategies.size()];
+		int offset = 0;
+		for (int i = 0; i < strategies.size(); i++) {
+			strategyOffsets[i] = offset;
+			offset += strategies.get(i).getNeuronCount();
+		}
+		neuronCount = offset;
 	}
 
 	@Override
 	public double[] getNetInputs(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
 
-		double[] result = new double[getNeuronCountForAllStrategies()];
-		int index = 0;
+		double[] result = new double[neuronCount];
+		for (int strategyCount = 0; strategyCount < strategies
+				.size(); strategyCount++) {
+			setStrategyInputs(result, strategyCount, knowledge, cardToPlay);
+		}
+
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * The inputs that only depend on the knowledge are computed once, only
+	 * the slices of the strategies that depend on the next card are computed
+	 * for every candidate card.
+	 */
+	@Override
+	public double[][] getNetInputs(ImmutablePlayerKnowledge knowledge,
+			CardList cardsToPlay) {
+
+		double[][] result = new double[cardsToPlay.size()][];
+		if (cardsToPlay.isEmpty()) {
+			return result;
+		}
+
+		double[] knowledgeInputs = new double[neuronCount];
 		for (int strategyCount = 0; strategyCount < strategies
 				.size(); strategyCount++) {
-			InputStrategy strategy = strategies.get(strategyCount);
-			double[] networkInput = strategy.getNetworkInput(knowledge,
-					cardToPlay);
-			for (int i = 0; i < strategy.getNeuronCount(); i++) {
-				result[index] = networkInput[i];
-				index++;
+			if (!strategies.get(strategyCount).isNextCardDependent()) {
+				setStrategyInputs(knowledgeInputs, strategyCount, knowledge,
+						cardsToPlay.get(0));
+			}
+		}
+
+		for (int i = 0; i < result.length; i++) {
+			result[i] = knowledgeInputs.clone();
+			for (int strategyCount = 0; strategyCount < strategies
+					.size(); strategyCount++) {
+				if (strategies.get(strategyCount).isNextCardDependent()) {
+					setStrategyInputs(result[i], strategyCount, knowledge,
+							cardsToPlay.get(i));
+				}
 			}
 		}
 
 		return result;
 	}
 
+	private static void setStrategyInputs(double[] inputs, int strategyCount,
+			ImmutablePlayerKnowledge knowledge, Card cardToPlay) {
+		InputStrategy strategy = strategies.get(strategyCount);
+		double[] networkInput = strategy.getNetworkInput(knowledge,
+				cardToPlay);
+		System.arraycopy(networkInput, 0, inputs,
+				strategyOffsets[strategyCount], strategy.getNeuronCount());
+	}
+
 	/**
 	 * Gets the neuron count needed for all strategies
 	 *
 	 * @return Neuron count
 	 */
 	public static int getNeuronCountForAllStrategies() {
-		int result = 0;
-
-		for (InputStrategy strategy : strategies) {
-			result += strategy.getNeuronCount();
-		}
-
-		return result;
+		return neuronCount;
 	}
 }
@@ -38,4 +38,11 @@ public interface InputStrategy {
 	 */
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay);
+
+	/**
+	 * Checks whether the network input depends on the next card to play
+	 * 
+	 * @return TRUE, if the network input changes with the next card to play
+	 */
+	public boolean isNextCardDependent();
 }
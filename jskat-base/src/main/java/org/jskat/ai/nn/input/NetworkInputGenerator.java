@@ -17,7 +17,20 @@ package org.jskat.ai.nn.input;
 
 import org.jskat.player.ImmutablePlayerKnowledge;
 import org.jskat.util.Card;
+import org.jskat.util.CardList;
 
 public interface NetworkInputGenerator {
 	double[] getNetInputs(ImmutablePlayerKnowledge knowledge, Card cardToPlay);
+
+	/**
+	 * Creates the net inputs for several candidate cards at once
+	 * 
+	 * @param knowledge
+	 *            Player knowledge
+	 * @param cardsToPlay
+	 *            Candidate cards
+	 * @return Net inputs, one row per candidate card
+	 */
+	double[][] getNetInputs(ImmutablePlayerKnowledge knowledge,
+			CardList cardsToPlay);
 }
\ No newline at end of file
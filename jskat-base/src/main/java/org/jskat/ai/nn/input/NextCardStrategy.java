@@ -20,6 +20,11 @@ import org.jskat.util.Card;
 
 public class NextCardStrategy extends AbstractCardStrategy {
 
+	@Override
+	public boolean isNextCardDependent() {
+		return true;
+	}
+
 	@Override
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
@@ -27,6 +27,11 @@ import org.jskat.util.rule.SkatRuleFactory;
 public class PlayerPartyMadeCardsAndNextCardStrategy extends
 		PlayerPartyMadeCardsStrategy {
 
+	@Override
+	public boolean isNextCardDependent() {
+		return true;
+	}
+
 	@Override
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
@@ -24,6 +24,11 @@ import org.jskat.util.Card;
  */
 public class UnplayedCardsAndNextCardStrategy extends UnplayedCardsStrategy {
 
+	@Override
+	public boolean isNextCardDependent() {
+		return true;
+	}
+
 	@Override
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
@@ -25,6 +25,11 @@ import org.jskat.util.Card;
 public class UnplayedPlayerCardsAndNextCardStrategy extends
 		UnplayedPlayerCardsStrategy {
 
+	@Override
+	public boolean isNextCardDependent() {
+		return true;
+	}
+
 	@Override
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
@@ -21,6 +21,11 @@ import org.jskat.util.Card;
 public class UnplayedPlayerPartyCardsAndNextCardStrategy extends
 		UnplayedPlayerPartyCardsStrategy {
 
+	@Override
+	public boolean isNextCardDependent() {
+		return true;
+	}
+
 	@Override
 	public double[] getNetworkInput(ImmutablePlayerKnowledge knowledge,
 			Card cardToPlay) {
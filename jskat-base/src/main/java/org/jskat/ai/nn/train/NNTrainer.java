@@ -16,8 +16,10 @@
 package org.jskat.ai.nn.train;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.jskat.ai.nn.AIPlayerNN;
@@ -31,8 +33,8 @@ import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.GameSummary;
 import org.jskat.data.JSkatViewType;
+import org.jskat.data.SkatGameData;
 import org.jskat.data.SkatGameData.GameState;
-import org.jskat.gui.NullView;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.CardDeck;
 import org.jskat.util.GameType;
@@ -65,6 +67,17 @@ public class NNTrainer extends JSkatThread {
 
 	private boolean stopTraining = false;
 
+	/**
+	 * Game data, reused for all training games of the trainer thread
+	 */
+	private final SkatGameData gameData = new SkatGameData();
+
+	/**
+	 * Players of all player constellations, reused for all training games of
+	 * the trainer thread, they are reset by {@link JSkatPlayer#newGame(Player)}
+	 */
+	private final Map<List<String>, JSkatPlayer[]> playerPool = new HashMap<List<String>, JSkatPlayer[]>();
+
 	/**
 	 * @see java.lang.Thread#run()
 	 */
@@ -109,6 +122,19 @@ public class NNTrainer extends JSkatThread {
 		return player;
 	}
 
+	private JSkatPlayer[] getPlayers(final List<String> playerConstellation) {
+
+		JSkatPlayer[] players = this.playerPool.get(playerConstellation);
+		if (players == null) {
+			players = new JSkatPlayer[playerConstellation.size()];
+			for (int i = 0; i < players.length; i++) {
+				players[i] = createPlayer(playerConstellation.get(i));
+			}
+			this.playerPool.put(playerConstellation, players);
+		}
+		return players;
+	}
+
 	private boolean isGameWon(final Player currPlayer, final SkatGame game) {
 
 		// FIXME (jansch 28.06.2011) have to call getGameResult() to get
@@ -129,17 +155,17 @@ public class NNTrainer extends JSkatThread {
 		player1.newGame(Player.FOREHAND);
 		player2.newGame(Player.MIDDLEHAND);
 		player3.newGame(Player.REARHAND);
-		JSkatEventBus.INSTANCE.post(new CreateTableCommand(JSkatViewType.TRAINING_TABLE, "TRAIN" + gameType.name()));
-		SkatGame game = new SkatGame("TRAIN" + gameType.name(), GameVariant.STANDARD, player1, player2, player3);
-		game.setView(new NullView());
-		game.setLogger(NOPLogger.NOP_LOGGER);
+		SkatGame game = new SkatGame("TRAIN" + gameType.name(), GameVariant.STANDARD, player1, player2, player3,
+				gameData);
+		game.setHeadless(true);
+		game.setLogger(SkatGame.getHeadlessLogger("TRAIN" + gameType.name())); //$NON-NLS-1$
 
 		if (cardDeck != null) {
 			game.setCardDeck(cardDeck);
 		} else {
 			CardDeck newCardDeck = new CardDeck();
 			newCardDeck.shuffle();
-			log.debug("Card deck: " + newCardDeck); //$NON-NLS-1$
+			log.debug("Card deck: {}", newCardDeck); //$NON-NLS-1$
 			game.setCardDeck(newCardDeck);
 		}
 
@@ -163,13 +189,8 @@ public class NNTrainer extends JSkatThread {
 	}
 
 	private void runGame(final SkatGame game) {
-		game.start();
-		try {
-			game.join();
-		} catch (InterruptedException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
+		// training games run on the trainer thread
+		game.run();
 	}
 
 	/**
@@ -186,6 +207,8 @@ public class NNTrainer extends JSkatThread {
 
 		Set<List<String>> playerPermutations = createPlayerPermutations(playerTypes);
 
+		JSkatEventBus.INSTANCE.post(new CreateTableCommand(JSkatViewType.TRAINING_TABLE, "TRAIN" + gameType.name()));
+
 		while (!this.stopTraining /* && totalGames < MAX_TRAINING_EPISODES */) {
 
 			if (totalGames > 0) {
@@ -208,9 +231,10 @@ public class NNTrainer extends JSkatThread {
 			for (List<String> playerConstellation : playerPermutations) {
 
 				for (Player declarer : Player.values()) {
-					JSkatPlayer player1 = createPlayer(playerConstellation.get(0));
-					JSkatPlayer player2 = createPlayer(playerConstellation.get(1));
-					JSkatPlayer player3 = createPlayer(playerConstellation.get(2));
+					JSkatPlayer[] players = getPlayers(playerConstellation);
+					JSkatPlayer player1 = players[0];
+					JSkatPlayer player2 = players[1];
+					JSkatPlayer player3 = players[2];
 
 					SkatGame game = prepareGame(player1, player2, player3, declarer, null);
 					// SkatGame game = prepareGame(player1, player2, player3,
@@ -0,0 +1,233 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn.util;
+
+import java.util.Random;
+
+/**
+ * Selects a candidate by the outputs of a neural network<br>
+ * Outputs that differ by less than an epsilon are treated as equal, ties are
+ * broken uniformly at random. All methods work on primitive arrays without
+ * creating objects for every candidate and don't have any state, so they can
+ * be used by several players and threads at the same time.
+ */
+public final class CandidateSelector {
+
+	/**
+	 * Default epsilon for outputs that are treated as equal
+	 */
+	public static final double DEFAULT_EPSILON = 1.0E-15;
+
+	private CandidateSelector() {
+		// utility class
+	}
+
+	/**
+	 * Compares two outputs
+	 *
+	 * @param first
+	 *            First output
+	 * @param second
+	 *            Second output
+	 * @param epsilon
+	 *            Outputs that differ by less than epsilon are equal
+	 * @return a negative value, zero or a positive value, if the first output
+	 *         is lower, equal or higher than the second output
+	 */
+	public static int compare(final double first, final double second,
+			final double epsilon) {
+
+		if (Math.abs(first - second) < epsilon) {
+			return 0;
+		}
+		return Double.compare(first, second);
+	}
+
+	/**
+	 * Selects a random candidate from all candidates with an output above a
+	 * threshold
+	 *
+	 * @param outputs
+	 *            Outputs of the candidates
+	 * @param count
+	 *            Number of candidates, only the first outputs are used
+	 * @param threshold
+	 *            Threshold
+	 * @param random
+	 *            Random generator
+	 * @return Index of the selected candidate, -1 if no output is above the
+	 *         threshold
+	 */
+	public static int selectAboveThreshold(final double[] outputs,
+			final int count, final double threshold, final Random random) {
+
+		int result = -1;
+		int found = 0;
+		for (int i = 0; i < count; i++) {
+			if (outputs[i] > threshold) {
+				found++;
+				// reservoir sampling, every candidate has the same chance
+				if (random.nextInt(found) == 0) {
+					result = i;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Selects a random candidate from all candidates with the highest output
+	 *
+	 * @param outputs
+	 *            Outputs of the candidates
+	 * @param count
+	 *            Number of candidates, only the first outputs are used
+	 * @param epsilon
+	 *            Outputs that differ by less than epsilon from the highest
+	 *            output are treated as highest output, too
+	 * @param random
+	 *            Random generator
+	 * @return Index of the selected candidate, -1 if there are no candidates
+	 */
+	public static int selectHighest(final double[] outputs, final int count,
+			final double epsilon, final Random random) {
+
+		if (count == 0) {
+			return -1;
+		}
+
+		double highestOutput = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			highestOutput = Math.max(highestOutput, outputs[i]);
+		}
+
+		int result = -1;
+		int found = 0;
+		for (int i = 0; i < count; i++) {
+			if (compare(outputs[i], highestOutput, epsilon) == 0) {
+				found++;
+				if (random.nextInt(found) == 0) {
+					result = i;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Selects a random candidate from the candidates with the k highest
+	 * outputs<br>
+	 * Candidates with an output equal to the k-th highest output are selected
+	 * with the same chance as the others.
+	 *
+	 * @param outputs
+	 *            Outputs of the candidates
+	 * @param count
+	 *            Number of candidates, only the first outputs are used
+	 * @param k
+	 *            Number of the highest outputs to select from
+	 * @param epsilon
+	 *            Outputs that differ by less than epsilon are treated as equal
+	 * @param random
+	 *            Random generator
+	 * @return Index of the selected candidate, -1 if there are no candidates
+	 */
+	public static int selectTopK(final double[] outputs, final int count,
+			final int k, final double epsilon, final Random random) {
+
+		if (count == 0) {
+			return -1;
+		}
+		if (k < 1) {
+			throw new IllegalArgumentException("k must be at least 1: " + k); //$NON-NLS-1$
+		}
+
+		// the k-th highest output is the lowest output with less than k
+		// higher outputs
+		double kthOutput = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			int higherOutputs = 0;
+			for (int j = 0; j < count; j++) {
+				if (compare(outputs[j], outputs[i], epsilon) > 0) {
+					higherOutputs++;
+				}
+			}
+			if (higherOutputs < k) {
+				kthOutput = Math.min(kthOutput, outputs[i]);
+			}
+		}
+
+		int result = -1;
+		int found = 0;
+		for (int i = 0; i < count; i++) {
+			if (compare(outputs[i], kthOutput, epsilon) >= 0) {
+				found++;
+				if (random.nextInt(found) == 0) {
+					result = i;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Selects a candidate with a probability proportional to
+	 * exp(output / temperature)
+	 *
+	 * @param outputs
+	 *            Outputs of the candidates
+	 * @param count
+	 *            Number of candidates, only the first outputs are used
+	 * @param temperature
+	 *            Temperature, low temperatures prefer the highest outputs,
+	 *            high temperatures select more uniformly
+	 * @param random
+	 *            Random generator
+	 * @return Index of the selected candidate, -1 if there are no candidates
+	 */
+	public static int selectSoftmax(final double[] outputs, final int count,
+			final double temperature, final Random random) {
+
+		if (count == 0) {
+			return -1;
+		}
+		if (!(temperature > 0.0)) {
+			throw new IllegalArgumentException(
+					"Temperature must be positive: " + temperature); //$NON-NLS-1$
+		}
+
+		double highestOutput = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			highestOutput = Math.max(highestOutput, outputs[i]);
+		}
+
+		// subtract the highest output, so that exp() can't overflow
+		double sum = 0.0;
+		for (int i = 0; i < count; i++) {
+			sum += Math.exp((outputs[i] - highestOutput) / temperature);
+		}
+
+		double remaining = random.nextDouble() * sum;
+		for (int i = 0; i < count; i++) {
+			remaining -= Math.exp((outputs[i] - highestOutput) / temperature);
+			if (remaining < 0.0) {
+				return i;
+			}
+		}
+		// rounding errors
+		return count - 1;
+	}
+}
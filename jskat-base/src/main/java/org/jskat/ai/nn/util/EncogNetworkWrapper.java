@@ -114,6 +114,16 @@ public class EncogNetworkWrapper implements INeuralNetwork {
 		return output.getData(0);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void getPredictedOutcomes(final double[][] inputs, final double[] outcomes) {
+		for (int i = 0; i < inputs.length; i++) {
+			outcomes[i] = network.compute(new BasicMLData(inputs[i])).getData(0);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -60,6 +60,16 @@ public interface INeuralNetwork {
 	 */
 	public abstract double getPredictedOutcome(double[] inputs);
 
+	/**
+	 * Gets the predicted outcomes of several input candidates at once
+	 *
+	 * @param inputs
+	 *            Input attributes, one row per candidate
+	 * @param outcomes
+	 *            Array for the predicted outcomes, one per candidate
+	 */
+	public abstract void getPredictedOutcomes(double[][] inputs, double[] outcomes);
+
 	/**
 	 * Gets the number of iterations the NeuralNetwork was trained so far
 	 *
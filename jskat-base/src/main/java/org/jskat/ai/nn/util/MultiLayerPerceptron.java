@@ -0,0 +1,694 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn.util;
+
+import java.io.BufferedReader;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi layer perceptron with sigmoid activation<br>
+ * The weights are stored in flat arrays with the same layout as the Encog
+ * flat networks, so that the existing .nnet files can be loaded and saved.
+ * Forward passes don't lock and don't allocate memory, every thread computes
+ * into its own buffer or into a buffer supplied by the caller. Training
+ * adjusts a copy of the weights and publishes it as a new layout when it is
+ * done, so forward passes never see partly adjusted weights.
+ */
+public class MultiLayerPerceptron implements INeuralNetwork {
+
+	private final static Logger LOG = LoggerFactory.getLogger(MultiLayerPerceptron.class);
+
+	private final static double LEARNING_RATE = 0.07;
+
+	/**
+	 * Constants of the resilient propagation, same as in Encog
+	 */
+	private final static double RPROP_INITIAL_UPDATE = 0.1;
+	private final static double RPROP_POSITIVE_ETA = 1.2;
+	private final static double RPROP_NEGATIVE_ETA = 0.5;
+	private final static double RPROP_MIN_UPDATE = 1.0E-6;
+	private final static double RPROP_MAX_UPDATE = 50.0;
+	private final static double RPROP_ZERO_TOLERANCE = 1.0E-13;
+
+	/**
+	 * Iterations of the resilient propagation for every training batch, the
+	 * Encog wrapper also runs a single iteration with a new trainer
+	 */
+	private final static int RPROP_ITERATIONS = 1;
+
+	/**
+	 * Offset that is added to the derivative of the sigmoid function during
+	 * training to escape its flat spots, same as in Encog
+	 */
+	private final static double FLAT_SPOT = 0.1;
+
+	private final static int VALUES_PER_LINE = 2048;
+
+	private volatile Layout layout;
+
+	private final ThreadLocal<double[]> layerOutputBuffers = new ThreadLocal<>();
+	private final ThreadLocal<double[]> batchBuffers = new ThreadLocal<>();
+
+	private double[] gradients;
+	private double[] trainingDeltas;
+	private double[] trainingOutputs;
+	private long iterations;
+
+	/**
+	 * Constructor
+	 *
+	 * @param topo
+	 *            Network topology
+	 * @param useBias
+	 *            TRUE, if bias nodes should be used
+	 */
+	public MultiLayerPerceptron(NetworkTopology topo, boolean useBias) {
+		int[] neuronCounts = new int[topo.getLayerCount()];
+		for (int i = 0; i < neuronCounts.length; i++) {
+			neuronCounts[i] = topo.getNeuronCount(i);
+		}
+		layout = new Layout(neuronCounts, useBias);
+		resetNetwork();
+	}
+
+	/**
+	 * Loads a network from a .nnet file in the class path
+	 *
+	 * @param fileName
+	 *            File name
+	 * @return Loaded network
+	 */
+	public static MultiLayerPerceptron fromFile(String fileName) {
+		MultiLayerPerceptron network = new MultiLayerPerceptron(new NetworkTopology(1, new int[0], 1), false);
+		network.loadNetwork(fileName, 0, 0, 0);
+		return network;
+	}
+
+	/**
+	 * Gets the size of the buffer needed for
+	 * {@link #compute(double[], double[], double[])}
+	 *
+	 * @return Buffer size
+	 */
+	public int getBufferSize() {
+		return layout.neuronCount;
+	}
+
+	/**
+	 * Computes the outputs of the network
+	 *
+	 * @param inputs
+	 *            Input values
+	 * @param outputs
+	 *            Array for the output values
+	 * @param layerOutputs
+	 *            Buffer for the outputs of all layers with at least
+	 *            {@link #getBufferSize()} elements
+	 */
+	public void compute(double[] inputs, double[] outputs, double[] layerOutputs) {
+		Layout currentLayout = layout;
+		compute(currentLayout, inputs, layerOutputs);
+		System.arraycopy(layerOutputs, 0, outputs, 0, currentLayout.outputCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getPredictedOutcome(double[] inputs) {
+		Layout currentLayout = layout;
+		double[] layerOutputs = layerOutputBuffers.get();
+		if (layerOutputs == null || layerOutputs.length < currentLayout.neuronCount) {
+			layerOutputs = new double[currentLayout.neuronCount];
+			layerOutputBuffers.set(layerOutputs);
+		}
+		compute(currentLayout, inputs, layerOutputs);
+		// first output neuron is at the beginning of the buffer
+		return layerOutputs[0];
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * All candidates are pushed through a layer together, so that every weight
+	 * row is read once per layer for all candidates.
+	 */
+	@Override
+	public void getPredictedOutcomes(double[][] inputs, double[] outcomes) {
+		Layout currentLayout = layout;
+		int candidates = inputs.length;
+		int bufferSize = candidates * currentLayout.neuronCount;
+		double[] layerOutputs = batchBuffers.get();
+		if (layerOutputs == null || layerOutputs.length < bufferSize) {
+			layerOutputs = new double[bufferSize];
+			batchBuffers.set(layerOutputs);
+		}
+
+		int lastLayer = currentLayout.layerCounts.length - 1;
+		for (int candidate = 0; candidate < candidates; candidate++) {
+			int offset = candidate * currentLayout.neuronCount;
+			System.arraycopy(inputs[candidate], 0, layerOutputs, offset + currentLayout.layerIndex[lastLayer],
+					currentLayout.inputCount);
+			for (int layer = 0; layer <= lastLayer; layer++) {
+				if (currentLayout.hasBias(layer)) {
+					layerOutputs[offset + currentLayout.layerIndex[layer]
+							+ currentLayout.layerFeedCounts[layer]] = currentLayout.biasActivation[layer];
+				}
+			}
+		}
+
+		for (int layer = lastLayer; layer > 0; layer--) {
+			computeLayer(currentLayout, layer, layerOutputs, candidates);
+		}
+
+		for (int candidate = 0; candidate < candidates; candidate++) {
+			outcomes[candidate] = layerOutputs[candidate * currentLayout.neuronCount];
+		}
+	}
+
+	private static void computeLayer(Layout layout, int inputLayer, double[] layerOutputs, int candidates) {
+
+		double[] weights = layout.weights;
+		int inputIndex = layout.layerIndex[inputLayer];
+		int inputCount = layout.layerCounts[inputLayer];
+		int outputIndex = layout.layerIndex[inputLayer - 1];
+		int outputCount = layout.layerFeedCounts[inputLayer - 1];
+		int weightIndex = layout.weightIndex[inputLayer - 1];
+
+		for (int output = 0; output < outputCount; output++) {
+			int rowIndex = weightIndex + output * inputCount;
+			for (int candidate = 0; candidate < candidates; candidate++) {
+				int offset = candidate * layout.neuronCount;
+				int candidateInputIndex = offset + inputIndex;
+				double sum = 0.0;
+				for (int input = 0; input < inputCount; input++) {
+					sum += weights[rowIndex + input] * layerOutputs[candidateInputIndex + input];
+				}
+				layerOutputs[offset + outputIndex + output] = sigmoid(sum);
+			}
+		}
+	}
+
+	private static void compute(Layout layout, double[] inputs, double[] layerOutputs) {
+
+		int lastLayer = layout.layerCounts.length - 1;
+		System.arraycopy(inputs, 0, layerOutputs, layout.layerIndex[lastLayer], layout.inputCount);
+		for (int layer = 0; layer <= lastLayer; layer++) {
+			if (layout.hasBias(layer)) {
+				layerOutputs[layout.layerIndex[layer] + layout.layerFeedCounts[layer]] = layout.biasActivation[layer];
+			}
+		}
+
+		for (int layer = lastLayer; layer > 0; layer--) {
+			computeLayer(layout, layer, layerOutputs);
+		}
+	}
+
+	private static void computeLayer(Layout layout, int inputLayer, double[] layerOutputs) {
+
+		double[] weights = layout.weights;
+		int inputIndex = layout.layerIndex[inputLayer];
+		int inputLimit = inputIndex + layout.layerCounts[inputLayer];
+		int outputIndex = layout.layerIndex[inputLayer - 1];
+		int outputLimit = outputIndex + layout.layerFeedCounts[inputLayer - 1];
+		int weightIndex = layout.weightIndex[inputLayer - 1];
+
+		for (int output = outputIndex; output < outputLimit; output++) {
+			double sum = 0.0;
+			for (int input = inputIndex; input < inputLimit; input++) {
+				sum += weights[weightIndex++] * layerOutputs[input];
+			}
+			layerOutputs[output] = sigmoid(sum);
+		}
+	}
+
+	private static double sigmoid(double value) {
+		return 1.0 / (1.0 + Math.exp(-value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double getAvgDiff() {
+		return 0.0;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Uses one step of back propagation like the Encog wrapper. The wrapper
+	 * creates a new trainer for every call, so no momentum is carried over
+	 * from earlier calls.
+	 */
+	@Override
+	public synchronized double adjustWeights(double[] inputs, double[] outputs) {
+
+		Layout newLayout = layout.copy();
+		initTrainingBuffers(newLayout);
+
+		Arrays.fill(gradients, 0.0);
+		double error = calculateGradients(newLayout, inputs, outputs);
+
+		double[] weights = newLayout.weights;
+		for (int i = 0; i < weights.length; i++) {
+			weights[i] += LEARNING_RATE * gradients[i];
+		}
+
+		iterations++;
+		layout = newLayout;
+
+		return error / newLayout.outputCount;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Uses resilient propagation (iRPROP+) over the whole batch like the Encog
+	 * wrapper.
+	 */
+	@Override
+	public synchronized double adjustWeightsBatch(double[][] inputs, double[][] outputs) {
+
+		if (inputs.length == 0) {
+			return 0.0;
+		}
+
+		Layout newLayout = layout.copy();
+		initTrainingBuffers(newLayout);
+
+		double[] weights = newLayout.weights;
+		double[] updateValues = new double[weights.length];
+		Arrays.fill(updateValues, RPROP_INITIAL_UPDATE);
+		double[] lastGradients = new double[weights.length];
+		double[] lastChanges = new double[weights.length];
+		double lastError = Double.POSITIVE_INFINITY;
+		double error = 0.0;
+
+		for (int iteration = 0; iteration < RPROP_ITERATIONS; iteration++) {
+
+			Arrays.fill(gradients, 0.0);
+			double errorSum = 0.0;
+			for (int i = 0; i < inputs.length; i++) {
+				errorSum += calculateGradients(newLayout, inputs[i], outputs[i]);
+			}
+			error = errorSum / (inputs.length * newLayout.outputCount);
+
+			for (int i = 0; i < weights.length; i++) {
+				double change = 0.0;
+				int signChange = sign(gradients[i] * lastGradients[i]);
+				if (signChange > 0) {
+					// same direction as before, accelerate
+					updateValues[i] = Math.min(updateValues[i] * RPROP_POSITIVE_ETA, RPROP_MAX_UPDATE);
+					change = sign(gradients[i]) * updateValues[i];
+					lastGradients[i] = gradients[i];
+				} else if (signChange < 0) {
+					// minimum was skipped, slow down and revert if the error
+					// got worse
+					updateValues[i] = Math.max(updateValues[i] * RPROP_NEGATIVE_ETA, RPROP_MIN_UPDATE);
+					if (error > lastError) {
+						change = -lastChanges[i];
+					}
+					lastGradients[i] = 0.0;
+				} else {
+					change = sign(gradients[i]) * updateValues[i];
+					lastGradients[i] = gradients[i];
+				}
+				weights[i] += change;
+				lastChanges[i] = change;
+			}
+
+			lastError = error;
+			iterations++;
+		}
+
+		layout = newLayout;
+
+		return error;
+	}
+
+	private void initTrainingBuffers(Layout newLayout) {
+		if (gradients == null || gradients.length != newLayout.weights.length) {
+			gradients = new double[newLayout.weights.length];
+			trainingDeltas = new double[newLayout.neuronCount];
+			trainingOutputs = new double[newLayout.neuronCount];
+		}
+	}
+
+	/**
+	 * Adds the gradients of one training sample to {@link #gradients}<br>
+	 * Positive gradients mean that the weight should be increased.
+	 *
+	 * @return Sum of the squared errors of all output neurons
+	 */
+	private double calculateGradients(Layout currentLayout, double[] inputs, double[] outputs) {
+
+		compute(currentLayout, inputs, trainingOutputs);
+
+		// deltas of the output layer
+		double error = 0.0;
+		for (int i = 0; i < currentLayout.outputCount; i++) {
+			double diff = outputs[i] - trainingOutputs[i];
+			error += diff * diff;
+			trainingDeltas[i] = diff * (trainingOutputs[i] * (1.0 - trainingOutputs[i]) + FLAT_SPOT);
+		}
+
+		double[] weights = currentLayout.weights;
+		int lastLayer = currentLayout.layerCounts.length - 1;
+		for (int layer = 0; layer < lastLayer; layer++) {
+			int outputIndex = currentLayout.layerIndex[layer];
+			int outputCount = currentLayout.layerFeedCounts[layer];
+			int inputIndex = currentLayout.layerIndex[layer + 1];
+			int inputCount = currentLayout.layerCounts[layer + 1];
+			int weightIndex = currentLayout.weightIndex[layer];
+
+			// deltas of the previous layer
+			if (layer + 1 < lastLayer) {
+				for (int input = 0; input < currentLayout.layerFeedCounts[layer + 1]; input++) {
+					double sum = 0.0;
+					for (int output = 0; output < outputCount; output++) {
+						sum += weights[weightIndex + output * inputCount + input]
+								* trainingDeltas[outputIndex + output];
+					}
+					double inputValue = trainingOutputs[inputIndex + input];
+					trainingDeltas[inputIndex + input] = sum * (inputValue * (1.0 - inputValue) + FLAT_SPOT);
+				}
+			}
+
+			for (int output = 0; output < outputCount; output++) {
+				double delta = trainingDeltas[outputIndex + output];
+				int rowIndex = weightIndex + output * inputCount;
+				for (int input = 0; input < inputCount; input++) {
+					gradients[rowIndex + input] += delta * trainingOutputs[inputIndex + input];
+				}
+			}
+		}
+
+		return error;
+	}
+
+	private static int sign(double value) {
+		if (Math.abs(value) < RPROP_ZERO_TOLERANCE) {
+			return 0;
+		}
+		return value > 0.0 ? 1 : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void resetNetwork() {
+		Layout newLayout = layout.copyStructure();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < newLayout.weights.length; i++) {
+			newLayout.weights[i] = random.nextDouble(-1.0, 1.0);
+		}
+		iterations = 0L;
+		layout = newLayout;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized long getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Writes the Encog EG format.
+	 */
+	@Override
+	public synchronized boolean saveNetwork(String fileName) {
+
+		Layout currentLayout = layout;
+		int layers = currentLayout.layerCounts.length;
+		double[] layerOutputs = new double[currentLayout.neuronCount];
+		for (int layer = 0; layer < layers; layer++) {
+			if (currentLayout.hasBias(layer)) {
+				layerOutputs[currentLayout.layerIndex[layer]
+						+ currentLayout.layerFeedCounts[layer]] = currentLayout.biasActivation[layer];
+			}
+		}
+
+		try (PrintWriter writer = new PrintWriter(
+				new OutputStreamWriter(new FileOutputStream(fileName), StandardCharsets.UTF_8))) {
+			writer.println("[BASIC]"); //$NON-NLS-1$
+			writer.println("[BASIC:PARAMS]"); //$NON-NLS-1$
+			writer.println("[BASIC:NETWORK]"); //$NON-NLS-1$
+			writer.println("beginTraining=0"); //$NON-NLS-1$
+			writer.println("connectionLimit=0"); //$NON-NLS-1$
+			writer.println("contextTargetOffset=" + toString(new int[layers])); //$NON-NLS-1$
+			writer.println("contextTargetSize=" + toString(new int[layers])); //$NON-NLS-1$
+			writer.println("endTraining=" + (layers - 1)); //$NON-NLS-1$
+			writer.println("hasContext=f"); //$NON-NLS-1$
+			writer.println("inputCount=" + currentLayout.inputCount); //$NON-NLS-1$
+			writer.println("layerCounts=" + toString(currentLayout.layerCounts)); //$NON-NLS-1$
+			writer.println("layerFeedCounts=" + toString(currentLayout.layerFeedCounts)); //$NON-NLS-1$
+			writer.println("layerContextCount=" + toString(new int[layers])); //$NON-NLS-1$
+			writer.println("layerIndex=" + toString(currentLayout.layerIndex)); //$NON-NLS-1$
+			writeProperty(writer, "output", layerOutputs); //$NON-NLS-1$
+			writer.println("outputCount=" + currentLayout.outputCount); //$NON-NLS-1$
+			writer.println("weightIndex=" + toString(currentLayout.weightIndex)); //$NON-NLS-1$
+			writeProperty(writer, "weights", currentLayout.weights); //$NON-NLS-1$
+			writeProperty(writer, "biasActivation", currentLayout.biasActivation); //$NON-NLS-1$
+			writer.println("[BASIC:ACTIVATION]"); //$NON-NLS-1$
+			for (int layer = 0; layer < layers; layer++) {
+				writer.println("\"ActivationSigmoid\""); //$NON-NLS-1$
+			}
+		} catch (IOException e) {
+			LOG.error("Could not save network to {}", fileName, e); //$NON-NLS-1$
+			return false;
+		}
+		return true;
+	}
+
+	private static void writeProperty(PrintWriter writer, String name, double[] values) {
+		writer.print(name);
+		writer.print('=');
+		if (values.length < VALUES_PER_LINE) {
+			writer.println(toString(values, 0, values.length));
+		} else {
+			writer.println("##0"); //$NON-NLS-1$
+			writer.println("##double#" + values.length); //$NON-NLS-1$
+			for (int start = 0; start < values.length; start += VALUES_PER_LINE) {
+				writer.print("   "); //$NON-NLS-1$
+				writer.println(toString(values, start, Math.min(values.length, start + VALUES_PER_LINE)));
+			}
+			writer.println("##end"); //$NON-NLS-1$
+		}
+	}
+
+	private static String toString(int[] values) {
+		StringBuilder result = new StringBuilder();
+		for (int i = 0; i < values.length; i++) {
+			if (i > 0) {
+				result.append(',');
+			}
+			result.append(values[i]);
+		}
+		return result.toString();
+	}
+
+	private static String toString(double[] values, int start, int end) {
+		StringBuilder result = new StringBuilder();
+		for (int i = start; i < end; i++) {
+			if (i > start) {
+				result.append(',');
+			}
+			BigDecimal value = new BigDecimal(values[i]).setScale(10, RoundingMode.HALF_UP).stripTrailingZeros();
+			result.append(value.signum() == 0 ? "0" : value.toPlainString()); //$NON-NLS-1$
+		}
+		return result.toString();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Reads the Encog EG format, the neuron counts are taken from the file.
+	 */
+	@Override
+	public synchronized void loadNetwork(String fileName, int inputNeurons, int hiddenNeurons, int outputNeurons) {
+
+		InputStream stream = getClass().getResourceAsStream(fileName);
+		if (stream == null) {
+			throw new IllegalArgumentException("Network file " + fileName + " not found."); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+
+		Map<String, String> properties = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int separator = line.indexOf('=');
+				if (line.startsWith("[") || separator < 0) { //$NON-NLS-1$
+					continue;
+				}
+				String name = line.substring(0, separator);
+				String value = line.substring(separator + 1);
+				if (value.startsWith("##")) { //$NON-NLS-1$
+					// large arrays are written in blocks
+					StringBuilder values = new StringBuilder();
+					while ((line = reader.readLine()) != null && !line.startsWith("##end")) { //$NON-NLS-1$
+						if (line.startsWith("##")) { //$NON-NLS-1$
+							continue;
+						}
+						if (values.length() > 0) {
+							values.append(',');
+						}
+						values.append(line.trim());
+					}
+					value = values.toString();
+				}
+				properties.put(name, value);
+			}
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Could not read network file " + fileName, e); //$NON-NLS-1$
+		}
+
+		for (int contextCount : toIntArray(properties.get("layerContextCount"))) { //$NON-NLS-1$
+			if (contextCount != 0) {
+				throw new IllegalArgumentException("Networks with context neurons are not supported."); //$NON-NLS-1$
+			}
+		}
+
+		Layout newLayout = new Layout(toIntArray(properties.get("layerCounts")), //$NON-NLS-1$
+				toIntArray(properties.get("layerFeedCounts")), //$NON-NLS-1$
+				toDoubleArray(properties.get("biasActivation"))); //$NON-NLS-1$
+		double[] weights = toDoubleArray(properties.get("weights")); //$NON-NLS-1$
+		if (weights.length != newLayout.weights.length) {
+			throw new IllegalArgumentException("Network file " + fileName + " has " + weights.length //$NON-NLS-1$ //$NON-NLS-2$
+					+ " weights, expected " + newLayout.weights.length); //$NON-NLS-1$
+		}
+		System.arraycopy(weights, 0, newLayout.weights, 0, weights.length);
+
+		iterations = 0L;
+		layout = newLayout;
+	}
+
+	private static int[] toIntArray(String value) {
+		String[] values = value.split(","); //$NON-NLS-1$
+		int[] result = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = Integer.parseInt(values[i].trim());
+		}
+		return result;
+	}
+
+	private static double[] toDoubleArray(String value) {
+		String[] values = value.split(","); //$NON-NLS-1$
+		double[] result = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			result[i] = Double.parseDouble(values[i].trim());
+		}
+		return result;
+	}
+
+	/**
+	 * Structure and weights of the network<br>
+	 * All arrays are ordered from the output layer to the input layer like in
+	 * Encog flat networks. Every layer with bias has the bias neuron behind its
+	 * regular neurons.
+	 */
+	private final static class Layout {
+
+		private final int inputCount;
+		private final int outputCount;
+		private final int neuronCount;
+		private final int[] layerCounts;
+		private final int[] layerFeedCounts;
+		private final int[] layerIndex;
+		private final int[] weightIndex;
+		private final double[] biasActivation;
+		private final double[] weights;
+
+		/**
+		 * Creates a layout from neuron counts ordered from input to output
+		 */
+		Layout(int[] neuronCounts, boolean useBias) {
+			this(toFlatCounts(neuronCounts, useBias ? 1 : 0), toFlatCounts(neuronCounts, 0),
+					toBiasActivation(neuronCounts.length, useBias));
+		}
+
+		Layout(int[] layerCounts, int[] layerFeedCounts, double[] biasActivation) {
+			this.layerCounts = layerCounts;
+			this.layerFeedCounts = layerFeedCounts;
+			this.biasActivation = biasActivation;
+
+			int layers = layerCounts.length;
+			layerIndex = new int[layers];
+			weightIndex = new int[layers];
+			int neurons = 0;
+			int weightCount = 0;
+			for (int layer = 0; layer < layers; layer++) {
+				layerIndex[layer] = neurons;
+				weightIndex[layer] = weightCount;
+				neurons += layerCounts[layer];
+				if (layer < layers - 1) {
+					weightCount += layerFeedCounts[layer] * layerCounts[layer + 1];
+				}
+			}
+			neuronCount = neurons;
+			weights = new double[weightCount];
+			inputCount = layerFeedCounts[layers - 1];
+			outputCount = layerFeedCounts[0];
+		}
+
+		Layout copyStructure() {
+			return new Layout(layerCounts, layerFeedCounts, biasActivation);
+		}
+
+		Layout copy() {
+			Layout result = copyStructure();
+			System.arraycopy(weights, 0, result.weights, 0, weights.length);
+			return result;
+		}
+
+		boolean hasBias(int layer) {
+			return layerCounts[layer] > layerFeedCounts[layer];
+		}
+
+		private static int[] toFlatCounts(int[] neuronCounts, int biasNeurons) {
+			int[] result = new int[neuronCounts.length];
+			for (int i = 0; i < neuronCounts.length; i++) {
+				result[neuronCounts.length - 1 - i] = neuronCounts[i] + biasNeurons;
+			}
+			return result;
+		}
+
+		private static double[] toBiasActivation(int layers, boolean useBias) {
+			double[] result = new double[layers];
+			if (useBias) {
+				for (int i = 0; i < layers; i++) {
+					result[i] = 1.0;
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -71,10 +71,10 @@ public class AIPlayerRND extends AbstractAIPlayer {
 
 	@Override
 	public GameAnnouncement announceGame() {
-		log.debug("position: " + knowledge.getPlayerPosition()); //$NON-NLS-1$
-		log.debug("bids: " + knowledge.getHighestBid(Player.FOREHAND) + //$NON-NLS-1$
-				" " + knowledge.getHighestBid(Player.MIDDLEHAND) + //$NON-NLS-1$
-				" " + knowledge.getHighestBid(Player.REARHAND)); //$NON-NLS-1$
+		log.debug("position: {}", knowledge.getPlayerPosition()); //$NON-NLS-1$
+		log.debug("bids: {} {} {}", //$NON-NLS-1$
+				knowledge.getHighestBid(Player.FOREHAND), knowledge.getHighestBid(Player.MIDDLEHAND),
+				knowledge.getHighestBid(Player.REARHAND));
 
 		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
 
@@ -121,19 +121,19 @@ public class AIPlayerRND extends AbstractAIPlayer {
 
 		int index = -1;
 
-		log.debug('\n' + knowledge.toString());
+		log.debug("\n{}", knowledge);
 
 		// first find all possible cards
 		final CardList possibleCards = getPlayableCards(knowledge
 				.getTrickCards());
 
-		log.debug("found " + possibleCards.size() + " possible cards: " + possibleCards); //$NON-NLS-1$//$NON-NLS-2$
+		log.debug("found {} possible cards: {}", possibleCards.size(), possibleCards); //$NON-NLS-1$
 
 		// then choose a random one
 		index = random.nextInt(possibleCards.size());
 
-		log.debug("choosing card " + index); //$NON-NLS-1$
-		log.debug("as player " + knowledge.getPlayerPosition() + ": " + possibleCards.get(index)); //$NON-NLS-1$//$NON-NLS-2$
+		log.debug("choosing card {}", index); //$NON-NLS-1$
+		log.debug("as player {}: {}", knowledge.getPlayerPosition(), possibleCards.get(index)); //$NON-NLS-1$
 
 		return possibleCards.get(index);
 	}
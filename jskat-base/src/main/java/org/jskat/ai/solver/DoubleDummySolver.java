@@ -0,0 +1,893 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jskat.data.SkatGameData;
+import org.jskat.data.Trick;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.rule.SkatRule;
+import org.jskat.util.rule.SkatRuleFactory;
+
+/**
+ * Double dummy solver for card play with perfect information<br>
+ * All cards are known, the solver searches the rest of the game with an
+ * alpha-beta search. The trick winners and the cards to serve are taken from
+ * the {@link SkatRule} of the game type.<br>
+ * <br>
+ * The value of a position depends on the game type:
+ * <ul>
+ * <li>Suit and grand games: card points the declarer takes in the remaining
+ * tricks, the declarer maximizes them</li>
+ * <li>Null games: 1 if the declarer takes any of the remaining tricks, 0
+ * otherwise, the declarer minimizes the value</li>
+ * <li>Ramsch games: card points a single player takes in the remaining
+ * tricks, including the skat for the last trick, the player minimizes them
+ * while the two other players maximize them</li>
+ * </ul>
+ * The search merges cards that are equivalent for the rest of the game, e.g.
+ * queen and king of a suit after the ace went out, and orders the moves by
+ * {@link Card#getSuitGrandOrder()}, {@link Card#getNullOrder()} or
+ * {@link Card#getRamschOrder()}. The values of all positions at the start of a
+ * trick are stored in a Zobrist hashed transposition table, so that the
+ * exact value can be found by a sequence of searches with null windows.<br>
+ * <br>
+ * A solver keeps its transposition table between the searches, it must not
+ * be used by several threads at the same time.
+ */
+public class DoubleDummySolver {
+
+	/**
+	 * Default number of entries of the transposition table as power of two
+	 */
+	public static final int DEFAULT_TABLE_SIZE_BITS = 20;
+
+	private static final long ZOBRIST_SEED = 4711L;
+
+	private static final int MAX_MOVES = 10;
+
+	private static final Card[] CARDS = Card.values();
+	private static final Player[] PLAYERS = Player.values();
+
+	/**
+	 * Zobrist keys for every card on the hand of every player
+	 */
+	private static final long[][] CARD_KEYS = new long[CARDS.length][PLAYERS.length];
+	/**
+	 * Zobrist keys for the fore hand of a trick
+	 */
+	private static final long[] FORE_HAND_KEYS = new long[PLAYERS.length];
+
+	static {
+		Random random = new Random(ZOBRIST_SEED);
+		for (int card = 0; card < CARDS.length; card++) {
+			for (int player = 0; player < PLAYERS.length; player++) {
+				CARD_KEYS[card][player] = random.nextLong();
+			}
+		}
+		for (int player = 0; player < PLAYERS.length; player++) {
+			FORE_HAND_KEYS[player] = random.nextLong();
+		}
+	}
+
+	private final GameType gameType;
+	private final boolean isNullGame;
+	private final boolean isRamschGame;
+
+	/**
+	 * Cards that beat a card, indexed by the card ordinal
+	 */
+	private final int[] beatingCards = new int[CARDS.length];
+	/**
+	 * Cards that serve an initial card, indexed by the card ordinal
+	 */
+	private final int[] followingCards = new int[CARDS.length];
+	/**
+	 * Cards of the same serving class that are lower than a card, from the
+	 * next lower card downwards, indexed by the card ordinal
+	 */
+	private final int[][] lowerCards = new int[CARDS.length][];
+	private final int[] cardPoints = new int[CARDS.length];
+	/**
+	 * Position of a card from the lowest to the highest card
+	 */
+	private final int[] cardRanks = new int[CARDS.length];
+
+	private final long[] tableKeys;
+	private final short[] tableLowerBounds;
+	private final short[] tableUpperBounds;
+	private final byte[] tableMoves;
+	private final int tableMask;
+
+	/**
+	 * Parameters of the transposition table content
+	 */
+	private Player tableSinglePlayer;
+	private int tableSkatPoints = -1;
+
+	/**
+	 * Search state
+	 */
+	private final int[] hands = new int[PLAYERS.length];
+	private final int[] trickCards = new int[PLAYERS.length];
+	private int trickSize;
+	private int trickForeHand;
+	private int singlePlayer;
+	private int skatPoints;
+	private long handKey;
+	private int handPoints;
+	/**
+	 * Ordered moves and their scores, indexed by the number of cards on the
+	 * hands
+	 */
+	private final int[][] moveBuffers = new int[CARDS.length + 1][MAX_MOVES];
+	private final int[][] scoreBuffers = new int[CARDS.length + 1][MAX_MOVES];
+	private long nodeCount;
+
+	/**
+	 * Constructor
+	 *
+	 * @param gameType
+	 *            Game type
+	 */
+	public DoubleDummySolver(final GameType gameType) {
+		this(gameType, DEFAULT_TABLE_SIZE_BITS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param tableSizeBits
+	 *            Number of entries of the transposition table as power of two
+	 */
+	public DoubleDummySolver(final GameType gameType, final int tableSizeBits) {
+
+		SkatRule rule = SkatRuleFactory.getSkatRules(gameType);
+		if (rule == null) {
+			throw new IllegalArgumentException("No card play in game type " //$NON-NLS-1$
+					+ gameType);
+		}
+		if (tableSizeBits < 1 || tableSizeBits > 30) {
+			throw new IllegalArgumentException(
+					"Table size bits must be between 1 and 30"); //$NON-NLS-1$
+		}
+
+		this.gameType = gameType;
+		isNullGame = gameType == GameType.NULL;
+		isRamschGame = gameType == GameType.RAMSCH;
+
+		initCardTables(rule);
+
+		tableKeys = new long[1 << tableSizeBits];
+		tableLowerBounds = new short[1 << tableSizeBits];
+		tableUpperBounds = new short[1 << tableSizeBits];
+		tableMoves = new byte[1 << tableSizeBits];
+		tableMask = (1 << tableSizeBits) - 1;
+	}
+
+	private void initCardTables(final SkatRule rule) {
+
+		for (Card card : CARDS) {
+			cardPoints[card.ordinal()] = card.getPoints();
+			followingCards[card.ordinal()] = CardMask.getFollowingCards(
+					gameType, card);
+			for (Card otherCard : CARDS) {
+				if (rule.isCardBeatsCard(gameType, card, otherCard)) {
+					beatingCards[card.ordinal()] |= CardMask.of(otherCard);
+				}
+			}
+		}
+
+		// the serving classes are ordered by the rule, lower cards first
+		for (Card card : CARDS) {
+			List<Card> lower = new ArrayList<Card>();
+			for (Card otherCard : CARDS) {
+				if (CardMask.contains(followingCards[card.ordinal()], otherCard)
+						&& CardMask.contains(beatingCards[otherCard.ordinal()],
+								card)) {
+					lower.add(otherCard);
+				}
+			}
+			Collections.sort(lower, new Comparator<Card>() {
+				@Override
+				public int compare(final Card first, final Card second) {
+					// higher cards first
+					return getOrderValue(second) - getOrderValue(first);
+				}
+			});
+			lowerCards[card.ordinal()] = new int[lower.size()];
+			for (int i = 0; i < lower.size(); i++) {
+				lowerCards[card.ordinal()][i] = lower.get(i).ordinal();
+			}
+		}
+
+		List<Card> cards = new ArrayList<Card>();
+		Collections.addAll(cards, CARDS);
+		Collections.sort(cards, new Comparator<Card>() {
+			@Override
+			public int compare(final Card first, final Card second) {
+				return getOrderValue(second) - getOrderValue(first);
+			}
+		});
+		for (int i = 0; i < cards.size(); i++) {
+			cardRanks[cards.get(i).ordinal()] = cards.size() - 1 - i;
+		}
+	}
+
+	/**
+	 * Gets the order value of a card for the move ordering, trump cards are
+	 * higher than all other cards
+	 */
+	private int getOrderValue(final Card card) {
+
+		int order;
+		if (isNullGame) {
+			order = card.getNullOrder();
+		} else if (isRamschGame) {
+			order = card.getRamschOrder();
+		} else {
+			order = card.getSuitGrandOrder();
+		}
+		int result = order * 10 + card.getSuit().getSuitOrder();
+		if (card.isTrump(gameType)) {
+			result += 1000;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the game type
+	 *
+	 * @return Game type
+	 */
+	public GameType getGameType() {
+		return gameType;
+	}
+
+	/**
+	 * Gets the number of positions searched since the creation of the solver
+	 *
+	 * @return Number of searched positions
+	 */
+	public long getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Solves the rest of a game for the declarer<br>
+	 * In ramsch games use {@link #solve(SkatGameData, Player)}.
+	 *
+	 * @param gameData
+	 *            Game data with the cards of all players
+	 * @return Card points of the declarer at the end of the game including the
+	 *         skat, in null games 1 if the declarer takes a trick and 0
+	 *         otherwise
+	 */
+	public int solve(final SkatGameData gameData) {
+		return solve(gameData, gameData.getDeclarer());
+	}
+
+	/**
+	 * Solves the rest of a game
+	 *
+	 * @param gameData
+	 *            Game data with the cards of all players
+	 * @param player
+	 *            Declarer or the player to solve for in ramsch games
+	 * @return Card points of the player at the end of the game including the
+	 *         skat, in null games 1 if the declarer takes a trick and 0
+	 *         otherwise
+	 */
+	public int solve(final SkatGameData gameData, final Player player) {
+
+		int[] cards = new int[PLAYERS.length + 1];
+		for (Player currPlayer : PLAYERS) {
+			cards[currPlayer.ordinal()] = gameData.getPlayerCards(currPlayer)
+					.getMask();
+		}
+		cards[PLAYERS.length] = gameData.getSkat().getMask();
+
+		Player foreHand = Player.FOREHAND;
+		CardList currentTrickCards = new CardList();
+		Trick trick = gameData.getCurrentTrick();
+		if (trick != null) {
+			if (trick.isTrickFinished()) {
+				foreHand = trick.getTrickWinner();
+			} else {
+				foreHand = trick.getForeHand();
+				currentTrickCards = trick.getCardList();
+			}
+		}
+
+		if (isNullGame) {
+			if (!gameData.isPlayerMadeNoTrick(player)) {
+				return 1;
+			}
+			return solve(player, cards, foreHand, currentTrickCards);
+		}
+
+		int result = gameData.getPlayerPoints(player)
+				+ solve(player, cards, foreHand, currentTrickCards);
+		if (!isRamschGame) {
+			// the skat belongs to the declarer
+			result += gameData.getSkat().getTotalValue();
+		}
+		return result;
+	}
+
+	/**
+	 * Solves the remaining tricks
+	 *
+	 * @param player
+	 *            Declarer or the player to solve for in ramsch games
+	 * @param cards
+	 *            Card masks of the players indexed by the player ordinal, an
+	 *            optional fourth mask holds the skat
+	 * @param trickForeHand
+	 *            Fore hand of the current trick
+	 * @param currentTrickCards
+	 *            Cards already played in the current trick
+	 * @return Value of the remaining tricks, see {@link DoubleDummySolver}
+	 */
+	public int solve(final Player player, final int[] cards,
+			final Player trickForeHand, final CardList currentTrickCards) {
+
+		setPosition(player, cards, trickForeHand, currentTrickCards);
+		return searchExactValue(-1);
+	}
+
+	/**
+	 * Solves the remaining tricks for every card the next player is allowed to
+	 * play
+	 *
+	 * @param player
+	 *            Declarer or the player to solve for in ramsch games
+	 * @param cards
+	 *            Card masks of the players indexed by the player ordinal, an
+	 *            optional fourth mask holds the skat
+	 * @param trickForeHand
+	 *            Fore hand of the current trick
+	 * @param currentTrickCards
+	 *            Cards already played in the current trick
+	 * @return Values of the remaining tricks after playing a card, see
+	 *         {@link DoubleDummySolver}
+	 */
+	public Map<Card, Integer> solveCards(final Player player,
+			final int[] cards, final Player trickForeHand,
+			final CardList currentTrickCards) {
+
+		setPosition(player, cards, trickForeHand, currentTrickCards);
+
+		Map<Card, Integer> result = new EnumMap<Card, Integer>(Card.class);
+		int nextPlayer = getNextPlayer();
+		int moves = getAllowedCards(hands[nextPlayer]);
+		int representatives = getEquivalenceRepresentatives(moves);
+		int remaining = representatives;
+		while (remaining != CardMask.EMPTY) {
+			int card = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+			result.put(CARDS[card], Integer.valueOf(searchExactValue(card)));
+		}
+
+		// equivalent cards get the value of the lowest card
+		int cardsInPlay = getCardsInPlay();
+		remaining = moves & ~representatives;
+		while (remaining != CardMask.EMPTY) {
+			int card = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+			int representative = card;
+			while ((representatives & (1 << representative)) == 0) {
+				representative = getEquivalentLowerCard(representative,
+						moves, cardsInPlay);
+			}
+			result.put(CARDS[card], result.get(CARDS[representative]));
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether a player tries to get a high value
+	 *
+	 * @param player
+	 *            Player
+	 * @param singlePlayer
+	 *            Declarer or the player to solve for in ramsch games
+	 * @return TRUE, if the player maximizes the value
+	 */
+	public boolean isMaximizing(final Player player, final Player singlePlayer) {
+		return isMaximizing(player.ordinal(), singlePlayer.ordinal());
+	}
+
+	private boolean isMaximizing(final int player, final int single) {
+		// in null and ramsch games the single player wants to avoid tricks
+		return (player == single) != (isNullGame || isRamschGame);
+	}
+
+	private int getMinValue() {
+		return 0;
+	}
+
+	private int getMaxValue() {
+		return isNullGame ? 1 : 120;
+	}
+
+	private void setPosition(final Player player, final int[] cards,
+			final Player foreHand, final CardList currentTrickCards) {
+
+		if (currentTrickCards.size() >= PLAYERS.length) {
+			throw new IllegalArgumentException("Current trick is finished"); //$NON-NLS-1$
+		}
+
+		singlePlayer = player.ordinal();
+		skatPoints = 0;
+		if (isRamschGame && cards.length > PLAYERS.length) {
+			skatPoints = getPoints(cards[PLAYERS.length]);
+		}
+		if (tableSinglePlayer != player || tableSkatPoints != skatPoints) {
+			// stored values belong to another single player or skat
+			clearTable();
+			tableSinglePlayer = player;
+			tableSkatPoints = skatPoints;
+		}
+
+		handKey = 0L;
+		handPoints = 0;
+		for (int i = 0; i < PLAYERS.length; i++) {
+			hands[i] = cards[i];
+			handPoints += getPoints(cards[i]);
+			int remaining = cards[i];
+			while (remaining != CardMask.EMPTY) {
+				handKey ^= CARD_KEYS[Integer.numberOfTrailingZeros(remaining)][i];
+				remaining &= remaining - 1;
+			}
+		}
+		trickForeHand = foreHand.ordinal();
+		trickSize = 0;
+		for (Card card : currentTrickCards) {
+			trickCards[trickSize++] = card.ordinal();
+		}
+
+		// players that played in the current trick have one card less
+		int cardCount = Integer.bitCount(hands[getNextPlayer()]);
+		int trickPlayer = trickForeHand;
+		for (int i = 0; i < PLAYERS.length; i++) {
+			int expectedCount = i < trickSize ? cardCount - 1 : cardCount;
+			if (Integer.bitCount(hands[trickPlayer]) != expectedCount) {
+				throw new IllegalArgumentException(
+						"Card counts of the players don't fit"); //$NON-NLS-1$
+			}
+			trickPlayer = PLAYERS[trickPlayer].getLeftNeighbor().ordinal();
+		}
+	}
+
+	private int getPoints(final int mask) {
+		int result = 0;
+		int remaining = mask;
+		while (remaining != CardMask.EMPTY) {
+			result += cardPoints[Integer.numberOfTrailingZeros(remaining)];
+			remaining &= remaining - 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Clears the transposition table
+	 */
+	public void clearTable() {
+		for (int i = 0; i < tableKeys.length; i++) {
+			tableKeys[i] = 0L;
+		}
+	}
+
+	private int getNextPlayer() {
+		int result = trickForeHand;
+		for (int i = 0; i < trickSize; i++) {
+			result = PLAYERS[result].getLeftNeighbor().ordinal();
+		}
+		return result;
+	}
+
+	private int getAllowedCards(final int hand) {
+		if (trickSize == 0) {
+			return hand;
+		}
+		int result = hand & followingCards[trickCards[0]];
+		return result == CardMask.EMPTY ? hand : result;
+	}
+
+	/**
+	 * Searches the exact value with a sequence of searches with null windows
+	 * (MTD(f)), the bounds of the former searches are reused from the
+	 * transposition table
+	 *
+	 * @param card
+	 *            Card to play first or -1 to search all cards
+	 * @return Exact value of the remaining tricks
+	 */
+	private int searchExactValue(final int card) {
+
+		int lowerBound = getMinValue();
+		int upperBound = getMaxValue();
+		int guess = (lowerBound + upperBound) / 2;
+		while (lowerBound < upperBound) {
+			int beta = guess == lowerBound ? guess + 1 : guess;
+			if (card < 0) {
+				guess = search(beta - 1, beta);
+			} else {
+				guess = searchCard(getNextPlayer(), card, beta - 1, beta);
+			}
+			if (guess < beta) {
+				upperBound = guess;
+			} else {
+				lowerBound = guess;
+			}
+		}
+		return guess;
+	}
+
+	/**
+	 * Searches the position with an alpha-beta search
+	 *
+	 * @return Value of the remaining tricks, if the value is outside of the
+	 *         window it is only a bound of the exact value
+	 */
+	private int search(final int alpha, final int beta) {
+
+		nodeCount++;
+
+		int cardsInHands = hands[0] | hands[1] | hands[2];
+		int currAlpha = alpha;
+		int currBeta = beta;
+		if (!isNullGame) {
+			// the value can't be higher than the remaining points
+			int maxValue = handPoints + skatPoints;
+			for (int i = 0; i < trickSize; i++) {
+				maxValue += cardPoints[trickCards[i]];
+			}
+			if (maxValue <= currAlpha) {
+				return maxValue;
+			}
+		}
+		if (currBeta <= 0) {
+			return 0;
+		}
+
+		int tableIndex = -1;
+		long key = 0L;
+		int tableMove = -1;
+		if (trickSize == 0) {
+			// only the positions at the start of a trick are stored
+			if (cardsInHands == CardMask.EMPTY) {
+				return 0;
+			}
+			int sureValue = getSureValue();
+			if (sureValue >= 0) {
+				return sureValue;
+			}
+			key = handKey ^ FORE_HAND_KEYS[trickForeHand];
+			tableIndex = (int) (key ^ (key >>> 32)) & tableMask;
+			if (tableKeys[tableIndex] == key) {
+				int lowerBound = tableLowerBounds[tableIndex];
+				int upperBound = tableUpperBounds[tableIndex];
+				if (lowerBound >= currBeta || lowerBound == upperBound) {
+					return lowerBound;
+				}
+				if (upperBound <= currAlpha) {
+					return upperBound;
+				}
+				currAlpha = Math.max(currAlpha, lowerBound);
+				currBeta = Math.min(currBeta, upperBound);
+				tableMove = tableMoves[tableIndex];
+			}
+		}
+
+		int player = getNextPlayer();
+		boolean isMaximizing = isMaximizing(player, singlePlayer);
+		int moveCount = orderMoves(player, isMaximizing,
+				getEquivalenceRepresentatives(getAllowedCards(hands[player])),
+				tableMove);
+		int[] moves = moveBuffers[Integer.bitCount(cardsInHands)];
+
+		int result = isMaximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		int bestMove = moves[0];
+		int windowAlpha = currAlpha;
+		int windowBeta = currBeta;
+		for (int i = 0; i < moveCount; i++) {
+
+			int value = searchCard(player, moves[i], windowAlpha, windowBeta);
+			if (isMaximizing ? value > result : value < result) {
+				result = value;
+				bestMove = moves[i];
+			}
+			if (isMaximizing) {
+				windowAlpha = Math.max(windowAlpha, value);
+			} else {
+				windowBeta = Math.min(windowBeta, value);
+			}
+			if (windowAlpha >= windowBeta) {
+				break;
+			}
+		}
+
+		if (tableIndex >= 0) {
+			store(tableIndex, key, result, currAlpha, currBeta, bestMove);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks at the start of a trick whether the side of the fore hand takes
+	 * all remaining tricks, because no card of the other side can beat any of
+	 * its cards
+	 *
+	 * @return Value of the remaining tricks or -1, if the remaining tricks are
+	 *         not sure
+	 */
+	private int getSureValue() {
+
+		int singlePlayerCards = hands[singlePlayer];
+		int otherCards = (hands[0] | hands[1] | hands[2]) & ~singlePlayerCards;
+		int leadingCards = trickForeHand == singlePlayer ? singlePlayerCards
+				: otherCards;
+		int followingCards = trickForeHand == singlePlayer ? otherCards
+				: singlePlayerCards;
+
+		int remaining = leadingCards;
+		while (remaining != CardMask.EMPTY) {
+			int card = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+			if ((beatingCards[card] & followingCards) != 0) {
+				return -1;
+			}
+		}
+
+		if (trickForeHand != singlePlayer) {
+			// the single player takes no trick
+			return 0;
+		}
+		if (isNullGame) {
+			return 1;
+		}
+		return handPoints + skatPoints;
+	}
+
+	/**
+	 * Orders the moves of a player into the move buffer of the current search
+	 * depth<br>
+	 * The best move from the transposition table is tried first. A player
+	 * leading the trick tries the highest cards first, in null and ramsch
+	 * games the single player tries the lowest cards first. A player
+	 * following in the trick tries the cards first, that give the trick to the
+	 * wanted side: the lowest card that takes the trick or the card with the
+	 * most points for a trick of the partner. Otherwise the cards with the
+	 * lowest points are tried first.
+	 *
+	 * @return Number of moves
+	 */
+	private int orderMoves(final int player, final boolean isMaximizing,
+			final int allowedCards, final int tableMove) {
+
+		int depth = Integer.bitCount(hands[0] | hands[1] | hands[2]);
+		int[] moves = moveBuffers[depth];
+		int[] scores = scoreBuffers[depth];
+
+		int winningCard = -1;
+		int winner = trickForeHand;
+		if (trickSize > 0) {
+			winningCard = trickCards[0];
+			int currPlayer = trickForeHand;
+			for (int i = 1; i < trickSize; i++) {
+				currPlayer = PLAYERS[currPlayer].getLeftNeighbor().ordinal();
+				if ((beatingCards[winningCard] & (1 << trickCards[i])) != 0) {
+					winningCard = trickCards[i];
+					winner = currPlayer;
+				}
+			}
+		}
+
+		int moveCount = 0;
+		int remaining = allowedCards;
+		while (remaining != CardMask.EMPTY) {
+			int card = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+
+			int score;
+			if (card == tableMove) {
+				score = Integer.MAX_VALUE;
+			} else if (winningCard < 0) {
+				boolean isLowCardsFirst = player == singlePlayer
+						&& (isNullGame || isRamschGame);
+				score = isLowCardsFirst ? -cardRanks[card] : cardRanks[card];
+			} else {
+				int trickWinner = (beatingCards[winningCard] & (1 << card)) != 0 ? player
+						: winner;
+				// the value grows, if the single player gets the trick
+				if ((trickWinner == singlePlayer) == isMaximizing) {
+					score = 1000 + 10 * cardPoints[card] - cardRanks[card];
+				} else {
+					score = -10 * cardPoints[card] - cardRanks[card];
+				}
+			}
+
+			// insertion sort, highest score first
+			int index = moveCount++;
+			while (index > 0 && scores[index - 1] < score) {
+				moves[index] = moves[index - 1];
+				scores[index] = scores[index - 1];
+				index--;
+			}
+			moves[index] = card;
+			scores[index] = score;
+		}
+		return moveCount;
+	}
+
+	private void store(final int tableIndex, final long key, final int value,
+			final int alpha, final int beta, final int bestMove) {
+
+		if (tableKeys[tableIndex] != key) {
+			tableKeys[tableIndex] = key;
+			tableLowerBounds[tableIndex] = (short) getMinValue();
+			tableUpperBounds[tableIndex] = (short) getMaxValue();
+		}
+		if (value > alpha) {
+			// value is a lower bound or exact
+			tableLowerBounds[tableIndex] = (short) Math.max(
+					tableLowerBounds[tableIndex], value);
+		}
+		if (value < beta) {
+			// value is an upper bound or exact
+			tableUpperBounds[tableIndex] = (short) Math.min(
+					tableUpperBounds[tableIndex], value);
+		}
+		tableMoves[tableIndex] = (byte) bestMove;
+	}
+
+	/**
+	 * Plays a card, searches the following position and takes the card back
+	 */
+	private int searchCard(final int player, final int card, final int alpha,
+			final int beta) {
+
+		hands[player] &= ~(1 << card);
+		handKey ^= CARD_KEYS[card][player];
+		handPoints -= cardPoints[card];
+		trickCards[trickSize++] = card;
+
+		int result;
+		if (trickSize < PLAYERS.length) {
+			result = search(alpha, beta);
+		} else {
+			result = searchTrickCompleted(alpha, beta);
+		}
+
+		trickSize--;
+		handPoints += cardPoints[card];
+		handKey ^= CARD_KEYS[card][player];
+		hands[player] |= 1 << card;
+
+		return result;
+	}
+
+	private int searchTrickCompleted(final int alpha, final int beta) {
+
+		int winningCard = 0;
+		int winner = trickForeHand;
+		int currPlayer = trickForeHand;
+		for (int i = 1; i < PLAYERS.length; i++) {
+			currPlayer = PLAYERS[currPlayer].getLeftNeighbor().ordinal();
+			if ((beatingCards[trickCards[winningCard]] & (1 << trickCards[i])) != 0) {
+				winningCard = i;
+				winner = currPlayer;
+			}
+		}
+
+		int gain = 0;
+		if (winner == singlePlayer) {
+			if (isNullGame) {
+				// declarer lost the null game
+				return 1;
+			}
+			gain = cardPoints[trickCards[0]] + cardPoints[trickCards[1]]
+					+ cardPoints[trickCards[2]];
+			if (isRamschGame
+					&& (hands[0] | hands[1] | hands[2]) == CardMask.EMPTY) {
+				// the skat goes to the winner of the last trick
+				gain += skatPoints;
+			}
+		}
+
+		int foreHand = trickForeHand;
+		int firstCard = trickCards[0];
+		int secondCard = trickCards[1];
+		int thirdCard = trickCards[2];
+		trickForeHand = winner;
+		trickSize = 0;
+
+		int result = gain + search(alpha - gain, beta - gain);
+
+		trickSize = PLAYERS.length;
+		trickCards[0] = firstCard;
+		trickCards[1] = secondCard;
+		trickCards[2] = thirdCard;
+		trickForeHand = foreHand;
+
+		return result;
+	}
+
+	/**
+	 * Removes cards that are equivalent to a lower card on the same hand<br>
+	 * Two cards are equivalent, if they serve the same cards, have the same
+	 * points and all cards between them are already played or in the skat.
+	 */
+	private int getEquivalenceRepresentatives(final int moves) {
+
+		int cardsInPlay = getCardsInPlay();
+		int result = moves;
+		int remaining = moves;
+		while (remaining != CardMask.EMPTY) {
+			int card = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+			if (getEquivalentLowerCard(card, moves, cardsInPlay) >= 0) {
+				result &= ~(1 << card);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the next lower card of the same moves that is equivalent to a card
+	 *
+	 * @return Lower card or -1, if there is no equivalent lower card
+	 */
+	private int getEquivalentLowerCard(final int card, final int moves,
+			final int cardsInPlay) {
+
+		for (int lowerCard : lowerCards[card]) {
+			if ((cardsInPlay & (1 << lowerCard)) == 0) {
+				// card is gone, look further down
+				continue;
+			}
+			if ((moves & (1 << lowerCard)) != 0
+					&& (isNullGame || cardPoints[lowerCard] == cardPoints[card])) {
+				return lowerCard;
+			}
+			return -1;
+		}
+		return -1;
+	}
+
+	private int getCardsInPlay() {
+		int result = hands[0] | hands[1] | hands[2];
+		for (int i = 0; i < trickSize; i++) {
+			result |= 1 << trickCards[i];
+		}
+		return result;
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.solver;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.jskat.ai.nn.ConstrainedDealSampler;
+import org.jskat.data.Trick;
+import org.jskat.player.ImmutablePlayerKnowledge;
+import org.jskat.util.Card;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+
+/**
+ * Perfect information Monte Carlo card play<br>
+ * Card distributions that are consistent with the knowledge of a player are
+ * sampled by a {@link ConstrainedDealSampler} and every distribution is solved
+ * by a {@link DoubleDummySolver}. The card with the best average value is
+ * played.<br>
+ * The solvers are kept between the calls, an instance must not be used by
+ * several threads at the same time.
+ */
+public class PerfectInformationMonteCarlo {
+
+	/**
+	 * Default number of sampled card distributions
+	 */
+	public static final int DEFAULT_DEALS = 20;
+
+	private final int deals;
+
+	private final Map<GameType, DoubleDummySolver> solvers = new EnumMap<GameType, DoubleDummySolver>(
+			GameType.class);
+
+	/**
+	 * Constructor
+	 */
+	public PerfectInformationMonteCarlo() {
+		this(DEFAULT_DEALS);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param deals
+	 *            Number of sampled card distributions for every card
+	 *            decision
+	 */
+	public PerfectInformationMonteCarlo(final int deals) {
+		if (deals < 1) {
+			throw new IllegalArgumentException(
+					"At least one card distribution is needed"); //$NON-NLS-1$
+		}
+		this.deals = deals;
+	}
+
+	/**
+	 * Selects the card to play
+	 *
+	 * @param knowledge
+	 *            Player knowledge, the player must be the next to play
+	 * @param random
+	 *            Random generator for the card distributions
+	 * @return Card with the best average value
+	 */
+	public Card selectCard(final ImmutablePlayerKnowledge knowledge,
+			final Random random) {
+
+		Map<Card, Double> values = evaluateCards(knowledge, random);
+		DoubleDummySolver solver = getSolver(knowledge.getGameType());
+		boolean isMaximizing = solver.isMaximizing(
+				knowledge.getPlayerPosition(), getSinglePlayer(knowledge));
+
+		Card result = null;
+		double bestValue = 0.0;
+		for (Map.Entry<Card, Double> entry : values.entrySet()) {
+			double value = entry.getValue().doubleValue();
+			if (result == null || (isMaximizing && value > bestValue)
+					|| (!isMaximizing && value < bestValue)) {
+				result = entry.getKey();
+				bestValue = value;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Evaluates all cards the player is allowed to play
+	 *
+	 * @param knowledge
+	 *            Player knowledge, the player must be the next to play
+	 * @param random
+	 *            Random generator for the card distributions
+	 * @return Average value of the remaining tricks after playing a card, see
+	 *         {@link DoubleDummySolver}
+	 */
+	public Map<Card, Double> evaluateCards(
+			final ImmutablePlayerKnowledge knowledge, final Random random) {
+
+		DoubleDummySolver solver = getSolver(knowledge.getGameType());
+		ConstrainedDealSampler sampler = new ConstrainedDealSampler(knowledge);
+		Player singlePlayer = getSinglePlayer(knowledge);
+		Trick trick = knowledge.getCurrentTrick();
+
+		int playedCards = CardMask.EMPTY;
+		for (Player player : Player.values()) {
+			playedCards |= knowledge.getPlayedCardMask(player);
+		}
+
+		Map<Card, Double> result = new EnumMap<Card, Double>(Card.class);
+		for (int i = 0; i < deals; i++) {
+			int[] cards = sampler.sampleHands(random);
+			for (Player player : Player.values()) {
+				cards[player.ordinal()] &= ~playedCards;
+			}
+
+			Map<Card, Integer> values = solver.solveCards(singlePlayer, cards,
+					trick.getForeHand(), trick.getCardList());
+			for (Map.Entry<Card, Integer> entry : values.entrySet()) {
+				Double sum = result.get(entry.getKey());
+				result.put(entry.getKey(), Double.valueOf((sum == null ? 0.0
+						: sum.doubleValue()) + entry.getValue().intValue()));
+			}
+		}
+
+		for (Map.Entry<Card, Double> entry : result.entrySet()) {
+			entry.setValue(Double.valueOf(entry.getValue().doubleValue()
+					/ deals));
+		}
+		return result;
+	}
+
+	private static Player getSinglePlayer(
+			final ImmutablePlayerKnowledge knowledge) {
+		if (knowledge.getGameType() == GameType.RAMSCH) {
+			// every player plays for himself
+			return knowledge.getPlayerPosition();
+		}
+		return knowledge.getDeclarer();
+	}
+
+	private DoubleDummySolver getSolver(final GameType gameType) {
+		DoubleDummySolver result = solvers.get(gameType);
+		if (result == null) {
+			result = new DoubleDummySolver(gameType);
+			solvers.put(gameType, result);
+		}
+		return result;
+	}
+}
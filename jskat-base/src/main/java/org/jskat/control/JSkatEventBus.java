@@ -15,8 +15,10 @@
  */
 package org.jskat.control;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jskat.control.command.table.CreateTableCommand;
 import org.jskat.control.command.table.RemoveTableCommand;
@@ -26,6 +28,7 @@ import org.jskat.control.event.table.SkatSeriesStartedEvent;
 import org.jskat.control.event.table.TableCreatedEvent;
 import org.jskat.control.event.table.TableGameMoveEvent;
 import org.jskat.control.event.table.TableRemovedEvent;
+import org.jskat.data.JSkatViewType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,13 +47,30 @@ public class JSkatEventBus {
 	private final EventBus mainEventBus;
 
 	public final static JSkatEventBus INSTANCE = new JSkatEventBus();
-	public final static Map<String, EventBus> TABLE_EVENT_BUSSES = new HashMap<>();
+	public final static Map<String, EventBus> TABLE_EVENT_BUSSES = new ConcurrentHashMap<>();
+
+	private final static Set<String> DIRECT_DISPATCH_TABLES = Collections
+			.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
 	private JSkatEventBus() {
 		mainEventBus = new EventBus("JSkat");
 		mainEventBus.register(this);
 	}
 
+	/**
+	 * Checks whether the game events of a table can be dispatched directly
+	 * without using the event busses<br>
+	 * This is the case for all training and simulation tables, because they
+	 * have no view attached.
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return TRUE, if the game events can be dispatched directly
+	 */
+	public static boolean isDirectDispatchTable(final String tableName) {
+		return DIRECT_DISPATCH_TABLES.contains(tableName);
+	}
+
 	public void register(Object listener) {
 		mainEventBus.register(listener);
 	}
@@ -61,7 +81,7 @@ public class JSkatEventBus {
 
 	@Subscribe
 	public void on(DeadEvent event) {
-		LOG.error("Recieved dead event: " + event.getEvent());
+		LOG.error("Recieved dead event: {}", event.getEvent());
 	}
 
 	@Subscribe
@@ -70,6 +90,9 @@ public class JSkatEventBus {
 		if (!JSkatEventBus.TABLE_EVENT_BUSSES.containsKey(command.tableName)) {
 			EventBus eventBus = new EventBus("Table " + command.tableName);
 			JSkatEventBus.TABLE_EVENT_BUSSES.put(command.tableName, eventBus);
+			if (JSkatViewType.TRAINING_TABLE.equals(command.tableType)) {
+				DIRECT_DISPATCH_TABLES.add(command.tableName);
+			}
 
 			post(new TableCreatedEvent(command.tableType, command.tableName));
 		}
@@ -78,6 +101,7 @@ public class JSkatEventBus {
 	@Subscribe
 	public void removeTableEventBusOn(final RemoveTableCommand command) {
 		JSkatEventBus.TABLE_EVENT_BUSSES.remove(command.tableName);
+		DIRECT_DISPATCH_TABLES.remove(command.tableName);
 
 		post(new TableRemovedEvent(command.tableName, command.tableType));
 	}
@@ -89,23 +113,20 @@ public class JSkatEventBus {
 
 	@Subscribe
 	public void dispatchTableEventOn(TableGameMoveEvent event) {
-		LOG.info("Forwarding game event " + event.gameEvent + " to table "
-				+ event.tableName);
+		LOG.info("Forwarding game event {} to table {}", event.gameEvent, event.tableName);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(event.tableName)
 				.post(event.gameEvent);
 	}
 
 	@Subscribe
 	public void dispatchTableEventOn(SkatSeriesStartedEvent event) {
-		LOG.info("Forwarding table event " + event + " to table "
-				+ event.tableName);
+		LOG.info("Forwarding table event {} to table {}", event, event.tableName);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(event.tableName).post(event);
 	}
 
 	@Subscribe
 	public void dispatchTableCommandOn(ShowCardsCommand command) {
-		LOG.info("Forwarding command " + command + " to table "
-				+ command.tableName);
+		LOG.info("Forwarding command {} to table {}", command, command.tableName);
 		JSkatEventBus.TABLE_EVENT_BUSSES.get(command.tableName).post(command);
 	}
 }
@@ -39,6 +39,7 @@ import org.jskat.gui.action.JSkatAction;
 import org.jskat.gui.action.JSkatActionEvent;
 import org.jskat.gui.human.AbstractHumanJSkatPlayer;
 import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerRegistry;
 import org.jskat.player.JSkatPlayerResolver;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
@@ -92,10 +93,10 @@ public class JSkatMaster {
 	 *            Remote version
 	 */
 	public void checkJSkatVersion(final String latestLocalVersion, final String latestRemoteVersion) {
-		log.debug("Latest version web: " + latestRemoteVersion); //$NON-NLS-1$
-		log.debug("Latest version local: " + latestLocalVersion); //$NON-NLS-1$
+		log.debug("Latest version web: {}", latestRemoteVersion); //$NON-NLS-1$
+		log.debug("Latest version local: {}", latestLocalVersion); //$NON-NLS-1$
 		if (VersionChecker.isHigherVersionAvailable(latestLocalVersion, latestRemoteVersion)) {
-			log.debug("Newer version " + latestRemoteVersion + " is available on the JSkat website."); //$NON-NLS-1$//$NON-NLS-2$
+			log.debug("Newer version {} is available on the JSkat website.", latestRemoteVersion); //$NON-NLS-1$
 
 			JSkatEventBus.INSTANCE.post(new NewJSkatVersionAvailableEvent(latestRemoteVersion));
 		}
@@ -220,20 +221,7 @@ public class JSkatMaster {
 	}
 
 	public JSkatPlayer createPlayer(String player) {
-		JSkatPlayer newPlayer = null;
-		try {
-			newPlayer = (JSkatPlayer) Class.forName(player).newInstance();
-		} catch (InstantiationException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (IllegalAccessException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (ClassNotFoundException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
-		return newPlayer;
+		return JSkatPlayerRegistry.createPlayer(player);
 	}
 
 	/**
@@ -472,7 +460,7 @@ public class JSkatMaster {
 	 */
 	public void triggerHuman(final JSkatActionEvent event) {
 
-		log.debug(event.toString());
+		log.debug("{}", event); //$NON-NLS-1$
 
 		String tableName = this.data.getActiveTable();
 		String command = event.getActionCommand();
@@ -507,7 +495,7 @@ public class JSkatMaster {
 			if (source instanceof CardList) {
 				// player discarded cards
 				CardList discardSkat = (CardList) source;
-				log.debug(discardSkat.toString());
+				log.debug("{}", discardSkat); //$NON-NLS-1$
 
 				// FIXME (jan 02.11.2010) Discarded cards are sent with the
 				// game announcement to ISS
@@ -515,7 +503,7 @@ public class JSkatMaster {
 				// issControl.sendDiscardMove(tableName,
 				// discardSkat.get(0), discardSkat.get(1));
 			} else {
-				log.warn("No discarded cards found for " + command); //$NON-NLS-1$
+				log.warn("No discarded cards found for {}", command); //$NON-NLS-1$
 			}
 		} else if (JSkatAction.ANNOUNCE_GAME.toString().equals(command)) {
 
@@ -526,7 +514,7 @@ public class JSkatMaster {
 				GameAnnouncement gameAnnouncement = (GameAnnouncement) source;
 				this.issControl.sendGameAnnouncementMove(tableName, gameAnnouncement);
 			} else {
-				log.warn("No game announcement found for " + command); //$NON-NLS-1$
+				log.warn("No game announcement found for {}", command); //$NON-NLS-1$
 			}
 		} else if (JSkatAction.PLAY_CARD.toString().equals(command) && source instanceof Card) {
 
@@ -534,7 +522,7 @@ public class JSkatMaster {
 			this.issControl.sendCardMove(tableName, nextCard);
 		} else {
 
-			log.error("Unknown action event occured: " + command + " from " + source); //$NON-NLS-1$ //$NON-NLS-2$
+			log.error("Unknown action event occured: {} from {}", command, source); //$NON-NLS-1$
 		}
 	}
 
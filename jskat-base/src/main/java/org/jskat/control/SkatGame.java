@@ -46,6 +46,7 @@ import org.jskat.data.Trick;
 import org.jskat.gui.JSkatView;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.Card;
+import org.jskat.util.CardDealer;
 import org.jskat.util.CardDeck;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
@@ -57,22 +58,26 @@ import org.jskat.util.rule.SkatRule;
 import org.jskat.util.rule.SkatRuleFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
 
 /**
  * Controls a skat game.
  */
 public class SkatGame extends JSkatThread {
 
-	private Logger log = LoggerFactory.getLogger(SkatGame.class);
+	private Logger log;
 	private int maxSleep;
 	private final SkatGameData data;
 	private final GameVariant variant;
 	private CardDeck deck;
+	private Long dealSeed;
 	private final Map<Player, JSkatPlayer> player;
 	private Player activePlayer;
 	private final String tableName;
 	private JSkatView view;
 	private SkatRule rules;
+	private boolean headless = false;
+	private final boolean directDispatch;
 
 	private final JSkatResourceBundle strings = JSkatResourceBundle.INSTANCE;
 
@@ -93,10 +98,38 @@ public class SkatGame extends JSkatThread {
 	public SkatGame(final String newTableName, final GameVariant variant, final JSkatPlayer newForeHand,
 			final JSkatPlayer newMiddleHand, final JSkatPlayer newRearHand) {
 
+		this(newTableName, variant, newForeHand, newMiddleHand, newRearHand, new SkatGameData());
+	}
+
+	/**
+	 * Constructor for games that reuse the game data of a previous game, e.g.
+	 * in simulations
+	 *
+	 * @param newTableName
+	 *            Table name
+	 * @param variant
+	 *            game variant
+	 * @param newForeHand
+	 *            Fore hand player
+	 * @param newMiddleHand
+	 *            Middle hand player
+	 * @param newRearHand
+	 *            Rear hand player
+	 * @param gameData
+	 *            Game data, will be reset before the game starts
+	 */
+	public SkatGame(final String newTableName, final GameVariant variant, final JSkatPlayer newForeHand,
+			final JSkatPlayer newMiddleHand, final JSkatPlayer newRearHand, final SkatGameData gameData) {
+
 		this.tableName = newTableName;
 		setName("SkatGame on table " + this.tableName); //$NON-NLS-1$
-		data = new SkatGameData();
-		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).register(data);
+		log = getTableLogger(newTableName);
+		gameData.reset();
+		data = gameData;
+		directDispatch = JSkatEventBus.isDirectDispatchTable(tableName);
+		if (!directDispatch) {
+			JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).register(data);
+		}
 
 		this.variant = variant;
 
@@ -113,6 +146,38 @@ public class SkatGame extends JSkatThread {
 		setGameState(GameState.GAME_START);
 	}
 
+	/**
+	 * Gets the logger for the games on a table<br>
+	 * Every table logs to a child logger of this class, e.g.
+	 * org.jskat.control.SkatGame.TRAINGRAND, so that the games of a single
+	 * table can be traced at full detail while all other tables stay quiet.
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return Logger for the table
+	 */
+	public static Logger getTableLogger(final String tableName) {
+		return LoggerFactory.getLogger(SkatGame.class.getName() + "." + tableName); //$NON-NLS-1$
+	}
+
+	/**
+	 * Gets the logger for headless games on a table, e.g. simulated or
+	 * training games<br>
+	 * Headless games don't log anything, unless debug logging is enabled for
+	 * the table, see {@link #getTableLogger(String)}.
+	 *
+	 * @param tableName
+	 *            Table name
+	 * @return Logger for the table or the NOP logger
+	 */
+	public static Logger getHeadlessLogger(final String tableName) {
+		final Logger tableLogger = getTableLogger(tableName);
+		if (tableLogger.isDebugEnabled()) {
+			return tableLogger;
+		}
+		return NOPLogger.NOP_LOGGER;
+	}
+
 	/**
 	 * @see Thread#run()
 	 */
@@ -121,10 +186,12 @@ public class SkatGame extends JSkatThread {
 	@Override
 	public void run() {
 
-		this.view.setGameState(this.tableName, this.data.getGameState());
+		if (!this.headless) {
+			this.view.setGameState(this.tableName, this.data.getGameState());
+		}
 
 		do {
-			this.log.debug("SkatGame.do --- Game state: " + this.data.getGameState()); //$NON-NLS-1$
+			this.log.debug("SkatGame.do --- Game state: {}", this.data.getGameState()); //$NON-NLS-1$
 
 			switch (this.data.getGameState()) {
 			case GAME_START:
@@ -152,7 +219,9 @@ public class SkatGame extends JSkatThread {
 				} else if (GameType.RAMSCH.equals(this.data.getGameType())) {
 					setGameState(GameState.RAMSCH_GRAND_HAND_ANNOUNCING);
 				} else {
-					this.view.setDeclarer(this.tableName, this.data.getDeclarer());
+					if (!this.headless) {
+						this.view.setDeclarer(this.tableName, this.data.getDeclarer());
+					}
 					setGameState(GameState.PICKING_UP_SKAT);
 				}
 				break;
@@ -160,7 +229,7 @@ public class SkatGame extends JSkatThread {
 				boolean grandHandAnnounced = grandHand();
 
 				if (grandHandAnnounced) {
-					this.log.debug(this.data.getDeclarer() + " is playing grand hand"); //$NON-NLS-1$
+					this.log.debug("{} is playing grand hand", this.data.getDeclarer()); //$NON-NLS-1$
 					final GameAnnouncementFactory gaf = GameAnnouncement.getFactory();
 					gaf.setGameType(GameType.GRAND);
 					gaf.setHand(Boolean.TRUE);
@@ -235,23 +304,27 @@ public class SkatGame extends JSkatThread {
 			checkWaitCondition();
 		} while (this.data.getGameState() != GameState.GAME_OVER && !isTerminated());
 
-		JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).unregister(data);
+		if (!directDispatch) {
+			JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName).unregister(data);
+		}
 
-		log.debug(data.getGameState().name());
-		log.debug("Game moves:");
-		for (SkatGameEvent event : data.getGameMoves()) {
-			log.debug(event.toString());
+		if (log.isDebugEnabled()) {
+			log.debug(data.getGameState().name());
+			log.debug("Game moves:"); //$NON-NLS-1$
+			for (SkatGameEvent event : data.getGameMoves()) {
+				log.debug("{}", event); //$NON-NLS-1$
+			}
 		}
 	}
 
 	private void contraRe() {
 		if (getActivePlayerInstance().callContra()) {
-			JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ContraEvent(activePlayer)));
+			postGameMove(new ContraEvent(activePlayer));
 			setGameState(GameState.RE);
 			Player activePlayerBeforeContraRe = activePlayer;
 			setActivePlayer(this.data.getDeclarer());
 			if (getActivePlayerInstance().callRe()) {
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new ReEvent(activePlayer)));
+				postGameMove(new ReEvent(activePlayer));
 			}
 			setActivePlayer(activePlayerBeforeContraRe);
 		}
@@ -263,11 +336,11 @@ public class SkatGame extends JSkatThread {
 		for (final Player currPlayer : Player.getOrderedList()) {
 			setActivePlayer(currPlayer);
 			if (!grandHandAnnounced && playGrandHand()) {
-				this.log.debug("Player " + this.activePlayer + " is playing grand hand.");
+				this.log.debug("Player {} is playing grand hand.", this.activePlayer);
 				setDeclarer(this.activePlayer);
 				grandHandAnnounced = true;
 			} else {
-				this.log.debug("Player " + this.activePlayer + " doesn't want to play grand hand.");
+				this.log.debug("Player {} doesn't want to play grand hand.", this.activePlayer);
 			}
 		}
 		return grandHandAnnounced;
@@ -277,12 +350,16 @@ public class SkatGame extends JSkatThread {
 		for (final Player currPlayer : Player.getOrderedList()) {
 			setActivePlayer(currPlayer);
 			if (!pickUpSkat()) {
-				this.log.debug("Player " + currPlayer + " does schieben."); //$NON-NLS-1$
+				this.log.debug("Player {} does schieben.", currPlayer); //$NON-NLS-1$
 				this.data.addGeschoben();
-				this.view.setGeschoben(this.tableName, this.activePlayer);
+				if (!this.headless) {
+					this.view.setGeschoben(this.tableName, this.activePlayer);
+				}
 			} else {
-				this.log.debug("Player " + currPlayer + " wants to look into skat.");
-				this.view.setSkat(this.tableName, this.data.getSkat());
+				this.log.debug("Player {} wants to look into skat.", currPlayer);
+				if (!this.headless) {
+					this.view.setSkat(this.tableName, this.data.getSkat());
+				}
 				discarding();
 			}
 		}
@@ -290,7 +367,9 @@ public class SkatGame extends JSkatThread {
 
 	private void setActivePlayer(final Player newPlayer) {
 		this.activePlayer = newPlayer;
-		JSkatEventBus.INSTANCE.post(new ActivePlayerChangedEvent(this.tableName, this.activePlayer));
+		if (!directDispatch) {
+			JSkatEventBus.INSTANCE.post(new ActivePlayerChangedEvent(this.tableName, this.activePlayer));
+		}
 	}
 
 	private boolean playGrandHand() {
@@ -313,12 +392,15 @@ public class SkatGame extends JSkatThread {
 
 		if (this.deck == null) {
 			// Skat game has no cards, yet
-			this.deck = new CardDeck();
+			if (this.dealSeed == null) {
+				this.dealSeed = CardDealer.getInstance().nextDealSeed();
+			}
 
-			this.log.debug("shuffling..."); //$NON-NLS-1$
-			this.deck.shuffle();
+			this.log.debug("shuffling with deal seed {}", this.dealSeed); //$NON-NLS-1$
+			this.deck = CardDealer.createCardDeck(this.dealSeed);
+			this.data.setDealSeed(this.dealSeed);
 
-			this.log.debug(this.deck.toString());
+			this.log.debug("{}", this.deck); //$NON-NLS-1$
 		}
 
 		doSleep(this.maxSleep);
@@ -335,15 +417,17 @@ public class SkatGame extends JSkatThread {
 		// deal three cards
 		dealCards(3, dealtCards);
 
-		JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, new CardDealEvent(dealtCards, skat)));
+		postGameMove(new CardDealEvent(dealtCards, skat));
 
 		doSleep(this.maxSleep);
 
-		this.log.warn("Fore hand: " + this.data.getPlayerCards(Player.FOREHAND)); //$NON-NLS-1$
-		this.log.warn("Middle hand: " //$NON-NLS-1$
-				+ this.data.getPlayerCards(Player.MIDDLEHAND));
-		this.log.warn("Rear hand: " + this.data.getPlayerCards(Player.REARHAND)); //$NON-NLS-1$
-		this.log.warn("Skat: " + this.data.getSkat()); //$NON-NLS-1$
+		if (this.log.isWarnEnabled()) {
+			// the game data hand out copies of the cards
+			this.log.warn("Fore hand: {}", this.data.getPlayerCards(Player.FOREHAND)); //$NON-NLS-1$
+			this.log.warn("Middle hand: {}", this.data.getPlayerCards(Player.MIDDLEHAND)); //$NON-NLS-1$
+			this.log.warn("Rear hand: {}", this.data.getPlayerCards(Player.REARHAND)); //$NON-NLS-1$
+			this.log.warn("Skat: {}", this.data.getSkat()); //$NON-NLS-1$
+		}
 	}
 
 	/**
@@ -377,18 +461,16 @@ public class SkatGame extends JSkatThread {
 
 		bidValue = twoPlayerBidding(Player.MIDDLEHAND, Player.FOREHAND, bidValue);
 
-		this.log.debug("Bid value after first bidding: " //$NON-NLS-1$
-				+ bidValue);
+		this.log.debug("Bid value after first bidding: {}", bidValue); //$NON-NLS-1$
 
 		final Player firstWinner = getBiddingWinner(Player.MIDDLEHAND, Player.FOREHAND);
 
-		this.log.debug("First bidding winner: " + firstWinner); //$NON-NLS-1$
+		this.log.debug("First bidding winner: {}", firstWinner); //$NON-NLS-1$
 		this.log.debug("ask rear hand and first winner..."); //$NON-NLS-1$
 
 		bidValue = twoPlayerBidding(Player.REARHAND, firstWinner, bidValue);
 
-		this.log.debug("Bid value after second bidding: " //$NON-NLS-1$
-				+ bidValue);
+		this.log.debug("Bid value after second bidding: {}", bidValue); //$NON-NLS-1$
 
 		// get second winner
 		Player secondWinner = getBiddingWinner(Player.REARHAND, firstWinner);
@@ -403,11 +485,11 @@ public class SkatGame extends JSkatThread {
 			if (getPlayerInstance(Player.FOREHAND).bidMore(18) > -1) {
 
 				this.log.debug("Fore hand holds 18"); //$NON-NLS-1$
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(this.tableName, new BidEvent(secondWinner, 18)));
+				postGameMove(new BidEvent(secondWinner, 18));
 			} else {
 
 				this.log.debug("Fore hand passes too"); //$NON-NLS-1$
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(this.tableName, new PassBidEvent(Player.FOREHAND)));
+				postGameMove(new PassBidEvent(Player.FOREHAND));
 				secondWinner = null;
 			}
 		}
@@ -417,8 +499,7 @@ public class SkatGame extends JSkatThread {
 			setDeclarer(secondWinner);
 			setActivePlayer(secondWinner);
 
-			this.log.debug("Player " + this.data.getDeclarer() //$NON-NLS-1$
-					+ " wins the bidding."); //$NON-NLS-1$
+			this.log.debug("Player {} wins the bidding.", this.data.getDeclarer()); //$NON-NLS-1$
 		} else {
 			// FIXME (jansch 02.01.2012) use cloned rule options here (see
 			// MantisBT: 0000037)
@@ -429,8 +510,7 @@ public class SkatGame extends JSkatThread {
 				final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
 				factory.setGameType(GameType.RAMSCH);
 				setGameAnnouncement(factory.getAnnouncement());
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName,
-						new GameAnnouncementEvent(data.getDeclarer(), data.getAnnoucement())));
+				postGameMove(new GameAnnouncementEvent(data.getDeclarer(), data.getAnnoucement()));
 				setActivePlayer(Player.FOREHAND);
 				// do not call "setGameAnnouncement(..)" here!
 			} else {
@@ -472,51 +552,51 @@ public class SkatGame extends JSkatThread {
 
 			// get bid value
 			final int nextBidValue = SkatConstants.getNextBidValue(currBidValue);
-			this.view.setBidValueToMake(this.tableName, nextBidValue);
+			if (!this.headless) {
+				this.view.setBidValueToMake(this.tableName, nextBidValue);
+			}
 			// ask player
 			setActivePlayer(announcer);
 			final int announcerBidValue = getPlayerInstance(announcer).bidMore(nextBidValue);
 
 			if (announcerBidValue > -1 && SkatConstants.bidOrder.contains(Integer.valueOf(announcerBidValue))) {
 
-				this.log.debug("announcer bids " + announcerBidValue); //$NON-NLS-1$
+				this.log.debug("announcer bids {}", announcerBidValue); //$NON-NLS-1$
 
 				// announcing hand holds bid
 				currBidValue = announcerBidValue;
 
 				this.data.addPlayerBid(announcer, announcerBidValue);
 				informPlayersAboutBid(announcer, announcerBidValue);
-				JSkatEventBus.INSTANCE
-						.post(new TableGameMoveEvent(this.tableName, new BidEvent(announcer, announcerBidValue)));
+				postGameMove(new BidEvent(announcer, announcerBidValue));
 
 				setActivePlayer(hearer);
 				if (getPlayerInstance(hearer).holdBid(currBidValue)) {
 
-					this.log.debug("hearer holds " + currBidValue); //$NON-NLS-1$
+					this.log.debug("hearer holds {}", currBidValue); //$NON-NLS-1$
 
 					// hearing hand holds bid
 					this.data.addPlayerBid(hearer, announcerBidValue);
 					informPlayersAboutBid(hearer, announcerBidValue);
-					JSkatEventBus.INSTANCE
-							.post(new TableGameMoveEvent(this.tableName, new HoldBidEvent(hearer, announcerBidValue)));
+					postGameMove(new HoldBidEvent(hearer, announcerBidValue));
 
 				} else {
 
-					this.log.debug("hearer passed at " + announcerBidValue); //$NON-NLS-1$
+					this.log.debug("hearer passed at {}", announcerBidValue); //$NON-NLS-1$
 
 					// hearing hand passed
 					hearerPassed = true;
 					this.data.setPlayerPass(hearer, true);
-					JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(this.tableName, new PassBidEvent(hearer)));
+					postGameMove(new PassBidEvent(hearer));
 				}
 			} else {
 
-				this.log.debug("announcer passed at " + nextBidValue); //$NON-NLS-1$
+				this.log.debug("announcer passed at {}", nextBidValue); //$NON-NLS-1$
 
 				// announcing hand passes
 				announcerPassed = true;
 				this.data.setPlayerPass(announcer, true);
-				JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(this.tableName, new PassBidEvent(announcer)));
+				postGameMove(new PassBidEvent(announcer));
 			}
 		}
 
@@ -540,10 +620,12 @@ public class SkatGame extends JSkatThread {
 
 		final JSkatPlayer activePlayerInstance = getActivePlayerInstance();
 
-		this.view.setSkat(this.tableName, this.data.getSkat());
+		if (!this.headless) {
+			this.view.setSkat(this.tableName, this.data.getSkat());
+		}
 
-		this.log.debug("Player " + this.activePlayer + " looks into the skat..."); //$NON-NLS-1$ //$NON-NLS-2$
-		this.log.debug("Skat before discarding: " + this.data.getSkat()); //$NON-NLS-1$
+		this.log.debug("Player {} looks into the skat...", this.activePlayer); //$NON-NLS-1$
+		this.log.debug("Skat before discarding: {}", this.data.getSkat()); //$NON-NLS-1$
 
 		final CardList skatBefore = new CardList(this.data.getSkat());
 
@@ -559,13 +641,15 @@ public class SkatGame extends JSkatThread {
 		discardedSkat.addAll(activePlayerInstance.discardSkat());
 
 		if (!checkDiscardedCards(this.activePlayer, discardedSkat)) {
-			this.view.showAIPlayedSchwarzMessageDiscarding(activePlayerInstance.getPlayerName(), discardedSkat);
+			if (!this.headless) {
+				this.view.showAIPlayedSchwarzMessageDiscarding(activePlayerInstance.getPlayerName(), discardedSkat);
+			}
 			endGameBecauseOfSchwarzPlaying(this.activePlayer);
 		} else {
-			this.log.debug("Discarded cards: " + discardedSkat); //$NON-NLS-1$
+			this.log.debug("Discarded cards: {}", discardedSkat); //$NON-NLS-1$
 
 			this.data.setDiscardedSkat(this.activePlayer, discardedSkat);
-			if (!activePlayerInstance.isHumanPlayer()) {
+			if (!activePlayerInstance.isHumanPlayer() && !this.headless) {
 				// human player has changed the cards in the GUI already
 				this.view.setDiscardedSkat(this.tableName, this.activePlayer, skatBefore, discardedSkat);
 			}
@@ -605,7 +689,7 @@ public class SkatGame extends JSkatThread {
 		final GameAnnouncement ann = getPlayerInstance(this.data.getDeclarer()).announceGame();
 		if (ann != null) {
 			setGameAnnouncement(ann);
-		} else {
+		} else if (!this.headless) {
 			this.view.showErrorMessage(this.strings.getString("invalid_game_announcement_title"), //$NON-NLS-1$
 					this.strings.getString("invalid_game_announcement_message", ann)); //$NON-NLS-1$
 		}
@@ -617,7 +701,7 @@ public class SkatGame extends JSkatThread {
 
 		for (int trickNo = 0; trickNo < 10; trickNo++) {
 
-			this.log.debug("=============== Play trick " + (trickNo + 1) + " ==============="); //$NON-NLS-1$ //$NON-NLS-2$
+			this.log.debug("=============== Play trick {} ===============", (trickNo + 1)); //$NON-NLS-1$
 			doSleep(this.maxSleep);
 
 			Player trickForehand = getTrickForeHand(trickNo);
@@ -687,7 +771,9 @@ public class SkatGame extends JSkatThread {
 				}
 			}
 
-			this.log.debug("Trick cards: " + lastTrick.getCardList()); //$NON-NLS-1$
+			if (this.log.isDebugEnabled()) {
+				this.log.debug("Trick cards: {}", lastTrick.getCardList()); //$NON-NLS-1$
+			}
 			logPlayerPoints();
 
 			if (getActivePlayerInstance().isAIPlayer()) {
@@ -794,14 +880,17 @@ public class SkatGame extends JSkatThread {
 	}
 
 	private void logPlayerPoints() {
-		this.log.debug("Points: forehand: " + this.data.getPlayerPoints(Player.FOREHAND) + //$NON-NLS-1$
-				" middlehand: " //$NON-NLS-1$
-				+ this.data.getPlayerPoints(Player.MIDDLEHAND) + " rearhand: " //$NON-NLS-1$
-				+ this.data.getPlayerPoints(Player.REARHAND));
+		if (this.log.isDebugEnabled()) {
+			this.log.debug("Points: forehand: {} middlehand: {} rearhand: {}", //$NON-NLS-1$
+					this.data.getPlayerPoints(Player.FOREHAND), this.data.getPlayerPoints(Player.MIDDLEHAND),
+					this.data.getPlayerPoints(Player.REARHAND));
+		}
 	}
 
 	private void addSkatPointsToPlayerPoints() {
-		this.log.debug("Skat: " + this.data.getSkat());
+		if (this.log.isDebugEnabled()) {
+			this.log.debug("Skat: {}", this.data.getSkat()); //$NON-NLS-1$
+		}
 		if (this.data.getGameType() == GameType.RAMSCH) {
 			addSkatPointsToPlayerPointsInRamschGames();
 		} else {
@@ -816,8 +905,10 @@ public class SkatGame extends JSkatThread {
 			try {
 				Player lastTrickWinner = data.getLastTrickWinner();
 				if (lastTrickWinner != null) {
-					log.debug("Skat cards (" + data.getSkat().getTotalValue() + " points) are added to player @ " //$NON-NLS-1$ //$NON-NLS-2$
-							+ lastTrickWinner + " (= last trick)"); //$NON-NLS-1$
+					if (log.isDebugEnabled()) {
+						log.debug("Skat cards ({} points) are added to player @ {} (= last trick)", //$NON-NLS-1$
+								data.getSkat().getTotalValue(), lastTrickWinner);
+					}
 					data.addPlayerPoints(lastTrickWinner, data.getSkat().getTotalValue());
 				}
 			} catch (IllegalArgumentException exception) {
@@ -853,19 +944,23 @@ public class SkatGame extends JSkatThread {
 				// ask player for the next card
 				playedCard = skatPlayer.playCard();
 			} catch (final Exception exp) {
-				this.log.error("Exception thrown by player " + skatPlayer + " playing " + currPlayer + ": " + exp); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				this.log.error("Exception thrown by player {} playing {}: {}", skatPlayer, currPlayer, exp); //$NON-NLS-1$
 				if (!skatPlayer.isHumanPlayer()) {
 					aiPlayerPlayedSchwarz = true;
 				}
 			}
 
-			this.log.debug(playedCard + " " + this.data); //$NON-NLS-1$
+			this.log.debug("{} {}", playedCard, this.data); //$NON-NLS-1$
 
 			if (isCardSchwarzPlay(skatPlayer, currPlayer, firstTrickCard, playedCard)) {
 				if (skatPlayer.isHumanPlayer()) {
-					this.view.showCardNotAllowedMessage(playedCard);
+					if (!this.headless) {
+						this.view.showCardNotAllowedMessage(playedCard);
+					}
 				} else {
-					this.view.showAIPlayedSchwarzMessageCardPlay(skatPlayer.getPlayerName(), playedCard);
+					if (!this.headless) {
+						this.view.showAIPlayedSchwarzMessageCardPlay(skatPlayer.getPlayerName(), playedCard);
+					}
 					aiPlayerPlayedSchwarz = true;
 				}
 			} else {
@@ -876,13 +971,12 @@ public class SkatGame extends JSkatThread {
 
 		if (playedCard != null) {
 			// TODO: code duplication with SkatGameReplayer.oneStepForward()
-			if (data.getCurrentTrick() != null && data.getCurrentTrick().getFirstCard() == null) {
+			if (!directDispatch && data.getCurrentTrick() != null && data.getCurrentTrick().getFirstCard() == null) {
 				JSkatEventBus.TABLE_EVENT_BUSSES.get(tableName)
 						.post(new TrickCompletedEvent(data.getLastCompletedTrick()));
 			}
 
-			JSkatEventBus.INSTANCE
-					.post(new TableGameMoveEvent(this.tableName, new TrickCardPlayedEvent(currPlayer, playedCard)));
+			postGameMove(new TrickCardPlayedEvent(currPlayer, playedCard));
 
 			for (final JSkatPlayer playerInstance : this.player.values()) {
 				// inform all players
@@ -890,7 +984,7 @@ public class SkatGame extends JSkatThread {
 				playerInstance.cardPlayed(currPlayer, playedCard);
 			}
 
-			this.log.debug("playing card " + playedCard); //$NON-NLS-1$
+			this.log.debug("playing card {}", playedCard); //$NON-NLS-1$
 		}
 
 		if (aiPlayerPlayedSchwarz) {
@@ -899,6 +993,22 @@ public class SkatGame extends JSkatThread {
 		}
 	}
 
+	/**
+	 * Posts a game move<br>
+	 * On tables with direct dispatch the move goes straight to the game data
+	 * without using the event busses.
+	 *
+	 * @param event
+	 *            Game move
+	 */
+	private void postGameMove(final SkatGameEvent event) {
+		if (directDispatch) {
+			data.adjustDataOn(event);
+		} else {
+			JSkatEventBus.INSTANCE.post(new TableGameMoveEvent(tableName, event));
+		}
+	}
+
 	private void endGameBecauseOfSchwarzPlaying(Player currentPlayer) {
 		this.data.getResult().setSchwarz(true);
 		if (this.data.getDeclarer().equals(currentPlayer)) {
@@ -920,17 +1030,17 @@ public class SkatGame extends JSkatThread {
 
 		} else if (!playerHasCard(position, playedCard)) {
 
-			this.log.error("Player (" + skatPlayer + ") is fooling!!! Doesn't have card " + playedCard + "!"); //$NON-NLS-1$//$NON-NLS-2$ //$NON-NLS-3$
+			this.log.error("Player ({}) is fooling!!! Doesn't have card {}!", skatPlayer, playedCard); //$NON-NLS-1$
 			isSchwarz = true;
 
 		} else if (!rules.isCardAllowed(data.getGameType(), firstTrickCard, data.getPlayerCards(position),
 				playedCard)) {
 
-			this.log.error(
-					"Player " + skatPlayer.getClass().toString() + " card not allowed: " + playedCard + " game type: " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-							+ data.getGameType() + " first trick card: " //$NON-NLS-1$
-							+ firstTrickCard + " player cards: " //$NON-NLS-1$
-							+ data.getPlayerCards(position));
+			if (this.log.isErrorEnabled()) {
+				this.log.error("Player {} card not allowed: {} game type: {} first trick card: {} player cards: {}", //$NON-NLS-1$
+						skatPlayer.getClass(), playedCard, data.getGameType(), firstTrickCard,
+						data.getPlayerCards(position));
+			}
 			isSchwarz = true;
 		}
 
@@ -956,8 +1066,10 @@ public class SkatGame extends JSkatThread {
 
 		boolean result = false;
 
-		this.log.debug("Player " + player + " has card: player cards: " + this.data.getPlayerCards(player) //$NON-NLS-1$
-				+ " card to check: " + card);
+		if (this.log.isDebugEnabled()) {
+			this.log.debug("Player {} has card: player cards: {} card to check: {}", player, //$NON-NLS-1$
+					this.data.getPlayerCards(player), card);
+		}
 
 		for (final Card handCard : this.data.getPlayerCards(player)) {
 
@@ -977,13 +1089,12 @@ public class SkatGame extends JSkatThread {
 		// FIXME (jan 07.12.2010) don't let a data class calculate it's values
 		this.data.calcResult();
 
-		this.log.debug("game value=" + this.data.getResult() + ", bid value=" //$NON-NLS-1$ //$NON-NLS-2$
-				+ this.data.getMaxBidValue());
-
-		this.log.debug("Final game result: lost:" + this.data.isGameLost() + //$NON-NLS-1$
-				" game value: " + this.data.getResult()); //$NON-NLS-1$
-
-		this.log.debug("Final result: " + this.data.getDeclarerScore() + "/" + this.data.getOpponentScore());
+		if (this.log.isDebugEnabled()) {
+			this.log.debug("game value={}, bid value={}", this.data.getResult(), this.data.getMaxBidValue()); //$NON-NLS-1$
+			this.log.debug("Final game result: lost:{} game value: {}", this.data.isGameLost(), //$NON-NLS-1$
+					this.data.getResult());
+			this.log.debug("Final result: {}/{}", this.data.getDeclarerScore(), this.data.getOpponentScore()); //$NON-NLS-1$
+		}
 
 		for (final JSkatPlayer playerInstance : this.player.values()) {
 			playerInstance.setGameSummary(this.data.getGameSummary());
@@ -995,6 +1106,11 @@ public class SkatGame extends JSkatThread {
 
 	private void doSleep(final int milliseconds) {
 
+		if (this.headless) {
+			// headless games never sleep
+			return;
+		}
+
 		try {
 			sleep(milliseconds);
 		} catch (final InterruptedException e) {
@@ -1017,6 +1133,39 @@ public class SkatGame extends JSkatThread {
 		this.view = newView;
 	}
 
+	/**
+	 * Sets the game into headless mode<br>
+	 * A headless game doesn't sleep, doesn't wait and doesn't inform any view.
+	 * It is meant to be run synchronously by calling {@link #run()} directly
+	 * on the calling thread, e.g. for game simulations.
+	 *
+	 * @param isHeadless
+	 *            TRUE, if the game should run headless
+	 */
+	public void setHeadless(final boolean isHeadless) {
+		this.headless = isHeadless;
+	}
+
+	/**
+	 * Checks whether the game runs in headless mode
+	 *
+	 * @return TRUE, if the game runs headless
+	 */
+	public boolean isHeadless() {
+		return this.headless;
+	}
+
+	/**
+	 * @see JSkatThread#checkWaitCondition()
+	 */
+	@Override
+	protected void checkWaitCondition() {
+		// headless games never wait
+		if (!this.headless) {
+			super.checkWaitCondition();
+		}
+	}
+
 	/**
 	 * Sets a new logger for the skat game
 	 *
@@ -1038,6 +1187,18 @@ public class SkatGame extends JSkatThread {
 		this.deck = newDeck;
 	}
 
+	/**
+	 * Sets the seed for the dealing of the cards, a game with the same seed
+	 * gets the same cards, see {@link CardDealer#createCardDeck(long)}
+	 *
+	 * @param newDealSeed
+	 *            Deal seed
+	 */
+	public void setDealSeed(final long newDealSeed) {
+
+		this.dealSeed = newDealSeed;
+	}
+
 	/**
 	 * Sets the game announcement from the outside
 	 *
@@ -1048,16 +1209,15 @@ public class SkatGame extends JSkatThread {
 
 		this.data.setAnnouncement(ann);
 		this.rules = SkatRuleFactory.getSkatRules(this.data.getGameType());
-		JSkatEventBus.INSTANCE
-				.post(new TableGameMoveEvent(tableName, new GameAnnouncementEvent(data.getDeclarer(), ann)));
+		postGameMove(new GameAnnouncementEvent(data.getDeclarer(), ann));
 
 		// inform all players
 		for (final JSkatPlayer playerInstance : this.player.values()) {
 			playerInstance.startGame(this.data.getDeclarer(), ann);
 		}
 
-		this.log.debug(".setGameAnnouncement(): " + this.data.getAnnoucement() + " by " + this.data.getDeclarer() //$NON-NLS-1$ //$NON-NLS-2$
-				+ ", rules=" + this.rules); //$NON-NLS-1$
+		this.log.debug(".setGameAnnouncement(): {} by {}, rules={}", this.data.getAnnoucement(), //$NON-NLS-1$
+				this.data.getDeclarer(), this.rules);
 	}
 
 	/**
@@ -1070,7 +1230,7 @@ public class SkatGame extends JSkatThread {
 
 		this.data.setGameState(newState);
 
-		if (this.view != null) {
+		if (!this.headless && this.view != null) {
 
 			this.view.setGameState(this.tableName, newState);
 
@@ -1093,7 +1253,9 @@ public class SkatGame extends JSkatThread {
 	public void setDeclarer(final Player declarer) {
 
 		this.data.setDeclarer(declarer);
-		this.view.setDeclarer(this.tableName, declarer);
+		if (!this.headless) {
+			this.view.setDeclarer(this.tableName, declarer);
+		}
 	}
 
 	/**
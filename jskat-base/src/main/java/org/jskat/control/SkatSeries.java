@@ -27,6 +27,7 @@ import org.jskat.control.event.table.SkatGameReplayStartedEvent;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatSeriesData;
 import org.jskat.data.SkatSeriesData.SeriesState;
+import org.jskat.data.SkatSeriesHistory;
 import org.jskat.gui.JSkatView;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.GameVariant;
@@ -130,7 +131,7 @@ public class SkatSeries extends JSkatThread {
 			}
 		}
 
-		LOG.debug("Player order: " + players); //$NON-NLS-1$
+		LOG.debug("Player order: {}", players); //$NON-NLS-1$
 	}
 
 	/**
@@ -169,7 +170,7 @@ public class SkatSeries extends JSkatThread {
 
 		while ((roundsToGo > 0 || unlimitedRounds) && !isTerminated()) {
 
-			LOG.debug("Playing round " + (roundsPlayed + 1)); //$NON-NLS-1$
+			LOG.debug("Playing round {}", roundsPlayed + 1); //$NON-NLS-1$
 
 			for (int j = 0; j < 3; j++) {
 
@@ -205,7 +206,7 @@ public class SkatSeries extends JSkatThread {
 				currSkatGame.setView(view);
 				currSkatGame.setMaxSleep(maxSleep);
 
-				LOG.debug("Playing game " + (j + 1)); //$NON-NLS-1$
+				LOG.debug("Playing game {}", j + 1); //$NON-NLS-1$
 
 				data.addGame(currSkatGame);
 				currSkatGame.start();
@@ -214,6 +215,8 @@ public class SkatSeries extends JSkatThread {
 
 					LOG.debug("Game ended: join"); //$NON-NLS-1$
 
+					data.finishCurrentGame();
+
 					sleep(maxSleep);
 
 				} catch (final InterruptedException e) {
@@ -241,6 +244,7 @@ public class SkatSeries extends JSkatThread {
 			checkWaitCondition();
 		}
 
+		data.getHistory().close();
 		data.setState(SeriesState.SERIES_FINISHED);
 		view.setSeriesState(data.getTableName(), SeriesState.SERIES_FINISHED);
 
@@ -279,6 +283,28 @@ public class SkatSeries extends JSkatThread {
 		return data.getGameState();
 	}
 
+	/**
+	 * Gets the history of the finished games
+	 * 
+	 * @return Game history
+	 */
+	public SkatSeriesHistory getHistory() {
+
+		return data.getHistory();
+	}
+
+	/**
+	 * Sets the history for the finished games, e.g. with a smaller retention
+	 * window or a spill file
+	 * 
+	 * @param history
+	 *            Game history
+	 */
+	public void setHistory(final SkatSeriesHistory history) {
+
+		data.setHistory(history);
+	}
+
 	/**
 	 * Gets the ID of the current game
 	 * 
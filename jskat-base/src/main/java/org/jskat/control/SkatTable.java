@@ -52,7 +52,7 @@ public class SkatTable {
 		this.tableName = tableName;
 		this.options = options;
 
-		log.debug("SkatTable created with max. " + options.getMaxPlayerCount() + " players."); //$NON-NLS-1$ //$NON-NLS-2$
+		log.debug("SkatTable created with max. {} players.", options.getMaxPlayerCount()); //$NON-NLS-1$
 	}
 
 	/**
@@ -39,7 +39,7 @@ public final class TrickCardPlayedEvent extends AbstractPlayerMoveEvent {
 		data.removePlayerCard(player, card);
 
 		if (isNoTricksPlayed(data)) {
-			data.addTrick(new Trick(0, Player.FOREHAND));
+			data.addTrick(data.createTrick(0, Player.FOREHAND));
 		}
 
 		data.addTrickCard(card);
@@ -51,7 +51,7 @@ public final class TrickCardPlayedEvent extends AbstractPlayerMoveEvent {
 							data.getGameType(), trick);
 			trick.setTrickWinner(trickWinner);
 			if (data.getTricks().size() < 10) {
-				data.addTrick(new Trick(data.getTricks().size(), trickWinner));
+				data.addTrick(data.createTrick(data.getTricks().size(), trickWinner));
 			}
 		}
 	}
@@ -71,7 +71,7 @@ class InputChannel extends Thread {
 
 					line = InputChannel.this.reader.readLine();
 					
-					log.debug("ISS    |--> " + line); //$NON-NLS-1$
+					log.debug("ISS |--> {}", line); //$NON-NLS-1$
 					
 					InputChannel.this.messageHandler.addMessage(line);
 
@@ -167,7 +167,7 @@ public class IssController {
 					.establishConnection(this);
 
 			if (isConnected) {
-				log.debug("Connection to ISS established: " + this.issConnector.isConnected()); //$NON-NLS-1$
+				log.debug("Connection to ISS established: {}", this.issConnector.isConnected()); //$NON-NLS-1$
 				this.issMsg = new MessageGenerator(this.login);
 				this.issOut = this.issConnector.getOutputChannel();
 				sendToIss(this.login);
@@ -15,82 +15,326 @@
  */
 package org.jskat.control.iss;
 
-import java.io.BufferedReader;
-import java.io.DataInputStream;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.log4j.PropertyConfigurator;
+import org.jskat.control.iss.IssGameIndex.Entry;
 import org.jskat.data.SkatGameData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * This class helps in finding interesting games from the game library provided
- * by the ISS team.
+ * by the ISS team.<br>
+ * The archive is streamed by a single reader, the game summaries are parsed in
+ * batches by parallel workers. The result is an {@link IssGameIndex} that can
+ * be saved next to the archive.
  */
 public class IssGameExtractor {
 	/**
 	 * Logger.
 	 */
 	private static Logger log = LoggerFactory.getLogger(IssGameExtractor.class);
+
+	private final static int READ_BUFFER_SIZE = 1 << 20;
+	private final static int BATCH_SIZE = 1000;
+
 	/**
 	 * Path to the file with the game informations.
 	 */
-	private static String filePath;
+	private final Path archive;
+
+	private IssGameFilter filter = new IssGameFilter();
+	private int threadCount = Runtime.getRuntime().availableProcessors();
 
+	private final AtomicLong failedGames = new AtomicLong();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param archive
+	 *            Path to the game archive
+	 */
+	public IssGameExtractor(final Path archive) {
+		this.archive = archive;
+	}
+
+	/**
+	 * Extracts all games of the archive and builds an index or loads an
+	 * existing index of the archive
+	 * 
+	 * Usage: IssGameExtractor archive [index]
+	 * 
+	 * @param args
+	 *            Path to the archive, optional path to the index file
+	 * @throws Exception
+	 */
 	public static void main(final String args[]) throws Exception {
 
 		PropertyConfigurator.configure(ClassLoader
 				.getSystemResource("org/jskat/config/log4j.properties")); //$NON-NLS-1$
-		IssGameExtractor gameExtractor = new IssGameExtractor();
-		gameExtractor
-				.setFilePath("/home/jan/Projekte/jskat/iss/issgames-1-2012.sgf"); //$NON-NLS-1$
 
-		filterGameDatabase();
+		if (args.length < 1) {
+			log.error("Usage: IssGameExtractor archive [index]"); //$NON-NLS-1$
+			return;
+		}
+
+		final Path archive = Paths.get(args[0]);
+		final Path indexFile = args.length > 1 ? Paths.get(args[1]) : Paths
+				.get(args[0] + ".idx"); //$NON-NLS-1$
+
+		IssGameIndex index = null;
+		if (Files.exists(indexFile)) {
+			index = IssGameIndex.load(indexFile);
+			if (!index.isUpToDate(archive)) {
+				log.warn("Index is outdated: {}", indexFile); //$NON-NLS-1$
+				index = null;
+			}
+		}
+
+		if (index == null) {
+			final IssGameExtractor gameExtractor = new IssGameExtractor(
+					archive);
+			index = gameExtractor.extract();
+			index.save(indexFile);
+		}
+
+		final IssGameFilter filter = new IssGameFilter();
+		filter.setDeclarerPoints(61, 64);
+		for (Entry entry : index.query(filter)) {
+			log.warn("Game no. {}: {}", entry.getGameNo(), IssGameIndex.readGameSummary(archive, entry)); //$NON-NLS-1$
+		}
 	}
 
-	private static void filterGameDatabase() throws Exception {
-		FileInputStream inputStream = new FileInputStream(new File(filePath));
-		DataInputStream in = new DataInputStream(inputStream);
-		BufferedReader br = new BufferedReader(new InputStreamReader(in));
-		String strLine;
-
-		long gameNo = 1;
-
-		// Read File Line By Line
-		while ((strLine = br.readLine()) != null) {
-			try {
-				SkatGameData gameData = MessageParser.parseGameSummary(strLine);
-				int declarerPoints = gameData.getGameResult()
-						.getFinalDeclarerPoints();
-				if (declarerPoints > 60 && declarerPoints < 65) {
-					log.warn("Game no. " + gameNo + ": " + strLine); //$NON-NLS-1$//$NON-NLS-2$
-					// log.debug("Game type: " + gameData.getGameType());
+	/**
+	 * Extracts the games of the archive that pass the filter
+	 * 
+	 * @return Index of the games
+	 * @throws IOException
+	 *             If the archive can't be read
+	 */
+	public IssGameIndex extract() throws IOException {
+
+		final long archiveSize = Files.size(this.archive);
+		final long archiveLastModified = Files.getLastModifiedTime(
+				this.archive).toMillis();
+		final List<Entry> entries = new ArrayList<Entry>();
+
+		final ExecutorService executor = Executors
+				.newFixedThreadPool(this.threadCount);
+		// keep at most two batches per worker in flight, results are
+		// collected in archive order
+		final Deque<Future<List<Entry>>> pendingBatches = new ArrayDeque<Future<List<Entry>>>();
+
+		try (InputStream in = Files.newInputStream(this.archive)) {
+
+			final LineReader reader = new LineReader(in);
+			List<RawGame> batch = new ArrayList<RawGame>(BATCH_SIZE);
+			long gameNo = 1;
+			RawGame game;
+			while ((game = reader.readGame(gameNo)) != null) {
+				batch.add(game);
+				gameNo++;
+
+				if (batch.size() == BATCH_SIZE) {
+					pendingBatches.add(executor.submit(new BatchParser(batch)));
+					batch = new ArrayList<RawGame>(BATCH_SIZE);
+					while (pendingBatches.size() > 2 * this.threadCount) {
+						entries.addAll(getBatchResult(pendingBatches.poll()));
+					}
+				}
+				if (gameNo % 100000 == 0) {
+					log.info("Read {} games.", gameNo); //$NON-NLS-1$
 				}
-			} catch (Exception except) {
-				log.error("Failed reading game no. " + gameNo + ": " + strLine); //$NON-NLS-1$ //$NON-NLS-2$
-				log.error(except.toString());
 			}
-
-			if (gameNo % 10000 == 0) {
-				log.error("Read " + gameNo + " games."); //$NON-NLS-1$//$NON-NLS-2$
+			if (!batch.isEmpty()) {
+				pendingBatches.add(executor.submit(new BatchParser(batch)));
+			}
+			while (!pendingBatches.isEmpty()) {
+				entries.addAll(getBatchResult(pendingBatches.poll()));
 			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		log.info("Indexed {} games, {} games failed.", entries.size(), this.failedGames.get()); //$NON-NLS-1$
+
+		return new IssGameIndex(archiveSize, archiveLastModified, entries);
+	}
 
-			gameNo++;
+	private static List<Entry> getBatchResult(final Future<List<Entry>> batch)
+			throws IOException {
+		try {
+			return batch.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Extraction was interrupted", e); //$NON-NLS-1$
+		} catch (final ExecutionException e) {
+			throw new IOException("Extraction failed", e.getCause()); //$NON-NLS-1$
 		}
-		// Close the input stream
-		in.close();
 	}
 
 	/**
-	 * Sets the path to the game database.
+	 * Sets the filter for the games that are put into the index
+	 * 
+	 * @param newFilter
+	 *            Game filter
+	 */
+	public void setFilter(final IssGameFilter newFilter) {
+		this.filter = newFilter;
+	}
+
+	/**
+	 * Sets the number of parallel parser threads
+	 * 
+	 * @param newThreadCount
+	 *            Number of threads
+	 */
+	public void setThreadCount(final int newThreadCount) {
+		this.threadCount = newThreadCount;
+	}
+
+	/**
+	 * Gets the number of games that couldn't be parsed during the last
+	 * extraction
 	 * 
-	 * @param newFilePath
-	 *            File path
+	 * @return Number of failed games
+	 */
+	public long getFailedGames() {
+		return this.failedGames.get();
+	}
+
+	/**
+	 * Parses a batch of games and filters the results
+	 */
+	private final class BatchParser implements Callable<List<Entry>> {
+
+		private final List<RawGame> games;
+
+		BatchParser(final List<RawGame> games) {
+			this.games = games;
+		}
+
+		@Override
+		public List<Entry> call() {
+			final List<Entry> result = new ArrayList<Entry>();
+			for (RawGame game : this.games) {
+				try {
+					final SkatGameData gameData = MessageParser
+							.parseGameSummary(game.summary);
+					final Entry entry = Entry.create(game.gameNo, game.offset,
+							game.length, gameData);
+					if (IssGameExtractor.this.filter.accept(entry)) {
+						result.add(entry);
+					}
+				} catch (final Exception except) {
+					IssGameExtractor.this.failedGames.incrementAndGet();
+					log.error("Failed reading game no. {}: {}", game.gameNo, game.summary); //$NON-NLS-1$
+					log.error(except.toString());
+				}
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Game summary together with its position in the archive
 	 */
-	public static void setFilePath(final String newFilePath) {
-		filePath = newFilePath;
+	private final static class RawGame {
+
+		final long gameNo;
+		final long offset;
+		final int length;
+		final String summary;
+
+		RawGame(final long gameNo, final long offset, final int length,
+				final String summary) {
+			this.gameNo = gameNo;
+			this.offset = offset;
+			this.length = length;
+			this.summary = summary;
+		}
+	}
+
+	/**
+	 * Reads lines from a byte stream and keeps track of their byte offsets
+	 */
+	private final static class LineReader {
+
+		private final InputStream in;
+		private final byte[] buffer = new byte[READ_BUFFER_SIZE];
+		private int bufferPosition = 0;
+		private int bufferLimit = 0;
+		private byte[] line = new byte[4096];
+		private long position = 0;
+
+		LineReader(final InputStream in) {
+			this.in = in;
+		}
+
+		private int read() throws IOException {
+			if (this.bufferPosition == this.bufferLimit) {
+				this.bufferLimit = this.in.read(this.buffer);
+				this.bufferPosition = 0;
+				if (this.bufferLimit <= 0) {
+					this.bufferLimit = 0;
+					return -1;
+				}
+			}
+			this.position++;
+			return this.buffer[this.bufferPosition++] & 0xFF;
+		}
+
+		/**
+		 * Reads the next non empty line
+		 * 
+		 * @param gameNo
+		 *            Number of the game
+		 * @return Game or NULL at the end of the stream
+		 * @throws IOException
+		 */
+		RawGame readGame(final long gameNo) throws IOException {
+			int length;
+			long offset;
+			int next;
+			do {
+				offset = this.position;
+				length = 0;
+				while ((next = read()) != -1) {
+					if (next == '\n') {
+						break;
+					}
+					if (length == this.line.length) {
+						this.line = Arrays.copyOf(this.line, 2 * length);
+					}
+					this.line[length++] = (byte) next;
+				}
+				if (length > 0 && this.line[length - 1] == '\r') {
+					length--;
+				}
+			} while (length == 0 && next != -1);
+
+			if (length == 0) {
+				return null;
+			}
+			return new RawGame(gameNo, offset, length, new String(this.line, 0,
+					length, StandardCharsets.UTF_8));
+		}
 	}
 }
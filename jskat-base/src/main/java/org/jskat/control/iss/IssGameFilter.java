@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.jskat.control.iss.IssGameIndex.Entry;
+import org.jskat.util.GameType;
+
+/**
+ * Filter for games from the ISS game archive<br>
+ * All criteria that are not set accept every game.
+ */
+public class IssGameFilter {
+
+	private Set<GameType> gameTypes = EnumSet.allOf(GameType.class);
+	private int minDeclarerPoints = 0;
+	private int maxDeclarerPoints = 120;
+	private String playerName;
+	private Boolean gameWon;
+
+	/**
+	 * Checks whether a game passes the filter
+	 * 
+	 * @param entry
+	 *            Index entry of the game
+	 * @return TRUE, if the game passes the filter
+	 */
+	public boolean accept(final Entry entry) {
+
+		if (!this.gameTypes.contains(entry.getGameType())) {
+			return false;
+		}
+		if (entry.getDeclarerPoints() < this.minDeclarerPoints
+				|| entry.getDeclarerPoints() > this.maxDeclarerPoints) {
+			return false;
+		}
+		if (this.gameWon != null && this.gameWon != entry.isGameWon()) {
+			return false;
+		}
+		if (this.playerName != null && !entry.hasPlayer(this.playerName)) {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Sets the accepted game types
+	 * 
+	 * @param newGameTypes
+	 *            Game types
+	 */
+	public void setGameTypes(final GameType... newGameTypes) {
+		this.gameTypes = EnumSet.noneOf(GameType.class);
+		for (GameType gameType : newGameTypes) {
+			this.gameTypes.add(gameType);
+		}
+	}
+
+	/**
+	 * Sets the range of accepted declarer points
+	 * 
+	 * @param min
+	 *            Minimum declarer points (inclusive)
+	 * @param max
+	 *            Maximum declarer points (inclusive)
+	 */
+	public void setDeclarerPoints(final int min, final int max) {
+		this.minDeclarerPoints = min;
+		this.maxDeclarerPoints = max;
+	}
+
+	/**
+	 * Sets the name of a player that must have taken part in the game
+	 * 
+	 * @param newPlayerName
+	 *            Player name, NULL for all players
+	 */
+	public void setPlayerName(final String newPlayerName) {
+		this.playerName = newPlayerName;
+	}
+
+	/**
+	 * Sets the accepted game result
+	 * 
+	 * @param newGameWon
+	 *            TRUE for won games, FALSE for lost games, NULL for all games
+	 */
+	public void setGameWon(final Boolean newGameWon) {
+		this.gameWon = newGameWon;
+	}
+}
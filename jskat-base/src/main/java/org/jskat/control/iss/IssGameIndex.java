@@ -0,0 +1,373 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jskat.data.SkatGameData;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+
+/**
+ * Index of the games in an ISS game archive<br>
+ * The index holds the position of every game in the archive together with
+ * the data needed for filtering, so that queries don't have to parse the
+ * archive again.
+ */
+public class IssGameIndex {
+
+	private final static int MAGIC = 0x4A534B49; // JSKI
+	private final static int VERSION = 1;
+
+	private final long archiveSize;
+	private final long archiveLastModified;
+	private final List<Entry> entries;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param archiveSize
+	 *            Size of the archive in bytes
+	 * @param archiveLastModified
+	 *            Last modification time of the archive in milliseconds
+	 * @param entries
+	 *            Index entries in archive order
+	 */
+	IssGameIndex(final long archiveSize, final long archiveLastModified,
+			final List<Entry> entries) {
+		this.archiveSize = archiveSize;
+		this.archiveLastModified = archiveLastModified;
+		this.entries = Collections.unmodifiableList(entries);
+	}
+
+	/**
+	 * Gets all index entries
+	 * 
+	 * @return Index entries in archive order
+	 */
+	public List<Entry> getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Gets all index entries that pass a filter
+	 * 
+	 * @param filter
+	 *            Game filter
+	 * @return Index entries in archive order
+	 */
+	public List<Entry> query(final IssGameFilter filter) {
+		final List<Entry> result = new ArrayList<Entry>();
+		for (Entry entry : this.entries) {
+			if (filter.accept(entry)) {
+				result.add(entry);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the index still describes an archive
+	 * 
+	 * @param archive
+	 *            Path to the archive
+	 * @return TRUE, if the archive was not changed since the index was built
+	 * @throws IOException
+	 *             If the archive can't be accessed
+	 */
+	public boolean isUpToDate(final Path archive) throws IOException {
+		return Files.size(archive) == this.archiveSize
+				&& Files.getLastModifiedTime(archive).toMillis() == this.archiveLastModified;
+	}
+
+	/**
+	 * Reads the full game data of an indexed game from the archive
+	 * 
+	 * @param archive
+	 *            Path to the archive
+	 * @param entry
+	 *            Index entry
+	 * @return Game data
+	 * @throws IOException
+	 *             If the archive can't be read
+	 */
+	public static SkatGameData readGame(final Path archive, final Entry entry)
+			throws IOException {
+		return MessageParser.parseGameSummary(readGameSummary(archive, entry));
+	}
+
+	/**
+	 * Reads the game summary of an indexed game from the archive
+	 * 
+	 * @param archive
+	 *            Path to the archive
+	 * @param entry
+	 *            Index entry
+	 * @return Game summary as written by ISS
+	 * @throws IOException
+	 *             If the archive can't be read
+	 */
+	public static String readGameSummary(final Path archive, final Entry entry)
+			throws IOException {
+		try (FileChannel channel = FileChannel.open(archive,
+				StandardOpenOption.READ)) {
+			final ByteBuffer buffer = ByteBuffer.allocate(entry.length);
+			long position = entry.offset;
+			while (buffer.hasRemaining()) {
+				final int read = channel.read(buffer, position);
+				if (read < 0) {
+					throw new IOException("Unexpected end of archive"); //$NON-NLS-1$
+				}
+				position += read;
+			}
+			return new String(buffer.array(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Writes the index to a file
+	 * 
+	 * @param file
+	 *            Index file
+	 * @throws IOException
+	 *             If the file can't be written
+	 */
+	public void save(final Path file) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(file)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(this.archiveSize);
+			out.writeLong(this.archiveLastModified);
+			out.writeInt(this.entries.size());
+			for (Entry entry : this.entries) {
+				entry.write(out);
+			}
+		}
+	}
+
+	/**
+	 * Reads an index from a file
+	 * 
+	 * @param file
+	 *            Index file
+	 * @return Index
+	 * @throws IOException
+	 *             If the file can't be read or is no game index
+	 */
+	public static IssGameIndex load(final Path file) throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("No ISS game index: " + file); //$NON-NLS-1$
+			}
+			final int version = in.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported index version " + version); //$NON-NLS-1$
+			}
+			final long archiveSize = in.readLong();
+			final long archiveLastModified = in.readLong();
+			final int size = in.readInt();
+			final List<Entry> entries = new ArrayList<Entry>(size);
+			for (int i = 0; i < size; i++) {
+				entries.add(Entry.read(in));
+			}
+			return new IssGameIndex(archiveSize, archiveLastModified, entries);
+		}
+	}
+
+	/**
+	 * Index entry for a single game
+	 */
+	public final static class Entry {
+
+		private final static GameType[] GAME_TYPES = GameType.values();
+		private final static Player[] PLAYERS = Player.values();
+
+		final long gameNo;
+		final long offset;
+		final int length;
+		final GameType gameType;
+		final Player declarer;
+		final int declarerPoints;
+		final boolean gameWon;
+		final int gameValue;
+		final String[] playerNames;
+
+		Entry(final long gameNo, final long offset, final int length,
+				final GameType gameType, final Player declarer,
+				final int declarerPoints, final boolean gameWon,
+				final int gameValue, final String[] playerNames) {
+			this.gameNo = gameNo;
+			this.offset = offset;
+			this.length = length;
+			this.gameType = gameType;
+			this.declarer = declarer;
+			this.declarerPoints = declarerPoints;
+			this.gameWon = gameWon;
+			this.gameValue = gameValue;
+			this.playerNames = playerNames;
+		}
+
+		/**
+		 * Creates an index entry from parsed game data
+		 * 
+		 * @param gameNo
+		 *            Number of the game in the archive, starting with 1
+		 * @param offset
+		 *            Byte offset of the game summary in the archive
+		 * @param length
+		 *            Byte length of the game summary
+		 * @param gameData
+		 *            Parsed game data
+		 * @return Index entry
+		 */
+		static Entry create(final long gameNo, final long offset,
+				final int length, final SkatGameData gameData) {
+
+			final GameType gameType = gameData.getAnnoucement() == null ? GameType.PASSED_IN
+					: gameData.getGameType();
+			final String[] playerNames = new String[PLAYERS.length];
+			for (Player player : PLAYERS) {
+				playerNames[player.ordinal()] = gameData.getPlayerName(player);
+			}
+
+			if (gameType == GameType.PASSED_IN) {
+				return new Entry(gameNo, offset, length, gameType, null, 0,
+						false, 0, playerNames);
+			}
+			return new Entry(gameNo, offset, length, gameType,
+					gameData.getDeclarer(), gameData.getGameResult()
+							.getFinalDeclarerPoints(), gameData.getGameResult()
+							.isWon(), gameData.getGameResult().getGameValue(),
+					playerNames);
+		}
+
+		void write(final DataOutputStream out) throws IOException {
+			out.writeLong(this.gameNo);
+			out.writeLong(this.offset);
+			out.writeInt(this.length);
+			out.writeByte(this.gameType.ordinal());
+			out.writeByte(this.declarer == null ? -1 : this.declarer.ordinal());
+			out.writeShort(this.declarerPoints);
+			out.writeBoolean(this.gameWon);
+			out.writeInt(this.gameValue);
+			for (String playerName : this.playerNames) {
+				out.writeUTF(playerName == null ? "" : playerName); //$NON-NLS-1$
+			}
+		}
+
+		static Entry read(final DataInputStream in) throws IOException {
+			final long gameNo = in.readLong();
+			final long offset = in.readLong();
+			final int length = in.readInt();
+			final GameType gameType = GAME_TYPES[in.readByte()];
+			final int declarerIndex = in.readByte();
+			final int declarerPoints = in.readShort();
+			final boolean gameWon = in.readBoolean();
+			final int gameValue = in.readInt();
+			final String[] playerNames = new String[PLAYERS.length];
+			for (int i = 0; i < playerNames.length; i++) {
+				playerNames[i] = in.readUTF();
+			}
+			return new Entry(gameNo, offset, length, gameType,
+					declarerIndex < 0 ? null : PLAYERS[declarerIndex],
+					declarerPoints, gameWon, gameValue, playerNames);
+		}
+
+		/**
+		 * @return Number of the game in the archive, starting with 1
+		 */
+		public long getGameNo() {
+			return this.gameNo;
+		}
+
+		/**
+		 * @return Game type
+		 */
+		public GameType getGameType() {
+			return this.gameType;
+		}
+
+		/**
+		 * @return Declarer, NULL for passed in games
+		 */
+		public Player getDeclarer() {
+			return this.declarer;
+		}
+
+		/**
+		 * @return Final points of the declarer
+		 */
+		public int getDeclarerPoints() {
+			return this.declarerPoints;
+		}
+
+		/**
+		 * @return TRUE, if the declarer won the game
+		 */
+		public boolean isGameWon() {
+			return this.gameWon;
+		}
+
+		/**
+		 * @return Game value
+		 */
+		public int getGameValue() {
+			return this.gameValue;
+		}
+
+		/**
+		 * Gets the name of a player
+		 * 
+		 * @param player
+		 *            Player position
+		 * @return Player name
+		 */
+		public String getPlayerName(final Player player) {
+			return this.playerNames[player.ordinal()];
+		}
+
+		/**
+		 * Checks whether a player took part in the game
+		 * 
+		 * @param playerName
+		 *            Player name
+		 * @return TRUE, if the player took part in the game
+		 */
+		public boolean hasPlayer(final String playerName) {
+			for (String name : this.playerNames) {
+				if (playerName.equals(name)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -19,6 +19,10 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jskat.control.JSkatEventBus;
 import org.jskat.control.event.iss.IssConnectedEvent;
@@ -32,18 +36,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Handles messages from ISS
+ * Handles messages from ISS<br>
+ * Incoming messages are put into a bounded blocking queue, the handler thread
+ * wakes up as soon as a message arrives.
  */
 public class MessageHandler extends Thread {
 
 	private static Logger log = LoggerFactory.getLogger(MessageHandler.class);
 
+	/**
+	 * Default maximum number of messages waiting for handling
+	 */
+	public static final int DEFAULT_BACKLOG_CAPACITY = 10000;
+
+	/**
+	 * Policies for a full message backlog
+	 */
+	public enum BacklogPolicy {
+		/**
+		 * The receiving thread waits until there is room in the backlog
+		 */
+		BLOCK,
+		/**
+		 * The oldest waiting message is dropped
+		 */
+		DROP_OLDEST;
+	}
+
 	private StreamConnector connect;
 	private final IssController issControl;
 
 	private final JSkatResourceBundle strings;
 
-	private final List<String> messageList;
+	private final BlockingQueue<QueuedMessage> messageQueue;
+	private final BacklogPolicy backlogPolicy;
+
+	private final AtomicInteger maxQueueDepth = new AtomicInteger();
+	private final AtomicLong handledMessages = new AtomicLong();
+	private final AtomicLong droppedMessages = new AtomicLong();
+	private final AtomicLong totalQueueLatency = new AtomicLong();
+	private final AtomicLong totalParseLatency = new AtomicLong();
+	private final AtomicLong maxParseLatency = new AtomicLong();
 
 	private JSkatEventBus eventBus = JSkatEventBus.INSTANCE;
 
@@ -60,19 +93,34 @@ public class MessageHandler extends Thread {
 	public MessageHandler(final StreamConnector conn,
 			final IssController controller) {
 
+		this(controller, DEFAULT_BACKLOG_CAPACITY, BacklogPolicy.BLOCK);
 		this.connect = conn;
-		this.issControl = controller;
-
-		this.strings = JSkatResourceBundle.INSTANCE;
-
-		this.messageList = new ArrayList<String>();
 	}
 
 	public MessageHandler(final IssController controller) {
+		this(controller, DEFAULT_BACKLOG_CAPACITY, BacklogPolicy.BLOCK);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param controller
+	 *            ISS controller for JSkat
+	 * @param backlogCapacity
+	 *            Maximum number of messages waiting for handling
+	 * @param backlogPolicy
+	 *            Policy for a full backlog
+	 */
+	public MessageHandler(final IssController controller,
+			final int backlogCapacity, final BacklogPolicy backlogPolicy) {
+
+		super("ISS message handler"); //$NON-NLS-1$
 		this.issControl = controller;
 		this.strings = JSkatResourceBundle.INSTANCE;
 
-		this.messageList = new ArrayList<String>();
+		this.messageQueue = new LinkedBlockingQueue<QueuedMessage>(
+				backlogCapacity);
+		this.backlogPolicy = backlogPolicy;
 	}
 
 	/**
@@ -80,29 +128,159 @@ public class MessageHandler extends Thread {
 	 */
 	@Override
 	public void run() {
-		while (true) {
-			if (this.messageList.size() > 0) {
+		boolean connected = true;
+		while (connected) {
+			final QueuedMessage message;
+			try {
+				message = this.messageQueue.take();
+			} catch (final InterruptedException e) {
+				log.debug("Message handler was interrupted"); //$NON-NLS-1$
+				break;
+			}
 
-				final String message = getNextMessage();
-				handleMessage(message);
-			} else {
-				try {
-					Thread.sleep(100);
-				} catch (final InterruptedException e) {
-					log.warn("Thread.sleep() was interrupted"); //$NON-NLS-1$
+			final long start = System.nanoTime();
+			handleMessage(message.text);
+			updateMetrics(message, start, System.nanoTime());
+
+			connected = message.text != null;
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Message handler stopped, handled {} messages, dropped {}, max queue depth {}, average parse latency {} ns", //$NON-NLS-1$
+					getHandledMessages(), getDroppedMessages(), getMaxQueueDepth(), getAverageParseLatency());
+		}
+	}
+
+	/**
+	 * Adds a new message from ISS
+	 * 
+	 * @param newMessage
+	 *            Message, NULL if the connection was lost
+	 */
+	void addMessage(final String newMessage) {
+
+		final QueuedMessage message = new QueuedMessage(newMessage,
+				System.nanoTime());
+
+		if (newMessage == null || BacklogPolicy.BLOCK.equals(this.backlogPolicy)) {
+			// the disconnect message is never dropped
+			try {
+				this.messageQueue.put(message);
+			} catch (final InterruptedException e) {
+				log.warn("Interrupted while waiting for message backlog"); //$NON-NLS-1$
+				Thread.currentThread().interrupt();
+				return;
+			}
+		} else {
+			while (!this.messageQueue.offer(message)) {
+				if (this.messageQueue.poll() != null) {
+					this.droppedMessages.incrementAndGet();
+					log.warn("Message backlog full, dropped oldest message"); //$NON-NLS-1$
 				}
 			}
 		}
+
+		updateMaxQueueDepth(this.messageQueue.size());
+	}
+
+	private void updateMaxQueueDepth(final int depth) {
+		int max = this.maxQueueDepth.get();
+		while (depth > max && !this.maxQueueDepth.compareAndSet(max, depth)) {
+			max = this.maxQueueDepth.get();
+		}
 	}
 
-	synchronized void addMessage(final String newMessage) {
+	private void updateMetrics(final QueuedMessage message, final long start,
+			final long end) {
 
-		this.messageList.add(newMessage);
+		this.handledMessages.incrementAndGet();
+		this.totalQueueLatency.addAndGet(start - message.arrivalTime);
+
+		final long parseLatency = end - start;
+		this.totalParseLatency.addAndGet(parseLatency);
+		long max = this.maxParseLatency.get();
+		while (parseLatency > max
+				&& !this.maxParseLatency.compareAndSet(max, parseLatency)) {
+			max = this.maxParseLatency.get();
+		}
 	}
 
-	private synchronized String getNextMessage() {
+	/**
+	 * Gets the number of messages waiting for handling
+	 * 
+	 * @return Current queue depth
+	 */
+	public int getQueueDepth() {
+		return this.messageQueue.size();
+	}
+
+	/**
+	 * Gets the maximum number of messages that were waiting for handling
+	 * 
+	 * @return Maximum queue depth
+	 */
+	public int getMaxQueueDepth() {
+		return this.maxQueueDepth.get();
+	}
+
+	/**
+	 * Gets the number of handled messages
+	 * 
+	 * @return Number of handled messages
+	 */
+	public long getHandledMessages() {
+		return this.handledMessages.get();
+	}
+
+	/**
+	 * Gets the number of messages dropped because of a full backlog
+	 * 
+	 * @return Number of dropped messages
+	 */
+	public long getDroppedMessages() {
+		return this.droppedMessages.get();
+	}
 
-		return this.messageList.remove(0);
+	/**
+	 * Gets the average time a message waited in the queue
+	 * 
+	 * @return Average queue latency in nanoseconds
+	 */
+	public long getAverageQueueLatency() {
+		final long handled = getHandledMessages();
+		return handled == 0 ? 0 : this.totalQueueLatency.get() / handled;
+	}
+
+	/**
+	 * Gets the average time for parsing and handling a message
+	 * 
+	 * @return Average parse latency in nanoseconds
+	 */
+	public long getAverageParseLatency() {
+		final long handled = getHandledMessages();
+		return handled == 0 ? 0 : this.totalParseLatency.get() / handled;
+	}
+
+	/**
+	 * Gets the maximum time for parsing and handling a message
+	 * 
+	 * @return Maximum parse latency in nanoseconds
+	 */
+	public long getMaxParseLatency() {
+		return this.maxParseLatency.get();
+	}
+
+	/**
+	 * Message from ISS together with its arrival time
+	 */
+	private final static class QueuedMessage {
+
+		final String text;
+		final long arrivalTime;
+
+		QueuedMessage(final String text, final long arrivalTime) {
+			this.text = text;
+			this.arrivalTime = arrivalTime;
+		}
 	}
 
 	void handleMessage(final String message) {
@@ -139,7 +317,7 @@ public class MessageHandler extends Thread {
 
 		if (MessageType.UNKNOWN.equals(type)) {
 
-			log.error("UNHANDLED MESSAGE: " + first + params.toString()); //$NON-NLS-1$ }
+			log.error("UNHANDLED MESSAGE: {}{}", first, params); //$NON-NLS-1$
 		} else {
 			// FIXME (jansch 30.05.2011) put message into a queue
 			try {
@@ -322,7 +500,7 @@ public class MessageHandler extends Thread {
 
 			} else {
 
-				log.debug("unhandled action command: " + actionCommand + " for table " + tableName); //$NON-NLS-1$ //$NON-NLS-2$
+				log.debug("unhandled action command: {} for table {}", actionCommand, tableName); //$NON-NLS-1$
 			}
 		}
 	}
@@ -412,14 +590,14 @@ public class MessageHandler extends Thread {
 		final double issProtocolVersion = Double.parseDouble(params.get(params
 				.size() - 1));
 
-		log.debug("ISS version: " + issProtocolVersion); //$NON-NLS-1$
-		log.debug("local version: " + protocolVersion); //$NON-NLS-1$
+		log.debug("ISS version: {}", issProtocolVersion); //$NON-NLS-1$
+		log.debug("local version: {}", protocolVersion); //$NON-NLS-1$
 
 		if ((int) issProtocolVersion != protocolVersion) {
 			// TODO handle this in JSkatMaster
 			log.error("Wrong protocol version!!!"); //$NON-NLS-1$
-			log.error("iss version: " + issProtocolVersion); //$NON-NLS-1$
-			log.error("local version: " + protocolVersion); //$NON-NLS-1$
+			log.error("iss version: {}", issProtocolVersion); //$NON-NLS-1$
+			log.error("local version: {}", protocolVersion); //$NON-NLS-1$
 		}
 
 		eventBus.post(new IssConnectedEvent(login));
@@ -432,7 +610,7 @@ public class MessageHandler extends Thread {
 	 *            Welcome information
 	 */
 	void handleVersionMessage(final List<String> params) {
-		log.debug("ISS version: " + params.get(0));
+		log.debug("ISS version: {}", params.get(0));
 	}
 
 	/**
@@ -48,6 +48,9 @@ public class MessageParser {
 
 	private static Logger log = LoggerFactory.getLogger(MessageParser.class);
 
+	private final static Pattern SUMMARY_PART_PATTERN = Pattern
+			.compile("(\\w+)\\[(.*?)\\]"); //$NON-NLS-1$
+
 	/**
 	 * table .1 bar state --> was cut away before <br>
 	 * --> params: <br>
@@ -116,7 +119,7 @@ public class MessageParser {
 	static GameStartInformation getGameStartStatus(final String loginName,
 			final List<String> params) {
 
-		log.debug("game start parameter: " + params); //$NON-NLS-1$
+		log.debug("game start parameter: {}", params); //$NON-NLS-1$
 
 		final GameStartInformation status = new GameStartInformation();
 
@@ -141,7 +144,7 @@ public class MessageParser {
 
 		// FIXME Unhandled moves
 		final String move = params.get(1);
-		log.debug("Move: " + move); //$NON-NLS-1$
+		log.debug("Move: {}", move); //$NON-NLS-1$
 		if ("y".equals(move)) { //$NON-NLS-1$
 			// holding bid move
 			info.setType(MoveType.HOLD_BID);
@@ -247,7 +250,7 @@ public class MessageParser {
 	private static void getMovePlayer(final String movePlayer,
 			final MoveInformation info) {
 
-		log.debug("Move player: " + movePlayer); //$NON-NLS-1$
+		log.debug("Move player: {}", movePlayer); //$NON-NLS-1$
 		if ("w".equals(movePlayer)) { //$NON-NLS-1$
 			// world move
 			info.setMovePlayer(MovePlayer.WORLD);
@@ -481,8 +484,7 @@ public class MessageParser {
 
 		final SkatGameData result = new SkatGameData();
 
-		final Pattern summaryPartPattern = Pattern.compile("(\\w+)\\[(.*?)\\]"); //$NON-NLS-1$
-		final Matcher summaryPartMatcher = summaryPartPattern
+		final Matcher summaryPartMatcher = SUMMARY_PART_PATTERN
 				.matcher(gameSummary);
 
 		while (summaryPartMatcher.find()) {
@@ -67,7 +67,7 @@ class StreamConnector extends AbstractIssConnector {
 					.getString("cant_connect_to_iss")); //$NON-NLS-1$
 			return false;
 		} catch (java.io.IOException e) {
-			log.error("IOException: " + e.toString()); //$NON-NLS-1$
+			log.error("IOException: {}", e); //$NON-NLS-1$
 			return false;
 		}
 
@@ -49,14 +49,14 @@ class WebSocketConnection implements WebSocket.OnTextMessage, OutputChannel {
 
 	@Override
 	public void onMessage(final String message) {
-		log.debug("ISS    |---> " + message); //$NON-NLS-1$
+		log.debug("ISS |---> {}", message); //$NON-NLS-1$
 		messageHandler.addMessage(message);
 	}
 
 	@Override
 	public void sendMessage(final String message) {
 		try {
-			log.debug("ISS <--|    " + message); //$NON-NLS-1$
+			log.debug("ISS <--| {}", message); //$NON-NLS-1$
 			connection.sendMessage(message);
 		} catch (IOException e) {
 			// TODO Auto-generated catch block
@@ -73,7 +73,7 @@ class WebSocketConnector extends AbstractIssConnector {
 					.getString("cant_connect_to_iss")); //$NON-NLS-1$
 			return false;
 		} catch (java.io.IOException e) {
-			log.error("IOException: " + e.toString()); //$NON-NLS-1$
+			log.error("IOException: {}", e); //$NON-NLS-1$
 			return false;
 		} catch (Exception e) {
 			// TODO Auto-generated catch block
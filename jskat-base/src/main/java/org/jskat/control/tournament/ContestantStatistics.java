@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+/**
+ * Statistics of a single contestant in a tournament<br>
+ * Every deal is one sample, the score of a deal is the sum of the scores of
+ * all seat permutations of this deal.
+ */
+public class ContestantStatistics {
+
+	/**
+	 * Quantile of the standard normal distribution for 95% confidence
+	 */
+	private static final double Z_95 = 1.959964;
+
+	private final String name;
+
+	private long deals;
+	private double scoreSum;
+	private double scoreSquareSum;
+	private long games;
+	private long declarerGames;
+	private long wonDeclarerGames;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name
+	 *            Name of the contestant
+	 */
+	ContestantStatistics(final String name) {
+		this.name = name;
+	}
+
+	void addDeal(final int score, final int games, final int declarerGames,
+			final int wonDeclarerGames) {
+		this.deals++;
+		this.scoreSum += score;
+		this.scoreSquareSum += (double) score * score;
+		this.games += games;
+		this.declarerGames += declarerGames;
+		this.wonDeclarerGames += wonDeclarerGames;
+	}
+
+	/**
+	 * @return Name of the contestant
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * @return Number of deals
+	 */
+	public long getDeals() {
+		return this.deals;
+	}
+
+	/**
+	 * @return Number of games
+	 */
+	public long getGames() {
+		return this.games;
+	}
+
+	/**
+	 * @return Number of games as declarer
+	 */
+	public long getDeclarerGames() {
+		return this.declarerGames;
+	}
+
+	/**
+	 * @return Number of won games as declarer
+	 */
+	public long getWonDeclarerGames() {
+		return this.wonDeclarerGames;
+	}
+
+	/**
+	 * @return Seeger-Fabian score over all games
+	 */
+	public long getTotalScore() {
+		return Math.round(this.scoreSum);
+	}
+
+	/**
+	 * @return Average Seeger-Fabian score per game
+	 */
+	public double getScorePerGame() {
+		return this.games == 0 ? 0.0 : this.scoreSum / this.games;
+	}
+
+	/**
+	 * @return Average Seeger-Fabian score per deal
+	 */
+	public double getScorePerDeal() {
+		return this.deals == 0 ? 0.0 : this.scoreSum / this.deals;
+	}
+
+	/**
+	 * @return Sample standard deviation of the score per deal
+	 */
+	public double getScorePerDealDeviation() {
+		if (this.deals < 2) {
+			return 0.0;
+		}
+		final double mean = getScorePerDeal();
+		final double variance = (this.scoreSquareSum - this.deals * mean
+				* mean)
+				/ (this.deals - 1);
+		return Math.sqrt(Math.max(0.0, variance));
+	}
+
+	/**
+	 * @return Half width of the 95% confidence interval of the score per deal
+	 */
+	public double getConfidenceInterval95() {
+		if (this.deals < 2) {
+			return Double.POSITIVE_INFINITY;
+		}
+		return Z_95 * getScorePerDealDeviation() / Math.sqrt(this.deals);
+	}
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+import org.jskat.util.GameType;
+
+/**
+ * Seeger-Fabian scoring as used in tournaments of the ISPA and the DSKV<br>
+ * The declarer gets the game value plus 50 points for a won game and the
+ * (already doubled) negative game value minus 50 points for a lost game. At a
+ * table with three players both opponents get 40 points for every lost game of
+ * the declarer. Passed in games and ramsch games don't score.
+ */
+public final class SeegerFabianScore {
+
+	/**
+	 * Bonus for a won game
+	 */
+	public static final int WON_GAME_BONUS = 50;
+	/**
+	 * Penalty for a lost game
+	 */
+	public static final int LOST_GAME_PENALTY = 50;
+	/**
+	 * Bonus for the opponents of a lost game at a table with three players
+	 */
+	public static final int OPPONENT_BONUS = 40;
+
+	private SeegerFabianScore() {
+		// utility class
+	}
+
+	/**
+	 * Gets the score of the declarer
+	 * 
+	 * @param gameType
+	 *            Game type
+	 * @param gameWon
+	 *            TRUE, if the declarer won the game
+	 * @param gameValue
+	 *            Game value, negative for lost games
+	 * @return Score of the declarer
+	 */
+	public static int getDeclarerScore(final GameType gameType,
+			final boolean gameWon, final int gameValue) {
+
+		if (!isScored(gameType)) {
+			return 0;
+		}
+		if (gameWon) {
+			return gameValue + WON_GAME_BONUS;
+		}
+		return gameValue - LOST_GAME_PENALTY;
+	}
+
+	/**
+	 * Gets the score of an opponent of the declarer
+	 * 
+	 * @param gameType
+	 *            Game type
+	 * @param gameWon
+	 *            TRUE, if the declarer won the game
+	 * @return Score of the opponent
+	 */
+	public static int getOpponentScore(final GameType gameType,
+			final boolean gameWon) {
+
+		if (!isScored(gameType) || gameWon) {
+			return 0;
+		}
+		return OPPONENT_BONUS;
+	}
+
+	private static boolean isScored(final GameType gameType) {
+		return gameType != GameType.PASSED_IN && gameType != GameType.RAMSCH;
+	}
+}
@@ -0,0 +1,340 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.PropertyConfigurator;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.SkatGame;
+import org.jskat.control.command.table.CreateTableCommand;
+import org.jskat.control.command.table.RemoveTableCommand;
+import org.jskat.data.DesktopSavePathResolver;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatViewType;
+import org.jskat.data.SkatGameResult;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.player.JSkatPlayerRegistry;
+import org.jskat.util.CardDealer;
+import org.jskat.util.CardDeck;
+import org.jskat.util.GameType;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Headless tournament between three AI players<br>
+ * Every deal is played in all six seat permutations of the contestants
+ * (duplicate dealing), so that every contestant plays every hand of the deal
+ * once from every seat. Deals are played in parallel, every worker thread has
+ * its own player instances and its own training table.
+ */
+public class Tournament {
+
+	private static final Logger LOG = LoggerFactory
+			.getLogger(Tournament.class);
+
+	private static final int[][] SEAT_PERMUTATIONS = { { 0, 1, 2 },
+			{ 0, 2, 1 }, { 1, 0, 2 }, { 1, 2, 0 }, { 2, 0, 1 }, { 2, 1, 0 } };
+
+	private static final AtomicInteger TABLE_COUNTER = new AtomicInteger();
+
+	private final List<String> playerClasses;
+	private final List<String> contestantNames;
+
+	private int deals = 1000;
+	private int threadCount = Runtime.getRuntime().availableProcessors();
+	private long seed = System.nanoTime();
+
+	private final Set<String> tableNames = Collections
+			.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+	private final ThreadLocal<TableContext> tables = new ThreadLocal<TableContext>() {
+		@Override
+		protected TableContext initialValue() {
+			return new TableContext();
+		}
+	};
+
+	/**
+	 * Constructor
+	 * 
+	 * @param playerClasses
+	 *            Class names of the three contestants
+	 */
+	public Tournament(final List<String> playerClasses) {
+
+		if (playerClasses.size() != 3) {
+			throw new IllegalArgumentException(
+					"A tournament needs exactly three players."); //$NON-NLS-1$
+		}
+
+		this.playerClasses = new ArrayList<String>(playerClasses);
+		this.contestantNames = new ArrayList<String>();
+		for (int i = 0; i < playerClasses.size(); i++) {
+			final String className = playerClasses.get(i);
+			this.contestantNames.add((i + 1) + ": " //$NON-NLS-1$
+					+ className.substring(className.lastIndexOf('.') + 1));
+		}
+	}
+
+	/**
+	 * Runs a tournament from the command line
+	 * 
+	 * Usage: Tournament deals playerClass1 playerClass2 playerClass3 [threads
+	 * [seed]]
+	 * 
+	 * @param args
+	 *            Command line arguments
+	 */
+	public static void main(final String[] args) {
+
+		if (args.length < 4) {
+			System.err
+					.println("Usage: Tournament deals playerClass1 playerClass2 playerClass3 [threads [seed]]"); //$NON-NLS-1$
+			return;
+		}
+
+		PropertyConfigurator.configure(ClassLoader
+				.getSystemResource("org/jskat/config/log4j.properties")); //$NON-NLS-1$
+		JSkatOptions.instance(new DesktopSavePathResolver());
+
+		final Tournament tournament = new Tournament(Arrays.asList(args[1],
+				args[2], args[3]));
+		tournament.setDeals(Integer.parseInt(args[0]));
+		if (args.length > 4) {
+			tournament.setThreadCount(Integer.parseInt(args[4]));
+		}
+		if (args.length > 5) {
+			tournament.setSeed(Long.parseLong(args[5]));
+		}
+
+		System.out.print(tournament.run());
+	}
+
+	/**
+	 * Sets the number of deals
+	 * 
+	 * @param newDeals
+	 *            Number of deals, every deal is played six times
+	 */
+	public void setDeals(final int newDeals) {
+		this.deals = newDeals;
+	}
+
+	/**
+	 * Sets the number of parallel worker threads
+	 * 
+	 * @param newThreadCount
+	 *            Number of threads
+	 */
+	public void setThreadCount(final int newThreadCount) {
+		this.threadCount = newThreadCount;
+	}
+
+	/**
+	 * Sets the seed for the deals, tournaments with the same seed play the
+	 * same deals
+	 * 
+	 * @param newSeed
+	 *            Seed
+	 */
+	public void setSeed(final long newSeed) {
+		this.seed = newSeed;
+	}
+
+	/**
+	 * Runs the tournament
+	 * 
+	 * @return Tournament result
+	 */
+	public TournamentResult run() {
+
+		final List<ContestantStatistics> statistics = new ArrayList<ContestantStatistics>();
+		for (String name : this.contestantNames) {
+			statistics.add(new ContestantStatistics(name));
+		}
+
+		final long start = System.nanoTime();
+		long games = 0;
+		long failedGames = 0;
+
+		final ExecutorService executor = Executors
+				.newFixedThreadPool(this.threadCount);
+		try {
+			final List<Future<DealResult>> results = new ArrayList<Future<DealResult>>();
+			for (int deal = 0; deal < this.deals; deal++) {
+				final long dealSeed = this.seed + deal;
+				results.add(executor.submit(new Callable<DealResult>() {
+					@Override
+					public DealResult call() {
+						return playDeal(dealSeed);
+					}
+				}));
+			}
+
+			for (Future<DealResult> future : results) {
+				final DealResult result = getDealResult(future);
+				for (int i = 0; i < statistics.size(); i++) {
+					statistics.get(i).addDeal(result.scores[i],
+							result.games, result.declarerGames[i],
+							result.wonDeclarerGames[i]);
+				}
+				games += result.games;
+				failedGames += result.failedGames;
+			}
+		} finally {
+			executor.shutdownNow();
+			removeTables();
+		}
+
+		return new TournamentResult(statistics, this.deals, games,
+				failedGames, System.nanoTime() - start);
+	}
+
+	private static DealResult getDealResult(final Future<DealResult> future) {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tournament was interrupted", e); //$NON-NLS-1$
+		} catch (final ExecutionException e) {
+			throw new IllegalStateException("Deal failed", e.getCause()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Plays one deal in all seat permutations
+	 */
+	private DealResult playDeal(final long dealSeed) {
+
+		final CardDeck deck = CardDealer.createCardDeck(dealSeed);
+
+		final TableContext table = this.tables.get();
+		final DealResult result = new DealResult();
+
+		for (int[] permutation : SEAT_PERMUTATIONS) {
+			final JSkatPlayer[] seats = new JSkatPlayer[permutation.length];
+			for (int seat = 0; seat < permutation.length; seat++) {
+				seats[seat] = table.players[permutation[seat]];
+			}
+
+			try {
+				playGame(table.tableName, seats, deck, permutation, result);
+				result.games++;
+			} catch (final RuntimeException e) {
+				LOG.error("Game with seed {} failed", dealSeed, e); //$NON-NLS-1$
+				result.failedGames++;
+			}
+		}
+
+		return result;
+	}
+
+	private static void playGame(final String tableName,
+			final JSkatPlayer[] seats, final CardDeck deck,
+			final int[] permutation, final DealResult result) {
+
+		final SkatGame game = new SkatGame(tableName, GameVariant.STANDARD,
+				seats[0], seats[1], seats[2]);
+		game.setHeadless(true);
+		game.setLogger(SkatGame.getHeadlessLogger(tableName));
+		game.setCardDeck(new CardDeck(deck));
+
+		// run the game on the current thread
+		game.run();
+
+		final GameType gameType = game.getGameAnnouncement().getGameType();
+		if (gameType == GameType.PASSED_IN) {
+			return;
+		}
+
+		final SkatGameResult gameResult = game.getGameResult();
+		final Player declarer = game.getDeclarer();
+		for (Player seat : Player.values()) {
+			final int contestant = permutation[seat.ordinal()];
+			if (seat == declarer) {
+				result.scores[contestant] += SeegerFabianScore
+						.getDeclarerScore(gameType, gameResult.isWon(),
+								gameResult.getGameValue());
+				result.declarerGames[contestant]++;
+				if (gameResult.isWon()) {
+					result.wonDeclarerGames[contestant]++;
+				}
+			} else {
+				result.scores[contestant] += SeegerFabianScore
+						.getOpponentScore(gameType, gameResult.isWon());
+			}
+		}
+	}
+
+	private JSkatPlayer createPlayer(final int contestant) {
+		final JSkatPlayer player = JSkatPlayerRegistry
+				.createPlayer(this.playerClasses.get(contestant));
+		player.setPlayerName(this.contestantNames.get(contestant));
+		return player;
+	}
+
+	private void removeTables() {
+		for (String tableName : this.tableNames) {
+			JSkatEventBus.INSTANCE.post(new RemoveTableCommand(tableName,
+					JSkatViewType.TRAINING_TABLE));
+		}
+		this.tableNames.clear();
+	}
+
+	/**
+	 * Table and players of a worker thread
+	 */
+	private final class TableContext {
+
+		final String tableName = "TOURNAMENT" + TABLE_COUNTER.incrementAndGet(); //$NON-NLS-1$
+		final JSkatPlayer[] players = new JSkatPlayer[3];
+
+		TableContext() {
+			JSkatEventBus.INSTANCE.post(new CreateTableCommand(
+					JSkatViewType.TRAINING_TABLE, this.tableName));
+			Tournament.this.tableNames.add(this.tableName);
+			for (int i = 0; i < this.players.length; i++) {
+				this.players[i] = createPlayer(i);
+			}
+		}
+	}
+
+	/**
+	 * Scores of all contestants for one deal
+	 */
+	private final static class DealResult {
+
+		final int[] scores = new int[3];
+		final int[] declarerGames = new int[3];
+		final int[] wonDeclarerGames = new int[3];
+		int games;
+		int failedGames;
+	}
+}
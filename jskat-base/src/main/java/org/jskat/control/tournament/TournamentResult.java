@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a tournament
+ */
+public class TournamentResult {
+
+	private final List<ContestantStatistics> contestants;
+	private final long deals;
+	private final long games;
+	private final long failedGames;
+	private final long durationNanos;
+
+	TournamentResult(final List<ContestantStatistics> contestants,
+			final long deals, final long games, final long failedGames,
+			final long durationNanos) {
+		this.contestants = Collections.unmodifiableList(contestants);
+		this.deals = deals;
+		this.games = games;
+		this.failedGames = failedGames;
+		this.durationNanos = durationNanos;
+	}
+
+	/**
+	 * @return Statistics of all contestants in the order of the tournament
+	 *         configuration
+	 */
+	public List<ContestantStatistics> getContestants() {
+		return this.contestants;
+	}
+
+	/**
+	 * @return Number of played deals
+	 */
+	public long getDeals() {
+		return this.deals;
+	}
+
+	/**
+	 * @return Number of played games
+	 */
+	public long getGames() {
+		return this.games;
+	}
+
+	/**
+	 * @return Number of games that failed with an exception
+	 */
+	public long getFailedGames() {
+		return this.failedGames;
+	}
+
+	/**
+	 * @return Played games per second
+	 */
+	public double getGamesPerSecond() {
+		return this.durationNanos == 0 ? 0.0 : this.games * 1e9
+				/ this.durationNanos;
+	}
+
+	/**
+	 * @return Report with one line per contestant
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder result = new StringBuilder();
+		result.append(String.format(
+				"%d deals, %d games (%d failed), %.1f games/s%n", //$NON-NLS-1$
+				this.deals, this.games, this.failedGames, getGamesPerSecond()));
+		result.append(String.format("%-40s %10s %10s %16s %10s %10s%n", //$NON-NLS-1$
+				"Contestant", "Score", "Per game", "Per deal (95%)", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				"Declarer", "Won")); //$NON-NLS-1$ //$NON-NLS-2$
+		for (ContestantStatistics contestant : this.contestants) {
+			result.append(String.format(
+					"%-40s %10d %10.2f %8.1f +/-%5.1f %10d %10d%n", //$NON-NLS-1$
+					contestant.getName(), contestant.getTotalScore(),
+					contestant.getScorePerGame(),
+					contestant.getScorePerDeal(),
+					contestant.getConfidenceInterval95(),
+					contestant.getDeclarerGames(),
+					contestant.getWonDeclarerGames()));
+		}
+		return result.toString();
+	}
+}
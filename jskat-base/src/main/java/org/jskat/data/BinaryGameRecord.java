@@ -0,0 +1,512 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.SkatConstants;
+import org.jskat.util.rule.SkatRule;
+import org.jskat.util.rule.SkatRuleFactory;
+
+/**
+ * Compact binary encoding of a Skat game<br>
+ * A record holds the deal, the highest bid and the pass of every player, the
+ * game announcement, the skat after discarding, up to 30 card plays and the
+ * game result in at most 34 bytes. Player names are not part of a record.<br>
+ * <br>
+ * Bit layout, most significant bit first:
+ * <ul>
+ * <li>52 bits: rank of the deal, the hands of fore hand, middle hand and rear
+ * hand are ranked as card sets in the combinatorial number system</li>
+ * <li>3 bits: game type, 2 bits: declarer (3 for none)</li>
+ * <li>6 bits: hand, ouvert, schneider, schwarz, contra and re flags</li>
+ * <li>3 x 6 bits: index of the highest bid in {@link SkatConstants#bidOrder}
+ * plus one, 0 for no bid; 3 bits: passes</li>
+ * <li>2 x 5 bits: skat after discarding</li>
+ * <li>4 bits: won, overbid, schneider, schwarz flags of the result; 7 bits:
+ * declarer points; 12 bits: game value with an offset of 2048</li>
+ * <li>5 bits: number of played cards, 5 bits per played card</li>
+ * </ul>
+ */
+public final class BinaryGameRecord {
+
+	/**
+	 * Maximum length of a record in bytes
+	 */
+	public static final int MAX_LENGTH = 34;
+
+	private static final Card[] CARDS = Card.values();
+	private static final Player[] PLAYERS = Player.values();
+	private static final GameType[] GAME_TYPES = GameType.values();
+
+	private static final int HAND_SIZE = 10;
+	private static final int MAX_PLAYS = 30;
+	private static final int GAME_VALUE_OFFSET = 2048;
+	private static final int NO_DECLARER = 3;
+
+	private static final long[][] BINOMIALS = new long[CARDS.length + 1][HAND_SIZE + 1];
+
+	static {
+		for (int n = 0; n <= CARDS.length; n++) {
+			BINOMIALS[n][0] = 1;
+			for (int k = 1; k <= Math.min(n, HAND_SIZE); k++) {
+				BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1]
+						+ (k <= n - 1 ? BINOMIALS[n - 1][k] : 0);
+			}
+		}
+	}
+
+	private BinaryGameRecord() {
+		// utility class
+	}
+
+	/**
+	 * Encodes a game
+	 * 
+	 * @param gameData
+	 *            Game data with a complete deal and a game announcement
+	 * @return Binary record
+	 */
+	public static byte[] encode(final SkatGameData gameData) {
+
+		final Map<Player, CardList> dealtCards = gameData.getDealtCards();
+		final int[] hands = new int[PLAYERS.length];
+		for (Player player : PLAYERS) {
+			hands[player.ordinal()] = dealtCards.get(player).getMask();
+		}
+
+		CardList skat = gameData.getSkat();
+		if (skat.size() != 2) {
+			skat = gameData.getDealtSkat();
+		}
+
+		final GameAnnouncement announcement = gameData.getAnnoucement();
+		if (announcement == null || announcement.getGameType() == null) {
+			throw new IllegalArgumentException("Game has no announcement"); //$NON-NLS-1$
+		}
+
+		final int[] bids = new int[PLAYERS.length];
+		final boolean[] passes = new boolean[PLAYERS.length];
+		for (Player player : PLAYERS) {
+			bids[player.ordinal()] = gameData.getMaxPlayerBid(player);
+			passes[player.ordinal()] = gameData.isPlayerPass(player);
+		}
+
+		final CardList plays = new CardList();
+		for (Trick trick : gameData.getTricks()) {
+			plays.addAll(trick.getCardList());
+		}
+
+		return encode(hands, announcement.getGameType(),
+				gameData.getDeclarer(), announcement.isHand(),
+				announcement.isOuvert(), announcement.isSchneider(),
+				announcement.isSchwarz(),
+				Boolean.TRUE.equals(gameData.isContra()),
+				Boolean.TRUE.equals(gameData.isRe()), bids, passes, skat,
+				gameData.getResult(), plays);
+	}
+
+	/**
+	 * Encodes a game summary<br>
+	 * A summary doesn't contain the deal and the bidding, the hands are
+	 * reconstructed from the played cards and the skat holds the cards that
+	 * were not played. Therefore only summaries with ten complete tricks can be
+	 * encoded.
+	 * 
+	 * @param summary
+	 *            Game summary
+	 * @return Binary record
+	 */
+	public static byte[] encode(final GameSummary summary) {
+
+		if (summary.tricks.size() != HAND_SIZE) {
+			throw new IllegalArgumentException(
+					"Game summary needs ten tricks to restore the deal"); //$NON-NLS-1$
+		}
+
+		final int[] hands = new int[PLAYERS.length];
+		final CardList plays = new CardList();
+		for (Trick trick : summary.tricks) {
+			for (Player player : PLAYERS) {
+				final Card card = trick.getCard(player);
+				if (card == null) {
+					throw new IllegalArgumentException(
+							"Game summary contains incomplete tricks"); //$NON-NLS-1$
+				}
+				hands[player.ordinal()] |= CardMask.of(card);
+			}
+			plays.addAll(trick.getCardList());
+		}
+
+		final CardList skat = CardMask.toCardList(CardMask.ALL
+				& ~(hands[0] | hands[1] | hands[2]));
+
+		return encode(hands, summary.gameType, summary.declarer,
+				summary.isHand(), summary.isOuvert(), summary.isSchneider(),
+				summary.isSchwarz(), Boolean.TRUE.equals(summary.contra),
+				Boolean.TRUE.equals(summary.re), new int[PLAYERS.length],
+				new boolean[PLAYERS.length], skat, summary.gameResult, plays);
+	}
+
+	private static byte[] encode(final int[] hands, final GameType gameType,
+			final Player declarer, final boolean hand, final boolean ouvert,
+			final boolean schneider, final boolean schwarz,
+			final boolean contra, final boolean re, final int[] bids,
+			final boolean[] passes, final CardList skat,
+			final SkatGameResult result, final CardList plays) {
+
+		for (int cards : hands) {
+			if (CardMask.size(cards) != HAND_SIZE) {
+				throw new IllegalArgumentException("Deal is incomplete"); //$NON-NLS-1$
+			}
+		}
+		if (plays.size() > MAX_PLAYS) {
+			throw new IllegalArgumentException("Too many card plays"); //$NON-NLS-1$
+		}
+
+		final BitWriter writer = new BitWriter();
+
+		writer.write(rankDeal(hands), 52);
+
+		writer.write(gameType.ordinal(), 3);
+		writer.write(declarer == null ? NO_DECLARER : declarer.ordinal(), 2);
+		writer.write(hand);
+		writer.write(ouvert);
+		writer.write(schneider);
+		writer.write(schwarz);
+		writer.write(contra);
+		writer.write(re);
+
+		for (Player player : PLAYERS) {
+			writer.write(getBidIndex(bids[player.ordinal()]), 6);
+		}
+		for (Player player : PLAYERS) {
+			writer.write(passes[player.ordinal()]);
+		}
+
+		writer.write(skat.get(0).ordinal(), 5);
+		writer.write(skat.get(1).ordinal(), 5);
+
+		writer.write(result.isWon());
+		writer.write(result.isOverBidded());
+		writer.write(result.isSchneider());
+		writer.write(result.isSchwarz());
+		writer.write(Math.max(0, result.getFinalDeclarerPoints()), 7);
+		writer.write(result.getGameValue() + GAME_VALUE_OFFSET, 12);
+
+		writer.write(plays.size(), 5);
+		for (Card card : plays) {
+			writer.write(card.ordinal(), 5);
+		}
+
+		return writer.toByteArray();
+	}
+
+	private static int getBidIndex(final int bid) {
+		if (bid == 0) {
+			return 0;
+		}
+		final int index = SkatConstants.bidOrder.indexOf(bid);
+		if (index < 0) {
+			throw new IllegalArgumentException("Invalid bid value " + bid); //$NON-NLS-1$
+		}
+		return index + 1;
+	}
+
+	/**
+	 * Decodes a game
+	 * 
+	 * @param record
+	 *            Binary record
+	 * @return Game data
+	 */
+	public static SkatGameData decode(final byte[] record) {
+
+		final BitReader reader = new BitReader(record);
+		final SkatGameData result = new SkatGameData();
+
+		final int[] hands = unrankDeal(reader.read(52));
+		for (Player player : PLAYERS) {
+			result.addDealtCards(player,
+					CardMask.toCardList(hands[player.ordinal()]));
+		}
+		result.setDealtSkatCards(CardMask.toCardList(CardMask.ALL
+				& ~(hands[0] | hands[1] | hands[2])));
+
+		final GameType gameType = GAME_TYPES[(int) reader.read(3)];
+		final int declarerIndex = (int) reader.read(2);
+		final Player declarer = declarerIndex == NO_DECLARER ? null
+				: PLAYERS[declarerIndex];
+		final boolean hand = reader.readBoolean();
+		final boolean ouvert = reader.readBoolean();
+		final boolean schneider = reader.readBoolean();
+		final boolean schwarz = reader.readBoolean();
+		final boolean contra = reader.readBoolean();
+		final boolean re = reader.readBoolean();
+
+		for (Player player : PLAYERS) {
+			final int bidIndex = (int) reader.read(6);
+			if (bidIndex > 0) {
+				result.addPlayerBid(player,
+						SkatConstants.bidOrder.get(bidIndex - 1));
+			}
+		}
+		for (Player player : PLAYERS) {
+			result.setPlayerPass(player, reader.readBoolean());
+		}
+
+		final CardList skat = new CardList();
+		skat.add(CARDS[(int) reader.read(5)]);
+		skat.add(CARDS[(int) reader.read(5)]);
+
+		final boolean skatPickedUp = declarer != null && !hand
+				&& gameType != GameType.RAMSCH
+				&& gameType != GameType.PASSED_IN;
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(gameType);
+		factory.setHand(hand);
+		factory.setOuvert(ouvert);
+		factory.setSchneider(schneider);
+		factory.setSchwarz(schwarz);
+		if (skatPickedUp) {
+			factory.setDiscardedCards(skat);
+		}
+		result.setAnnouncement(factory.getAnnouncement());
+		if (declarer != null) {
+			result.setDeclarer(declarer);
+		}
+		if (skatPickedUp) {
+			result.setSkatPickUp(true);
+			result.addSkatToPlayer(declarer);
+			result.setDiscardedSkat(declarer, skat);
+		}
+		result.setContra(contra);
+		result.setRe(re);
+
+		final boolean won = reader.readBoolean();
+		final boolean overbid = reader.readBoolean();
+		final boolean resultSchneider = reader.readBoolean();
+		final boolean resultSchwarz = reader.readBoolean();
+		final int declarerPoints = (int) reader.read(7);
+		final int gameValue = (int) reader.read(12) - GAME_VALUE_OFFSET;
+
+		final int playCount = (int) reader.read(5);
+		if (playCount > 0) {
+			playCards(result, gameType, reader, playCount);
+		}
+
+		if (declarer != null && gameType != GameType.PASSED_IN) {
+			result.setDeclarerScore(declarerPoints);
+			result.getResult().setFinalDeclarerPoints(declarerPoints);
+			result.getResult().setFinalOpponentPoints(120 - declarerPoints);
+		}
+		if (gameType == GameType.RAMSCH) {
+			result.finishRamschGame();
+		}
+		result.getResult().setWon(won);
+		result.getResult().setOverBidded(overbid);
+		result.getResult().setSchneider(resultSchneider);
+		result.getResult().setSchwarz(resultSchwarz);
+		result.getResult().setGameValue(gameValue);
+
+		return result;
+	}
+
+	private static void playCards(final SkatGameData result,
+			final GameType gameType, final BitReader reader,
+			final int playCount) {
+
+		final SkatRule rules = SkatRuleFactory.getSkatRules(gameType);
+
+		result.addTrick(new Trick(0, Player.FOREHAND));
+		for (int i = 0; i < playCount; i++) {
+			final Card card = CARDS[(int) reader.read(5)];
+			final Trick trick = result.getCurrentTrick();
+
+			final Player player;
+			if (trick.getFirstCard() == null) {
+				player = trick.getForeHand();
+			} else if (trick.getSecondCard() == null) {
+				player = trick.getMiddleHand();
+			} else {
+				player = trick.getRearHand();
+			}
+			result.removePlayerCard(player, card);
+			result.addTrickCard(card);
+
+			if (trick.getThirdCard() != null) {
+				final Player trickWinner = rules.calculateTrickWinner(gameType,
+						trick);
+				trick.setTrickWinner(trickWinner);
+				result.addPlayerPoints(trickWinner, trick.getValue());
+				if (result.getTricks().size() < HAND_SIZE) {
+					result.addTrick(new Trick(result.getTricks().size(),
+							trickWinner));
+				} else if (gameType == GameType.RAMSCH) {
+					// the skat goes to the winner of the last trick
+					result.addPlayerPoints(trickWinner, result.getSkat()
+							.getTotalValue());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decodes a game into a game summary
+	 * 
+	 * @param record
+	 *            Binary record
+	 * @return Game summary with empty player names
+	 */
+	public static GameSummary decodeSummary(final byte[] record) {
+		return decode(record).getGameSummary();
+	}
+
+	private static long rankDeal(final int[] hands) {
+		int remaining = CardMask.ALL;
+		long rank = 0;
+		for (int cards : hands) {
+			rank = rank * BINOMIALS[CardMask.size(remaining)][HAND_SIZE]
+					+ rankCards(remaining, cards);
+			remaining &= ~cards;
+		}
+		return rank;
+	}
+
+	private static int[] unrankDeal(final long rank) {
+		final int[] hands = new int[PLAYERS.length];
+		final long[] ranks = new long[PLAYERS.length];
+		long remainingRank = rank;
+		for (int i = PLAYERS.length - 1; i >= 0; i--) {
+			final long combinations = BINOMIALS[CARDS.length - HAND_SIZE * i][HAND_SIZE];
+			ranks[i] = remainingRank % combinations;
+			remainingRank /= combinations;
+		}
+		int remaining = CardMask.ALL;
+		for (int i = 0; i < PLAYERS.length; i++) {
+			hands[i] = unrankCards(remaining, ranks[i]);
+			remaining &= ~hands[i];
+		}
+		return hands;
+	}
+
+	/**
+	 * Ranks a set of ten cards among all sets of ten cards of a universe
+	 */
+	private static long rankCards(final int universe, final int cards) {
+		long rank = 0;
+		int k = 1;
+		int remaining = cards;
+		while (remaining != CardMask.EMPTY) {
+			final int card = Integer.numberOfTrailingZeros(remaining);
+			final int position = Integer.bitCount(universe
+					& ((1 << card) - 1));
+			rank += BINOMIALS[position][k];
+			k++;
+			remaining &= remaining - 1;
+		}
+		return rank;
+	}
+
+	private static int unrankCards(final int universe, final long rank) {
+		final int[] positions = new int[CardMask.size(universe)];
+		int index = 0;
+		int remaining = universe;
+		while (remaining != CardMask.EMPTY) {
+			positions[index++] = Integer.numberOfTrailingZeros(remaining);
+			remaining &= remaining - 1;
+		}
+
+		int cards = CardMask.EMPTY;
+		long remainingRank = rank;
+		int position = positions.length - 1;
+		for (int k = HAND_SIZE; k > 0; k--) {
+			while (BINOMIALS[position][k] > remainingRank) {
+				position--;
+			}
+			cards |= 1 << positions[position];
+			remainingRank -= BINOMIALS[position][k];
+			position--;
+		}
+		return cards;
+	}
+
+	/**
+	 * Writes values bit by bit
+	 */
+	private final static class BitWriter {
+
+		private final byte[] buffer = new byte[MAX_LENGTH];
+		private int bitPosition = 0;
+
+		void write(final boolean value) {
+			write(value ? 1 : 0, 1);
+		}
+
+		void write(final long value, final int bits) {
+			for (int i = bits - 1; i >= 0; i--) {
+				if (((value >>> i) & 1) != 0) {
+					this.buffer[this.bitPosition >>> 3] |= 0x80 >>> (this.bitPosition & 7);
+				}
+				this.bitPosition++;
+			}
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.buffer, (this.bitPosition + 7) >>> 3);
+		}
+	}
+
+	/**
+	 * Reads values bit by bit
+	 */
+	private final static class BitReader {
+
+		private final byte[] buffer;
+		private int bitPosition = 0;
+
+		BitReader(final byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		boolean readBoolean() {
+			return read(1) != 0;
+		}
+
+		long read(final int bits) {
+			if (this.bitPosition + bits > this.buffer.length * 8) {
+				throw new IllegalArgumentException("Record is too short"); //$NON-NLS-1$
+			}
+			long value = 0;
+			for (int i = 0; i < bits; i++) {
+				value <<= 1;
+				if ((this.buffer[this.bitPosition >>> 3] & (0x80 >>> (this.bitPosition & 7))) != 0) {
+					value |= 1;
+				}
+				this.bitPosition++;
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a stream of {@link BinaryGameRecord}s written by a
+ * {@link BinaryGameRecordWriter}
+ */
+public class BinaryGameRecordReader implements Closeable {
+
+	private final DataInputStream in;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param in
+	 *            Input stream
+	 * @throws IOException
+	 *             If the header can't be read or is invalid
+	 */
+	public BinaryGameRecordReader(final InputStream in) throws IOException {
+		this.in = new DataInputStream(new BufferedInputStream(in));
+		if (this.in.readInt() != BinaryGameRecordWriter.MAGIC) {
+			throw new IOException("No binary game record stream"); //$NON-NLS-1$
+		}
+		final int version = this.in.readUnsignedByte();
+		if (version != BinaryGameRecordWriter.VERSION) {
+			throw new IOException("Unsupported record version " + version); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads the next encoded game
+	 * 
+	 * @return Binary record or NULL at the end of the stream
+	 * @throws IOException
+	 *             If the record can't be read
+	 */
+	public byte[] readRecord() throws IOException {
+		final int length = this.in.read();
+		if (length < 0) {
+			return null;
+		}
+		final byte[] record = new byte[length];
+		try {
+			this.in.readFully(record);
+		} catch (final EOFException e) {
+			throw new IOException("Truncated game record", e); //$NON-NLS-1$
+		}
+		return record;
+	}
+
+	/**
+	 * Reads the next game
+	 * 
+	 * @return Game data or NULL at the end of the stream
+	 * @throws IOException
+	 *             If the record can't be read
+	 */
+	public SkatGameData read() throws IOException {
+		final byte[] record = readRecord();
+		return record == null ? null : BinaryGameRecord.decode(record);
+	}
+
+	/**
+	 * Reads the next game summary
+	 * 
+	 * @return Game summary or NULL at the end of the stream
+	 * @throws IOException
+	 *             If the record can't be read
+	 */
+	public GameSummary readSummary() throws IOException {
+		final byte[] record = readRecord();
+		return record == null ? null : BinaryGameRecord.decodeSummary(record);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.in.close();
+	}
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a stream of {@link BinaryGameRecord}s<br>
+ * The stream starts with a header, every record is prefixed with its length.
+ */
+public class BinaryGameRecordWriter implements Closeable {
+
+	static final int MAGIC = 0x4A534B52; // JSKR
+	static final int VERSION = 1;
+
+	private final DataOutputStream out;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param out
+	 *            Output stream
+	 * @throws IOException
+	 *             If the header can't be written
+	 */
+	public BinaryGameRecordWriter(final OutputStream out) throws IOException {
+		this.out = new DataOutputStream(new BufferedOutputStream(out));
+		this.out.writeInt(MAGIC);
+		this.out.writeByte(VERSION);
+	}
+
+	/**
+	 * Writes a game
+	 * 
+	 * @param gameData
+	 *            Game data
+	 * @throws IOException
+	 *             If the record can't be written
+	 */
+	public void write(final SkatGameData gameData) throws IOException {
+		write(BinaryGameRecord.encode(gameData));
+	}
+
+	/**
+	 * Writes a game summary
+	 * 
+	 * @param summary
+	 *            Game summary
+	 * @throws IOException
+	 *             If the record can't be written
+	 */
+	public void write(final GameSummary summary) throws IOException {
+		write(BinaryGameRecord.encode(summary));
+	}
+
+	/**
+	 * Writes an encoded game
+	 * 
+	 * @param record
+	 *            Binary record
+	 * @throws IOException
+	 *             If the record can't be written
+	 */
+	public void write(final byte[] record) throws IOException {
+		this.out.writeByte(record.length);
+		this.out.write(record);
+	}
+
+	/**
+	 * Flushes the underlying stream
+	 * 
+	 * @throws IOException
+	 *             If the stream can't be flushed
+	 */
+	public void flush() throws IOException {
+		this.out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.out.close();
+	}
+}
@@ -228,7 +228,7 @@ public class GameAnnouncement {
 			}
 
 			if (!isValid) {
-				log.debug("Invalid " + tmpAnnouncement); //$NON-NLS-1$
+				log.debug("Invalid {}", tmpAnnouncement); //$NON-NLS-1$
 			}
 
 			return isValid;
@@ -301,8 +301,7 @@ public final class JSkatOptions {
 			log.debug("No properties file found. Using standard values."); //$NON-NLS-1$
 
 		} catch (IOException e) {
-			log.warn("Could not load properties: " + e.getClass() + ": " //$NON-NLS-1$ //$NON-NLS-2$
-					+ e.getMessage());
+			log.warn("Could not load properties: {}: {}", e.getClass(), e.getMessage()); //$NON-NLS-1$
 		}
 	}
 
@@ -717,7 +716,7 @@ public final class JSkatOptions {
 			writer = new FileWriter(getSavePath() + PROPERTIES_FILENAME);
 			options.store(writer, "JSkat options"); //$NON-NLS-1$
 			writer.close();
-			log.debug("Saved options with rules: " + getRules()); //$NON-NLS-1$
+			log.debug("Saved options with rules: {}", getRules()); //$NON-NLS-1$
 		} catch (FileNotFoundException e1) {
 			log.warn("No properties file found. Saving of JSkat options failed."); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -1020,7 +1019,7 @@ public final class JSkatOptions {
 			try {
 				option = Option.valueOfProperty(property);
 			} catch (IllegalArgumentException e) {
-				log.error("Unknown option " + property + " with value " + value); //$NON-NLS-1$ //$NON-NLS-2$
+				log.error("Unknown option {} with value {}", property, value); //$NON-NLS-1$
 
 				// handle obsolete or renamed options
 				if ("ramschSkat".equals(property)) { //$NON-NLS-1$
@@ -1158,7 +1157,7 @@ public final class JSkatOptions {
 	}
 
 	private static void logEnumParseError(final Option option, final String defaultValue) {
-		log.warn("Parsing of option " + option.name() + " failed. Using default value: " + defaultValue); //$NON-NLS-1$ //$NON-NLS-2$
+		log.warn("Parsing of option {} failed. Using default value: {}", option.name(), defaultValue); //$NON-NLS-1$
 	}
 
 	/**
@@ -184,12 +184,22 @@ public class SkatGameData {
 	 */
 	private final CardList dealtSkat = new CardList();
 
+	/**
+	 * Seed of the dealt cards, NULL if the cards were set from outside
+	 */
+	private Long dealSeed;
+
 	private Boolean skatPickedUp = false;
 
 	private final Set<Player> ramschLoosers = new HashSet<Player>();
 
 	private final List<SkatGameEvent> gameMoves = new ArrayList<>();
 
+	/**
+	 * Tricks of previous games that can be reused, see {@link #reset()}
+	 */
+	private final List<Trick> unusedTricks = new ArrayList<Trick>();
+
 	/**
 	 * Creates a new instance of a Skat game data
 	 */
@@ -200,6 +210,35 @@ public class SkatGameData {
 		log.debug("Game data created"); //$NON-NLS-1$
 	}
 
+	/**
+	 * Resets the game data to the state of a new instance<br>
+	 * All collections and tricks are kept for the next game, so that
+	 * simulations can play many games with one game data instance without
+	 * creating new objects for every game. Tricks and dealt cards that were
+	 * handed out for the previous game must not be used after the reset.
+	 */
+	public void reset() {
+
+		this.gameState = null;
+		this.ispaRules = true;
+		this.rules = null;
+		this.declarer = null;
+		this.geschoben = 0;
+		this.dealSeed = null;
+		this.skatPickedUp = false;
+
+		this.unusedTricks.addAll(this.tricks);
+		this.tricks.clear();
+		this.skat.clear();
+		this.dealtSkat.clear();
+		this.ramschLoosers.clear();
+		this.gameMoves.clear();
+
+		intializeVariables();
+
+		log.debug("Game data reset"); //$NON-NLS-1$
+	}
+
 	@Subscribe
 	public void adjustDataOn(SkatGameEvent event) {
 		event.processForward(this);
@@ -214,14 +253,30 @@ public class SkatGameData {
 
 		for (final Player player : Player.values()) {
 			this.playerNames.put(player, ""); //$NON-NLS-1$
-			this.playerHands.put(player, new CardList());
-			this.dealtCards.put(player, new CardList());
+			resetCardList(this.playerHands, player);
+			resetCardList(this.dealtCards, player);
 			this.playerPoints.put(player, 0);
-			this.playerBids.put(player, new ArrayList<Integer>());
+			List<Integer> bids = this.playerBids.get(player);
+			if (bids == null) {
+				this.playerBids.put(player, new ArrayList<Integer>());
+			} else {
+				bids.clear();
+			}
 			this.playerPasses.put(player, Boolean.FALSE);
 		}
 	}
 
+	private static void resetCardList(final Map<Player, CardList> cardLists,
+			final Player player) {
+
+		CardList cards = cardLists.get(player);
+		if (cards == null) {
+			cardLists.put(player, new CardList());
+		} else {
+			cards.clear();
+		}
+	}
+
 	/**
 	 * Returns all game moves.
 	 *
@@ -266,7 +321,7 @@ public class SkatGameData {
 	 */
 	public void setDeclarer(final Player singlePlayer) {
 
-		log.debug("Current single Player " + singlePlayer); //$NON-NLS-1$
+		log.debug("Current single Player {}", singlePlayer); //$NON-NLS-1$
 
 		this.declarer = singlePlayer;
 	}
@@ -320,8 +375,7 @@ public class SkatGameData {
 		// TODO This should not be possible when a Ramsch game is played
 		// maybe throw an exception instead?
 		if (getGameType() == GameType.RAMSCH) {
-			log.warn("Overbidding cannot happen in Ramsch games: gameType=" //$NON-NLS-1$
-					+ getGameType());
+			log.warn("Overbidding cannot happen in Ramsch games: gameType={}", getGameType()); //$NON-NLS-1$
 		}
 		return this.result.isOverBidded();
 	}
@@ -581,6 +635,26 @@ public class SkatGameData {
 		this.tricks.add(newTrick);
 	}
 
+	/**
+	 * Creates a new trick, tricks of previous games are reused after
+	 * {@link #reset()}
+	 *
+	 * @param trickNumber
+	 *            Trick number in game
+	 * @param foreHand
+	 *            Fore hand player of the trick
+	 * @return New trick without cards
+	 */
+	public Trick createTrick(final int trickNumber, final Player foreHand) {
+
+		if (this.unusedTricks.isEmpty()) {
+			return new Trick(trickNumber, foreHand);
+		}
+		Trick trick = this.unusedTricks.remove(this.unusedTricks.size() - 1);
+		trick.reset(trickNumber, foreHand);
+		return trick;
+	}
+
 	/**
 	 * Removes the last trick.
 	 */
@@ -652,7 +726,7 @@ public class SkatGameData {
 	 */
 	public void setTrickWinner(final int trickNumber, final Player winner) {
 
-		log.debug("setTrickWinner(" + trickNumber + ", " + winner + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		log.debug("setTrickWinner({}, {})", trickNumber, winner); //$NON-NLS-1$
 
 		this.tricks.get(trickNumber).setTrickWinner(winner);
 	}
@@ -696,8 +770,7 @@ public class SkatGameData {
 	 */
 	public int getGeschobenMultiplier() {
 
-		log.debug("geschoben=" + this.geschoben + ", 2^" + this.geschoben + "=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-				+ (1 << this.geschoben));
+		log.debug("geschoben={}, 2^{}={}", this.geschoben, this.geschoben, 1 << this.geschoben); //$NON-NLS-1$
 
 		int multiplier = 0;
 
@@ -793,6 +866,28 @@ public class SkatGameData {
 		this.playerHands.get(player).addAll(cards);
 	}
 
+	/**
+	 * Gets the seed of the dealt cards, see
+	 * {@link org.jskat.util.CardDealer#createCardDeck(long)}
+	 *
+	 * @return Deal seed or NULL if the cards were not dealt from a seed
+	 */
+	public Long getDealSeed() {
+
+		return this.dealSeed;
+	}
+
+	/**
+	 * Sets the seed of the dealt cards
+	 *
+	 * @param newDealSeed
+	 *            Deal seed
+	 */
+	public void setDealSeed(final Long newDealSeed) {
+
+		this.dealSeed = newDealSeed;
+	}
+
 	/**
 	 * Sets cards for the skat
 	 *
@@ -15,9 +15,6 @@
  */
 package org.jskat.data;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.jskat.control.SkatGame;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.util.Player;
@@ -47,7 +44,9 @@ public class SkatSeriesData {
 	}
 
 	private SeriesState state;
-	private List<SkatGame> games;
+	private SkatGame currentGame;
+	private int gameCount;
+	private SkatSeriesHistory history;
 	private String tableName;
 	private Player bottomPlayer;
 
@@ -56,7 +55,18 @@ public class SkatSeriesData {
 	 */
 	public SkatSeriesData() {
 
-		this.games = new ArrayList<SkatGame>();
+		this(new SkatSeriesHistory());
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param history
+	 *            History for the finished games
+	 */
+	public SkatSeriesData(final SkatSeriesHistory history) {
+
+		this.history = history;
 		setState(SeriesState.WAITING);
 	}
 
@@ -87,18 +97,56 @@ public class SkatSeriesData {
 	 * @return Game state
 	 */
 	public GameState getGameState() {
-		return games.get(games.size() - 1).getGameState();
+		return this.currentGame.getGameState();
 	}
 
 	/**
-	 * Adds a game to the series
+	 * Adds a game to the series<br>
+	 * Only the current game is kept, finished games are compacted into the
+	 * history by {@link #finishCurrentGame()}.
 	 * 
 	 * @param newGame
 	 *            The game to be added
 	 */
 	public void addGame(SkatGame newGame) {
 
-		this.games.add(newGame);
+		this.currentGame = newGame;
+		this.gameCount++;
+	}
+
+	/**
+	 * Moves the summary of the current game into the history
+	 */
+	public void finishCurrentGame() {
+
+		if (this.currentGame != null
+				&& GameState.GAME_OVER.equals(this.currentGame.getGameState())) {
+			final GameSummary summary = this.currentGame.getGameSummary();
+			if (summary != null) {
+				this.history.addGame(summary);
+			}
+		}
+	}
+
+	/**
+	 * Gets the history of the finished games
+	 * 
+	 * @return Game history
+	 */
+	public SkatSeriesHistory getHistory() {
+
+		return this.history;
+	}
+
+	/**
+	 * Sets the history of the finished games
+	 * 
+	 * @param newHistory
+	 *            Game history
+	 */
+	public void setHistory(final SkatSeriesHistory newHistory) {
+
+		this.history = newHistory;
 	}
 
 	/**
@@ -108,7 +156,7 @@ public class SkatSeriesData {
 	 */
 	public int getCurrentGameID() {
 
-		return this.games.size() - 1;
+		return this.gameCount - 1;
 	}
 
 	public void setTableName(String newTableName) {
@@ -0,0 +1,402 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded history of the games of a skat series<br>
+ * Finished games are compacted into immutable {@link Entry} records. Only the
+ * last games within the retention window are kept in memory, older games are
+ * dropped or written to a spill file. Scores and game counts are kept as
+ * aggregates over the whole series.
+ */
+public class SkatSeriesHistory implements Closeable {
+
+	private static final Logger LOG = LoggerFactory
+			.getLogger(SkatSeriesHistory.class);
+
+	/**
+	 * Default number of games kept in memory
+	 */
+	public static final int DEFAULT_RETENTION = 100;
+
+	private static final GameType[] GAME_TYPES = GameType.values();
+	private static final Player[] PLAYERS = Player.values();
+
+	private final int retention;
+	private final Deque<Entry> recentGames = new ArrayDeque<Entry>();
+	private final Map<String, Integer> playerScores = new LinkedHashMap<String, Integer>();
+
+	private int gameCount = 0;
+	private int wonGames = 0;
+	private int lostGames = 0;
+	private int passedGames = 0;
+
+	private DataOutputStream spillStream;
+
+	/**
+	 * Constructor
+	 */
+	public SkatSeriesHistory() {
+		this(DEFAULT_RETENTION);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param retention
+	 *            Number of games kept in memory
+	 */
+	public SkatSeriesHistory(final int retention) {
+		this.retention = retention;
+	}
+
+	/**
+	 * Sets a file that receives all games leaving the retention window<br>
+	 * Games are appended to an existing file.
+	 * 
+	 * @param spillFile
+	 *            Spill file
+	 * @throws IOException
+	 *             If the file can't be opened
+	 */
+	public synchronized void setSpillFile(final Path spillFile)
+			throws IOException {
+		close();
+		this.spillStream = new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(spillFile, StandardOpenOption.CREATE,
+						StandardOpenOption.APPEND)));
+	}
+
+	/**
+	 * Adds a finished game
+	 * 
+	 * @param summary
+	 *            Game summary
+	 */
+	public synchronized void addGame(final GameSummary summary) {
+
+		this.gameCount++;
+		final Entry entry = Entry.create(this.gameCount, summary);
+
+		updateAggregates(entry);
+
+		this.recentGames.addLast(entry);
+		while (this.recentGames.size() > this.retention) {
+			spill(this.recentGames.removeFirst());
+		}
+	}
+
+	private void updateAggregates(final Entry entry) {
+
+		if (entry.gameType == GameType.PASSED_IN) {
+			this.passedGames++;
+		} else if (entry.gameType == GameType.RAMSCH) {
+			for (Player loser : entry.getRamschLosers()) {
+				addScore(entry.getPlayerName(loser), entry.gameValue);
+			}
+		} else {
+			if (entry.gameWon) {
+				this.wonGames++;
+			} else {
+				this.lostGames++;
+			}
+			if (entry.declarer != null) {
+				addScore(entry.getPlayerName(entry.declarer), entry.gameValue);
+			}
+		}
+	}
+
+	private void addScore(final String playerName, final int gameValue) {
+		final Integer score = this.playerScores.get(playerName);
+		this.playerScores.put(playerName, score == null ? gameValue : score
+				+ gameValue);
+	}
+
+	private void spill(final Entry entry) {
+		if (this.spillStream != null) {
+			try {
+				entry.write(this.spillStream);
+			} catch (final IOException e) {
+				LOG.error("Failed writing game history, stopped spilling", e); //$NON-NLS-1$
+				close();
+			}
+		}
+	}
+
+	/**
+	 * Gets the games within the retention window
+	 * 
+	 * @return Games in the order they were played
+	 */
+	public synchronized List<Entry> getRecentGames() {
+		return Collections.unmodifiableList(new ArrayList<Entry>(
+				this.recentGames));
+	}
+
+	/**
+	 * Gets the scores of all players over the whole series
+	 * 
+	 * @return Scores by player name
+	 */
+	public synchronized Map<String, Integer> getPlayerScores() {
+		return Collections
+				.unmodifiableMap(new LinkedHashMap<String, Integer>(
+						this.playerScores));
+	}
+
+	/**
+	 * Gets the score of a player over the whole series
+	 * 
+	 * @param playerName
+	 *            Player name
+	 * @return Score
+	 */
+	public synchronized int getPlayerScore(final String playerName) {
+		final Integer score = this.playerScores.get(playerName);
+		return score == null ? 0 : score;
+	}
+
+	/**
+	 * @return Number of all games of the series
+	 */
+	public synchronized int getGameCount() {
+		return this.gameCount;
+	}
+
+	/**
+	 * @return Number of games won by the declarer
+	 */
+	public synchronized int getWonGames() {
+		return this.wonGames;
+	}
+
+	/**
+	 * @return Number of games lost by the declarer
+	 */
+	public synchronized int getLostGames() {
+		return this.lostGames;
+	}
+
+	/**
+	 * @return Number of passed in games
+	 */
+	public synchronized int getPassedGames() {
+		return this.passedGames;
+	}
+
+	/**
+	 * Flushes and closes the spill file
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.spillStream != null) {
+			try {
+				this.spillStream.close();
+			} catch (final IOException e) {
+				LOG.error("Failed closing game history", e); //$NON-NLS-1$
+			}
+			this.spillStream = null;
+		}
+	}
+
+	/**
+	 * Reads all games from a spill file
+	 * 
+	 * @param spillFile
+	 *            Spill file
+	 * @return Games in the order they were played
+	 * @throws IOException
+	 *             If the file can't be read
+	 */
+	public static List<Entry> readSpillFile(final Path spillFile)
+			throws IOException {
+		final List<Entry> result = new ArrayList<Entry>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+				Files.newInputStream(spillFile)))) {
+			while (true) {
+				final int gameNo;
+				try {
+					gameNo = in.readInt();
+				} catch (final EOFException e) {
+					break;
+				}
+				result.add(Entry.read(gameNo, in));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Immutable summary of a finished game
+	 */
+	public final static class Entry {
+
+		final int gameNo;
+		final String[] playerNames;
+		final GameType gameType;
+		final Player declarer;
+		final boolean gameWon;
+		final int gameValue;
+		final int declarerPoints;
+		final int ramschLosers;
+
+		Entry(final int gameNo, final String[] playerNames,
+				final GameType gameType, final Player declarer,
+				final boolean gameWon, final int gameValue,
+				final int declarerPoints, final int ramschLosers) {
+			this.gameNo = gameNo;
+			this.playerNames = playerNames;
+			this.gameType = gameType;
+			this.declarer = declarer;
+			this.gameWon = gameWon;
+			this.gameValue = gameValue;
+			this.declarerPoints = declarerPoints;
+			this.ramschLosers = ramschLosers;
+		}
+
+		static Entry create(final int gameNo, final GameSummary summary) {
+
+			int ramschLosers = 0;
+			for (Player loser : summary.ramschLosers) {
+				ramschLosers |= 1 << loser.ordinal();
+			}
+
+			return new Entry(gameNo, new String[] { summary.foreHand,
+					summary.middleHand, summary.rearHand }, summary.gameType,
+					summary.declarer, summary.isGameWon(),
+					summary.getGameValue(),
+					Math.max(0, summary.getFinalDeclarerPoints()), ramschLosers);
+		}
+
+		void write(final DataOutputStream out) throws IOException {
+			out.writeInt(this.gameNo);
+			for (String playerName : this.playerNames) {
+				out.writeUTF(playerName == null ? "" : playerName); //$NON-NLS-1$
+			}
+			out.writeByte(this.gameType.ordinal());
+			out.writeByte(this.declarer == null ? -1 : this.declarer.ordinal());
+			out.writeBoolean(this.gameWon);
+			out.writeInt(this.gameValue);
+			out.writeByte(this.declarerPoints);
+			out.writeByte(this.ramschLosers);
+		}
+
+		static Entry read(final int gameNo, final DataInputStream in)
+				throws IOException {
+			final String[] playerNames = new String[PLAYERS.length];
+			for (int i = 0; i < playerNames.length; i++) {
+				playerNames[i] = in.readUTF();
+			}
+			final GameType gameType = GAME_TYPES[in.readByte()];
+			final int declarerIndex = in.readByte();
+			return new Entry(gameNo, playerNames, gameType,
+					declarerIndex < 0 ? null : PLAYERS[declarerIndex],
+					in.readBoolean(), in.readInt(), in.readUnsignedByte(),
+					in.readUnsignedByte());
+		}
+
+		/**
+		 * @return Number of the game in the series, starting with 1
+		 */
+		public int getGameNo() {
+			return this.gameNo;
+		}
+
+		/**
+		 * Gets the name of a player
+		 * 
+		 * @param player
+		 *            Player position
+		 * @return Player name
+		 */
+		public String getPlayerName(final Player player) {
+			return this.playerNames[player.ordinal()];
+		}
+
+		/**
+		 * @return Game type
+		 */
+		public GameType getGameType() {
+			return this.gameType;
+		}
+
+		/**
+		 * @return Declarer, NULL for passed in and ramsch games
+		 */
+		public Player getDeclarer() {
+			return this.declarer;
+		}
+
+		/**
+		 * @return TRUE, if the game was won
+		 */
+		public boolean isGameWon() {
+			return this.gameWon;
+		}
+
+		/**
+		 * @return Game value
+		 */
+		public int getGameValue() {
+			return this.gameValue;
+		}
+
+		/**
+		 * @return Final points of the declarer
+		 */
+		public int getDeclarerPoints() {
+			return this.declarerPoints;
+		}
+
+		/**
+		 * @return Losers of a ramsch game
+		 */
+		public Set<Player> getRamschLosers() {
+			final Set<Player> result = EnumSet.noneOf(Player.class);
+			for (Player player : PLAYERS) {
+				if ((this.ramschLosers & (1 << player.ordinal())) != 0) {
+					result.add(player);
+				}
+			}
+			return result;
+		}
+	}
+}
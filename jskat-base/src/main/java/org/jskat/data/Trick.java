@@ -26,7 +26,7 @@ public class Trick {
 
 	private int trickNumberInGame;
 
-	private final Player foreHand;
+	private Player foreHand;
 	private Player trickWinner;
 
 	private Card firstCard;
@@ -48,6 +48,24 @@ public class Trick {
 		foreHand = newForeHand;
 	}
 
+	/**
+	 * Resets the trick, so that the instance can be reused for another trick
+	 *
+	 * @param newTrickNumber
+	 *            Trick number in game
+	 * @param newForeHand
+	 *            Player ID of the fore hand player
+	 */
+	public void reset(int newTrickNumber, Player newForeHand) {
+
+		trickNumberInGame = newTrickNumber;
+		foreHand = newForeHand;
+		trickWinner = null;
+		firstCard = null;
+		secondCard = null;
+		thirdCard = null;
+	}
+
 	/**
 	 * Checks whether the trick is finished or not.
 	 *
@@ -20,6 +20,7 @@ import org.jskat.data.GameSummary;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
 import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.rule.SkatRule;
@@ -110,9 +111,8 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 
 		rules = SkatRuleFactory.getSkatRules(game.getGameType());
 		if (!GameType.PASSED_IN.equals(game.getGameType())) {
-			log.debug("Starting game for " + getPlayerName() + ": " //$NON-NLS-1$ //$NON-NLS-2$
-					+ game.getGameType() + " (rules=" //$NON-NLS-1$
-					+ rules.getClass() + ")"); //$NON-NLS-1$
+			log.debug("Starting game for {}: {} (rules={})", //$NON-NLS-1$
+					getPlayerName(), game.getGameType(), rules.getClass());
 		}
 
 		startGame();
@@ -132,7 +132,7 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 	@Override
 	public final void takeSkat(final CardList skatCards) {
 
-		log.debug("Skat cards: " + skatCards); //$NON-NLS-1$
+		log.debug("Skat cards: {}", skatCards); //$NON-NLS-1$
 
 		internalKnowledge.setSkat(skatCards);
 		internalKnowledge.addOwnCards(skatCards);
@@ -167,36 +167,21 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 	 */
 	public final CardList getPlayableCards(final CardList trick) {
 
-		boolean isCardAllowed = false;
-		final CardList result = new CardList();
-
-		log.debug("game type: " + internalKnowledge.getGameType()); //$NON-NLS-1$
-		log.debug("player cards (" + internalKnowledge.getOwnCards().size() //$NON-NLS-1$
-				+ "): " + internalKnowledge.getOwnCards()); //$NON-NLS-1$
-		log.debug("trick size: " + trick.size()); //$NON-NLS-1$
-
-		for (final Card card : internalKnowledge.getOwnCards()) {
-
-			if (trick.size() > 0
-					&& rules.isCardAllowed(internalKnowledge.getGameType(),
-							trick.get(0), internalKnowledge.getOwnCards(), card)) {
+		final CardList ownCards = internalKnowledge.getOwnCards();
 
-				log.debug("Card: " + card + " is allowed after initial card: " //$NON-NLS-1$
-						+ trick.get(0));
-				isCardAllowed = true;
-			} else if (trick.size() == 0) {
+		log.debug("game type: {}", internalKnowledge.getGameType()); //$NON-NLS-1$
+		log.debug("player cards ({}): {}", ownCards.size(), ownCards); //$NON-NLS-1$
+		log.debug("trick size: {}", trick.size()); //$NON-NLS-1$
 
-				isCardAllowed = true;
-			} else {
-
-				isCardAllowed = false;
-			}
+		if (trick.size() == 0) {
+			return ownCards;
+		}
 
-			if (isCardAllowed) {
+		final CardList result = CardMask.toCardList(CardMask.getAllowedCards(
+				internalKnowledge.getGameType(), trick.get(0),
+				ownCards.getMask()));
 
-				result.add(card);
-			}
-		}
+		log.debug("Cards: {} are allowed after initial card: {}", result, trick.get(0)); //$NON-NLS-1$
 
 		return result;
 	}
@@ -269,15 +254,13 @@ public abstract class AbstractJSkatPlayer implements JSkatPlayer {
 
 		final CardList result = new CardList();
 
-		log.debug("Player cards before discarding: " //$NON-NLS-1$
-				+ internalKnowledge.getOwnCards());
+		log.debug("Player cards before discarding: {}", internalKnowledge.getOwnCards()); //$NON-NLS-1$
 
 		result.addAll(getCardsToDiscard());
 
 		internalKnowledge.removeOwnCards(result.getImmutableCopy());
 
-		log.debug("Player cards after discarding: " //$NON-NLS-1$
-				+ internalKnowledge.getOwnCards());
+		log.debug("Player cards after discarding: {}", internalKnowledge.getOwnCards()); //$NON-NLS-1$
 
 		return result;
 	}
@@ -18,15 +18,14 @@ package org.jskat.player;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
 import org.jskat.util.GameType;
 import org.jskat.util.Player;
 import org.jskat.util.Rank;
@@ -50,22 +49,22 @@ public class ImmutablePlayerKnowledge {
 	protected Player playerPosition;
 
 	/**
-	 * Contains all cards played by the players
+	 * Contains all cards played by the players as card masks, indexed by the
+	 * player ordinal (see {@link CardMask})
 	 */
-	// FIXME (markus 07.11.11.) why is this a "Set<Card>" instead of "CardList"?
-	protected final Map<Player, Set<Card>> playedCards = new HashMap<Player, Set<Card>>();
+	protected final int[] playedCards = new int[Player.values().length];
 
 	/**
-	 * Contains all cards that could be on a certain position
+	 * Contains all cards that could be on a certain position as card masks,
+	 * indexed by the player ordinal (see {@link CardMask})
 	 */
-	// FIXME (markus 07.11.11.) why is this a "Set<Card>" instead of "CardList"?
-	protected final Map<Player, Set<Card>> possiblePlayerCards = new HashMap<Player, Set<Card>>();
+	protected final int[] possiblePlayerCards = new int[Player.values().length];
 
 	/**
-	 * Contains all cards that could be in the skat
+	 * Contains all cards that could be in the skat as card mask (see
+	 * {@link CardMask})
 	 */
-	// FIXME (markus 07.11.11.) why is this a "Set<Card>" instead of "CardList"?
-	protected final Set<Card> possibleSkatCards = new HashSet<Card>();
+	protected int possibleSkatCards;
 
 	/**
 	 * Holds the highest bid every player has made during bidding
@@ -117,12 +116,12 @@ public class ImmutablePlayerKnowledge {
 	 */
 	protected final List<Trick> tricks = new ArrayList<Trick>();
 
-	/** Player cards */
-	protected final Set<Card> ownCards = new HashSet<>();
-	/** Skat cards */
-	protected final Set<Card> skat = new HashSet<>();
-	/** Cards of the single player */
-	protected Set<Card> singlePlayerCards = new HashSet<>();
+	/** Player cards as card mask */
+	protected int ownCards;
+	/** Skat cards as card mask */
+	protected int skat;
+	/** Cards of the single player as card mask */
+	protected int singlePlayerCards;
 	/** Flag for hand game */
 	protected boolean handGame;
 	/** Flag for ouvert game */
@@ -150,7 +149,7 @@ public class ImmutablePlayerKnowledge {
 	 */
 	public final boolean couldHaveCard(final Player player, final Card card) {
 
-		return possiblePlayerCards.get(player).contains(card);
+		return CardMask.contains(possiblePlayerCards[player.ordinal()], card);
 	}
 
 	/**
@@ -164,14 +163,8 @@ public class ImmutablePlayerKnowledge {
 	 * @return TRUE if the player could have any card of the suit
 	 */
 	public final boolean couldHaveSuit(final Player player, final Suit suit) {
-		boolean result = false;
-		for (Rank rank : Rank.values()) {
-			if (Rank.JACK.equals(rank)) {
-				continue;
-			}
-			result |= couldHaveCard(player, Card.getCard(suit, rank));
-		}
-		return result;
+		return (possiblePlayerCards[player.ordinal()]
+				& CardMask.getSuitCards(suit) & ~CardMask.JACKS) != CardMask.EMPTY;
 	}
 
 	/**
@@ -183,12 +176,8 @@ public class ImmutablePlayerKnowledge {
 	 * @return TRUE if the player could have any trump card
 	 */
 	public final boolean couldHaveTrump(final Player player) {
-		for (Card c : Card.values()) {
-			if (c.isTrump(getGameType()) && couldHaveCard(player, c)) {
-				return true;
-			}
-		}
-		return false;
+		return (possiblePlayerCards[player.ordinal()]
+				& CardMask.getTrumpCards(getGameType())) != CardMask.EMPTY;
 	}
 
 	/**
@@ -199,7 +188,7 @@ public class ImmutablePlayerKnowledge {
 	 * @return TRUE if card could lie in the skat
 	 */
 	public final boolean couldLieInSkat(final Card card) {
-		return possibleSkatCards.contains(card);
+		return CardMask.contains(possibleSkatCards, card);
 	}
 
 	/**
@@ -302,9 +291,7 @@ public class ImmutablePlayerKnowledge {
 	 * @return the ownCards
 	 */
 	public final CardList getOwnCards() {
-		CardList result = new CardList();
-		result.addAll(ownCards);
-		return result;
+		return CardMask.toCardList(ownCards);
 	}
 
 	/**
@@ -316,14 +303,52 @@ public class ImmutablePlayerKnowledge {
 	 * @return an array int[4]
 	 */
 	public final int[] getPlayedCardsBinary() {
-		int[] result = new int[4];
+		int trickCards = CardMask.EMPTY;
 		for (Trick t : tricks) {
-			int[] tmp = t.getCardList().toBinary();
-			for (int i = 0; i < 4; i++) {
-				result[i] += tmp[i];
-			}
+			trickCards |= t.getCardList().getMask();
 		}
-		return result;
+		return CardMask.toBinary(trickCards);
+	}
+
+	/**
+	 * Gets all cards a player could still have
+	 *
+	 * @param player
+	 *            Player ID
+	 * @return Card mask of the possible cards, see {@link CardMask}
+	 */
+	public final int getPossibleCardMask(final Player player) {
+		return possiblePlayerCards[player.ordinal()];
+	}
+
+	/**
+	 * Gets all cards that could lie in the skat
+	 *
+	 * @return Card mask of the possible skat cards, see {@link CardMask}
+	 */
+	public final int getPossibleSkatCardMask() {
+		return possibleSkatCards;
+	}
+
+	/**
+	 * Gets all cards played by a player, including the cards in the current
+	 * trick
+	 *
+	 * @param player
+	 *            Player ID
+	 * @return Card mask of the played cards, see {@link CardMask}
+	 */
+	public final int getPlayedCardMask(final Player player) {
+		return playedCards[player.ordinal()];
+	}
+
+	/**
+	 * Gets the own cards
+	 *
+	 * @return Card mask of the own cards, see {@link CardMask}
+	 */
+	public final int getOwnCardMask() {
+		return ownCards;
 	}
 
 	/**
@@ -353,20 +378,14 @@ public class ImmutablePlayerKnowledge {
 	public final int getPotentialSuitCount(final Player player,
 			final Suit suit, final boolean isTrump,
 			final boolean includeJacks) {
-		int result = 0;
-		for (Rank r : Rank.values()) {
-			if (r == Rank.JACK && !includeJacks) {
-				continue;
-			} else if (couldHaveCard(player, Card.getCard(suit, r))) {
-				result++;
-			}
+		int possibleCards = possiblePlayerCards[player.ordinal()];
+		int suitCards = CardMask.getSuitCards(suit);
+		if (!includeJacks) {
+			suitCards &= ~CardMask.JACKS;
 		}
+		int result = CardMask.size(possibleCards & suitCards);
 		if (isTrump) {
-			for (Suit s : Suit.values()) {
-				if (couldHaveCard(player, Card.getCard(s, Rank.JACK))) {
-					result++;
-				}
-			}
+			result += CardMask.size(possibleCards & CardMask.JACKS);
 		}
 		return result;
 	}
@@ -375,18 +394,14 @@ public class ImmutablePlayerKnowledge {
 	 * @return the singlePlayerCards
 	 */
 	public final CardList getSinglePlayerCards() {
-		CardList result = new CardList();
-		result.addAll(singlePlayerCards);
-		return result;
+		return CardMask.toCardList(singlePlayerCards);
 	}
 
 	/**
 	 * @return the skat
 	 */
 	public final CardList getSkat() {
-		CardList result = new CardList();
-		result.addAll(skat);
-		return result;
+		return CardMask.toCardList(skat);
 	}
 
 	/**
@@ -490,9 +505,15 @@ public class ImmutablePlayerKnowledge {
 	 */
 	public final boolean isCardPlayed(final Card card) {
 
-		return playedCards.get(Player.FOREHAND).contains(card)
-				|| playedCards.get(Player.MIDDLEHAND).contains(card)
-				|| playedCards.get(Player.REARHAND).contains(card);
+		return CardMask.contains(getPlayedCards(), card);
+	}
+
+	private int getPlayedCards() {
+		int result = CardMask.EMPTY;
+		for (int playerCards : playedCards) {
+			result |= playerCards;
+		}
+		return result;
 	}
 
 	/**
@@ -506,7 +527,7 @@ public class ImmutablePlayerKnowledge {
 	 */
 	public final boolean isCardPlayedBy(final Player player, final Card card) {
 
-		return playedCards.get(player).contains(card);
+		return CardMask.contains(playedCards[player.ordinal()], card);
 	}
 
 	/**
@@ -562,7 +583,7 @@ public class ImmutablePlayerKnowledge {
 	 * @return TRUE, if the card is on the players hand
 	 */
 	public final boolean isOwnCard(Card card) {
-		return ownCards.contains(card);
+		return CardMask.contains(ownCards, card);
 	}
 
 	/**
@@ -586,6 +607,7 @@ public class ImmutablePlayerKnowledge {
 	public String toString() {
 
 		StringBuffer result = new StringBuffer();
+		int allPlayedCards = getPlayedCards();
 
 		result.append("Played cards:\n"); //$NON-NLS-1$
 		for (Suit suit : Suit.values()) {
@@ -594,12 +616,7 @@ public class ImmutablePlayerKnowledge {
 
 			for (Rank rank : Rank.values()) {
 
-				if (playedCards.get(Player.FOREHAND).contains(
-						Card.getCard(suit, rank))
-						|| playedCards.get(Player.MIDDLEHAND).contains(
-								Card.getCard(suit, rank))
-						|| playedCards.get(Player.REARHAND).contains(
-								Card.getCard(suit, rank))) {
+				if (CardMask.contains(allPlayedCards, Card.getCard(suit, rank))) {
 
 					result.append(suit.shortString())
 							.append(rank.shortString()).append(' ');
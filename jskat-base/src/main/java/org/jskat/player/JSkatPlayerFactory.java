@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+/**
+ * Factory for a {@link JSkatPlayer} implementation<br>
+ * Factories are registered as services in
+ * <code>META-INF/services/org.jskat.player.JSkatPlayerFactory</code> and
+ * resolved by the {@link JSkatPlayerRegistry}, so that players can be found and
+ * created without scanning the class path or using reflection.
+ *
+ * @param <T>
+ *            Player type
+ */
+public interface JSkatPlayerFactory<T extends JSkatPlayer> {
+
+	/**
+	 * Gets the class of the created players
+	 *
+	 * @return Player class
+	 */
+	Class<T> getPlayerClass();
+
+	/**
+	 * Creates a new player
+	 *
+	 * @return New player
+	 */
+	T createPlayer();
+}
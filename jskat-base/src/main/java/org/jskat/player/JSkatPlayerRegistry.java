@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of all {@link JSkatPlayerFactory} services<br>
+ * The services are loaded once on first access.
+ */
+public final class JSkatPlayerRegistry {
+
+	private JSkatPlayerRegistry() {
+		// utility class
+	}
+
+	/**
+	 * Holds the factories, loaded on first access
+	 */
+	private static final class FactoryHolder {
+
+		static final Map<String, JSkatPlayerFactory<?>> FACTORIES = loadFactories();
+
+		private static Map<String, JSkatPlayerFactory<?>> loadFactories() {
+			final Map<String, JSkatPlayerFactory<?>> result = new LinkedHashMap<String, JSkatPlayerFactory<?>>();
+			for (final JSkatPlayerFactory<?> factory : ServiceLoader.load(JSkatPlayerFactory.class,
+					JSkatPlayerRegistry.class.getClassLoader())) {
+				result.put(factory.getPlayerClass().getName(), factory);
+			}
+			return Collections.unmodifiableMap(result);
+		}
+	}
+
+	/**
+	 * Gets all registered player factories
+	 *
+	 * @return Player factories
+	 */
+	public static Collection<JSkatPlayerFactory<?>> getFactories() {
+		return FactoryHolder.FACTORIES.values();
+	}
+
+	/**
+	 * Gets the factory of a player class
+	 *
+	 * @param playerClassName
+	 *            Class name of the player including the package name
+	 * @return Player factory or NULL, if no factory is registered for the class
+	 */
+	public static JSkatPlayerFactory<?> getFactory(final String playerClassName) {
+		return FactoryHolder.FACTORIES.get(playerClassName);
+	}
+
+	/**
+	 * Creates a new player<br>
+	 * Players without a registered factory are created by reflection.
+	 *
+	 * @param playerClassName
+	 *            Class name of the player including the package name
+	 * @return New player
+	 * @throws IllegalArgumentException
+	 *             if the player can't be created
+	 */
+	public static JSkatPlayer createPlayer(final String playerClassName) {
+
+		final JSkatPlayerFactory<?> factory = getFactory(playerClassName);
+		if (factory != null) {
+			return factory.createPlayer();
+		}
+
+		try {
+			return (JSkatPlayer) Class.forName(playerClassName).newInstance();
+		} catch (final ReflectiveOperationException e) {
+			throw new IllegalArgumentException("Can't create player " //$NON-NLS-1$
+					+ playerClassName, e);
+		}
+	}
+}
@@ -15,15 +15,12 @@
  */
 package org.jskat.player;
 
-import java.lang.reflect.Modifier;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.reflections.Reflections;
-
 /**
- * Resolves all implementations of {@link JSkatPlayer} that inherit from
- * {@link AbstractJSkatPlayer} and are not abstract
+ * Resolves all implementations of {@link JSkatPlayer} that are registered in
+ * the {@link JSkatPlayerRegistry}
  */
 public class JSkatPlayerResolver {
 
@@ -71,25 +68,16 @@ public class JSkatPlayerResolver {
 
 	private static Set<String> getAllImplementations() {
 		Set<String> result = new HashSet<String>();
-		Reflections reflections = new Reflections("org.jskat");
-
-		Set<Class<? extends AbstractJSkatPlayer>> subTypes = reflections
-				.getSubTypesOf(AbstractJSkatPlayer.class);
-		for (Class<? extends AbstractJSkatPlayer> jskatPlayer : subTypes) {
-			if (isNotAbstract(jskatPlayer) && isNotHumanPlayer(jskatPlayer)) {
-				result.add(jskatPlayer.getName());
+		for (JSkatPlayerFactory<?> factory : JSkatPlayerRegistry.getFactories()) {
+			String playerClassName = factory.getPlayerClass().getName();
+			if (isNotHumanPlayer(playerClassName)) {
+				result.add(playerClassName);
 			}
 		}
 		return result;
 	}
 
-	private static boolean isNotHumanPlayer(
-			Class<? extends AbstractJSkatPlayer> jskatPlayer) {
-		return !HUMAN_PLAYER_CLASS.equals(jskatPlayer.getName());
-	}
-
-	private static boolean isNotAbstract(
-			Class<? extends AbstractJSkatPlayer> jskatPlayer) {
-		return !Modifier.isAbstract(jskatPlayer.getModifiers());
+	private static boolean isNotHumanPlayer(String playerClassName) {
+		return !HUMAN_PLAYER_CLASS.equals(playerClassName);
 	}
 }
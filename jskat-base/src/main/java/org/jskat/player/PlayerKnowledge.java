@@ -15,18 +15,15 @@
  */
 package org.jskat.player;
 
-import java.util.EnumSet;
 
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.Trick;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
 import org.jskat.util.GameType;
 import org.jskat.util.Player;
-import org.jskat.util.Rank;
 import org.jskat.util.Suit;
-import org.jskat.util.rule.SkatRule;
-import org.jskat.util.rule.SkatRuleFactory;
 
 public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 
@@ -35,12 +32,12 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	}
 
 	private void addOwnCard(final Card card) {
-		if (ownCards.add(card)) {
-			possiblePlayerCards.get(playerPosition.getLeftNeighbor())
-					.remove(card);
-			possiblePlayerCards.get(playerPosition.getRightNeighbor())
-					.remove(card);
-			possibleSkatCards.remove(card);
+		int cardMask = CardMask.of(card);
+		if ((ownCards & cardMask) == CardMask.EMPTY) {
+			ownCards |= cardMask;
+			possiblePlayerCards[playerPosition.getLeftNeighbor().ordinal()] &= ~cardMask;
+			possiblePlayerCards[playerPosition.getRightNeighbor().ordinal()] &= ~cardMask;
+			possibleSkatCards &= ~cardMask;
 		}
 	}
 
@@ -54,11 +51,7 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 		for (Card card : cards) {
 			addOwnCard(card);
 		}
-		for (Card card : Card.values()) {
-			if (!ownCards.contains(card)) {
-				possiblePlayerCards.get(playerPosition).remove(card);
-			}
-		}
+		possiblePlayerCards[playerPosition.ordinal()] &= ownCards;
 	}
 
 	/**
@@ -90,7 +83,7 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	}
 
 	public void removeOwnCard(final Card card) {
-		ownCards.remove(card);
+		ownCards &= ~CardMask.of(card);
 	}
 
 	public void removeOwnCards(final CardList cards) {
@@ -103,9 +96,9 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 * Resets the data of the current game
 	 */
 	public void resetCurrentGameData() {
-		ownCards.clear();
-		skat.clear();
-		singlePlayerCards.clear();
+		ownCards = CardMask.EMPTY;
+		skat = CardMask.EMPTY;
+		singlePlayerCards = CardMask.EMPTY;
 		schneiderAnnounced = false;
 		schwarzAnnounced = false;
 		handGame = false;
@@ -113,11 +106,10 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 		for (Player player : Player.values()) {
 			highestBid.put(player, Integer.valueOf(0));
 
-			playedCards.put(player, EnumSet.noneOf(Card.class));
-			possiblePlayerCards.put(player, EnumSet.allOf(Card.class));
+			playedCards[player.ordinal()] = CardMask.EMPTY;
+			possiblePlayerCards[player.ordinal()] = CardMask.ALL;
 		}
-		possibleSkatCards.clear();
-		possibleSkatCards.addAll(EnumSet.allOf(Card.class));
+		possibleSkatCards = CardMask.ALL;
 
 		leftPlayerTrickCard = null;
 		rightPlayerTrickCard = null;
@@ -137,7 +129,7 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 */
 	public void setCardPlayed(final Player player, final Card card) {
 
-		playedCards.get(player).add(card);
+		playedCards[player.ordinal()] |= CardMask.of(card);
 
 		if (playerPosition.equals(player)) {
 			removeOwnCard(card);
@@ -158,7 +150,12 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 *            Forehand player for the trick
 	 */
 	public void setNextTrick(int trickNo, Player trickForehand) {
-		this.currentTrick = new Trick(trickNo, trickForehand);
+		if (this.currentTrick == null) {
+			this.currentTrick = new Trick(trickNo, trickForehand);
+		} else {
+			// the current trick is only handed out as a copy
+			this.currentTrick.reset(trickNo, trickForehand);
+		}
 		clearTrickCards();
 	}
 
@@ -184,13 +181,8 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 		announcement = gameAnn;
 		trumpCount = 0;
 		if (!GameType.PASSED_IN.equals(getGameType())) {
-			for (Card c : ownCards) {
-				// FIXME (jansch 21.09.2011) Cards shouldn't check whether they
-				// are trump or not, let skat rules do the job
-				if (c.isTrump(getGameType())) {
-					trumpCount++;
-				}
-			}
+			trumpCount = CardMask.size(ownCards
+					& CardMask.getTrumpCards(getGameType()));
 		}
 	}
 
@@ -225,13 +217,12 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 */
 	public void setMissingSuit(final Player player, final Suit suit) {
 
-		for (Rank rank : Rank.values()) {
-			if (rank != Rank.JACK || GameType.NULL.equals(getGameType())
-					|| GameType.RAMSCH.equals(getGameType())) {
-				possiblePlayerCards.get(player)
-						.remove(Card.getCard(suit, rank));
-			}
+		int missingCards = CardMask.getSuitCards(suit);
+		if (!GameType.NULL.equals(getGameType())
+				&& !GameType.RAMSCH.equals(getGameType())) {
+			missingCards &= ~CardMask.JACKS;
 		}
+		possiblePlayerCards[player.ordinal()] &= ~missingCards;
 	}
 
 	/**
@@ -274,10 +265,7 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 *            the singlePlayerCards to set
 	 */
 	public void setSinglePlayerCards(final CardList singlePlayerCards) {
-		this.singlePlayerCards.clear();
-		for (Card card : singlePlayerCards) {
-			this.singlePlayerCards.add(card);
-		}
+		this.singlePlayerCards = singlePlayerCards.getMask();
 	}
 
 	/**
@@ -285,10 +273,7 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 	 *            the skat to set
 	 */
 	public void setSkat(final CardList newSkat) {
-		skat.clear();
-		for (Card card : newSkat) {
-			skat.add(card);
-		}
+		skat = newSkat.getMask();
 	}
 
 	/**
@@ -309,10 +294,11 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 			rightPlayerTrickCard = playedCard;
 		}
 
+		int cardMask = CardMask.of(playedCard);
 		for (Player currPlayer : Player.values()) {
-			possiblePlayerCards.get(currPlayer).remove(playedCard);
+			possiblePlayerCards[currPlayer.ordinal()] &= ~cardMask;
 		}
-		possibleSkatCards.remove(playedCard);
+		possibleSkatCards &= ~cardMask;
 
 		currentTrick.addCard(playedCard);
 
@@ -341,38 +327,17 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 				// player has not followed suit
 				// this means he has no cards with this suit
 				// remove all cards from same suit from "could have" cards
-				for (Card currCard : Card.values()) {
-					if (currCard.isSameSuit(firstTrickCard)) {
-						possiblePlayerCards.get(otherPlayer)
-								.remove(currCard);
-					}
-				}
+				possiblePlayerCards[otherPlayer.ordinal()] &= ~CardMask
+						.getSuitCards(firstTrickCard.getSuit());
 			}
 		} else {
-			SkatRule skatRules = SkatRuleFactory
-					.getSkatRules(getGameType());
-
 			if (firstTrickCard.isTrump(getGameType())) {
 				if (!cardPlayed.isTrump(getGameType())) {
 					// first card was a trump card, player card was not
-					// remove jacks from the "could have" cards
-					possiblePlayerCards.get(otherPlayer).remove(Card.CJ);
-					possiblePlayerCards.get(otherPlayer).remove(Card.SJ);
-					possiblePlayerCards.get(otherPlayer).remove(Card.HJ);
-					possiblePlayerCards.get(otherPlayer).remove(Card.DJ);
-					// remove other trump cards for suit games
-					if (GameType.CLUBS.equals(getGameType())
-							|| GameType.SPADES.equals(getGameType())
-							|| GameType.HEARTS.equals(getGameType())
-							|| GameType.DIAMONDS.equals(getGameType())) {
-						for (Card currCard : Card.values()) {
-							if (getGameType().getTrumpSuit()
-									.equals(currCard.getSuit())) {
-								possiblePlayerCards.get(otherPlayer)
-										.remove(currCard);
-							}
-						}
-					}
+					// remove jacks and other trump cards for suit games from
+					// the "could have" cards
+					possiblePlayerCards[otherPlayer.ordinal()] &= ~CardMask
+							.getTrumpCards(getGameType());
 				}
 			} else {
 				// first card was not a trump card
@@ -381,13 +346,9 @@ public final class PlayerKnowledge extends ImmutablePlayerKnowledge {
 					// this means he has no cards with this suit
 					// remove all cards for that suit in "could have"
 					// cards, except of the jacks
-					for (Card currCard : Card.values()) {
-						if (currCard.isSameSuit(firstTrickCard)
-								&& currCard.getRank() != Rank.JACK) {
-							possiblePlayerCards.get(otherPlayer)
-									.remove(currCard);
-						}
-					}
+					possiblePlayerCards[otherPlayer.ordinal()] &= ~(CardMask
+							.getSuitCards(firstTrickCard.getSuit())
+							& ~CardMask.JACKS);
 				}
 			}
 		}
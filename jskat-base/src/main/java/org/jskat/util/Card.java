@@ -16,7 +16,6 @@
 package org.jskat.util;
 
 import org.jskat.util.rule.SkatRuleFactory;
-import org.jskat.util.rule.SuitGrandRamschRule;
 
 /**
  * All cards in a skat game
@@ -247,15 +246,7 @@ public enum Card {
 	 */
 	public boolean isTrump(final GameType gameType) {
 
-		boolean result = false;
-
-		if (gameType != GameType.NULL) {
-
-			result = ((SuitGrandRamschRule) SkatRuleFactory
-					.getSkatRules(gameType)).isTrump(gameType, this);
-		}
-
-		return result;
+		return CardMask.contains(CardMask.getTrumpCards(gameType), this);
 	}
 
 	/**
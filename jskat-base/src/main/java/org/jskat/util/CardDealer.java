@@ -0,0 +1,229 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deals cards from reproducible random streams<br>
+ * Every deal is defined by a deal seed, the same seed always results in the
+ * same card distribution. The seeds of new deals are drawn from one
+ * {@link SplittableRandom} stream per thread, so parallel simulations don't
+ * contend for a shared random generator.
+ */
+public final class CardDealer {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static final Card[] CARDS = Card.values();
+
+	/**
+	 * Hand of every card position in a dealt card deck, see
+	 * {@link #createCardDeck(long)}, index 3 is the skat
+	 */
+	private static final int[] DEAL_TARGETS = new int[CARDS.length];
+
+	private static final int SKAT = 3;
+
+	static {
+		int position = 0;
+		// deal three cards, two cards into the skat, four cards and three
+		// cards like a real dealer
+		for (int round = 0; round < 3; round++) {
+			final int cardCount = round == 1 ? 4 : 3;
+			for (int hand = 0; hand < 3; hand++) {
+				for (int i = 0; i < cardCount; i++) {
+					DEAL_TARGETS[position++] = hand;
+				}
+			}
+			if (round == 0) {
+				DEAL_TARGETS[position++] = SKAT;
+				DEAL_TARGETS[position++] = SKAT;
+			}
+		}
+	}
+
+	private static final ThreadLocal<Card[]> DEAL_BUFFER = new ThreadLocal<Card[]>() {
+		@Override
+		protected Card[] initialValue() {
+			return new Card[CARDS.length];
+		}
+	};
+
+	private static final CardDealer INSTANCE = new CardDealer(System.nanoTime()
+			^ System.currentTimeMillis() * GOLDEN_GAMMA);
+
+	private final SplittableRandom root;
+
+	private final ThreadLocal<SplittableRandom> streams = new ThreadLocal<SplittableRandom>() {
+		@Override
+		protected SplittableRandom initialValue() {
+			synchronized (root) {
+				return root.split();
+			}
+		}
+	};
+
+	/**
+	 * Constructor
+	 *
+	 * @param seed
+	 *            Seed of the root stream, all thread streams are split from it
+	 */
+	public CardDealer(final long seed) {
+		root = new SplittableRandom(seed);
+	}
+
+	/**
+	 * Gets the default dealer, that is seeded with the start time
+	 *
+	 * @return Default dealer
+	 */
+	public static CardDealer getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Draws the seed for a new deal from the stream of the current thread
+	 *
+	 * @return Deal seed
+	 */
+	public long nextDealSeed() {
+		return streams.get().nextLong();
+	}
+
+	/**
+	 * Shuffles cards with the Fisher-Yates algorithm
+	 *
+	 * @param dealSeed
+	 *            Deal seed
+	 * @param cards
+	 *            Cards to be shuffled in place
+	 */
+	public static void shuffle(final long dealSeed, final Card[] cards) {
+		long state = dealSeed;
+		for (int i = cards.length - 1; i > 0; i--) {
+			state += GOLDEN_GAMMA;
+			final int j = nextIndex(state, i + 1);
+			final Card card = cards[i];
+			cards[i] = cards[j];
+			cards[j] = card;
+		}
+	}
+
+	/**
+	 * Shuffles cards with the Fisher-Yates algorithm, the cards are shuffled
+	 * exactly like the same cards in an array
+	 *
+	 * @param dealSeed
+	 *            Deal seed
+	 * @param cards
+	 *            Cards to be shuffled in place, should support fast random
+	 *            access
+	 */
+	public static void shuffle(final long dealSeed, final List<Card> cards) {
+		long state = dealSeed;
+		for (int i = cards.size() - 1; i > 0; i--) {
+			state += GOLDEN_GAMMA;
+			final int j = nextIndex(state, i + 1);
+			cards.set(j, cards.set(i, cards.get(j)));
+		}
+	}
+
+	/**
+	 * Creates a card deck in the order in which the cards are dealt by
+	 * {@link org.jskat.control.SkatGame}
+	 *
+	 * @param dealSeed
+	 *            Deal seed
+	 * @return Shuffled card deck
+	 */
+	public static CardDeck createCardDeck(final long dealSeed) {
+		final CardDeck deck = new CardDeck();
+		deck.shuffle(dealSeed);
+		return deck;
+	}
+
+	/**
+	 * Deals all cards into preallocated hands, the hands get the same cards
+	 * as if the card deck of {@link #createCardDeck(long)} was dealt
+	 *
+	 * @param dealSeed
+	 *            Deal seed
+	 * @param foreHand
+	 *            Cards of fore hand, will be cleared before dealing
+	 * @param middleHand
+	 *            Cards of middle hand, will be cleared before dealing
+	 * @param rearHand
+	 *            Cards of rear hand, will be cleared before dealing
+	 * @param skat
+	 *            Cards of the skat, will be cleared before dealing
+	 */
+	public static void deal(final long dealSeed, final CardList foreHand,
+			final CardList middleHand, final CardList rearHand,
+			final CardList skat) {
+
+		final Card[] cards = DEAL_BUFFER.get();
+		System.arraycopy(CARDS, 0, cards, 0, CARDS.length);
+		shuffle(dealSeed, cards);
+
+		foreHand.clear();
+		middleHand.clear();
+		rearHand.clear();
+		skat.clear();
+		for (int i = 0; i < cards.length; i++) {
+			switch (DEAL_TARGETS[i]) {
+			case 0:
+				foreHand.add(cards[i]);
+				break;
+			case 1:
+				middleHand.add(cards[i]);
+				break;
+			case 2:
+				rearHand.add(cards[i]);
+				break;
+			default:
+				skat.add(cards[i]);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Gets an unbiased index from the SplitMix64 output of a stream state, the
+	 * same mixing is used by {@link SplittableRandom}
+	 */
+	private static int nextIndex(final long state, final int bound) {
+		long current = state;
+		int bits = (int) (mix64(current) >>> 33);
+		int index = bits % bound;
+		// reject the incomplete range at the end of the bit values
+		while (bits - index + (bound - 1) < 0) {
+			current += GOLDEN_GAMMA;
+			bits = (int) (mix64(current) >>> 33);
+			index = bits % bound;
+		}
+		return index;
+	}
+
+	private static long mix64(final long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
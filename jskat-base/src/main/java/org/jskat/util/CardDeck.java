@@ -218,10 +218,21 @@ public class CardDeck extends CardList {
 	}
 
 	/**
-	 * Shuffles the CardDeck
+	 * Shuffles the CardDeck with a new deal seed of the current thread, see
+	 * {@link CardDealer#nextDealSeed()}
 	 */
 	public void shuffle() {
-		// Simple random shuffling
-		Collections.shuffle(cards);
+		shuffle(CardDealer.getInstance().nextDealSeed());
+	}
+
+	/**
+	 * Shuffles the CardDeck reproducibly
+	 *
+	 * @param dealSeed
+	 *            Deal seed, the same seed always results in the same order
+	 *            for the same cards
+	 */
+	public void shuffle(final long dealSeed) {
+		CardDealer.shuffle(dealSeed, cards);
 	}
 }
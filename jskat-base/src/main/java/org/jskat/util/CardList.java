@@ -22,7 +22,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 
 import org.jskat.util.rule.SkatRuleFactory;
 import org.slf4j.Logger;
@@ -35,12 +34,15 @@ import org.slf4j.LoggerFactory;
  */
 public class CardList implements Iterable<Card> {
 
-	private static final Random RANDOM = new Random();
-
 	private static final Logger LOG = LoggerFactory.getLogger(CardList.class);
 
 	protected List<Card> cards = new ArrayList<>();
 
+	/**
+	 * Bit mask of all cards in the list, see {@link CardMask}
+	 */
+	private int mask = CardMask.EMPTY;
+
 	/**
 	 * Constructor
 	 */
@@ -55,7 +57,7 @@ public class CardList implements Iterable<Card> {
 	 *            Predefined cards
 	 */
 	public CardList(final List<Card> newCards) {
-		cards.addAll(newCards);
+		addAll(newCards);
 	}
 
 	/**
@@ -66,6 +68,7 @@ public class CardList implements Iterable<Card> {
 	 */
 	public CardList(final CardList newCards) {
 		cards.addAll(newCards.cards);
+		mask = newCards.mask;
 	}
 
 	public CardList(Card... cards) {
@@ -89,7 +92,9 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if card was removed successfully
 	 */
 	public boolean remove(final Card card) {
-		return cards.remove(card);
+		boolean result = cards.remove(card);
+		updateMask();
+		return result;
 	}
 
 	/**
@@ -100,6 +105,9 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if card was added successfully
 	 */
 	public boolean add(final Card card) {
+		if (card != null) {
+			mask |= CardMask.of(card);
+		}
 		return cards.add(card);
 	}
 
@@ -122,6 +130,7 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if cards were added successfully
 	 */
 	public boolean addAll(final Collection<Card> newCards) {
+		mask |= CardMask.of(newCards);
 		return cards.addAll(newCards);
 	}
 
@@ -150,7 +159,24 @@ public class CardList implements Iterable<Card> {
 	 */
 	@Override
 	public Iterator<Card> iterator() {
-		return cards.iterator();
+		final Iterator<Card> iterator = cards.iterator();
+		return new Iterator<Card>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Card next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				updateMask();
+			}
+		};
 	}
 
 	/**
@@ -161,7 +187,20 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if the hand contains the card
 	 */
 	public boolean contains(final Card card) {
-		return cards.contains(card);
+		if (card == null) {
+			return cards.contains(null);
+		}
+		return CardMask.contains(mask, card);
+	}
+
+	/**
+	 * Gets the bit mask of all cards in the list, hidden cards are not
+	 * contained in the mask
+	 *
+	 * @return Card mask, see {@link CardMask}
+	 */
+	public int getMask() {
+		return mask;
 	}
 
 	/**
@@ -172,7 +211,9 @@ public class CardList implements Iterable<Card> {
 	 * @return Card
 	 */
 	public Card remove(final int index) {
-		return cards.remove(index);
+		Card result = cards.remove(index);
+		updateMask();
+		return result;
 	}
 
 	/**
@@ -183,7 +224,9 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, if at least one card was removed
 	 */
 	public boolean removeAll(final Collection<Card> cardsToRemove) {
-		return cards.removeAll(cardsToRemove);
+		boolean result = cards.removeAll(cardsToRemove);
+		updateMask();
+		return result;
 	}
 
 	/**
@@ -202,6 +245,16 @@ public class CardList implements Iterable<Card> {
 	 */
 	public void clear() {
 		cards.clear();
+		mask = CardMask.EMPTY;
+	}
+
+	/**
+	 * Recalculates the card mask after cards were removed or replaced<br>
+	 * Removing cards needs a full recalculation, because hidden cards or
+	 * duplicates might be contained in the list.
+	 */
+	private void updateMask() {
+		mask = CardMask.of(cards);
 	}
 
 	/**
@@ -238,12 +291,7 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE, when a trump card was found in the CardList
 	 */
 	public boolean hasTrump(final GameType gameType) {
-		for (Card card : cards) {
-			if (card.isTrump(gameType)) {
-				return true;
-			}
-		}
-		return false;
+		return (mask & CardMask.getTrumpCards(gameType)) != CardMask.EMPTY;
 	}
 
 	/**
@@ -254,7 +302,7 @@ public class CardList implements Iterable<Card> {
 	 * @return TRUE if the jack of the tested suit is in the CardList
 	 */
 	public boolean hasJack(final Suit suit) {
-		return cards.contains(Card.getCard(suit, Rank.JACK));
+		return (mask & CardMask.JACKS & CardMask.getSuitCards(suit)) != CardMask.EMPTY;
 	}
 
 	/**
@@ -267,6 +315,7 @@ public class CardList implements Iterable<Card> {
 	 */
 	public void set(final int index, final Card card) {
 		cards.set(index, card);
+		updateMask();
 	}
 
 	/**
@@ -302,7 +351,7 @@ public class CardList implements Iterable<Card> {
 
 		int index = -1;
 
-		if (cards.contains(card)) {
+		if (contains(card)) {
 
 			int currIndex = 0;
 
@@ -373,16 +422,12 @@ public class CardList implements Iterable<Card> {
 	 */
 	public int getSuitCount(final Suit suit, final boolean countJack) {
 
-		int count = 0;
-
-		for (Card card : cards) {
-			if (card.getSuit() == suit
-					&& (card.getRank() != Rank.JACK || countJack)) {
-				count++;
-			}
+		int suitCards = CardMask.getSuitCards(suit);
+		if (!countJack) {
+			suitCards &= ~CardMask.JACKS;
 		}
 
-		return count;
+		return CardMask.size(mask & suitCards);
 	}
 
 	/**
@@ -393,15 +438,13 @@ public class CardList implements Iterable<Card> {
 	 * @return Number of trump cards for this suit
 	 */
 	public int getTrumpCount(final Suit trumpSuit) {
-		int count = 0;
 
-		for (Card card : cards) {
-			if (card.getRank() == Rank.JACK || card.getSuit() == trumpSuit) {
-				count++;
-			}
+		int trumpCards = CardMask.JACKS;
+		if (trumpSuit != null) {
+			trumpCards |= CardMask.getSuitCards(trumpSuit);
 		}
 
-		return count;
+		return CardMask.size(mask & trumpCards);
 	}
 
 	/**
@@ -578,11 +621,7 @@ public class CardList implements Iterable<Card> {
 	 * @return an int[4] array
 	 */
 	public int[] toBinary() {
-		int[] result = new int[4];
-		for (Card c : cards) {
-			result[c.getSuit().ordinal()] += c.toBinaryFlag();
-		}
-		return result;
+		return CardMask.toBinary(mask);
 	}
 
 	/**
@@ -652,9 +691,10 @@ public class CardList implements Iterable<Card> {
 	 */
 	public final static CardList getRandomCards(int cardCount) {
 		CardDeck cardDeck = new CardDeck();
+		cardDeck.shuffle();
 		CardList result = new CardList();
 		for (int i = 0; i < cardCount; i++) {
-			result.add(cardDeck.remove(RANDOM.nextInt(cardDeck.size())));
+			result.add(cardDeck.get(i));
 		}
 		return result;
 	}
@@ -0,0 +1,251 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+/**
+ * Represents sets of cards as 32 bit masks<br>
+ * Every card is represented by the bit at the position of
+ * {@link Card#ordinal()}, so that set operations, suit counts and trump counts
+ * can be done with bitwise operations and popcounts.
+ */
+public final class CardMask {
+
+	/**
+	 * Mask without any card
+	 */
+	public static final int EMPTY = 0;
+
+	/**
+	 * Mask with all 32 cards
+	 */
+	public static final int ALL = 0xFFFFFFFF;
+
+	/**
+	 * Mask with all jacks
+	 */
+	public static final int JACKS;
+
+	private static final Card[] CARDS = Card.values();
+
+	private static final int[] SUIT_MASKS = new int[Suit.values().length];
+	private static final int[] RANK_MASKS = new int[Rank.values().length];
+	private static final int[] TRUMP_MASKS = new int[GameType.values().length];
+	private static final int[] BINARY_FLAGS = new int[CARDS.length];
+
+	static {
+		for (Card card : CARDS) {
+			SUIT_MASKS[card.getSuit().ordinal()] |= of(card);
+			RANK_MASKS[card.getRank().ordinal()] |= of(card);
+			BINARY_FLAGS[card.ordinal()] = card.toBinaryFlag();
+		}
+		JACKS = RANK_MASKS[Rank.JACK.ordinal()];
+
+		for (GameType gameType : GameType.values()) {
+			int trumps = EMPTY;
+			switch (gameType) {
+			case CLUBS:
+			case SPADES:
+			case HEARTS:
+			case DIAMONDS:
+				trumps = JACKS | SUIT_MASKS[gameType.getTrumpSuit().ordinal()];
+				break;
+			case GRAND:
+			case RAMSCH:
+				trumps = JACKS;
+				break;
+			case NULL:
+			case PASSED_IN:
+				// no trump cards
+				break;
+			}
+			TRUMP_MASKS[gameType.ordinal()] = trumps;
+		}
+	}
+
+	private CardMask() {
+		// utility class
+	}
+
+	/**
+	 * Gets the mask of a single card
+	 *
+	 * @param card
+	 *            Card
+	 * @return Mask with only the card set
+	 */
+	public static int of(final Card card) {
+		return 1 << card.ordinal();
+	}
+
+	/**
+	 * Gets the mask of several cards
+	 *
+	 * @param cards
+	 *            Cards, hidden cards (NULL) are ignored
+	 * @return Mask with all cards set
+	 */
+	public static int of(final Iterable<Card> cards) {
+		int result = EMPTY;
+		for (Card card : cards) {
+			if (card != null) {
+				result |= of(card);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether a mask contains a card
+	 *
+	 * @param mask
+	 *            Card mask
+	 * @param card
+	 *            Card
+	 * @return TRUE, if the card is contained in the mask
+	 */
+	public static boolean contains(final int mask, final Card card) {
+		return (mask & of(card)) != 0;
+	}
+
+	/**
+	 * Gets the number of cards in a mask
+	 *
+	 * @param mask
+	 *            Card mask
+	 * @return Number of cards
+	 */
+	public static int size(final int mask) {
+		return Integer.bitCount(mask);
+	}
+
+	/**
+	 * Gets the mask of all cards of a suit, including the jack
+	 *
+	 * @param suit
+	 *            Suit
+	 * @return Mask with all eight cards of the suit
+	 */
+	public static int getSuitCards(final Suit suit) {
+		return SUIT_MASKS[suit.ordinal()];
+	}
+
+	/**
+	 * Gets the mask of all cards of a rank
+	 *
+	 * @param rank
+	 *            Rank
+	 * @return Mask with all four cards of the rank
+	 */
+	public static int getRankCards(final Rank rank) {
+		return RANK_MASKS[rank.ordinal()];
+	}
+
+	/**
+	 * Gets the mask of all trump cards in a game type
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @return Mask with all trump cards, empty mask for null games
+	 */
+	public static int getTrumpCards(final GameType gameType) {
+		return TRUMP_MASKS[gameType.ordinal()];
+	}
+
+	/**
+	 * Gets the mask of all cards that serve an initial card of a trick
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param initialCard
+	 *            First card of the trick
+	 * @return Mask with all cards that serve the initial card
+	 */
+	public static int getFollowingCards(final GameType gameType,
+			final Card initialCard) {
+
+		int trumps = getTrumpCards(gameType);
+
+		if (contains(trumps, initialCard)) {
+			// trump must be served with trump
+			return trumps;
+		}
+		// suit must be served without trump cards
+		return getSuitCards(initialCard.getSuit()) & ~trumps;
+	}
+
+	/**
+	 * Gets the mask of all cards on a hand that are allowed to be played
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param initialCard
+	 *            First card of the trick or NULL
+	 * @param hand
+	 *            Mask of the cards on the hand
+	 * @return Mask of all allowed cards
+	 */
+	public static int getAllowedCards(final GameType gameType,
+			final Card initialCard, final int hand) {
+
+		if (initialCard == null) {
+			// no initial card --> every card is allowed
+			return hand;
+		}
+
+		int followingCards = hand & getFollowingCards(gameType, initialCard);
+		if (followingCards == EMPTY) {
+			// hand can't serve --> every card is allowed
+			return hand;
+		}
+		return followingCards;
+	}
+
+	/**
+	 * Converts a mask into a {@link CardList}
+	 *
+	 * @param mask
+	 *            Card mask
+	 * @return Cards in the order of {@link Card#values()}
+	 */
+	public static CardList toCardList(final int mask) {
+		CardList result = new CardList();
+		int remaining = mask;
+		while (remaining != EMPTY) {
+			result.add(CARDS[Integer.numberOfTrailingZeros(remaining)]);
+			remaining &= remaining - 1;
+		}
+		return result;
+	}
+
+	/**
+	 * Converts a mask into an int[4] array with one int value per suit, see
+	 * {@link CardList#toBinary()}
+	 *
+	 * @param mask
+	 *            Card mask
+	 * @return an int[4] array
+	 */
+	public static int[] toBinary(final int mask) {
+		int[] result = new int[4];
+		int remaining = mask;
+		while (remaining != EMPTY) {
+			int index = Integer.numberOfTrailingZeros(remaining);
+			result[CARDS[index].getSuit().ordinal()] += BINARY_FLAGS[index];
+			remaining &= remaining - 1;
+		}
+		return result;
+	}
+}
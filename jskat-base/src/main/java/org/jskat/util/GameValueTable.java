@@ -0,0 +1,363 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+/**
+ * Precomputed game values and maximum bids<br>
+ * The matadors (the run of trump cards from the club jack on, either with or
+ * without the cards) are looked up by the jack mask and the cards of the trump
+ * suit. Game values and maximum bids are looked up by the game type, the
+ * number of matadors and the flags for hand, ouvert, schneider and schwarz.
+ * All lookups need constant time, so they can be used on every bid of a
+ * simulated game.
+ */
+public final class GameValueTable {
+
+	/**
+	 * No additional multipliers
+	 */
+	public static final int NO_FLAGS = 0;
+	/**
+	 * Game is played hand
+	 */
+	public static final int HAND = 1;
+	/**
+	 * Game is played ouvert
+	 */
+	public static final int OUVERT = 2;
+	/**
+	 * Declarer played schneider
+	 */
+	public static final int SCHNEIDER = 4;
+	/**
+	 * Schneider was announced
+	 */
+	public static final int SCHNEIDER_ANNOUNCED = 8;
+	/**
+	 * Declarer played schwarz
+	 */
+	public static final int SCHWARZ = 16;
+	/**
+	 * Schwarz was announced
+	 */
+	public static final int SCHWARZ_ANNOUNCED = 32;
+
+	/**
+	 * Highest number of matadors, four jacks and seven suit cards
+	 */
+	public static final int MAX_MATADORS = 11;
+
+	private static final int FLAG_COMBINATIONS = 64;
+	private static final int JACK_MASKS = 16;
+	private static final int SUIT_MASKS = 256;
+
+	/**
+	 * Bit of a card within the cards of its suit, see {@link Card} for the
+	 * order of the cards
+	 */
+	private static final int[] SUIT_BITS = new int[Card.values().length];
+	/**
+	 * Position of the first card of a suit in a card mask
+	 */
+	private static final int[] SUIT_OFFSETS = new int[Suit.values().length];
+
+	private static final int[] GRAND_MATADORS = new int[JACK_MASKS];
+	private static final int[][] SUIT_MATADORS = new int[JACK_MASKS][SUIT_MASKS];
+
+	private static final int[][][] GAME_VALUES = new int[GameType.values().length][MAX_MATADORS + 1][FLAG_COMBINATIONS];
+	private static final int[][][] MAX_BIDS = new int[GameType.values().length][MAX_MATADORS + 1][FLAG_COMBINATIONS];
+
+	static {
+		for (Suit suit : Suit.values()) {
+			SUIT_OFFSETS[suit.ordinal()] = Card.getCard(suit, Rank.ACE)
+					.ordinal();
+		}
+		for (Card card : Card.values()) {
+			SUIT_BITS[card.ordinal()] = card.ordinal()
+					- SUIT_OFFSETS[card.getSuit().ordinal()];
+		}
+
+		initMatadors();
+		initGameValues();
+	}
+
+	private GameValueTable() {
+		// utility class
+	}
+
+	private static void initMatadors() {
+
+		Card[] jacks = { Card.CJ, Card.SJ, Card.HJ, Card.DJ };
+		Rank[] suitRanks = Rank.getRankList().toArray(new Rank[0]);
+
+		for (int jackMask = 0; jackMask < JACK_MASKS; jackMask++) {
+
+			boolean[] trumps = new boolean[jacks.length + suitRanks.length];
+			for (int i = 0; i < jacks.length; i++) {
+				trumps[i] = (jackMask & getJackBit(jacks[i])) != 0;
+			}
+			GRAND_MATADORS[jackMask] = getRunLength(trumps, jacks.length);
+
+			for (int suitMask = 0; suitMask < SUIT_MASKS; suitMask++) {
+				// all suits have the same order of the cards
+				for (int i = 0; i < suitRanks.length; i++) {
+					Card card = Card.getCard(Suit.CLUBS, suitRanks[i]);
+					trumps[jacks.length + i] = (suitMask & (1 << SUIT_BITS[card
+							.ordinal()])) != 0;
+				}
+				SUIT_MATADORS[jackMask][suitMask] = getRunLength(trumps,
+						trumps.length);
+			}
+		}
+	}
+
+	/**
+	 * Gets the length of the run of cards with the same presence as the
+	 * highest trump card
+	 */
+	private static int getRunLength(final boolean[] trumps, final int length) {
+		int result = 1;
+		while (result < length && trumps[result] == trumps[0]) {
+			result++;
+		}
+		return result;
+	}
+
+	private static void initGameValues() {
+
+		for (GameType gameType : GameType.values()) {
+			if (!isGameValueDefined(gameType)) {
+				continue;
+			}
+			for (int matadors = 0; matadors <= MAX_MATADORS; matadors++) {
+				for (int flags = 0; flags < FLAG_COMBINATIONS; flags++) {
+					int gameValue = calcGameValue(gameType, matadors, flags);
+					GAME_VALUES[gameType.ordinal()][matadors][flags] = gameValue;
+					MAX_BIDS[gameType.ordinal()][matadors][flags] = calcMaxBid(gameValue);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates the game value like
+	 * {@link org.jskat.util.rule.SuitGrandRule#getGameValueForWonGame(org.jskat.data.SkatGameData)}
+	 * and {@link org.jskat.util.rule.NullRule} without contra and re
+	 */
+	private static int calcGameValue(final GameType gameType,
+			final int matadors, final int flags) {
+
+		boolean hand = (flags & HAND) != 0;
+		boolean ouvert = (flags & OUVERT) != 0;
+		int baseValue = SkatConstants
+				.getGameBaseValue(gameType, hand, ouvert);
+
+		if (gameType == GameType.NULL) {
+			return baseValue;
+		}
+
+		int multiplier = matadors + 1;
+		if (hand) {
+			multiplier++;
+		}
+		if (ouvert) {
+			multiplier++;
+		}
+		if ((flags & SCHNEIDER) != 0) {
+			multiplier++;
+			if (hand && (flags & SCHNEIDER_ANNOUNCED) != 0) {
+				multiplier++;
+			}
+		}
+		if ((flags & SCHWARZ) != 0) {
+			multiplier++;
+			if (hand && (flags & SCHWARZ_ANNOUNCED) != 0) {
+				multiplier++;
+			}
+		}
+		return baseValue * multiplier;
+	}
+
+	private static int calcMaxBid(final int gameValue) {
+		int result = 0;
+		for (Integer bidValue : SkatConstants.bidOrder) {
+			if (bidValue.intValue() > gameValue) {
+				break;
+			}
+			result = bidValue.intValue();
+		}
+		return result;
+	}
+
+	private static boolean isGameValueDefined(final GameType gameType) {
+		return gameType != GameType.RAMSCH && gameType != GameType.PASSED_IN;
+	}
+
+	private static int getJackBit(final Card jack) {
+		switch (jack) {
+		case CJ:
+			return 8;
+		case SJ:
+			return 4;
+		case HJ:
+			return 2;
+		default:
+			return 1;
+		}
+	}
+
+	private static int getJackMask(final int cards) {
+		return ((cards >>> Card.CJ.ordinal()) & 1) << 3
+				| ((cards >>> Card.SJ.ordinal()) & 1) << 2
+				| ((cards >>> Card.HJ.ordinal()) & 1) << 1
+				| ((cards >>> Card.DJ.ordinal()) & 1);
+	}
+
+	/**
+	 * Gets the number of matadors, the run of trump cards from the club jack
+	 * on, either with or without the cards
+	 *
+	 * @param cards
+	 *            Card mask of the declarer cards including the skat, see
+	 *            {@link CardMask}
+	 * @param gameType
+	 *            Suit or grand game type
+	 * @return Number of matadors
+	 */
+	public static int getMatadors(final int cards, final GameType gameType) {
+
+		int jackMask = getJackMask(cards);
+		switch (gameType) {
+		case CLUBS:
+		case SPADES:
+		case HEARTS:
+		case DIAMONDS:
+			int suitMask = (cards >>> SUIT_OFFSETS[gameType.getTrumpSuit()
+					.ordinal()]) & (SUIT_MASKS - 1);
+			return SUIT_MATADORS[jackMask][suitMask];
+		case GRAND:
+			return GRAND_MATADORS[jackMask];
+		default:
+			throw new IllegalArgumentException("No matadors in game type " //$NON-NLS-1$
+					+ gameType);
+		}
+	}
+
+	/**
+	 * Gets the multiplier of the matadors ("with 2, game 3")
+	 *
+	 * @param cards
+	 *            Card mask of the declarer cards including the skat, see
+	 *            {@link CardMask}
+	 * @param gameType
+	 *            Suit or grand game type
+	 * @return Multiplier
+	 */
+	public static int getMultiplier(final int cards, final GameType gameType) {
+		return getMatadors(cards, gameType) + 1;
+	}
+
+	/**
+	 * Gets the value of a won game without contra and re
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param matadors
+	 *            Number of matadors, ignored for null games
+	 * @param flags
+	 *            Combination of {@link #HAND}, {@link #OUVERT},
+	 *            {@link #SCHNEIDER}, {@link #SCHNEIDER_ANNOUNCED},
+	 *            {@link #SCHWARZ} and {@link #SCHWARZ_ANNOUNCED}
+	 * @return Game value
+	 */
+	public static int getGameValue(final GameType gameType,
+			final int matadors, final int flags) {
+		checkGameType(gameType);
+		return GAME_VALUES[gameType.ordinal()][matadors][flags];
+	}
+
+	/**
+	 * Gets the value of a won game without contra and re
+	 *
+	 * @param cards
+	 *            Card mask of the declarer cards including the skat, see
+	 *            {@link CardMask}
+	 * @param gameType
+	 *            Game type
+	 * @param flags
+	 *            Combination of the flags, see
+	 *            {@link #getGameValue(GameType, int, int)}
+	 * @return Game value
+	 */
+	public static int getGameValue(final int cards, final GameType gameType,
+			final int flags) {
+		return getGameValue(gameType, getMatadorsOrZero(cards, gameType),
+				flags);
+	}
+
+	/**
+	 * Gets the highest bid value that doesn't exceed the value of a won game
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @param matadors
+	 *            Number of matadors, ignored for null games
+	 * @param flags
+	 *            Combination of the flags, see
+	 *            {@link #getGameValue(GameType, int, int)}
+	 * @return Maximum bid value, 0 if the game value is lower than every bid
+	 *         value
+	 */
+	public static int getMaxBid(final GameType gameType, final int matadors,
+			final int flags) {
+		checkGameType(gameType);
+		return MAX_BIDS[gameType.ordinal()][matadors][flags];
+	}
+
+	/**
+	 * Gets the highest bid value that doesn't exceed the value of a won game
+	 *
+	 * @param cards
+	 *            Card mask of the declarer cards including the skat, see
+	 *            {@link CardMask}
+	 * @param gameType
+	 *            Game type
+	 * @param flags
+	 *            Combination of the flags, see
+	 *            {@link #getGameValue(GameType, int, int)}
+	 * @return Maximum bid value, 0 if the game value is lower than every bid
+	 *         value
+	 */
+	public static int getMaxBid(final int cards, final GameType gameType,
+			final int flags) {
+		return getMaxBid(gameType, getMatadorsOrZero(cards, gameType), flags);
+	}
+
+	private static int getMatadorsOrZero(final int cards,
+			final GameType gameType) {
+		if (gameType == GameType.NULL) {
+			return 0;
+		}
+		return getMatadors(cards, gameType);
+	}
+
+	private static void checkGameType(final GameType gameType) {
+		if (!isGameValueDefined(gameType)) {
+			throw new IllegalArgumentException("No game value for game type " //$NON-NLS-1$
+					+ gameType);
+		}
+	}
+}
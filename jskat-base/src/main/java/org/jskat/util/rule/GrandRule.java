@@ -15,9 +15,9 @@
  */
 package org.jskat.util.rule;
 
-import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
+import org.jskat.util.GameValueTable;
 
 /**
  * Implementation of skat rules for Grand games
@@ -32,30 +32,6 @@ public class GrandRule extends SuitGrandRule {
 		if (gameType != GameType.GRAND) {
 			throw new IllegalArgumentException("Wrong ruleset - " + gameType);
 		}
-		int result = 1;
-		if (cards.contains(Card.CJ)) {
-			result++;
-			if (cards.contains(Card.SJ)) {
-				result++;
-				if (cards.contains(Card.HJ)) {
-					result++;
-					if (cards.contains(Card.DJ)) {
-						result++;
-					}
-				}
-			}
-		} else {
-			result++;
-			if (!cards.contains(Card.SJ)) {
-				result++;
-				if (!cards.contains(Card.HJ)) {
-					result++;
-					if (!cards.contains(Card.DJ)) {
-						result++;
-					}
-				}
-			}
-		}
-		return result;
+		return GameValueTable.getMultiplier(cards.getMask(), gameType);
 	}
 }
@@ -18,6 +18,7 @@ package org.jskat.util.rule;
 import org.jskat.data.SkatGameData;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
 import org.jskat.util.GameType;
 import org.jskat.util.SkatConstants;
 import org.jskat.util.Suit;
@@ -101,7 +102,7 @@ public class NullRule extends AbstractSkatRule {
 			// card must serve same suit
 			result = true;
 
-		} else if (!hand.hasSuit(gameType, initialCard.getSuit())) {
+		} else if (!hasSuit(gameType, hand, initialCard.getSuit())) {
 			// hand has no card of same suit --> every card is allowed
 			result = true;
 		}
@@ -126,20 +127,7 @@ public class NullRule extends AbstractSkatRule {
 	public boolean hasSuit(final GameType gameType, final CardList hand,
 			final Suit suit) {
 
-		boolean result = false;
-
-		int index = 0;
-		while (!result && index < hand.size()) {
-
-			if (hand.get(index).getSuit() == suit) {
-
-				result = true;
-			}
-
-			index++;
-		}
-
-		return result;
+		return (hand.getMask() & CardMask.getSuitCards(suit)) != CardMask.EMPTY;
 	}
 
 	/**
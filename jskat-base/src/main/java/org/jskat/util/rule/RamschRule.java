@@ -155,7 +155,7 @@ public class RamschRule extends SuitGrandRamschRule {
 			multiplier = 2;
 		}
 
-		log.debug(gameData.getGeschoben() + " player did schieben"); //$NON-NLS-1$
+		log.debug("{} player did schieben", gameData.getGeschoben()); //$NON-NLS-1$
 		multiplier = (int) (multiplier * Math.pow(2, gameData.getGeschoben()));
 
 		return multiplier;
@@ -17,8 +17,8 @@ package org.jskat.util.rule;
 
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
 import org.jskat.util.GameType;
-import org.jskat.util.Rank;
 import org.jskat.util.Suit;
 
 /**
@@ -38,22 +38,18 @@ public abstract class SuitGrandRamschRule extends AbstractSkatRule {
 		if (initialCard == null) {
 			// no initial card given --> every card is allowed
 			result = true;
-		} else if (initialCard.isTrump(gameType)) {
+		} else {
+			// trump must be served with trump, suit must be served with suit
+			int followingCards = CardMask.getFollowingCards(gameType,
+					initialCard);
 
-			if (card.isTrump(gameType)) {
-				// card must serve trump
+			if (CardMask.contains(followingCards, card)) {
+				// card serves the initial card
 				result = true;
-			} else if (!hand.hasTrump(gameType)) {
-				// no trump on hand --> every card is allowed
+			} else if ((hand.getMask() & followingCards) == CardMask.EMPTY) {
+				// hand can't serve --> every card is allowed
 				result = true;
 			}
-		} else if (initialCard.getSuit() == card.getSuit()
-				&& !card.isTrump(gameType)) {
-			// card must serve suit
-			result = true;
-		} else if (!hand.hasSuit(gameType, initialCard.getSuit())) {
-			// no suit on hand --> every card is allowed
-			result = true;
 		}
 
 		return result;
@@ -107,12 +103,8 @@ public abstract class SuitGrandRamschRule extends AbstractSkatRule {
 	 */
 	@Override
 	public boolean hasSuit(GameType gameType, CardList hand, Suit suit) {
-		for (Card card : hand) {
-			if (card.getSuit() == suit && !card.isTrump(gameType)) {
-				return true;
-			}
-		}
-		return false;
+		return (hand.getMask() & CardMask.getSuitCards(suit)
+				& ~CardMask.getTrumpCards(gameType)) != CardMask.EMPTY;
 	}
 
 	/**
@@ -125,37 +117,6 @@ public abstract class SuitGrandRamschRule extends AbstractSkatRule {
 	 * @return TRUE if the card is a trump card
 	 */
 	public boolean isTrump(GameType gameType, Card card) {
-
-		boolean result = false;
-
-		if (gameType == GameType.GRAND || gameType == GameType.RAMSCH) {
-
-			result = card.getRank() == Rank.JACK;
-
-		} else {
-
-			boolean isSuitTrump = false;
-
-			// first check for a Jack
-			boolean isJack = card.getRank() == Rank.JACK;
-
-			if (!isJack) {
-				// then check the suit
-				Suit suit = card.getSuit();
-
-				if (gameType == GameType.CLUBS && suit == Suit.CLUBS
-						|| gameType == GameType.SPADES && suit == Suit.SPADES
-						|| gameType == GameType.HEARTS && suit == Suit.HEARTS
-						|| gameType == GameType.DIAMONDS
-						&& suit == Suit.DIAMONDS) {
-
-					isSuitTrump = true;
-				}
-			}
-
-			result = isJack || isSuitTrump;
-		}
-
-		return result;
+		return CardMask.contains(CardMask.getTrumpCards(gameType), card);
 	}
 }
@@ -72,7 +72,7 @@ public abstract class SuitGrandRule extends SuitGrandRamschRule {
 	public int getGameValueForWonGame(final SkatGameData gameData) {
 		int multiplier = getMultiplier(gameData);
 
-		log.debug("calcSuitResult: after Jacks and Trump: multiplier " + multiplier); //$NON-NLS-1$
+		log.debug("calcSuitResult: after Jacks and Trump: multiplier {}", multiplier); //$NON-NLS-1$
 
 		// TODO add option: Hand game is only counted when game was not lost
 		// if (gameData.isHand() && !gameData.isGameLost()) {
@@ -89,7 +89,7 @@ public abstract class SuitGrandRule extends SuitGrandRamschRule {
 			if (gameData.isHand() && gameData.isSchneiderAnnounced()) {
 				multiplier++;
 			}
-			log.debug("calcSuitResult: Schneider: multiplier " + multiplier); //$NON-NLS-1$
+			log.debug("calcSuitResult: Schneider: multiplier {}", multiplier); //$NON-NLS-1$
 		}
 
 		if (gameData.isSchwarz()) {
@@ -97,23 +97,23 @@ public abstract class SuitGrandRule extends SuitGrandRamschRule {
 			if (gameData.isHand() && gameData.isSchwarzAnnounced()) {
 				multiplier++;
 			}
-			log.debug("calcSuitResult: Schwarz: multiplier " + multiplier); //$NON-NLS-1$
+			log.debug("calcSuitResult: Schwarz: multiplier {}", multiplier); //$NON-NLS-1$
 		}
 
 		if (gameData.isContra()) {
 			multiplier *= 2;
-			log.debug("calcSuitResult: Contra: multiplier " + multiplier);
+			log.debug("calcSuitResult: Contra: multiplier {}", multiplier);
 
 			if (gameData.isRe()) {
 				multiplier *= 2;
-				log.debug("calcSuitResult: Re: multiplier " + multiplier);
+				log.debug("calcSuitResult: Re: multiplier {}", multiplier);
 			}
 		}
 
 		int gameValue = SkatConstants.getGameBaseValue(gameData.getGameType(),
 				gameData.isHand(), gameData.isOuvert());
 
-		log.debug("gameValue" + gameValue); //$NON-NLS-1$
+		log.debug("gameValue{}", gameValue); //$NON-NLS-1$
 
 		return gameValue * multiplier;
 	}
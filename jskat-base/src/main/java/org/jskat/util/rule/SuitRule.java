@@ -15,11 +15,9 @@
  */
 package org.jskat.util.rule;
 
-import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
-import org.jskat.util.Rank;
-import org.jskat.util.Suit;
+import org.jskat.util.GameValueTable;
 
 /**
  * Implementation of skat rules for Suit games
@@ -35,46 +33,6 @@ public class SuitRule extends SuitGrandRule {
 				|| gameType == GameType.NULL) {
 			throw new IllegalArgumentException("Wrong ruleset - " + gameType);
 		}
-		int result = 1;
-		if (cards.contains(Card.CJ)) {
-			result++;
-			if (cards.contains(Card.SJ)) {
-				result++;
-				if (cards.contains(Card.HJ)) {
-					result++;
-					if (cards.contains(Card.DJ)) {
-						result++;
-						for (Rank r : Rank.getRankList()) {
-							if (cards.contains(Card.getCard(
-									Suit.valueOf(gameType.toString()), r))) {
-								result++;
-							} else {
-								break;
-							}
-						}
-					}
-				}
-			}
-		} else {
-			result++;
-			if (!cards.contains(Card.SJ)) {
-				result++;
-				if (!cards.contains(Card.HJ)) {
-					result++;
-					if (!cards.contains(Card.DJ)) {
-						result++;
-						for (Rank r : Rank.getRankList()) {
-							if (!cards.contains(Card.getCard(
-									Suit.valueOf(gameType.toString()), r))) {
-								result++;
-							} else {
-								break;
-							}
-						}
-					}
-				}
-			}
-		}
-		return result;
+		return GameValueTable.getMultiplier(cards.getMask(), gameType);
 	}
 }
@@ -15,17 +15,33 @@
  */
 package org.jskat.ai.nn;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
 import java.util.Arrays;
 import java.util.List;
 
 import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.nn.data.SkatNetworks;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.SkatGame;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameData.GameState;
 import org.jskat.util.Card;
-import org.junit.Ignore;
+import org.jskat.util.CardDeck;
+import org.jskat.util.GameType;
+import org.jskat.util.GameVariant;
+import org.jskat.util.Player;
+import org.junit.Test;
+import org.slf4j.helpers.NOPLogger;
+
+import com.google.common.eventbus.EventBus;
 
 /**
  * Test class for {@link AIPlayerNN}
  */
-@Ignore
 public class AIPlayerNNTest extends AbstractJSkatTest {
 
 	List<Card> nullOrder = Arrays.asList(Card.D7, Card.D8, Card.D9, Card.DT,
@@ -65,6 +81,57 @@ public class AIPlayerNNTest extends AbstractJSkatTest {
 			Card.SA, Card.C7, Card.C8, Card.C9, Card.CQ, Card.CK, Card.CT,
 			Card.CA);
 
+	private static final String TABLE_NAME = "AIPlayerNNTest"; //$NON-NLS-1$
+
+	/**
+	 * Tests that a learning player trains the network of every trick
+	 */
+	@Test
+	public void testLearningTrainsNetworksOfAllTricks() {
+
+		long[] iterationsBefore = new long[10];
+		for (int trick = 0; trick < 10; trick++) {
+			iterationsBefore[trick] = SkatNetworks.getNetwork(GameType.GRAND, true, trick).getIterations();
+		}
+
+		List<AIPlayerNN> players = Arrays.asList(createLearningPlayer(), createLearningPlayer(),
+				createLearningPlayer());
+		JSkatEventBus.TABLE_EVENT_BUSSES.put(TABLE_NAME, new EventBus());
+		SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD, players.get(0), players.get(1), players.get(2),
+				new SkatGameData());
+		game.setHeadless(true);
+		game.setLogger(NOPLogger.NOP_LOGGER);
+
+		CardDeck cardDeck = new CardDeck();
+		cardDeck.shuffle();
+		game.setCardDeck(cardDeck);
+		game.dealCards();
+		game.setDeclarer(Player.FOREHAND);
+
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.GRAND);
+		GameAnnouncement announcement = factory.getAnnouncement();
+		game.setGameAnnouncement(announcement);
+		for (AIPlayerNN player : players) {
+			player.startGame(Player.FOREHAND, announcement);
+		}
+
+		game.setGameState(GameState.TRICK_PLAYING);
+		game.run();
+
+		for (int trick = 0; trick < 10; trick++) {
+			assertThat(SkatNetworks.getNetwork(GameType.GRAND, true, trick).getIterations(),
+					greaterThan(iterationsBefore[trick]));
+		}
+	}
+
+	private static AIPlayerNN createLearningPlayer() {
+		AIPlayerNN player = new AIPlayerNN();
+		player.setIsLearning(true);
+		player.setLogger(NOPLogger.NOP_LOGGER);
+		return player;
+	}
+
 	// /**
 	// * Tests the calculation of the net input index
 	// */
@@ -0,0 +1,187 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.player.PlayerKnowledge;
+import org.jskat.util.Card;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.Suit;
+import org.junit.Test;
+
+/**
+ * Tests for ConstrainedDealSampler
+ */
+public class ConstrainedDealSamplerTest extends AbstractJSkatTest {
+
+	private static final CardList OWN_CARDS = new CardList(Card.CJ, Card.SJ,
+			Card.CA, Card.CT, Card.C9, Card.HA, Card.H7, Card.SA, Card.D8,
+			Card.D7);
+
+	private static PlayerKnowledge createKnowledge() {
+		PlayerKnowledge knowledge = new PlayerKnowledge();
+		knowledge.resetCurrentGameData();
+		knowledge.setPlayerPosition(Player.FOREHAND);
+		knowledge.setDeclarer(Player.FOREHAND);
+		knowledge.addOwnCards(OWN_CARDS);
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.CLUBS);
+		knowledge.setGame(factory.getAnnouncement());
+		return knowledge;
+	}
+
+	/**
+	 * Without further knowledge all distributions of the unknown cards are
+	 * possible
+	 */
+	@Test
+	public void countWithOwnCardsOnly() {
+
+		ConstrainedDealSampler sampler = new ConstrainedDealSampler(
+				createKnowledge());
+
+		// 22! / (10! * 10! * 2!)
+		assertEquals(42678636L, sampler.getDealCount());
+
+		CardDeck deck = sampler.sample();
+		assertEquals(32, deck.size());
+		assertEquals(CardMask.ALL, deck.getMask());
+	}
+
+	/**
+	 * Played cards stay with their players and suits a player is void in are
+	 * never dealt to the player
+	 */
+	@Test
+	public void sampleRespectsPlayedCardsAndVoidSuits() {
+
+		PlayerKnowledge knowledge = createKnowledge();
+		knowledge.setNextTrick(0, Player.FOREHAND);
+		knowledge.setCardPlayed(Player.FOREHAND, Card.H7);
+		// middle hand doesn't follow suit
+		knowledge.setCardPlayed(Player.MIDDLEHAND, Card.S7);
+		knowledge.setCardPlayed(Player.REARHAND, Card.HK);
+
+		ConstrainedDealSampler sampler = new ConstrainedDealSampler(knowledge);
+		int middleHandHearts = CardMask.getSuitCards(Suit.HEARTS)
+				& ~CardMask.JACKS & ~CardMask.of(Card.HK);
+
+		Random random = new Random(4711L);
+		for (int i = 0; i < 1000; i++) {
+			int[] hands = sampler.sampleHands(random);
+
+			assertEquals(OWN_CARDS.getMask(), hands[Player.FOREHAND.ordinal()]);
+			assertEquals(10, CardMask.size(hands[Player.MIDDLEHAND.ordinal()]));
+			assertEquals(10, CardMask.size(hands[Player.REARHAND.ordinal()]));
+			assertEquals(2, CardMask.size(hands[3]));
+			assertTrue(CardMask.contains(hands[Player.MIDDLEHAND.ordinal()],
+					Card.S7));
+			assertTrue(CardMask.contains(hands[Player.REARHAND.ordinal()],
+					Card.HK));
+			assertEquals(0, hands[Player.MIDDLEHAND.ordinal()]
+					& middleHandHearts & ~CardMask.of(Card.H7));
+		}
+	}
+
+	/**
+	 * Every unknown card gets to a player with the probability of the share
+	 * of the unknown cards of this player
+	 */
+	@Test
+	public void sampleIsUniform() {
+
+		ConstrainedDealSampler sampler = new ConstrainedDealSampler(
+				createKnowledge());
+
+		int samples = 4000;
+		int middleHandCount = 0;
+		Random random = new Random(4711L);
+		for (int i = 0; i < samples; i++) {
+			int[] hands = sampler.sampleHands(random);
+			if (CardMask.contains(hands[Player.MIDDLEHAND.ordinal()],
+					Card.HJ)) {
+				middleHandCount++;
+			}
+		}
+
+		assertEquals(10.0 / 22.0, (double) middleHandCount / samples, 0.05);
+	}
+
+	/**
+	 * Bid weighting prefers hands that can announce a game worth the bid
+	 */
+	@Test
+	public void bidWeightingPrefersSupportingHands() {
+
+		PlayerKnowledge knowledge = createKnowledge();
+		knowledge.setHighestBid(Player.MIDDLEHAND, 48);
+
+		ConstrainedDealSampler sampler = new ConstrainedDealSampler(knowledge);
+		double uniformRate = getSupportingRate(sampler, 48);
+
+		sampler.setBidWeighting(true);
+		double weightedRate = getSupportingRate(sampler, 48);
+
+		assertTrue(weightedRate > uniformRate + 0.1);
+	}
+
+	private static double getSupportingRate(
+			ConstrainedDealSampler sampler, int bid) {
+
+		int samples = 2000;
+		int supporting = 0;
+		Random random = new Random(4711L);
+		for (int i = 0; i < samples; i++) {
+			int[] hands = sampler.sampleHands(random);
+			if (ConstrainedDealSampler.getPlausibleMaxBid(CardMask
+					.toCardList(hands[Player.MIDDLEHAND.ordinal()])) >= bid) {
+				supporting++;
+			}
+		}
+		return (double) supporting / samples;
+	}
+
+	/**
+	 * Checks the plausible maximum bid of a hand
+	 */
+	@Test
+	public void plausibleMaxBid() {
+
+		assertEquals(120, ConstrainedDealSampler.getPlausibleMaxBid(CardList
+				.getPerfectGrandSuitHand()));
+		// clubs without 2, grand needs more jacks
+		assertEquals(36, ConstrainedDealSampler
+				.getPlausibleMaxBid(new CardList(Card.HJ, Card.C7, Card.C8,
+						Card.C9, Card.CQ, Card.S7, Card.S8, Card.H7, Card.D7,
+						Card.D8)));
+		// only null is plausible
+		assertEquals(23, ConstrainedDealSampler
+				.getPlausibleMaxBid(new CardList(Card.C7, Card.C8, Card.S7,
+						Card.S8, Card.S9, Card.H7, Card.H8, Card.H9, Card.D7,
+						Card.D8)));
+	}
+}
@@ -67,6 +67,23 @@ public class GameSimulator2Test extends AbstractJSkatTest {
 		assertThat(bestSimulation.getWonGames(), is(20L));
 	}
 
+	@Test
+	public void testSimulateGamesInParallelCountsAllEpisodes() {
+
+		GameSimulator2 gameSimulator = new GameSimulator2();
+		GameSimulation grandSimulation = new GameSimulation(GameType.GRAND, Player.FOREHAND,
+				CardList.getPerfectGrandSuitHand());
+		GameSimulation clubsSimulation = new GameSimulation(GameType.CLUBS, Player.FOREHAND,
+				CardList.getPerfectGrandSuitHand());
+		gameSimulator.add(grandSimulation);
+		gameSimulator.add(clubsSimulation);
+
+		gameSimulator.simulateMaxEpisodes(200L);
+
+		assertThat(grandSimulation.getEpisodes() + clubsSimulation.getEpisodes(), is(200L));
+		assertThat(grandSimulation.getRunningEpisodes() + clubsSimulation.getRunningEpisodes(), is(0L));
+	}
+
 	@Test
 	public void testSimulationSelection() {
 
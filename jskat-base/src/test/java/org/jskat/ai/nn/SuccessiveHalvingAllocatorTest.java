@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class SuccessiveHalvingAllocatorTest extends AbstractJSkatTest {
+
+	@Test
+	public void testHalving() {
+
+		List<GameSimulation> simulations = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			simulations.add(Ucb1AllocatorTest.mockSimulation(GameType.GRAND, 0L, 0.0));
+		}
+
+		SuccessiveHalvingAllocator allocator = new SuccessiveHalvingAllocator();
+		allocator.start(simulations, 16L);
+
+		// first round: two episodes for every simulation
+		for (GameSimulation simulation : simulations) {
+			assertThat(allocator.getNextSimulation(simulations), is(simulation));
+			Mockito.when(simulation.getEpisodes()).thenReturn(2L);
+		}
+		Mockito.when(simulations.get(2).getWonRate()).thenReturn(1.0);
+		Mockito.when(simulations.get(3).getWonRate()).thenReturn(0.5);
+		for (GameSimulation simulation : simulations) {
+			Mockito.when(simulation.getEpisodes()).thenReturn(2L);
+		}
+
+		// second round: only the better half is left
+		GameSimulation nextSimulation = allocator.getNextSimulation(simulations);
+		assertThat(nextSimulation == simulations.get(2) || nextSimulation == simulations.get(3), is(true));
+
+		Mockito.when(simulations.get(2).getEpisodes()).thenReturn(6L);
+		Mockito.when(simulations.get(3).getEpisodes()).thenReturn(6L);
+
+		// decision is made
+		assertThat(allocator.getNextSimulation(simulations), is(nullValue()));
+		assertThat(allocator.getBestSimulation(simulations), is(simulations.get(2)));
+	}
+
+	@Test
+	public void testRoundWaitsForRunningEpisodes() {
+
+		List<GameSimulation> simulations = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			simulations.add(Ucb1AllocatorTest.mockSimulation(GameType.GRAND, 0L, 0.0));
+		}
+		GameSimulation slowSimulation = simulations.get(0);
+		GameSimulation fastSimulation = simulations.get(1);
+
+		SuccessiveHalvingAllocator allocator = new SuccessiveHalvingAllocator();
+		// one round with two episodes for every simulation
+		allocator.start(simulations, 4L);
+
+		assertThat(allocator.getNextSimulation(simulations), is(slowSimulation));
+		Mockito.when(slowSimulation.getRunningEpisodes()).thenReturn(1L);
+		assertThat(allocator.getNextSimulation(simulations), is(fastSimulation));
+		Mockito.when(fastSimulation.getEpisodes()).thenReturn(2L);
+		Mockito.when(slowSimulation.getRunningEpisodes()).thenReturn(2L);
+
+		// round target is scheduled, but the episodes of the slow simulation
+		// are still running and must not count as lost
+		assertThat(allocator.getNextSimulation(simulations), is(slowSimulation));
+		Mockito.when(slowSimulation.getRunningEpisodes()).thenReturn(3L);
+		assertThat(allocator.getNextSimulation(simulations), is(slowSimulation));
+
+		// running episodes finish
+		Mockito.when(slowSimulation.getRunningEpisodes()).thenReturn(0L);
+		Mockito.when(slowSimulation.getEpisodes()).thenReturn(3L);
+		Mockito.when(slowSimulation.getWonRate()).thenReturn(1.0);
+
+		assertThat(allocator.getNextSimulation(simulations), is(nullValue()));
+		assertThat(allocator.getBestSimulation(simulations), is(slowSimulation));
+	}
+
+	@Test
+	public void testSimulatorStopsAfterDecision() {
+
+		GameSimulator2 gameSimulator = new GameSimulator2();
+		gameSimulator.setAllocator(new SuccessiveHalvingAllocator());
+		gameSimulator.add(new GameSimulation(GameType.GRAND, Player.FOREHAND, CardList.getPerfectGrandSuitHand()));
+		gameSimulator.add(new GameSimulation(GameType.NULL, Player.FOREHAND, CardList.getPerfectGrandSuitHand()));
+
+		GameSimulation bestSimulation = gameSimulator.simulateMaxEpisodes(1000L);
+
+		assertThat(bestSimulation.getGameType(), is(GameType.GRAND));
+		assertThat(bestSimulation.getEpisodes() < 1000L, is(true));
+	}
+}
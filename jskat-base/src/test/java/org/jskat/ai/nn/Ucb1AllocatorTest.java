@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.util.GameType;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class Ucb1AllocatorTest extends AbstractJSkatTest {
+
+	@Test
+	public void testUnscheduledSimulationFirst() {
+
+		GameSimulation grandSimulation = mockSimulation(GameType.GRAND, 10L, 0.9);
+		GameSimulation nullSimulation = mockSimulation(GameType.NULL, 0L, 0.0);
+		List<GameSimulation> simulations = Arrays.asList(grandSimulation, nullSimulation);
+
+		assertThat(new Ucb1Allocator().getNextSimulation(simulations), is(nullSimulation));
+	}
+
+	@Test
+	public void testExploitationAndExploration() {
+
+		GameSimulation grandSimulation = mockSimulation(GameType.GRAND, 100L, 0.9);
+		GameSimulation nullSimulation = mockSimulation(GameType.NULL, 100L, 0.1);
+		List<GameSimulation> simulations = Arrays.asList(nullSimulation, grandSimulation);
+
+		Ucb1Allocator allocator = new Ucb1Allocator();
+		// same number of episodes --> higher won rate wins
+		assertThat(allocator.getNextSimulation(simulations), is(grandSimulation));
+		assertThat(allocator.getBestSimulation(simulations), is(grandSimulation));
+
+		// rarely simulated arm gets a high exploration bonus
+		Mockito.when(nullSimulation.getEpisodes()).thenReturn(1L);
+		Mockito.when(grandSimulation.getEpisodes()).thenReturn(10000L);
+		assertThat(allocator.getNextSimulation(simulations), is(nullSimulation));
+		assertThat(allocator.getBestSimulation(simulations), is(grandSimulation));
+	}
+
+	static GameSimulation mockSimulation(GameType gameType, long episodes, double wonRate) {
+		GameSimulation simulation = Mockito.mock(GameSimulation.class);
+		Mockito.when(simulation.getGameType()).thenReturn(gameType);
+		Mockito.when(simulation.getEpisodes()).thenReturn(episodes);
+		Mockito.when(simulation.getWonRate()).thenReturn(wonRate);
+		return simulation;
+	}
+}
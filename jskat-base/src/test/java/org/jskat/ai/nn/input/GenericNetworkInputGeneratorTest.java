@@ -0,0 +1,55 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn.input;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.player.PlayerKnowledge;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Test;
+
+public class GenericNetworkInputGeneratorTest {
+
+	@Test
+	public void batchInputsEqualSingleInputs() {
+		PlayerKnowledge knowledge = new PlayerKnowledge();
+		knowledge.resetCurrentGameData();
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.CLUBS);
+		knowledge.setGame(factory.getAnnouncement());
+		knowledge.setPlayerPosition(Player.REARHAND);
+		knowledge.setDeclarer(Player.FOREHAND);
+		CardList cards = new CardList(Card.C8, Card.CT, Card.HA, Card.SJ);
+		knowledge.addOwnCards(cards);
+		knowledge.setNextTrick(0, Player.FOREHAND);
+		knowledge.setCardPlayed(Player.FOREHAND, Card.CA);
+		knowledge.setCardPlayed(Player.MIDDLEHAND, Card.C7);
+
+		GenericNetworkInputGenerator generator = new GenericNetworkInputGenerator();
+		double[][] batchInputs = generator.getNetInputs(knowledge, cards);
+
+		assertEquals(cards.size(), batchInputs.length);
+		for (int i = 0; i < cards.size(); i++) {
+			assertArrayEquals(generator.getNetInputs(knowledge, cards.get(i)), batchInputs[i], 0.0);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Tests for CandidateSelector
+ */
+public class CandidateSelectorTest extends AbstractJSkatTest {
+
+	private static final int SELECTIONS = 1000;
+
+	@Test
+	public void testCompare() {
+		assertEquals(0, CandidateSelector.compare(0.5, 0.5 + 1.0E-17, CandidateSelector.DEFAULT_EPSILON));
+		assertTrue(CandidateSelector.compare(0.5, 0.6, CandidateSelector.DEFAULT_EPSILON) < 0);
+		assertTrue(CandidateSelector.compare(0.6, 0.5, CandidateSelector.DEFAULT_EPSILON) > 0);
+		assertEquals(0, CandidateSelector.compare(0.5, 0.6, 0.2));
+	}
+
+	@Test
+	public void testSelectAboveThreshold() {
+		Random random = new Random(4711L);
+		double[] outputs = { 0.1, 0.9, 0.3, 0.95, 0.0 };
+
+		int[] counts = new int[outputs.length];
+		for (int i = 0; i < SELECTIONS; i++) {
+			counts[CandidateSelector.selectAboveThreshold(outputs, outputs.length, 0.8, random)]++;
+		}
+		assertEquals(SELECTIONS, counts[1] + counts[3]);
+		assertTrue(counts[1] > SELECTIONS / 3);
+		assertTrue(counts[3] > SELECTIONS / 3);
+
+		assertEquals(-1, CandidateSelector.selectAboveThreshold(outputs, outputs.length, 0.99, random));
+		// only the first outputs are candidates
+		assertEquals(1, CandidateSelector.selectAboveThreshold(outputs, 3, 0.8, random));
+	}
+
+	@Test
+	public void testSelectHighestWithTies() {
+		Random random = new Random(4711L);
+		double[] outputs = { 0.7, 0.2, 0.7 + 1.0E-17, 0.69 };
+
+		int[] counts = new int[outputs.length];
+		for (int i = 0; i < SELECTIONS; i++) {
+			counts[CandidateSelector.selectHighest(outputs, outputs.length, CandidateSelector.DEFAULT_EPSILON,
+					random)]++;
+		}
+		assertEquals(SELECTIONS, counts[0] + counts[2]);
+		assertTrue(counts[0] > SELECTIONS / 3);
+		assertTrue(counts[2] > SELECTIONS / 3);
+
+		assertEquals(-1, CandidateSelector.selectHighest(outputs, 0, CandidateSelector.DEFAULT_EPSILON, random));
+		assertEquals(0, CandidateSelector.selectHighest(new double[] { 0.5, 0.4 }, 2, 0.0, random));
+	}
+
+	@Test
+	public void testSelectTopK() {
+		Random random = new Random(4711L);
+		double[] outputs = { 0.1, 0.9, 0.3, 0.8, 0.3 };
+
+		for (int i = 0; i < SELECTIONS; i++) {
+			assertEquals(1, CandidateSelector.selectTopK(outputs, outputs.length, 1, 0.0, random));
+			int index = CandidateSelector.selectTopK(outputs, outputs.length, 2, 0.0, random);
+			assertTrue(index == 1 || index == 3);
+			// both cards with the third highest output can be selected
+			index = CandidateSelector.selectTopK(outputs, outputs.length, 3, 0.0, random);
+			assertTrue(index != 0);
+		}
+		assertEquals(-1, CandidateSelector.selectTopK(outputs, 0, 2, 0.0, random));
+	}
+
+	@Test
+	public void testSelectSoftmax() {
+		Random random = new Random(4711L);
+		double[] outputs = { 0.0, 1.0 };
+
+		int[] counts = new int[outputs.length];
+		for (int i = 0; i < SELECTIONS; i++) {
+			counts[CandidateSelector.selectSoftmax(outputs, outputs.length, 0.1, random)]++;
+		}
+		// exp(10) : exp(0) is about 22000 : 1
+		assertTrue(counts[1] > SELECTIONS * 0.99);
+
+		counts = new int[outputs.length];
+		for (int i = 0; i < SELECTIONS; i++) {
+			counts[CandidateSelector.selectSoftmax(outputs, outputs.length, 1000.0, random)]++;
+		}
+		// high temperatures select almost uniformly
+		assertTrue(counts[0] > SELECTIONS / 3);
+		assertTrue(counts[1] > SELECTIONS / 3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSelectSoftmaxWithoutTemperature() {
+		CandidateSelector.selectSoftmax(new double[] { 0.5 }, 1, 0.0, new Random());
+	}
+}
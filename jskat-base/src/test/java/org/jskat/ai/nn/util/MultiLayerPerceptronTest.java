@@ -0,0 +1,211 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.nn.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.encog.ml.data.basic.BasicMLData;
+import org.encog.ml.data.basic.BasicMLDataSet;
+import org.encog.neural.networks.BasicNetwork;
+import org.encog.neural.networks.PersistBasicNetwork;
+import org.encog.neural.networks.training.propagation.back.Backpropagation;
+import org.encog.neural.networks.training.propagation.resilient.RPROPType;
+import org.encog.neural.networks.training.propagation.resilient.ResilientPropagation;
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MultiLayerPerceptron}
+ */
+public class MultiLayerPerceptronTest extends AbstractJSkatTest {
+
+	private static final String NETWORK_FILE = "/org/jskat/ai/nn/data/jskat.GRAND.DECLARER.TRICK0.nnet";
+
+	private static final double DELTA = 0.0000001;
+
+	private final Random random = new Random(42L);
+
+	/**
+	 * Loaded networks compute the same outcome as Encog networks
+	 */
+	@Test
+	public void testSameOutcomeAsEncog() {
+
+		EncogNetworkWrapper encogNetwork = new EncogNetworkWrapper(new NetworkTopology(2, new int[] { 2 }, 1), true);
+		encogNetwork.loadNetwork(NETWORK_FILE, 0, 0, 0);
+		MultiLayerPerceptron network = MultiLayerPerceptron.fromFile(NETWORK_FILE);
+
+		for (int i = 0; i < 10; i++) {
+			double[] inputs = getRandomInputs(1092);
+			assertEquals(encogNetwork.getPredictedOutcome(inputs), network.getPredictedOutcome(inputs), DELTA);
+
+			double[] outputs = new double[1];
+			network.compute(inputs, outputs, new double[network.getBufferSize()]);
+			assertEquals(network.getPredictedOutcome(inputs), outputs[0], 0.0);
+		}
+	}
+
+	/**
+	 * Batch evaluation computes the same outcomes as single evaluations
+	 */
+	@Test
+	public void testBatchOutcomes() {
+
+		MultiLayerPerceptron network = MultiLayerPerceptron.fromFile(NETWORK_FILE);
+
+		double[][] inputs = new double[5][];
+		for (int i = 0; i < inputs.length; i++) {
+			inputs[i] = getRandomInputs(1092);
+		}
+		double[] outcomes = new double[inputs.length];
+		network.getPredictedOutcomes(inputs, outcomes);
+
+		for (int i = 0; i < inputs.length; i++) {
+			assertEquals(network.getPredictedOutcome(inputs[i]), outcomes[i], DELTA);
+		}
+	}
+
+	/**
+	 * Saved networks can be loaded by Encog
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testSaveNetwork() throws IOException {
+
+		MultiLayerPerceptron network = new MultiLayerPerceptron(new NetworkTopology(3, new int[] { 4 }, 1), true);
+
+		File file = File.createTempFile("jskat", ".nnet");
+		file.deleteOnExit();
+		assertTrue(network.saveNetwork(file.getAbsolutePath()));
+
+		BasicNetwork encogNetwork;
+		try (FileInputStream stream = new FileInputStream(file)) {
+			encogNetwork = (BasicNetwork) new PersistBasicNetwork().read(stream);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			double[] inputs = getRandomInputs(3);
+			assertEquals(encogNetwork.compute(new BasicMLData(inputs)).getData(0),
+					network.getPredictedOutcome(inputs), DELTA);
+		}
+	}
+
+	/**
+	 * Single training steps adjust the weights like the Encog back
+	 * propagation
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testSameTrainingAsEncog() throws IOException {
+
+		MultiLayerPerceptron network = new MultiLayerPerceptron(new NetworkTopology(3, new int[] { 4 }, 1), true);
+		BasicNetwork encogNetwork = toEncogNetwork(network);
+
+		double[] inputs = getRandomInputs(3);
+		double[] outputs = { 1.0 };
+
+		Backpropagation trainer = new Backpropagation(encogNetwork,
+				new BasicMLDataSet(new double[][] { inputs }, new double[][] { outputs }), 0.07, 0.02);
+		trainer.setBatchSize(1);
+		trainer.iteration();
+
+		assertEquals(trainer.getError(), network.adjustWeights(inputs, outputs), DELTA);
+		assertSameOutcomes(encogNetwork, network);
+	}
+
+	/**
+	 * Batch training adjusts the weights like the Encog resilient propagation
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testSameBatchTrainingAsEncog() throws IOException {
+
+		MultiLayerPerceptron network = new MultiLayerPerceptron(new NetworkTopology(3, new int[] { 4 }, 1), true);
+		BasicNetwork encogNetwork = toEncogNetwork(network);
+
+		double[][] inputs = new double[5][];
+		double[][] outputs = new double[inputs.length][];
+		for (int i = 0; i < inputs.length; i++) {
+			inputs[i] = getRandomInputs(3);
+			outputs[i] = new double[] { random.nextInt(2) };
+		}
+
+		ResilientPropagation trainer = new ResilientPropagation(encogNetwork, new BasicMLDataSet(inputs, outputs));
+		trainer.setRPROPType(RPROPType.iRPROPp);
+		trainer.setBatchSize(0);
+		trainer.iteration();
+
+		assertEquals(trainer.getError(), network.adjustWeightsBatch(inputs, outputs), DELTA);
+		assertSameOutcomes(encogNetwork, network);
+	}
+
+	private BasicNetwork toEncogNetwork(MultiLayerPerceptron network) throws IOException {
+
+		File file = File.createTempFile("jskat", ".nnet");
+		file.deleteOnExit();
+		assertTrue(network.saveNetwork(file.getAbsolutePath()));
+
+		try (FileInputStream stream = new FileInputStream(file)) {
+			return (BasicNetwork) new PersistBasicNetwork().read(stream);
+		}
+	}
+
+	private void assertSameOutcomes(BasicNetwork encogNetwork, MultiLayerPerceptron network) {
+		for (int i = 0; i < 10; i++) {
+			double[] inputs = getRandomInputs(3);
+			assertEquals(encogNetwork.compute(new BasicMLData(inputs)).getData(0),
+					network.getPredictedOutcome(inputs), DELTA);
+		}
+	}
+
+	/**
+	 * Tests the training with an XOR example
+	 */
+	@Test
+	public void testXOR() {
+
+		MultiLayerPerceptron network = new MultiLayerPerceptron(new NetworkTopology(2, new int[] { 3 }, 1), true);
+
+		double[][] input = { { 1.0, 1.0 }, { 1.0, 0.0 }, { 0.0, 1.0 }, { 0.0, 0.0 } };
+		double[][] output = { { 0.0 }, { 1.0 }, { 1.0 }, { 0.0 } };
+
+		double firstError = network.adjustWeightsBatch(input, output);
+		double error = firstError;
+		for (int i = 0; i < 1000; i++) {
+			error = network.adjustWeightsBatch(input, output);
+		}
+
+		assertTrue(error < firstError);
+		assertEquals(1001L, network.getIterations());
+	}
+
+	private double[] getRandomInputs(int count) {
+		double[] result = new double[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = random.nextInt(2);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,275 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.ai.solver;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.Trick;
+import org.jskat.player.PlayerKnowledge;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.rule.SkatRule;
+import org.jskat.util.rule.SkatRuleFactory;
+import org.junit.Test;
+
+/**
+ * Tests for DoubleDummySolver
+ */
+public class DoubleDummySolverTest extends AbstractJSkatTest {
+
+	private static final int CARDS_PER_PLAYER = 4;
+	private static final int POSITIONS = 30;
+
+	/**
+	 * Declarer takes the last trick with the highest trump
+	 */
+	@Test
+	public void testLastTrick() {
+
+		DoubleDummySolver solver = new DoubleDummySolver(GameType.GRAND);
+		int[] cards = { CardMask.of(Card.CJ), CardMask.of(Card.HA),
+				CardMask.of(Card.DT) };
+
+		assertEquals(23, solver.solve(Player.FOREHAND, cards,
+				Player.MIDDLEHAND, new CardList()));
+		assertEquals(0, solver.solve(Player.MIDDLEHAND, cards,
+				Player.MIDDLEHAND, new CardList()));
+	}
+
+	/**
+	 * Declarer of a null game can't be forced to take a trick
+	 */
+	@Test
+	public void testNullGame() {
+
+		DoubleDummySolver solver = new DoubleDummySolver(GameType.NULL);
+		int[] cards = { CardMask.of(new CardList(Card.C7, Card.S7)),
+				CardMask.of(new CardList(Card.CA, Card.SA)),
+				CardMask.of(new CardList(Card.CK, Card.SK)) };
+
+		assertEquals(0, solver.solve(Player.FOREHAND, cards, Player.FOREHAND,
+				new CardList()));
+
+		cards[0] = CardMask.of(new CardList(Card.C7, Card.SA));
+		cards[1] = CardMask.of(new CardList(Card.CA, Card.S7));
+		assertEquals(1, solver.solve(Player.FOREHAND, cards, Player.FOREHAND,
+				new CardList()));
+	}
+
+	/**
+	 * The solver gives the same values as a complete search without pruning
+	 */
+	@Test
+	public void testCompareWithCompleteSearch() {
+
+		Random random = new Random(4711L);
+		for (GameType gameType : new GameType[] { GameType.CLUBS,
+				GameType.GRAND, GameType.NULL, GameType.RAMSCH }) {
+
+			DoubleDummySolver solver = new DoubleDummySolver(gameType, 8);
+			for (int i = 0; i < POSITIONS; i++) {
+
+				List<Card> deck = new ArrayList<Card>();
+				Collections.addAll(deck, Card.values());
+				Collections.shuffle(deck, random);
+
+				int[] cards = new int[Player.values().length + 1];
+				for (int player = 0; player < Player.values().length; player++) {
+					cards[player] = CardMask.of(deck.subList(
+							player * CARDS_PER_PLAYER, (player + 1)
+									* CARDS_PER_PLAYER));
+				}
+				cards[Player.values().length] = CardMask.of(deck.subList(
+						Player.values().length * CARDS_PER_PLAYER,
+						Player.values().length * CARDS_PER_PLAYER + 2));
+				Player singlePlayer = Player.values()[random.nextInt(3)];
+				Player foreHand = Player.values()[random.nextInt(3)];
+
+				int value = searchCompletely(gameType, singlePlayer, cards,
+						foreHand);
+				assertEquals(gameType + " position " + i, value, solver.solve( //$NON-NLS-1$
+						singlePlayer, cards, foreHand, new CardList()));
+
+				// the best card of the fore hand has the same value
+				boolean isMaximizing = solver.isMaximizing(foreHand,
+						singlePlayer);
+				int bestValue = isMaximizing ? Integer.MIN_VALUE
+						: Integer.MAX_VALUE;
+				for (Integer cardValue : solver.solveCards(singlePlayer, cards,
+						foreHand, new CardList()).values()) {
+					bestValue = isMaximizing ? Math.max(bestValue, cardValue)
+							: Math.min(bestValue, cardValue);
+				}
+				assertEquals(value, bestValue);
+			}
+		}
+	}
+
+	/**
+	 * All allowed cards of the next player are evaluated
+	 */
+	@Test
+	public void testSolveCards() {
+
+		DoubleDummySolver solver = new DoubleDummySolver(GameType.CLUBS);
+		int[] cards = { CardMask.of(new CardList(Card.HA, Card.H7)),
+				CardMask.of(new CardList(Card.HT, Card.SA)),
+				CardMask.of(Card.S7) };
+
+		Map<Card, Integer> values = solver.solveCards(Player.FOREHAND, cards,
+				Player.REARHAND, new CardList(Card.HK));
+
+		assertEquals(2, values.size());
+		// the ace takes both tricks, with the seven the opponents take both
+		assertEquals(Integer.valueOf(36), values.get(Card.HA));
+		assertEquals(Integer.valueOf(0), values.get(Card.H7));
+	}
+
+	/**
+	 * Game data is solved with the points already taken and the skat
+	 */
+	@Test
+	public void testSolveGameData() {
+
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.GRAND);
+		SkatGameData data = new SkatGameData();
+		data.setAnnouncement(factory.getAnnouncement());
+		data.setDeclarer(Player.FOREHAND);
+		data.addPlayerCards(Player.FOREHAND, new CardList(Card.CJ));
+		data.addPlayerCards(Player.MIDDLEHAND, new CardList(Card.HA));
+		data.addPlayerCards(Player.REARHAND, new CardList(Card.DT));
+		data.setSkatCards(new CardList(Card.SK, Card.S7));
+		data.addPlayerPoints(Player.FOREHAND, 30);
+
+		assertEquals(30 + 4 + 23, new DoubleDummySolver(GameType.GRAND)
+				.solve(data));
+	}
+
+	/**
+	 * The card with the best average value over sampled card distributions is
+	 * selected
+	 */
+	@Test
+	public void testPerfectInformationMonteCarlo() {
+
+		PlayerKnowledge knowledge = new PlayerKnowledge();
+		knowledge.resetCurrentGameData();
+		knowledge.setPlayerPosition(Player.FOREHAND);
+		knowledge.setDeclarer(Player.FOREHAND);
+		knowledge.addOwnCards(new CardList(Card.CJ, Card.SJ, Card.HJ,
+				Card.DJ, Card.CA, Card.CT, Card.CK, Card.CQ, Card.C9, Card.C8));
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.CLUBS);
+		knowledge.setGame(factory.getAnnouncement());
+		knowledge.setNextTrick(0, Player.FOREHAND);
+
+		PerfectInformationMonteCarlo pimc = new PerfectInformationMonteCarlo(3);
+		Map<Card, Double> values = pimc.evaluateCards(knowledge, new Random(
+				4711L));
+
+		// declarer takes all tricks with every card
+		assertEquals(10, values.size());
+		double expectedValue = values.get(Card.CJ).doubleValue();
+		assertTrue(expectedValue >= 120.0 - 2 * Card.CA.getPoints());
+		for (Double value : values.values()) {
+			assertEquals(expectedValue, value.doubleValue(), 0.0);
+		}
+		assertTrue(knowledge.getOwnCards().contains(
+				pimc.selectCard(knowledge, new Random(4711L))));
+	}
+
+	private static int searchCompletely(final GameType gameType,
+			final Player singlePlayer, final int[] cards, final Player foreHand) {
+
+		List<CardList> hands = new ArrayList<CardList>();
+		for (Player player : Player.values()) {
+			hands.add(CardMask.toCardList(cards[player.ordinal()]));
+		}
+		int skatPoints = CardMask.toCardList(cards[Player.values().length])
+				.getTotalValue();
+		return searchCompletely(SkatRuleFactory.getSkatRules(gameType),
+				gameType, singlePlayer, hands, new Trick(0, foreHand),
+				foreHand, skatPoints);
+	}
+
+	private static int searchCompletely(final SkatRule rule,
+			final GameType gameType, final Player singlePlayer,
+			final List<CardList> hands, final Trick trick,
+			final Player nextPlayer, final int skatPoints) {
+
+		boolean isSinglePlayerAvoidingTricks = gameType == GameType.NULL
+				|| gameType == GameType.RAMSCH;
+		boolean isMaximizing = (nextPlayer == singlePlayer) != isSinglePlayerAvoidingTricks;
+
+		CardList hand = hands.get(nextPlayer.ordinal());
+		if (hand.isEmpty()) {
+			return 0;
+		}
+
+		int result = isMaximizing ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		for (Card card : new CardList(hand)) {
+			if (!rule.isCardAllowed(gameType, trick.getFirstCard(), hand, card)) {
+				continue;
+			}
+
+			hand.remove(card);
+			Trick nextTrick = (Trick) trick.clone();
+			nextTrick.addCard(card);
+
+			int value;
+			if (nextTrick.getThirdCard() == null) {
+				value = searchCompletely(rule, gameType, singlePlayer, hands,
+						nextTrick, nextPlayer.getLeftNeighbor(), skatPoints);
+			} else {
+				Player winner = rule.calculateTrickWinner(gameType, nextTrick);
+				int gain = 0;
+				if (winner == singlePlayer) {
+					gain = gameType == GameType.NULL ? 1 : nextTrick.getValue();
+					if (gameType == GameType.RAMSCH && hand.isEmpty()) {
+						gain += skatPoints;
+					}
+				}
+				if (gameType == GameType.NULL && gain > 0) {
+					value = 1;
+				} else {
+					value = gain + searchCompletely(rule, gameType,
+							singlePlayer, hands, new Trick(0, winner), winner,
+							skatPoints);
+				}
+			}
+			hand.add(card);
+
+			result = isMaximizing ? Math.max(result, value) : Math.min(result,
+					value);
+		}
+		return result;
+	}
+}
@@ -25,8 +25,10 @@ import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -39,11 +41,16 @@ import org.jskat.ai.test.PlayNonPossessingCardTestPlayer;
 import org.jskat.ai.test.PlayNotAllowedCardTestPlayer;
 import org.jskat.ai.test.RamschTestPlayer;
 import org.jskat.ai.test.UnitTestPlayer;
+import org.jskat.control.command.table.CreateTableCommand;
+import org.jskat.control.command.table.RemoveTableCommand;
+import org.jskat.control.event.skatgame.CardDealEvent;
+import org.jskat.control.event.skatgame.SkatGameEvent;
 import org.jskat.data.DesktopSavePathResolver;
 import org.jskat.data.GameAnnouncement;
 import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
 import org.jskat.data.GameSummary;
 import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatViewType;
 import org.jskat.data.SkatGameData.GameState;
 import org.jskat.data.SkatGameResult;
 import org.jskat.data.SkatTableOptions.RuleSet;
@@ -51,7 +58,9 @@ import org.jskat.data.Trick;
 import org.jskat.gui.UnitTestView;
 import org.jskat.player.JSkatPlayer;
 import org.jskat.util.Card;
+import org.jskat.util.CardDealer;
 import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
 import org.jskat.util.GameType;
 import org.jskat.util.GameVariant;
 import org.jskat.util.Player;
@@ -59,6 +68,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
 /**
  * Test class for {@link SkatGame}
@@ -469,6 +479,83 @@ public class SkatGameTest extends AbstractJSkatTest {
 		assertEquals(88, result.getFinalOpponentPoints());
 	}
 
+	/**
+	 * Headless games run synchronously on the calling thread without a view
+	 */
+	@Test
+	public void testHeadlessGame() {
+		UnitTestPlayer foreHand = new UnitTestPlayer();
+		foreHand.setCardsToPlay(Arrays.asList(Card.C7, Card.SJ, Card.C9,
+				Card.H8, Card.DQ, Card.D7, Card.CT, Card.DK, Card.CA, Card.CK));
+
+		UnitTestPlayer middleHand = new UnitTestPlayer();
+		middleHand.setCardsToPlay(Arrays.asList(Card.CQ, Card.C8, Card.SQ,
+				Card.ST, Card.S9, Card.HT, Card.HA, Card.DA, Card.HK, Card.D9));
+
+		UnitTestPlayer rearHand = new UnitTestPlayer();
+		rearHand.setCardsToPlay(Arrays.asList(Card.DJ, Card.CJ, Card.HJ,
+				Card.SA, Card.S8, Card.H7, Card.H9, Card.D8, Card.HQ, Card.DT));
+
+		SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD,
+				foreHand, middleHand, rearHand);
+		game.setHeadless(true);
+
+		CardDeck deck = new CardDeck("SJ CA CT CK C9 C7 H8 DK DQ D7",
+				"CQ C8 ST SQ S9 HA HT HK DA D9",
+				"CJ HJ DJ SA S8 HQ H9 H7 DT D8", "SK S7");
+		game.setCardDeck(deck);
+		game.dealCards();
+		game.setDeclarer(Player.MIDDLEHAND);
+		GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GameType.CLUBS);
+		game.setGameAnnouncement(factory.getAnnouncement());
+		game.setGameState(GameState.TRICK_PLAYING);
+
+		game.run();
+
+		assertFalse(game.isAlive());
+		assertEquals(GameState.GAME_OVER, game.getGameState());
+		SkatGameResult result = game.getGameResult();
+		assertEquals(32, result.getFinalDeclarerPoints());
+		assertEquals(88, result.getFinalOpponentPoints());
+	}
+
+	/**
+	 * Game moves on training tables bypass the event busses
+	 */
+	@Test
+	public void testDirectDispatchOnTrainingTable() {
+
+		final String trainingTableName = "TRAINING TEST";
+		JSkatEventBus.INSTANCE.post(new CreateTableCommand(JSkatViewType.TRAINING_TABLE, trainingTableName));
+		assertTrue(JSkatEventBus.isDirectDispatchTable(trainingTableName));
+		assertFalse(JSkatEventBus.isDirectDispatchTable(TABLE_NAME));
+
+		final List<SkatGameEvent> postedEvents = new ArrayList<>();
+		JSkatEventBus.TABLE_EVENT_BUSSES.get(trainingTableName).register(new Object() {
+			@Subscribe
+			public void on(final SkatGameEvent event) {
+				postedEvents.add(event);
+			}
+		});
+
+		SkatGame game = new SkatGame(trainingTableName, GameVariant.STANDARD,
+				new AIPlayerRND(), new AIPlayerRND(), new AIPlayerRND());
+		game.setHeadless(true);
+
+		randomGameAnnouncement(game);
+
+		game.run();
+
+		assertTrue(postedEvents.isEmpty());
+		assertFalse(game.getGameMoves().isEmpty());
+		assertThat(game.getGameMoves().get(0) instanceof CardDealEvent, is(true));
+		assertEquals(GameState.GAME_OVER, game.getGameState());
+
+		JSkatEventBus.INSTANCE.post(new RemoveTableCommand(trainingTableName, JSkatViewType.TRAINING_TABLE));
+		assertFalse(JSkatEventBus.isDirectDispatchTable(trainingTableName));
+	}
+
 	/**
 	 * Tests the fix for Issue #33:<br>
 	 *
@@ -512,4 +599,35 @@ public class SkatGameTest extends AbstractJSkatTest {
 		assertThat(result.isSchneider(), is(false));
 		assertThat(result.getGameValue(), is(33));
 	}
+
+	/**
+	 * Games with the same deal seed get the same cards
+	 */
+	@Test
+	public void testDealSeed_ReplaysCards() {
+
+		final long dealSeed = 4711L;
+		CardList foreHand = new CardList();
+		CardList middleHand = new CardList();
+		CardList rearHand = new CardList();
+		CardList skat = new CardList();
+		CardDealer.deal(dealSeed, foreHand, middleHand, rearHand, skat);
+
+		for (int i = 0; i < 2; i++) {
+			SkatGame game = new SkatGame(TABLE_NAME, GameVariant.STANDARD,
+					new AIPlayerRND(), new AIPlayerRND(), new AIPlayerRND());
+			game.setView(new UnitTestView());
+			game.setDealSeed(dealSeed);
+			game.dealCards();
+
+			CardDealEvent event = (CardDealEvent) game.getGameMoves().get(0);
+			assertEquals(foreHand.getMask(),
+					event.playerCards.get(Player.FOREHAND).getMask());
+			assertEquals(middleHand.getMask(),
+					event.playerCards.get(Player.MIDDLEHAND).getMask());
+			assertEquals(rearHand.getMask(),
+					event.playerCards.get(Player.REARHAND).getMask());
+			assertEquals(skat.getMask(), event.skat.getMask());
+		}
+	}
 }
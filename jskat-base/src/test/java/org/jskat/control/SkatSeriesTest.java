@@ -61,5 +61,7 @@ public class SkatSeriesTest extends AbstractJSkatTest {
 		}
 
 		assertEquals(SeriesState.SERIES_FINISHED, series.getSeriesState());
+		assertEquals(3, series.getHistory().getGameCount());
+		assertEquals(3, series.getHistory().getRecentGames().size());
 	}
 }
@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.control.iss.IssGameIndex.Entry;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IssGameExtractor} and {@link IssGameIndex}
+ */
+public class IssGameExtractorTest extends AbstractJSkatTest {
+
+	private final static String LOST_SUIT_GAME = "(;GM[Skat]PC[International Skat Server]CO[]SE[24072]ID[541932]DT[2010-12-06/18:59:24/UTC]P0[zoot]P1[kermit]P2[foo]R0[]R1[]R2[0.0]MV[w HA.SK.SJ.SA.CQ.S8.C9.H7.H9.DQ.CJ.S9.DJ.S7.D9.SQ.C8.HQ.DK.CA.D8.D7.DT.CT.ST.C7.HK.DA.HT.HJ.H8.CK 1 p 2 18 0 p 2 s w H8.CK 2 D.ST.H8 0 SA 1 S7 2 DA 2 HJ 0 SJ 1 D9 0 DQ 1 DJ 2 D7 1 CJ 2 D8 0 CQ 1 CA 2 C7 0 C9 1 S9 2 DT 0 S8 2 CT 0 H7 1 C8 2 CK 0 H9 1 HQ 2 HK 0 HA 1 SQ 0 SK 1 DK 2 HT ]R[d:2 loss v:-54 m:-2 bidok p:59 t:4 s:0 z:0 p0:0 p1:0 p2:0 l:-1 to:-1 r:0] ;)"; //$NON-NLS-1$
+	private final static String WON_GRAND_GAME = "(;GM[Skat]PC[International Skat Server]CO[]SE[29859]ID[684159]DT[2011-04-05/20:35:55/UTC]P0[foo]P1[xskat:2]P2[xskat]R0[0.0]R1[]R2[]MV[w SQ.DK.ST.S7.CT.HK.S9.SK.H7.C7.DT.CA.CQ.CK.DJ.DA.H8.SA.D7.C8.SJ.HA.CJ.S8.C9.DQ.HJ.HQ.D9.D8.HT.H9 1 18 0 y 1 20 0 y 1 22 0 y 1 23 0 y 1 24 0 y 1 p 2 27 0 p 2 s w HT.H9 2 G.S8.C9 0 DK 1 DA 2 D8 1 DT 2 D9 0 ST 1 SA 2 CJ 0 S7 2 HJ 0 CT 1 DJ 2 DQ 0 C7 1 D7 2 HA 0 H7 1 H8 2 HT 0 HK 1 C8 2 HQ 0 S9 1 CQ 2 H9 0 SQ 1 CK 2 SJ 0 SK 1 CA ]R[d:2 win v:96 m:3 bidok p:85 t:8 s:0 z:0 p0:0 p1:0 p2:0 l:-1 to:-1 r:0] ;)"; //$NON-NLS-1$
+
+	private Path archive;
+	private Path indexFile;
+
+	/**
+	 * Creates an archive with two games and a broken line
+	 * 
+	 * @throws IOException
+	 */
+	@Before
+	public void createArchive() throws IOException {
+		this.archive = Files.createTempFile("issgames", ".sgf"); //$NON-NLS-1$ //$NON-NLS-2$
+		this.indexFile = Files.createTempFile("issgames", ".idx"); //$NON-NLS-1$ //$NON-NLS-2$
+		Files.write(this.archive, Arrays.asList(LOST_SUIT_GAME,
+				"(;GM[Skat]MV[w broken]", "", WON_GRAND_GAME), //$NON-NLS-1$ //$NON-NLS-2$
+				StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Deletes the temporary files
+	 * 
+	 * @throws IOException
+	 */
+	@After
+	public void deleteArchive() throws IOException {
+		Files.deleteIfExists(this.archive);
+		Files.deleteIfExists(this.indexFile);
+	}
+
+	/**
+	 * All parseable games are indexed in archive order
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void testExtract() throws IOException {
+
+		final IssGameExtractor extractor = new IssGameExtractor(this.archive);
+		extractor.setThreadCount(2);
+		final IssGameIndex index = extractor.extract();
+
+		assertEquals(1, extractor.getFailedGames());
+		assertEquals(2, index.getEntries().size());
+		assertTrue(index.isUpToDate(this.archive));
+
+		final Entry lostGame = index.getEntries().get(0);
+		assertEquals(1, lostGame.getGameNo());
+		assertEquals(Player.REARHAND, lostGame.getDeclarer());
+		assertEquals(59, lostGame.getDeclarerPoints());
+		assertFalse(lostGame.isGameWon());
+		assertEquals("kermit", lostGame.getPlayerName(Player.MIDDLEHAND)); //$NON-NLS-1$
+
+		final Entry wonGame = index.getEntries().get(1);
+		assertEquals(3, wonGame.getGameNo());
+		assertEquals(GameType.GRAND, wonGame.getGameType());
+		assertEquals(85, wonGame.getDeclarerPoints());
+		assertTrue(wonGame.isGameWon());
+
+		assertEquals(LOST_SUIT_GAME,
+				IssGameIndex.readGameSummary(this.archive, lostGame));
+		assertEquals(WON_GRAND_GAME,
+				IssGameIndex.readGameSummary(this.archive, wonGame));
+		assertEquals(GameType.GRAND,
+				IssGameIndex.readGame(this.archive, wonGame).getGameType());
+	}
+
+	/**
+	 * Only games passing the filter are indexed
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void testExtractWithFilter() throws IOException {
+
+		final IssGameFilter filter = new IssGameFilter();
+		filter.setGameTypes(GameType.GRAND);
+
+		final IssGameExtractor extractor = new IssGameExtractor(this.archive);
+		extractor.setFilter(filter);
+		final List<Entry> entries = extractor.extract().getEntries();
+
+		assertEquals(1, entries.size());
+		assertEquals(GameType.GRAND, entries.get(0).getGameType());
+	}
+
+	/**
+	 * A saved index can be loaded and queried without the archive being parsed
+	 * again
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void testSaveLoadAndQuery() throws IOException {
+
+		new IssGameExtractor(this.archive).extract().save(this.indexFile);
+		final IssGameIndex index = IssGameIndex.load(this.indexFile);
+
+		assertEquals(2, index.getEntries().size());
+		assertTrue(index.isUpToDate(this.archive));
+		assertEquals(Player.REARHAND, index.getEntries().get(0).getDeclarer());
+
+		final IssGameFilter filter = new IssGameFilter();
+		filter.setPlayerName("xskat:2"); //$NON-NLS-1$
+		filter.setGameWon(Boolean.TRUE);
+		final List<Entry> entries = index.query(filter);
+		assertEquals(1, entries.size());
+		assertEquals(WON_GRAND_GAME,
+				IssGameIndex.readGameSummary(this.archive, entries.get(0)));
+
+		filter.setDeclarerPoints(0, 60);
+		assertTrue(index.query(filter).isEmpty());
+	}
+}
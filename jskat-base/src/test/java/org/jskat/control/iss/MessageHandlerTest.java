@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.iss;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.control.iss.MessageHandler.BacklogPolicy;
+import org.junit.Test;
+
+/**
+ * Tests for the message queue of {@link MessageHandler}
+ */
+public class MessageHandlerTest extends AbstractJSkatTest {
+
+	/**
+	 * Messages are handled in arrival order until the connection is lost
+	 * 
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testHandleUntilDisconnect() throws InterruptedException {
+
+		final MessageHandler handler = new MessageHandler(
+				mock(IssController.class), 10, BacklogPolicy.BLOCK);
+
+		handler.addMessage("unknown message 1"); //$NON-NLS-1$
+		handler.addMessage("unknown message 2"); //$NON-NLS-1$
+		handler.addMessage(null);
+
+		assertEquals(3, handler.getMaxQueueDepth());
+
+		handler.start();
+		handler.join(10000);
+
+		assertFalse(handler.isAlive());
+		assertEquals(0, handler.getQueueDepth());
+		assertEquals(3, handler.getHandledMessages());
+		assertEquals(0, handler.getDroppedMessages());
+		assertTrue(handler.getMaxParseLatency() >= handler
+				.getAverageParseLatency());
+	}
+
+	/**
+	 * A full backlog drops the oldest messages, but never the disconnect
+	 * message
+	 */
+	@Test
+	public void testDropOldest() {
+
+		final MessageHandler handler = new MessageHandler(
+				mock(IssController.class), 2, BacklogPolicy.DROP_OLDEST);
+
+		handler.addMessage("unknown message 1"); //$NON-NLS-1$
+		handler.addMessage("unknown message 2"); //$NON-NLS-1$
+		handler.addMessage("unknown message 3"); //$NON-NLS-1$
+
+		assertEquals(2, handler.getQueueDepth());
+		assertEquals(1, handler.getDroppedMessages());
+		assertEquals(2, handler.getMaxQueueDepth());
+	}
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+import static org.junit.Assert.assertEquals;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.util.GameType;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SeegerFabianScore}
+ */
+public class SeegerFabianScoreTest extends AbstractJSkatTest {
+
+	/**
+	 * Won and lost games of the declarer
+	 */
+	@Test
+	public void testDeclarerScore() {
+		assertEquals(98, SeegerFabianScore.getDeclarerScore(GameType.GRAND,
+				true, 48));
+		assertEquals(-98, SeegerFabianScore.getDeclarerScore(GameType.CLUBS,
+				false, -48));
+		assertEquals(0, SeegerFabianScore.getDeclarerScore(
+				GameType.PASSED_IN, false, 0));
+	}
+
+	/**
+	 * Opponents only score for lost games of the declarer
+	 */
+	@Test
+	public void testOpponentScore() {
+		assertEquals(0,
+				SeegerFabianScore.getOpponentScore(GameType.NULL, true));
+		assertEquals(40,
+				SeegerFabianScore.getOpponentScore(GameType.NULL, false));
+		assertEquals(0,
+				SeegerFabianScore.getOpponentScore(GameType.RAMSCH, false));
+	}
+}
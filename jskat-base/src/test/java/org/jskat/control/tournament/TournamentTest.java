@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.control.tournament;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Tournament}
+ */
+public class TournamentTest extends AbstractJSkatTest {
+
+	private static final String RND_PLAYER = AIPlayerRND.class.getName();
+
+	/**
+	 * Every deal is played in all six seat permutations
+	 */
+	@Test
+	public void testRun() {
+
+		final Tournament tournament = new Tournament(Arrays.asList(RND_PLAYER,
+				RND_PLAYER, RND_PLAYER));
+		tournament.setDeals(4);
+		tournament.setThreadCount(2);
+		tournament.setSeed(42);
+
+		final TournamentResult result = tournament.run();
+
+		assertEquals(4, result.getDeals());
+		assertEquals(24, result.getGames());
+		assertEquals(0, result.getFailedGames());
+		assertEquals(3, result.getContestants().size());
+
+		long declarerGames = 0;
+		for (ContestantStatistics contestant : result.getContestants()) {
+			assertEquals(4, contestant.getDeals());
+			declarerGames += contestant.getDeclarerGames();
+		}
+		// at most one declarer per game
+		assertTrue(declarerGames <= result.getGames());
+	}
+}
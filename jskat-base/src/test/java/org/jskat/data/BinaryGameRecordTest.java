@@ -0,0 +1,227 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.control.event.skatgame.BidEvent;
+import org.jskat.control.event.skatgame.CardDealEvent;
+import org.jskat.control.event.skatgame.DiscardSkatEvent;
+import org.jskat.control.event.skatgame.GameAnnouncementEvent;
+import org.jskat.control.event.skatgame.HoldBidEvent;
+import org.jskat.control.event.skatgame.PassBidEvent;
+import org.jskat.control.event.skatgame.PickUpSkatEvent;
+import org.jskat.control.event.skatgame.TrickCardPlayedEvent;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
+import org.jskat.util.CardMask;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BinaryGameRecord}
+ */
+public class BinaryGameRecordTest extends AbstractJSkatTest {
+
+	/**
+	 * Games survive encoding and decoding
+	 */
+	@Test
+	public void testEncodeDecode() {
+
+		for (GameType gameType : Arrays.asList(GameType.CLUBS, GameType.GRAND,
+				GameType.NULL)) {
+			for (long seed = 0; seed < 10; seed++) {
+				final SkatGameData gameData = playGame(seed, gameType);
+				final byte[] record = BinaryGameRecord.encode(gameData);
+
+				assertTrue(record.length <= BinaryGameRecord.MAX_LENGTH);
+				assertGameData(gameData, BinaryGameRecord.decode(record));
+			}
+		}
+	}
+
+	/**
+	 * Game summaries survive encoding and decoding
+	 */
+	@Test
+	public void testEncodeDecodeSummary() {
+
+		final GameSummary summary = playGame(42, GameType.SPADES)
+				.getGameSummary();
+		final GameSummary decoded = BinaryGameRecord
+				.decodeSummary(BinaryGameRecord.encode(summary));
+
+		assertEquals(summary.getGameType(), decoded.getGameType());
+		assertEquals(summary.declarer, decoded.declarer);
+		assertEquals(summary.isGameWon(), decoded.isGameWon());
+		assertEquals(summary.getGameValue(), decoded.getGameValue());
+		assertEquals(summary.getFinalDeclarerPoints(),
+				decoded.getFinalDeclarerPoints());
+		assertEquals(summary.tricks.size(), decoded.tricks.size());
+		for (int i = 0; i < summary.tricks.size(); i++) {
+			assertEquals(summary.tricks.get(i).getCardList(),
+					decoded.tricks.get(i).getCardList());
+			assertEquals(summary.tricks.get(i).getTrickWinner(), decoded.tricks
+					.get(i).getTrickWinner());
+		}
+	}
+
+	/**
+	 * Records can be streamed
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void testReadWrite() throws IOException {
+
+		final List<SkatGameData> games = new ArrayList<SkatGameData>();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (BinaryGameRecordWriter writer = new BinaryGameRecordWriter(bytes)) {
+			for (long seed = 0; seed < 5; seed++) {
+				final SkatGameData gameData = playGame(seed, GameType.HEARTS);
+				games.add(gameData);
+				writer.write(gameData);
+			}
+		}
+
+		try (BinaryGameRecordReader reader = new BinaryGameRecordReader(
+				new ByteArrayInputStream(bytes.toByteArray()))) {
+			for (SkatGameData gameData : games) {
+				assertGameData(gameData, reader.read());
+			}
+			assertNull(reader.read());
+		}
+	}
+
+	private static void assertGameData(final SkatGameData expected,
+			final SkatGameData actual) {
+
+		for (Player player : Player.values()) {
+			assertEquals(expected.getDealtCards().get(player).getMask(), actual
+					.getDealtCards().get(player).getMask());
+			assertEquals(expected.getMaxPlayerBid(player),
+					actual.getMaxPlayerBid(player));
+			assertEquals(expected.isPlayerPass(player),
+					actual.isPlayerPass(player));
+		}
+		assertEquals(expected.getDealtSkat().getMask(), actual.getDealtSkat()
+				.getMask());
+		assertEquals(expected.getSkat().getMask(), actual.getSkat().getMask());
+		assertEquals(expected.getGameType(), actual.getGameType());
+		assertEquals(expected.getDeclarer(), actual.getDeclarer());
+		assertEquals(expected.isHand(), actual.isHand());
+		assertEquals(expected.getTricks().size(), actual.getTricks().size());
+		for (int i = 0; i < expected.getTricks().size(); i++) {
+			final Trick expectedTrick = expected.getTricks().get(i);
+			final Trick actualTrick = actual.getTricks().get(i);
+			assertEquals(expectedTrick.getForeHand(), actualTrick.getForeHand());
+			assertEquals(expectedTrick.getCardList(),
+					actualTrick.getCardList());
+			assertEquals(expectedTrick.getTrickWinner(),
+					actualTrick.getTrickWinner());
+		}
+		assertEquals(expected.getResult().isWon(), actual.getResult().isWon());
+		assertEquals(expected.getResult().getGameValue(), actual.getResult()
+				.getGameValue());
+		assertEquals(expected.getResult().getFinalDeclarerPoints(), actual
+				.getResult().getFinalDeclarerPoints());
+	}
+
+	/**
+	 * Plays a game with a shuffled deck, every player plays the first allowed
+	 * card
+	 */
+	private static SkatGameData playGame(final long seed,
+			final GameType gameType) {
+
+		final List<Card> deck = new ArrayList<Card>(Arrays.asList(Card
+				.values()));
+		Collections.shuffle(deck, new Random(seed));
+
+		final SkatGameData gameData = new SkatGameData();
+		final Map<Player, CardList> hands = new EnumMap<Player, CardList>(
+				Player.class);
+		for (Player player : Player.values()) {
+			hands.put(player,
+					new CardList(deck.subList(10 * player.ordinal(),
+							10 * player.ordinal() + 10)));
+		}
+		gameData.adjustDataOn(new CardDealEvent(hands, new CardList(deck
+				.subList(30, 32))));
+
+		gameData.adjustDataOn(new BidEvent(Player.MIDDLEHAND, 18));
+		gameData.adjustDataOn(new HoldBidEvent(Player.FOREHAND, 18));
+		gameData.adjustDataOn(new PassBidEvent(Player.MIDDLEHAND));
+		gameData.adjustDataOn(new BidEvent(Player.REARHAND, 20));
+		gameData.adjustDataOn(new PassBidEvent(Player.FOREHAND));
+		gameData.setDeclarer(Player.REARHAND);
+
+		gameData.adjustDataOn(new PickUpSkatEvent(Player.REARHAND));
+		final CardList declarerCards = gameData
+				.getPlayerCards(Player.REARHAND);
+		final CardList discard = new CardList(declarerCards.get(0),
+				declarerCards.get(1));
+		gameData.adjustDataOn(new DiscardSkatEvent(Player.REARHAND, discard));
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(gameType);
+		factory.setDiscardedCards(discard);
+		gameData.adjustDataOn(new GameAnnouncementEvent(Player.REARHAND,
+				factory.getAnnouncement()));
+
+		Player player = Player.FOREHAND;
+		for (int i = 0; i < 30; i++) {
+			final Card firstCard = gameData.getTricks().isEmpty() ? null
+					: gameData.getCurrentTrick().getFirstCard();
+			final int allowedCards = CardMask.getAllowedCards(gameType,
+					firstCard, gameData.getPlayerCards(player).getMask());
+			final Card card = CardMask.toCardList(allowedCards).get(0);
+			gameData.adjustDataOn(new TrickCardPlayedEvent(player, card));
+
+			final Trick trick = gameData.getTricks().get(i / 3);
+			if (trick.getThirdCard() != null) {
+				player = trick.getTrickWinner();
+				if (player == Player.REARHAND) {
+					gameData.addPlayerPoints(player, trick.getValue());
+				}
+			} else {
+				player = player.getLeftNeighbor();
+			}
+		}
+		gameData.addPlayerPoints(Player.REARHAND, gameData.getSkat()
+				.getTotalValue());
+		gameData.calcResult();
+
+		return gameData;
+	}
+}
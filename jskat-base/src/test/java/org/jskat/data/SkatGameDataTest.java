@@ -16,10 +16,14 @@
 package org.jskat.data;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import org.jskat.util.Card;
+import org.jskat.util.CardList;
 import org.jskat.util.Player;
 import org.junit.Before;
 import org.junit.Test;
@@ -89,4 +93,32 @@ public class SkatGameDataTest {
 		assertThat(gameData.isSchneider(), is(true));
 		assertThat(gameData.isSchwarz(), is(true));
 	}
+
+	@Test
+	public void reset() {
+
+		gameData.setDeclarer(Player.MIDDLEHAND);
+		gameData.addDealtCards(Player.MIDDLEHAND, new CardList(Card.CJ, Card.SJ));
+		gameData.addSkatToPlayer(Player.MIDDLEHAND);
+		gameData.setDeclarerScore(61);
+		Trick trick = gameData.createTrick(0, Player.FOREHAND);
+		trick.addCard(Card.CA);
+		gameData.addTrick(trick);
+
+		gameData.reset();
+
+		assertThat(gameData.getDeclarer(), is(nullValue()));
+		assertThat(gameData.getPlayerCards(Player.MIDDLEHAND).size(), is(0));
+		assertThat(gameData.getDealtCards().get(Player.MIDDLEHAND).size(), is(0));
+		assertThat(gameData.getTricks().size(), is(0));
+		assertThat(gameData.getDeclarerScore(), is(0));
+		assertTrue(gameData.isHand());
+
+		Trick reusedTrick = gameData.createTrick(1, Player.REARHAND);
+
+		assertThat(reusedTrick, is(sameInstance(trick)));
+		assertThat(reusedTrick.getTrickNumberInGame(), is(1));
+		assertThat(reusedTrick.getForeHand(), is(Player.REARHAND));
+		assertThat(reusedTrick.getFirstCard(), is(nullValue()));
+	}
 }
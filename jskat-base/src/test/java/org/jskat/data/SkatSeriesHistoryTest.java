@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.data;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.data.GameSummary.GameSummaryFactory;
+import org.jskat.data.SkatSeriesHistory.Entry;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SkatSeriesHistory}
+ */
+public class SkatSeriesHistoryTest extends AbstractJSkatTest {
+
+	/**
+	 * Only the retention window is kept, aggregates cover all games
+	 */
+	@Test
+	public void testRetention() {
+
+		final SkatSeriesHistory history = new SkatSeriesHistory(2);
+
+		history.addGame(createSummary(GameType.GRAND, Player.FOREHAND, 96));
+		history.addGame(createSummary(GameType.CLUBS, Player.MIDDLEHAND, -48));
+		history.addGame(createSummary(GameType.PASSED_IN, null, 0));
+
+		assertEquals(3, history.getGameCount());
+		assertEquals(1, history.getWonGames());
+		assertEquals(1, history.getLostGames());
+		assertEquals(1, history.getPassedGames());
+		assertEquals(96, history.getPlayerScore("Alice")); //$NON-NLS-1$
+		assertEquals(-48, history.getPlayerScore("Bob")); //$NON-NLS-1$
+		assertEquals(0, history.getPlayerScore("Carol")); //$NON-NLS-1$
+
+		final List<Entry> recentGames = history.getRecentGames();
+		assertEquals(2, recentGames.size());
+		assertEquals(2, recentGames.get(0).getGameNo());
+		assertEquals(GameType.PASSED_IN, recentGames.get(1).getGameType());
+	}
+
+	/**
+	 * Games leaving the retention window are written to the spill file
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	public void testSpillFile() throws IOException {
+
+		final Path spillFile = Files.createTempFile("history", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			final SkatSeriesHistory history = new SkatSeriesHistory(1);
+			history.setSpillFile(spillFile);
+
+			history.addGame(createSummary(GameType.GRAND, Player.FOREHAND, 96));
+			history.addGame(createSummary(GameType.CLUBS, Player.REARHAND, -48));
+			history.addGame(createSummary(GameType.NULL, Player.MIDDLEHAND, 23));
+			history.close();
+
+			final List<Entry> spilledGames = SkatSeriesHistory
+					.readSpillFile(spillFile);
+			assertEquals(2, spilledGames.size());
+			assertEquals(1, spilledGames.get(0).getGameNo());
+			assertEquals(GameType.GRAND, spilledGames.get(0).getGameType());
+			assertEquals(Player.FOREHAND, spilledGames.get(0).getDeclarer());
+			assertEquals(96, spilledGames.get(0).getGameValue());
+			assertEquals("Carol", spilledGames.get(1).getPlayerName(Player.REARHAND)); //$NON-NLS-1$
+			assertEquals(-48, spilledGames.get(1).getGameValue());
+		} finally {
+			Files.deleteIfExists(spillFile);
+		}
+	}
+
+	private static GameSummary createSummary(final GameType gameType,
+			final Player declarer, final int gameValue) {
+
+		final GameSummaryFactory factory = GameSummary.getFactory();
+		factory.setGameType(gameType);
+		factory.setForeHand("Alice"); //$NON-NLS-1$
+		factory.setMiddleHand("Bob"); //$NON-NLS-1$
+		factory.setRearHand("Carol"); //$NON-NLS-1$
+		factory.setDeclarer(declarer);
+
+		final SkatGameResult result = new SkatGameResult();
+		result.setWon(gameValue > 0);
+		result.setGameValue(gameValue);
+		factory.setGameResult(result);
+
+		final Map<Player, Integer> playerPoints = new HashMap<Player, Integer>();
+		for (Player player : Player.values()) {
+			playerPoints.put(player, 0);
+		}
+		factory.setPlayerPoints(playerPoints);
+
+		return factory.getSummary();
+	}
+}
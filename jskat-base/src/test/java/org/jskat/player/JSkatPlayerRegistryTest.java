@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.player;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.ai.nn.AIPlayerNN;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.ai.test.UnitTestPlayer;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JSkatPlayerRegistry}
+ */
+public class JSkatPlayerRegistryTest extends AbstractJSkatTest {
+
+	/**
+	 * All AI players are registered
+	 */
+	@Test
+	public void testGetFactories() {
+
+		assertEquals(5, JSkatPlayerRegistry.getFactories().size());
+		for (JSkatPlayerFactory<?> factory : JSkatPlayerRegistry.getFactories()) {
+			assertEquals(factory.getPlayerClass(), factory.createPlayer().getClass());
+		}
+	}
+
+	/**
+	 * Factories are found by the player class name
+	 */
+	@Test
+	public void testGetFactory() {
+
+		JSkatPlayerFactory<?> factory = JSkatPlayerRegistry.getFactory(AIPlayerNN.class.getName());
+		assertNotNull(factory);
+		assertEquals(AIPlayerNN.class, factory.getPlayerClass());
+
+		assertNull(JSkatPlayerRegistry.getFactory(UnitTestPlayer.class.getName()));
+	}
+
+	/**
+	 * Players are created by their factory or by reflection
+	 */
+	@Test
+	public void testCreatePlayer() {
+
+		assertThat(JSkatPlayerRegistry.createPlayer(AIPlayerRND.class.getName()), instanceOf(AIPlayerRND.class));
+		assertThat(JSkatPlayerRegistry.createPlayer(UnitTestPlayer.class.getName()),
+				instanceOf(UnitTestPlayer.class));
+	}
+
+	/**
+	 * Unknown players can't be created
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testCreateUnknownPlayer() {
+
+		JSkatPlayerRegistry.createPlayer("org.jskat.ai.UnknownPlayer"); //$NON-NLS-1$
+	}
+}
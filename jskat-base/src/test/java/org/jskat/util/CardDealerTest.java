@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Test cases for class CardDealer
+ */
+public class CardDealerTest extends AbstractJSkatTest {
+
+	/**
+	 * The same seed results in the same card order
+	 */
+	@Test
+	public void testReplayBySeed() {
+
+		CardDeck deck = CardDealer.createCardDeck(42L);
+		CardDeck replayedDeck = CardDealer.createCardDeck(42L);
+
+		assertEquals(32, deck.size());
+		assertEquals(CardMask.ALL, deck.getMask());
+		for (int i = 0; i < deck.size(); i++) {
+			assertEquals(deck.get(i), replayedDeck.get(i));
+		}
+
+		CardDeck otherDeck = CardDealer.createCardDeck(43L);
+		boolean sameOrder = true;
+		for (int i = 0; i < deck.size(); i++) {
+			sameOrder &= deck.get(i) == otherDeck.get(i);
+		}
+		assertFalse(sameOrder);
+	}
+
+	/**
+	 * Arrays and lists are shuffled the same way
+	 */
+	@Test
+	public void testShuffleArrayAndList() {
+
+		Card[] cards = Card.values();
+		List<Card> cardList = new ArrayList<Card>(Arrays.asList(cards));
+
+		CardDealer.shuffle(4711L, cards);
+		CardDealer.shuffle(4711L, cardList);
+
+		assertArrayEquals(cards, cardList.toArray(new Card[cardList.size()]));
+	}
+
+	/**
+	 * Dealing into hands gives the same cards as dealing the card deck like
+	 * the skat game does
+	 */
+	@Test
+	public void testDealIntoHands() {
+
+		CardList foreHand = new CardList(Card.CJ);
+		CardList middleHand = new CardList();
+		CardList rearHand = new CardList();
+		CardList skat = new CardList();
+
+		CardDealer.deal(4711L, foreHand, middleHand, rearHand, skat);
+
+		CardDeck deck = CardDealer.createCardDeck(4711L);
+		CardList expectedForeHand = new CardList();
+		CardList expectedMiddleHand = new CardList();
+		CardList expectedRearHand = new CardList();
+		int position = 0;
+		for (int cardCount : new int[] { 3, 4, 3 }) {
+			for (CardList hand : Arrays.asList(expectedForeHand,
+					expectedMiddleHand, expectedRearHand)) {
+				for (int i = 0; i < cardCount; i++) {
+					hand.add(deck.get(position++));
+				}
+			}
+			if (position == 9) {
+				// skat is dealt after the first round
+				position += 2;
+			}
+		}
+
+		assertEquals(10, foreHand.size());
+		assertEquals(10, middleHand.size());
+		assertEquals(10, rearHand.size());
+		assertEquals(2, skat.size());
+		assertEquals(expectedForeHand.getMask(), foreHand.getMask());
+		assertEquals(expectedMiddleHand.getMask(), middleHand.getMask());
+		assertEquals(expectedRearHand.getMask(), rearHand.getMask());
+		assertEquals(CardMask.of(Arrays.asList(deck.get(9), deck.get(10))),
+				skat.getMask());
+	}
+
+	/**
+	 * Every card reaches every position with about the same probability
+	 */
+	@Test
+	public void testUniformDistribution() {
+
+		int deals = 32000;
+		int[] firstCardCounts = new int[32];
+		CardDealer dealer = new CardDealer(1L);
+		for (int i = 0; i < deals; i++) {
+			Card[] cards = Card.values();
+			CardDealer.shuffle(dealer.nextDealSeed(), cards);
+			firstCardCounts[cards[0].ordinal()]++;
+		}
+
+		for (int count : firstCardCounts) {
+			// expected 1000 per card, standard deviation is about 31
+			assertTrue(count > 850 && count < 1150);
+		}
+	}
+
+	/**
+	 * Dealers with the same seed draw the same deal seeds on a thread
+	 */
+	@Test
+	public void testDealSeedStream() {
+
+		CardDealer dealer = new CardDealer(4711L);
+		CardDealer sameDealer = new CardDealer(4711L);
+
+		for (int i = 0; i < 10; i++) {
+			assertEquals(dealer.nextDealSeed(), sameDealer.nextDealSeed());
+		}
+	}
+
+	/**
+	 * Threads draw deal seeds from separate streams
+	 */
+	@Test
+	public void testSeparateThreadStreams() throws InterruptedException {
+
+		final CardDealer dealer = new CardDealer(4711L);
+		final long[] otherThreadSeed = new long[1];
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				otherThreadSeed[0] = dealer.nextDealSeed();
+			}
+		};
+		thread.start();
+		thread.join();
+
+		assertFalse(otherThreadSeed[0] == dealer.nextDealSeed());
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jskat.AbstractJSkatTest;
+import org.junit.Test;
+
+/**
+ * Test cases for class CardMask
+ */
+public class CardMaskTest extends AbstractJSkatTest {
+
+	/**
+	 * Tests the suit, rank and trump masks
+	 */
+	@Test
+	public void testMasks() {
+
+		for (Suit suit : Suit.values()) {
+			assertEquals(8, CardMask.size(CardMask.getSuitCards(suit)));
+		}
+		assertEquals(4, CardMask.size(CardMask.JACKS));
+		assertEquals(CardMask.JACKS, CardMask.getRankCards(Rank.JACK));
+		assertEquals(32, CardMask.size(CardMask.ALL));
+
+		assertEquals(11, CardMask.size(CardMask.getTrumpCards(GameType.CLUBS)));
+		assertEquals(4, CardMask.size(CardMask.getTrumpCards(GameType.GRAND)));
+		assertEquals(4, CardMask.size(CardMask.getTrumpCards(GameType.RAMSCH)));
+		assertEquals(0, CardMask.size(CardMask.getTrumpCards(GameType.NULL)));
+
+		for (GameType gameType : GameType.values()) {
+			if (gameType == GameType.PASSED_IN) {
+				continue;
+			}
+			for (Card card : Card.values()) {
+				assertEquals(card.isTrump(gameType), CardMask.contains(
+						CardMask.getTrumpCards(gameType), card));
+			}
+		}
+	}
+
+	/**
+	 * Tests the masks of card lists after adding and removing cards
+	 */
+	@Test
+	public void testCardListMask() {
+
+		CardList cards = new CardList(Card.CJ, Card.HA, Card.D7);
+		assertEquals(CardMask.of(cards), cards.getMask());
+
+		cards.remove(Card.HA);
+		assertFalse(cards.contains(Card.HA));
+		assertEquals(2, CardMask.size(cards.getMask()));
+
+		cards.set(0, Card.SA);
+		assertFalse(cards.contains(Card.CJ));
+		assertTrue(cards.contains(Card.SA));
+
+		cards.clear();
+		assertEquals(CardMask.EMPTY, cards.getMask());
+	}
+
+	/**
+	 * Tests the allowed cards after an initial card
+	 */
+	@Test
+	public void testAllowedCards() {
+
+		CardList hand = new CardList(Card.CJ, Card.HA, Card.HJ, Card.D7);
+
+		// jack of hearts is trump in grand
+		assertEquals(CardMask.of(Card.HA), CardMask.getAllowedCards(
+				GameType.GRAND, Card.HT, hand.getMask()));
+		// jack of hearts follows hearts in null
+		assertEquals(CardMask.of(new CardList(Card.HA, Card.HJ)),
+				CardMask.getAllowedCards(GameType.NULL, Card.HT,
+						hand.getMask()));
+		// jacks and diamonds are trump in diamonds
+		assertEquals(CardMask.of(new CardList(Card.CJ, Card.HJ, Card.D7)),
+				CardMask.getAllowedCards(GameType.DIAMONDS, Card.SJ,
+						hand.getMask()));
+		// hand can't follow spades
+		assertEquals(hand.getMask(), CardMask.getAllowedCards(
+				GameType.HEARTS, Card.SA, hand.getMask()));
+	}
+
+	/**
+	 * Tests the conversion into card lists and binary arrays
+	 */
+	@Test
+	public void testConversion() {
+
+		CardList cards = new CardList(Card.D7, Card.CA, Card.ST, Card.HJ);
+
+		CardList converted = CardMask.toCardList(cards.getMask());
+		assertEquals(cards.size(), converted.size());
+		for (Card card : cards) {
+			assertTrue(converted.contains(card));
+		}
+
+		assertArrayEquals(cards.toBinary(),
+				CardMask.toBinary(cards.getMask()));
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.jskat.AbstractJSkatTest;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.SkatGameData;
+import org.jskat.data.SkatGameResult;
+import org.jskat.util.rule.SkatRuleFactory;
+import org.junit.Test;
+
+/**
+ * Tests for GameValueTable
+ */
+public class GameValueTableTest extends AbstractJSkatTest {
+
+	/**
+	 * Tests the matadors with and without the cards
+	 */
+	@Test
+	public void testMatadors() {
+
+		assertEquals(6, GameValueTable.getMatadors(new CardList(Card.CJ,
+				Card.SJ, Card.HJ, Card.DJ, Card.CA, Card.CT, Card.C7)
+				.getMask(), GameType.CLUBS));
+		assertEquals(4, GameValueTable.getMatadors(new CardList(Card.CJ,
+				Card.SJ, Card.HJ, Card.DJ, Card.CA, Card.CT).getMask(),
+				GameType.GRAND));
+		assertEquals(2, GameValueTable.getMatadors(new CardList(Card.CJ,
+				Card.SJ, Card.DJ).getMask(), GameType.GRAND));
+		assertEquals(3, GameValueTable.getMatadors(new CardList(Card.DJ,
+				Card.SA, Card.ST).getMask(), GameType.GRAND));
+		assertEquals(11, GameValueTable.getMatadors(CardMask.EMPTY,
+				GameType.DIAMONDS));
+		assertEquals(11, GameValueTable.getMatadors(CardMask.JACKS
+				| CardMask.getSuitCards(Suit.HEARTS), GameType.HEARTS));
+		assertEquals(3, GameValueTable.getMultiplier(new CardList(Card.HJ,
+				Card.DJ, Card.SA).getMask(), GameType.SPADES));
+	}
+
+	/**
+	 * Tests the game values for different flags
+	 */
+	@Test
+	public void testGameValues() {
+
+		int cards = new CardList(Card.CJ, Card.SJ, Card.HJ, Card.DJ,
+				Card.CA, Card.CT).getMask();
+
+		assertEquals(84, GameValueTable.getGameValue(cards, GameType.CLUBS,
+				GameValueTable.NO_FLAGS));
+		assertEquals(96, GameValueTable.getGameValue(cards, GameType.CLUBS,
+				GameValueTable.HAND));
+		assertEquals(120, GameValueTable.getGameValue(cards, GameType.GRAND,
+				GameValueTable.NO_FLAGS));
+		assertEquals(72, GameValueTable.getGameValue(GameType.GRAND, 2,
+				GameValueTable.NO_FLAGS));
+		assertEquals(
+				10 * 6,
+				GameValueTable.getGameValue(GameType.HEARTS, 2,
+						GameValueTable.HAND | GameValueTable.SCHNEIDER
+								| GameValueTable.SCHNEIDER_ANNOUNCED));
+		assertEquals(
+				24 * 8,
+				GameValueTable.getGameValue(GameType.GRAND, 1,
+						GameValueTable.HAND | GameValueTable.SCHNEIDER
+								| GameValueTable.SCHNEIDER_ANNOUNCED
+								| GameValueTable.SCHWARZ
+								| GameValueTable.SCHWARZ_ANNOUNCED
+								| GameValueTable.OUVERT));
+
+		assertEquals(23, GameValueTable.getGameValue(cards, GameType.NULL,
+				GameValueTable.NO_FLAGS));
+		assertEquals(35, GameValueTable.getGameValue(cards, GameType.NULL,
+				GameValueTable.HAND));
+		assertEquals(46, GameValueTable.getGameValue(cards, GameType.NULL,
+				GameValueTable.OUVERT));
+		assertEquals(59, GameValueTable.getGameValue(cards, GameType.NULL,
+				GameValueTable.HAND | GameValueTable.OUVERT));
+	}
+
+	/**
+	 * Tests the maximum bids
+	 */
+	@Test
+	public void testMaxBids() {
+
+		assertEquals(40, GameValueTable.getMaxBid(GameType.HEARTS, 2,
+				GameValueTable.HAND));
+		assertEquals(18, GameValueTable.getMaxBid(GameType.DIAMONDS, 1,
+				GameValueTable.NO_FLAGS));
+		assertEquals(72, GameValueTable.getMaxBid(GameType.GRAND, 2,
+				GameValueTable.NO_FLAGS));
+		assertEquals(23, GameValueTable.getMaxBid(GameType.NULL, 0,
+				GameValueTable.NO_FLAGS));
+		assertEquals(59, GameValueTable.getMaxBid(GameType.NULL, 0,
+				GameValueTable.HAND | GameValueTable.OUVERT));
+	}
+
+	/**
+	 * Tests game types without game value
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testRamsch() {
+		GameValueTable.getGameValue(CardMask.EMPTY, GameType.RAMSCH,
+				GameValueTable.NO_FLAGS);
+	}
+
+	/**
+	 * Compares the table with the game values calculated by the skat rules
+	 */
+	@Test
+	public void testCompareWithSkatRules() {
+
+		Random random = new Random(4711L);
+		for (int i = 0; i < 200; i++) {
+
+			int cards = CardMask.EMPTY;
+			while (CardMask.size(cards) < 12) {
+				cards |= 1 << random.nextInt(32);
+			}
+
+			SkatGameData data = new SkatGameData();
+			data.setDeclarer(Player.FOREHAND);
+			data.addDealtCards(Player.FOREHAND, CardMask.toCardList(cards));
+			SkatGameResult result = new SkatGameResult();
+			result.setWon(true);
+			data.setResult(result);
+
+			for (GameType gameType : new GameType[] { GameType.CLUBS,
+					GameType.SPADES, GameType.HEARTS, GameType.DIAMONDS,
+					GameType.GRAND, GameType.NULL }) {
+
+				GameAnnouncementFactory factory = GameAnnouncement
+						.getFactory();
+				factory.setGameType(gameType);
+				data.setAnnouncement(factory.getAnnouncement());
+
+				assertEquals(SkatRuleFactory.getSkatRules(gameType)
+						.calcGameResult(data), GameValueTable.getGameValue(
+						cards, gameType, GameValueTable.NO_FLAGS));
+			}
+		}
+	}
+}
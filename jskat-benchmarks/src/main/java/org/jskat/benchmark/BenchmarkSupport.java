@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.jskat.ai.algorithmic.AlgorithmicAIPlayer;
+import org.jskat.ai.mjl.AIPlayerMJL;
+import org.jskat.ai.newalgorithm.AlgorithmAI;
+import org.jskat.ai.nn.AIPlayerNN;
+import org.jskat.ai.rnd.AIPlayerRND;
+import org.jskat.control.JSkatEventBus;
+import org.jskat.control.command.table.CreateTableCommand;
+import org.jskat.control.command.table.RemoveTableCommand;
+import org.jskat.data.DesktopSavePathResolver;
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.data.JSkatOptions;
+import org.jskat.data.JSkatViewType;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.util.Card;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+
+/**
+ * Helper methods for the set up of benchmark states<br>
+ * All deals are created from fixed seeds, so that every benchmark run measures
+ * the same card distributions.
+ */
+final class BenchmarkSupport {
+
+	/**
+	 * Seed of the first deal
+	 */
+	static final long SEED = 4711L;
+
+	private static final AtomicInteger TABLE_COUNTER = new AtomicInteger();
+
+	private BenchmarkSupport() {
+		// utility class
+	}
+
+	/**
+	 * Initializes the options and silences the logging of the game engine
+	 */
+	static void initJSkat() {
+		LogManager.getRootLogger().setLevel(Level.OFF);
+		JSkatOptions.instance(new DesktopSavePathResolver()).resetToDefault();
+	}
+
+	/**
+	 * Creates a shuffled card deck
+	 *
+	 * @param seed
+	 *            Seed for the shuffling
+	 * @return Card deck
+	 */
+	static CardDeck createDeck(final long seed) {
+		final List<Card> cards = new ArrayList<Card>(Arrays.asList(Card
+				.values()));
+		Collections.shuffle(cards, new Random(seed));
+		return new CardDeck(new CardList(cards));
+	}
+
+	/**
+	 * Creates several shuffled card decks
+	 *
+	 * @param count
+	 *            Number of decks
+	 * @return Card decks, created with consecutive seeds
+	 */
+	static CardDeck[] createDecks(final int count) {
+		final CardDeck[] result = new CardDeck[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = createDeck(SEED + i);
+		}
+		return result;
+	}
+
+	/**
+	 * Gets ten consecutive cards of a shuffled card deck as a hand, the last
+	 * two cards are left for the skat
+	 *
+	 * @param deck
+	 *            Shuffled card deck
+	 * @param hand
+	 *            Index of the hand (0 = fore hand, 1 = middle hand, 2 = rear
+	 *            hand)
+	 * @return Cards of the hand
+	 */
+	static CardList getHand(final CardDeck deck, final int hand) {
+		final CardList result = new CardList();
+		for (int i = hand * 10; i < hand * 10 + 10; i++) {
+			result.add(deck.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a game announcement
+	 *
+	 * @param gameType
+	 *            Game type
+	 * @return Game announcement
+	 */
+	static GameAnnouncement createAnnouncement(final GameType gameType) {
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(gameType);
+		return factory.getAnnouncement();
+	}
+
+	/**
+	 * Creates an AI player
+	 *
+	 * @param playerType
+	 *            Player type, one of RND, ALGORITHMIC, NEW_ALGORITHM, MJL or NN
+	 * @return New player
+	 */
+	static JSkatPlayer createPlayer(final String playerType) {
+		if ("RND".equals(playerType)) { //$NON-NLS-1$
+			return new AIPlayerRND();
+		} else if ("ALGORITHMIC".equals(playerType)) { //$NON-NLS-1$
+			return new AlgorithmicAIPlayer();
+		} else if ("NEW_ALGORITHM".equals(playerType)) { //$NON-NLS-1$
+			return new AlgorithmAI();
+		} else if ("MJL".equals(playerType)) { //$NON-NLS-1$
+			return new AIPlayerMJL();
+		} else if ("NN".equals(playerType)) { //$NON-NLS-1$
+			return new AIPlayerNN();
+		}
+		throw new IllegalArgumentException("Unknown player type " //$NON-NLS-1$
+				+ playerType);
+	}
+
+	/**
+	 * Creates a table for headless games, the games run on the thread of the
+	 * caller
+	 *
+	 * @return Table name
+	 */
+	static String createTable() {
+		final String tableName = "BENCHMARK" + TABLE_COUNTER.incrementAndGet(); //$NON-NLS-1$
+		JSkatEventBus.INSTANCE.post(new CreateTableCommand(
+				JSkatViewType.TRAINING_TABLE, tableName));
+		return tableName;
+	}
+
+	/**
+	 * Removes a table created by {@link #createTable()}
+	 *
+	 * @param tableName
+	 *            Table name
+	 */
+	static void removeTable(final String tableName) {
+		JSkatEventBus.INSTANCE.post(new RemoveTableCommand(tableName,
+				JSkatViewType.TRAINING_TABLE));
+	}
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link CardList#sort(GameType)} with unsorted hands<br>
+ * Every invocation sorts fresh copies of the hands, the costs of the copies are
+ * measured separately by {@link #copyBaseline(Blackhole)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class CardListSortBenchmark {
+
+	private static final int DEALS = 64;
+
+	/**
+	 * Game type that defines the sort order
+	 */
+	@Param({ "CLUBS", "SPADES", "HEARTS", "DIAMONDS", "GRAND", "NULL",
+			"RAMSCH" })
+	public GameType gameType;
+
+	private CardList[] unsortedHands;
+
+	/**
+	 * Deals the unsorted hands
+	 */
+	@Setup
+	public void dealHands() {
+		BenchmarkSupport.initJSkat();
+		this.unsortedHands = new CardList[DEALS];
+		final CardDeck[] decks = BenchmarkSupport.createDecks(DEALS);
+		for (int i = 0; i < DEALS; i++) {
+			this.unsortedHands[i] = BenchmarkSupport.getHand(decks[i], 0);
+		}
+	}
+
+	/**
+	 * Copies and sorts all hands
+	 *
+	 * @param blackhole
+	 *            Consumes the sorted hands
+	 */
+	@Benchmark
+	@OperationsPerInvocation(DEALS)
+	public void sort(final Blackhole blackhole) {
+		for (int i = 0; i < DEALS; i++) {
+			final CardList hand = new CardList(this.unsortedHands[i]);
+			hand.sort(this.gameType);
+			blackhole.consume(hand);
+		}
+	}
+
+	/**
+	 * Only copies all hands, this is the baseline for {@link #sort(Blackhole)}
+	 *
+	 * @param blackhole
+	 *            Consumes the copied hands
+	 */
+	@Benchmark
+	@OperationsPerInvocation(DEALS)
+	public void copyBaseline(final Blackhole blackhole) {
+		for (int i = 0; i < DEALS; i++) {
+			blackhole.consume(new CardList(this.unsortedHands[i]));
+		}
+	}
+}
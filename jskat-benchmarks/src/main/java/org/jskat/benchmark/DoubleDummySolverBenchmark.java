@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.ai.solver.DoubleDummySolver;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the double dummy solver on complete deals, the transposition
+ * table is cleared before every deal
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleDummySolverBenchmark {
+
+	private static final int DECKS = 16;
+
+	/**
+	 * Game type
+	 */
+	@Param({ "CLUBS", "GRAND", "NULL", "RAMSCH" })
+	public String gameType;
+
+	private DoubleDummySolver solver;
+	private int[][] deals;
+	private int dealIndex;
+
+	/**
+	 * Creates the solver and the deals
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		this.solver = new DoubleDummySolver(GameType.valueOf(this.gameType));
+
+		final CardDeck[] decks = BenchmarkSupport.createDecks(DECKS);
+		this.deals = new int[DECKS][];
+		for (int i = 0; i < DECKS; i++) {
+			this.deals[i] = new int[Player.values().length + 1];
+			for (Player player : Player.values()) {
+				this.deals[i][player.ordinal()] = BenchmarkSupport.getHand(
+						decks[i], player.ordinal()).getMask();
+			}
+			final CardList skat = new CardList(decks[i].get(30),
+					decks[i].get(31));
+			this.deals[i][Player.values().length] = skat.getMask();
+		}
+	}
+
+	/**
+	 * Selects the next deal
+	 */
+	@Setup(Level.Invocation)
+	public void nextDeal() {
+		this.dealIndex = (this.dealIndex + 1) % DECKS;
+		this.solver.clearTable();
+	}
+
+	/**
+	 * Solves a complete deal for the fore hand player
+	 *
+	 * @return Value of the deal
+	 */
+	@Benchmark
+	public int solve() {
+		return this.solver.solve(Player.FOREHAND, this.deals[this.dealIndex],
+				Player.FOREHAND, new CardList());
+	}
+}
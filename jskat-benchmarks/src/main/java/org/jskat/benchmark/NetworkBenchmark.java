@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.ai.nn.input.GenericNetworkInputGenerator;
+import org.jskat.ai.nn.util.EncogNetworkWrapper;
+import org.jskat.ai.nn.util.INeuralNetwork;
+import org.jskat.ai.nn.util.MultiLayerPerceptron;
+import org.jskat.ai.nn.util.NetworkTopology;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the forward pass of the neural networks with the topology of the
+ * networks used by the NN player
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NetworkBenchmark {
+
+	private static final int INPUT_NEURONS = GenericNetworkInputGenerator
+			.getNeuronCountForAllStrategies();
+	private static final int OUTPUT_NEURONS = 1;
+	private static final int HIDDEN_NEURONS = (INPUT_NEURONS + OUTPUT_NEURONS) * 2;
+	private static final int CANDIDATES = 10;
+
+	/**
+	 * Network implementation
+	 */
+	@Param({ "ENCOG", "MLP" })
+	public String implementation;
+
+	private INeuralNetwork network;
+	private double[][] inputs;
+	private double[] outcomes;
+
+	/**
+	 * Creates the network and random inputs
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		final NetworkTopology topology = new NetworkTopology(INPUT_NEURONS,
+				new int[] { HIDDEN_NEURONS }, OUTPUT_NEURONS);
+		if ("ENCOG".equals(this.implementation)) { //$NON-NLS-1$
+			this.network = new EncogNetworkWrapper(topology, true);
+		} else {
+			this.network = new MultiLayerPerceptron(topology, true);
+		}
+
+		final Random random = new Random(BenchmarkSupport.SEED);
+		this.inputs = new double[CANDIDATES][INPUT_NEURONS];
+		for (double[] input : this.inputs) {
+			for (int i = 0; i < input.length; i++) {
+				// network inputs are mostly binary
+				input[i] = random.nextBoolean() ? 1.0 : 0.0;
+			}
+		}
+		this.outcomes = new double[CANDIDATES];
+	}
+
+	/**
+	 * Predicts the outcome of a single card
+	 *
+	 * @return Predicted outcome
+	 */
+	@Benchmark
+	public double getPredictedOutcome() {
+		return this.network.getPredictedOutcome(this.inputs[0]);
+	}
+
+	/**
+	 * Predicts the outcomes of all candidate cards of a hand at once
+	 *
+	 * @return Predicted outcomes
+	 */
+	@Benchmark
+	public double[] getPredictedOutcomes() {
+		this.network.getPredictedOutcomes(this.inputs, this.outcomes);
+		return this.outcomes;
+	}
+}
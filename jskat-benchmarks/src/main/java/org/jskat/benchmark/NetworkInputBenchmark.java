@@ -0,0 +1,120 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.ai.nn.input.GenericNetworkInputGenerator;
+import org.jskat.player.PlayerKnowledge;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the creation of the network inputs by
+ * {@link GenericNetworkInputGenerator}<br>
+ * The knowledge is taken in the middle of the game, when the player has to
+ * choose between all cards on the hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class NetworkInputBenchmark {
+
+	private static final int PLAYED_TRICKS = 4;
+
+	private GenericNetworkInputGenerator generator;
+	private PlayerKnowledge knowledge;
+	private CardList candidates;
+
+	/**
+	 * Plays the first tricks of a game
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		this.generator = new GenericNetworkInputGenerator();
+
+		final CardDeck deck = BenchmarkSupport
+				.createDeck(BenchmarkSupport.SEED);
+		final CardList[] hands = new CardList[Player.values().length];
+		for (Player player : Player.values()) {
+			hands[player.ordinal()] = BenchmarkSupport.getHand(deck,
+					player.ordinal());
+		}
+
+		this.knowledge = new PlayerKnowledge();
+		this.knowledge.resetCurrentGameData();
+		this.knowledge.setPlayerPosition(Player.REARHAND);
+		this.knowledge.setDeclarer(Player.FOREHAND);
+		this.knowledge.addOwnCards(hands[Player.REARHAND.ordinal()]);
+		this.knowledge.setGame(BenchmarkSupport
+				.createAnnouncement(GameType.CLUBS));
+		for (int trick = 0; trick < PLAYED_TRICKS; trick++) {
+			this.knowledge.setNextTrick(trick, Player.FOREHAND);
+			for (Player player : Player.values()) {
+				this.knowledge.setCardPlayed(player,
+						hands[player.ordinal()].get(trick));
+			}
+		}
+		this.knowledge.setNextTrick(PLAYED_TRICKS, Player.FOREHAND);
+		this.knowledge.setCardPlayed(Player.FOREHAND,
+				hands[Player.FOREHAND.ordinal()].get(PLAYED_TRICKS));
+		this.knowledge.setCardPlayed(Player.MIDDLEHAND,
+				hands[Player.MIDDLEHAND.ordinal()].get(PLAYED_TRICKS));
+
+		this.candidates = new CardList(this.knowledge.getOwnCards());
+	}
+
+	/**
+	 * Creates the inputs for every candidate card separately
+	 *
+	 * @param blackhole
+	 *            Consumes the inputs
+	 */
+	@Benchmark
+	public void getNetInputsPerCard(final Blackhole blackhole) {
+		for (int i = 0; i < this.candidates.size(); i++) {
+			blackhole.consume(this.generator.getNetInputs(this.knowledge,
+					this.candidates.get(i)));
+		}
+	}
+
+	/**
+	 * Creates the inputs for all candidate cards at once
+	 *
+	 * @return Inputs for all candidate cards
+	 */
+	@Benchmark
+	public double[][] getNetInputsBatch() {
+		return this.generator.getNetInputs(this.knowledge, this.candidates);
+	}
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.data.GameAnnouncement.GameAnnouncementFactory;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.util.Card;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.rule.SkatRule;
+import org.jskat.util.rule.SkatRuleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link JSkatPlayer#playCard()} of all AI players<br>
+ * The player sits in rear hand as declarer of a clubs hand game and has to
+ * answer the first trick of a new deal. The hand game avoids the bidding and
+ * the skat handling, which would run the game simulations of some players.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PlayCardBenchmark {
+
+	private static final GameType GAME_TYPE = GameType.CLUBS;
+
+	/**
+	 * Type of the AI player
+	 */
+	@Param({ "RND", "ALGORITHMIC", "NEW_ALGORITHM", "MJL", "NN" })
+	public String playerType;
+
+	private static final int DEALS = 64;
+
+	private JSkatPlayer player;
+	private GameAnnouncement announcement;
+	private CardDeck[] decks;
+	private int nextDeal;
+
+	/**
+	 * Creates the player and the card decks
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		this.player = BenchmarkSupport.createPlayer(this.playerType);
+		this.player.setPlayerName(this.playerType);
+		this.decks = BenchmarkSupport.createDecks(DEALS);
+
+		final GameAnnouncementFactory factory = GameAnnouncement.getFactory();
+		factory.setGameType(GAME_TYPE);
+		factory.setHand(Boolean.TRUE);
+		this.announcement = factory.getAnnouncement();
+	}
+
+	/**
+	 * Starts a new game with the next deal and plays the first two cards of
+	 * the trick<br>
+	 * Some players remove the chosen card from their hand, so every invocation
+	 * needs a fresh game.
+	 */
+	@Setup(Level.Invocation)
+	public void startGame() {
+		final CardDeck deck = this.decks[this.nextDeal];
+		this.nextDeal = (this.nextDeal + 1) % DEALS;
+
+		final CardList foreHand = BenchmarkSupport.getHand(deck, 0);
+		final CardList middleHand = BenchmarkSupport.getHand(deck, 1);
+		final CardList rearHand = BenchmarkSupport.getHand(deck, 2);
+
+		this.player.newGame(Player.REARHAND);
+		this.player.takeCards(rearHand);
+		this.player.startGame(Player.REARHAND, this.announcement);
+		this.player.newTrick(0, Player.FOREHAND);
+
+		final Card firstCard = foreHand.get(0);
+		this.player.cardPlayed(Player.FOREHAND, firstCard);
+		this.player.cardPlayed(Player.MIDDLEHAND,
+				getAllowedCard(firstCard, middleHand));
+	}
+
+	private static Card getAllowedCard(final Card initialCard,
+			final CardList hand) {
+		final SkatRule rules = SkatRuleFactory.getSkatRules(GAME_TYPE);
+		for (Card card : hand) {
+			if (rules.isCardAllowed(GAME_TYPE, initialCard, hand, card)) {
+				return card;
+			}
+		}
+		throw new IllegalStateException("No card allowed"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Lets the player choose the card for the trick
+	 *
+	 * @return Chosen card
+	 */
+	@Benchmark
+	public Card playCard() {
+		return this.player.playCard();
+	}
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.data.GameAnnouncement;
+import org.jskat.player.PlayerKnowledge;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link PlayerKnowledge#setCardPlayed(Player, org.jskat.util.Card)}
+ * <br>
+ * Every invocation replays all 30 cards of a game into a fresh knowledge, the
+ * result is the average time per played card including the start of the
+ * tricks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class PlayerKnowledgeBenchmark {
+
+	private static final int TRICKS = 10;
+	private static final int PLAYED_CARDS = TRICKS * 3;
+
+	/**
+	 * Game type
+	 */
+	@Param({ "CLUBS", "GRAND", "NULL" })
+	public GameType gameType;
+
+	private PlayerKnowledge knowledge;
+	private GameAnnouncement announcement;
+	private CardList[] hands;
+
+	/**
+	 * Deals the cards
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		this.knowledge = new PlayerKnowledge();
+		this.announcement = BenchmarkSupport
+				.createAnnouncement(this.gameType);
+
+		final CardDeck deck = BenchmarkSupport
+				.createDeck(BenchmarkSupport.SEED);
+		this.hands = new CardList[Player.values().length];
+		for (Player player : Player.values()) {
+			this.hands[player.ordinal()] = BenchmarkSupport.getHand(deck,
+					player.ordinal());
+		}
+	}
+
+	/**
+	 * Plays all cards of a game
+	 *
+	 * @return Knowledge after the game
+	 */
+	@Benchmark
+	@OperationsPerInvocation(PLAYED_CARDS)
+	public PlayerKnowledge setCardPlayed() {
+		this.knowledge.resetCurrentGameData();
+		this.knowledge.setPlayerPosition(Player.FOREHAND);
+		this.knowledge.setDeclarer(Player.MIDDLEHAND);
+		this.knowledge.addOwnCards(this.hands[Player.FOREHAND.ordinal()]);
+		this.knowledge.setGame(this.announcement);
+
+		for (int trick = 0; trick < TRICKS; trick++) {
+			this.knowledge.setNextTrick(trick, Player.FOREHAND);
+			for (Player player : Player.values()) {
+				this.knowledge.setCardPlayed(player,
+						this.hands[player.ordinal()].get(trick));
+			}
+		}
+		return this.knowledge;
+	}
+}
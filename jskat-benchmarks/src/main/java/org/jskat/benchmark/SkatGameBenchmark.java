@@ -0,0 +1,105 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.control.SkatGame;
+import org.jskat.player.JSkatPlayer;
+import org.jskat.util.CardDeck;
+import org.jskat.util.GameVariant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+
+/**
+ * Benchmarks complete headless games from dealing to the game result, every
+ * seat is taken by an AI player of the same type
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(1)
+public class SkatGameBenchmark {
+
+	private static final int DEALS = 64;
+
+	/**
+	 * Type of the AI players
+	 */
+	@Param({ "RND", "ALGORITHMIC", "NEW_ALGORITHM", "MJL", "NN" })
+	public String playerType;
+
+	private String tableName;
+	private JSkatPlayer[] players;
+	private CardDeck[] decks;
+	private int nextDeal;
+
+	/**
+	 * Creates the table and the players
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+		this.tableName = BenchmarkSupport.createTable();
+		this.players = new JSkatPlayer[3];
+		for (int i = 0; i < this.players.length; i++) {
+			this.players[i] = BenchmarkSupport.createPlayer(this.playerType);
+			this.players[i].setPlayerName(this.playerType + i);
+		}
+		this.decks = BenchmarkSupport.createDecks(DEALS);
+	}
+
+	/**
+	 * Removes the table
+	 */
+	@TearDown
+	public void tearDown() {
+		BenchmarkSupport.removeTable(this.tableName);
+	}
+
+	/**
+	 * Plays a complete game
+	 *
+	 * @return Finished game
+	 */
+	@Benchmark
+	public SkatGame playGame() {
+		final SkatGame game = new SkatGame(this.tableName,
+				GameVariant.STANDARD, this.players[0], this.players[1],
+				this.players[2]);
+		game.setHeadless(true);
+		game.setLogger(NOPLogger.NOP_LOGGER);
+		game.setCardDeck(new CardDeck(this.decks[this.nextDeal]));
+		this.nextDeal = (this.nextDeal + 1) % DEALS;
+
+		// run the game on the benchmark thread
+		game.run();
+		return game;
+	}
+}
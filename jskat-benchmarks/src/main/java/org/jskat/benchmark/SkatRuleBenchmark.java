@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2017 Jan Schäfer (jansch@users.sourceforge.net)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jskat.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jskat.data.Trick;
+import org.jskat.util.Card;
+import org.jskat.util.CardDeck;
+import org.jskat.util.CardList;
+import org.jskat.util.GameType;
+import org.jskat.util.Player;
+import org.jskat.util.rule.SkatRule;
+import org.jskat.util.rule.SkatRuleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the card and trick rules of all rule sets returned by
+ * {@link SkatRuleFactory}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SkatRuleBenchmark {
+
+	private static final int DEALS = 64;
+	private static final int CARDS_PER_DEAL = 10;
+
+	/**
+	 * Game type, one per rule set
+	 */
+	@Param({ "CLUBS", "GRAND", "NULL", "RAMSCH" })
+	public GameType gameType;
+
+	private SkatRule rules;
+	private Card[] initialCards;
+	private CardList[] hands;
+	private Trick[] tricks;
+
+	/**
+	 * Deals the hands and builds the tricks
+	 */
+	@Setup
+	public void setUp() {
+		BenchmarkSupport.initJSkat();
+
+		this.rules = SkatRuleFactory.getSkatRules(this.gameType);
+		this.initialCards = new Card[DEALS];
+		this.hands = new CardList[DEALS];
+		this.tricks = new Trick[DEALS];
+
+		final CardDeck[] decks = BenchmarkSupport.createDecks(DEALS);
+		for (int i = 0; i < DEALS; i++) {
+			final CardList foreHand = BenchmarkSupport.getHand(decks[i], 0);
+			final CardList middleHand = BenchmarkSupport.getHand(decks[i], 1);
+			final CardList rearHand = BenchmarkSupport.getHand(decks[i], 2);
+
+			this.initialCards[i] = foreHand.get(0);
+			this.hands[i] = middleHand;
+
+			final Trick trick = new Trick(0, Player.FOREHAND);
+			trick.addCard(foreHand.get(0));
+			trick.addCard(middleHand.get(0));
+			trick.addCard(rearHand.get(0));
+			this.tricks[i] = trick;
+		}
+	}
+
+	/**
+	 * Checks every card of a hand against the first card of a trick
+	 *
+	 * @param blackhole
+	 *            Consumes the results
+	 */
+	@Benchmark
+	@OperationsPerInvocation(DEALS * CARDS_PER_DEAL)
+	public void isCardAllowed(final Blackhole blackhole) {
+		for (int i = 0; i < DEALS; i++) {
+			final CardList hand = this.hands[i];
+			for (int j = 0; j < CARDS_PER_DEAL; j++) {
+				blackhole.consume(this.rules.isCardAllowed(this.gameType,
+						this.initialCards[i], hand, hand.get(j)));
+			}
+		}
+	}
+
+	/**
+	 * Calculates the winners of complete tricks
+	 *
+	 * @param blackhole
+	 *            Consumes the results
+	 */
+	@Benchmark
+	@OperationsPerInvocation(DEALS)
+	public void calculateTrickWinner(final Blackhole blackhole) {
+		for (int i = 0; i < DEALS; i++) {
+			blackhole.consume(this.rules.calculateTrickWinner(this.gameType,
+					this.tricks[i]));
+		}
+	}
+}
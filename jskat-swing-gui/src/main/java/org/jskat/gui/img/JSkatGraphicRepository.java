@@ -20,10 +20,16 @@ import java.awt.Canvas;
 import java.awt.Image;
 import java.awt.MediaTracker;
 import java.awt.Toolkit;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jskat.data.JSkatOptions;
 import org.jskat.util.Card;
@@ -34,185 +40,179 @@ import org.slf4j.LoggerFactory;
 import javafx.scene.image.ImageView;
 
 /**
- * Repository that holds all images used in JSkat
+ * Repository that holds all images used in JSkat<br>
+ * Images are loaded on demand when they are requested for the first time. The
+ * cards of the active card set are prefetched in parallel in the background,
+ * images that are never requested are never loaded.
  */
 public class JSkatGraphicRepository {
 
 	private static Logger log = LoggerFactory.getLogger(JSkatGraphicRepository.class);
 
-	public final static JSkatGraphicRepository INSTANCE = new JSkatGraphicRepository();
-
 	private static JSkatOptions options = JSkatOptions.instance();
 
-	private Image skatTable;
+	private static final String IMAGE_PATH = "org/jskat/gui/img/"; //$NON-NLS-1$
 
-	private Map<CardSet, Map<Card, Image>> cards;
+	/**
+	 * Card back that is shown for hidden cards
+	 */
+	private static final CardSet CARD_BACK_SET = CardSet.ISS_GERMAN;
 
-	private Map<CardSet, Image> cardBacks;
+	public final static JSkatGraphicRepository INSTANCE = new JSkatGraphicRepository();
 
-	private List<List<Image>> awtIcons;
-	private Map<Icon, Map<IconSize, javafx.scene.image.Image>> icons;
+	private final Canvas trackerComponent = new Canvas();
 
-	private List<Image> flags;
+	private final ExecutorService prefetcher;
 
-	private Image jskatLogo;
+	private final ConcurrentMap<String, FutureTask<Image>> images = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, javafx.scene.image.Image> fxImages = new ConcurrentHashMap<>();
 
-	private List<Image> bidBubbles;
+	private final Set<CardSet> prefetchedCardSets = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Creates a new instance of JSkatGraphicRepository
 	 */
 	private JSkatGraphicRepository() {
 
-		loadAllJSkatImages();
-	}
+		this.prefetcher = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+				new ThreadFactory() {
 
-	public void reloadAllJSkatImages() {
-		loadAllJSkatImages();
-	}
+					private final AtomicInteger threadCount = new AtomicInteger();
 
-	private void loadAllJSkatImages() {
-		final MediaTracker tracker = new MediaTracker(new Canvas());
+					@Override
+					public Thread newThread(final Runnable runnable) {
+						final Thread thread = new Thread(runnable,
+								"JSkatGraphicPrefetcher-" + this.threadCount.incrementAndGet()); //$NON-NLS-1$
+						thread.setDaemon(true);
+						thread.setPriority(Thread.MIN_PRIORITY);
+						return thread;
+					}
+				});
 
-		loadImages(tracker);
+		prefetchCardSet(options.getCardSet());
+	}
 
-		log.debug("Bitmaps for JSkat logo and skat table loaded..."); //$NON-NLS-1$
+	/**
+	 * Discards all loaded images, they are loaded again on demand
+	 */
+	public void reloadAllJSkatImages() {
 
-	this.awtIcons = new ArrayList<List<Image>>();
-		this.icons = new HashMap<>();
-		loadIcons(tracker);
+		this.images.clear();
+		this.fxImages.clear();
+		this.prefetchedCardSets.clear();
 
-		log.debug("Bitmaps for icons loaded..."); //$NON-NLS-1$
+		prefetchCardSet(options.getCardSet());
+	}
 
-		this.cards = new HashMap<CardSet, Map<Card, Image>>();
-		this.cardBacks = new HashMap<CardSet, Image>();
-		loadCards(tracker);
+	/**
+	 * Loads the cards and the card back of a card set in the background, if
+	 * this wasn't done before
+	 *
+	 * @param cardSet
+	 *            Card set
+	 */
+	private void prefetchCardSet(final CardSet cardSet) {
 
-		log.debug("Bitmaps for cards loaded..."); //$NON-NLS-1$
+		if (!this.prefetchedCardSets.add(cardSet)) {
+			return;
+		}
 
-		this.flags = new ArrayList<>();
-		loadFlags(tracker);
+		log.debug("Prefetching card set {}...", cardSet); //$NON-NLS-1$
 
-		log.debug("Bitmaps for flags loaded..."); //$NON-NLS-1$
+		prefetch(getCardBackPath(CARD_BACK_SET));
+		for (final Card card : Card.values()) {
+			prefetch(getCardPath(cardSet, card));
+		}
 	}
 
-    private void loadFlags(final MediaTracker tracker) {
-		// for all flags
-		for (final Flag flag : Flag.values()) {
-			// add flag
-			this.flags.add(Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/" //$NON-NLS-1$
-					+ "flag_" + flag.toString().toLowerCase() + ".png"))); //$NON-NLS-1$ //$NON-NLS-2$
-			tracker.addImage(this.flags.get(flag.ordinal()), 3);
-		}
+	private void prefetch(final String path) {
 
-		try {
-			tracker.waitForID(3);
-		} catch (final InterruptedException e) {
-			e.printStackTrace();
+		final FutureTask<Image> task = getLoadingTask(path);
+		if (!task.isDone()) {
+			this.prefetcher.execute(task);
 		}
 	}
 
-	private void loadImages(final MediaTracker tracker) {
-		this.skatTable = Toolkit.getDefaultToolkit()
-				.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/skat_table.png")); //$NON-NLS-1$
-		tracker.addImage(this.skatTable, 0);
-		this.jskatLogo = Toolkit.getDefaultToolkit()
-				.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/jskat_logo.png")); //$NON-NLS-1$
-		tracker.addImage(this.jskatLogo, 0);
-
-		this.bidBubbles = new ArrayList<>();
-		this.bidBubbles.add(Toolkit.getDefaultToolkit()
-				.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/bid_left.png"))); //$NON-NLS-1$
-		this.bidBubbles.add(Toolkit.getDefaultToolkit()
-				.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/bid_right.png"))); //$NON-NLS-1$
-		this.bidBubbles.add(Toolkit.getDefaultToolkit()
-				.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/gui/bid_user.png"))); //$NON-NLS-1$
-		tracker.addImage(this.bidBubbles.get(0), 0);
-		tracker.addImage(this.bidBubbles.get(1), 0);
-		tracker.addImage(this.bidBubbles.get(2), 0);
+	/**
+	 * Gets an image, the image is loaded if it wasn't requested before
+	 *
+	 * @param path
+	 *            Path of the image resource
+	 * @return Image
+	 */
+	private Image getImage(final String path) {
+
+		final FutureTask<Image> task = getLoadingTask(path);
+		// loads the image on the calling thread, if the prefetcher hasn't
+		// started yet, otherwise waits for the prefetcher
+		task.run();
+
+		Image result = null;
 		try {
-			tracker.waitForID(0);
+			result = task.get();
 		} catch (final InterruptedException e) {
-			e.printStackTrace();
+			Thread.currentThread().interrupt();
+			log.error("Interrupted while loading image " + path, e); //$NON-NLS-1$
+		} catch (final ExecutionException e) {
+			log.error("Could not load image " + path, e.getCause()); //$NON-NLS-1$
 		}
+		return result;
 	}
 
-	/**
-	 * Loads all icons
-	 */
-	private void loadIcons(final MediaTracker tracker) {
-
-		// for all icons
-		for (final Icon icon : Icon.values()) {
-
-			// new array list for all sizes
-			this.awtIcons.add(new ArrayList<>());
-			icons.put(icon, new HashMap<>());
-
-			// for all sizes
-			for (final IconSize size : IconSize.values()) {
-
-				// add icon
-				this.awtIcons.get(icon.ordinal())
-						.add(Toolkit.getDefaultToolkit().getImage(ClassLoader
-								.getSystemResource("org/jskat/gui/img/gui/"
-										// $NON-NLS-1$
-										+ icon.toString().toLowerCase() + '_'
-										+ size.toString().toLowerCase()
-										+ ".png"))); //$NON-NLS-1$
-				tracker.addImage(
-						this.awtIcons.get(icon.ordinal()).get(size.ordinal()),
-						1);
-
-				icons.get(icon).put(size, new javafx.scene.image.Image("org/jskat/gui/img/gui/" //$NON-NLS-1$
-						+ icon.toString().toLowerCase() + '_' + size.toString().toLowerCase() + ".png")); //$NON-NLS-1$
+	private FutureTask<Image> getLoadingTask(final String path) {
+
+		FutureTask<Image> result = this.images.get(path);
+		if (result == null) {
+			final FutureTask<Image> newTask = new FutureTask<Image>(new Callable<Image>() {
+				@Override
+				public Image call() throws InterruptedException {
+					return loadImage(path);
+				}
+			});
+			result = this.images.putIfAbsent(path, newTask);
+			if (result == null) {
+				result = newTask;
 			}
 		}
-
-		try {
-			tracker.waitForID(1);
-		} catch (final InterruptedException e) {
-			e.printStackTrace();
-		}
+		return result;
 	}
 
-	/**
-	 * Load all card images
-	 *
-	 * @param cardFace
-	 *            The directory name for the card set to be loaded
-	 */
-	private void loadCards(final MediaTracker tracker) {
+	private Image loadImage(final String path) throws InterruptedException {
 
-		this.cards.clear();
-		for (final CardSet set : CardSet.values()) {
+		final Image image = Toolkit.getDefaultToolkit().createImage(ClassLoader.getSystemResource(path));
 
-			this.cards.put(set, new HashMap<Card, Image>());
+		final MediaTracker tracker = new MediaTracker(this.trackerComponent);
+		tracker.addImage(image, 0);
+		tracker.waitForID(0);
 
-			for (final Card card : Card.values()) {
+		if (tracker.isErrorID(0)) {
+			log.error("Error while loading image {}", path); //$NON-NLS-1$
+		}
 
-				this.cards.get(set).put(card,
-						Toolkit.getDefaultToolkit()
-								.getImage(ClassLoader.getSystemResource("org/jskat/gui/img/card/" //$NON-NLS-1$
-										+ set.getCardFace().toString().toLowerCase() + "/" //$NON-NLS-1$
-										+ getCardSetNameInLowerCase(set) + "/" + card.getSuit().shortString() + '-' //$NON-NLS-1$
-										+ card.getRank().shortString() + "." + set.getFileType())));
+		return image;
+	}
 
-				tracker.addImage(this.cards.get(set).get(card), 2);
-			}
+	private static String getCardPath(final CardSet set, final Card card) {
+		return IMAGE_PATH + "card/" //$NON-NLS-1$
+				+ set.getCardFace().toString().toLowerCase() + "/" //$NON-NLS-1$
+				+ getCardSetNameInLowerCase(set) + "/" + card.getSuit().shortString() + '-' //$NON-NLS-1$
+				+ card.getRank().shortString() + "." + set.getFileType(); //$NON-NLS-1$
+	}
 
-			this.cardBacks.put(set, Toolkit.getDefaultToolkit().getImage(ClassLoader.getSystemResource(
-					"org/jskat/gui/img/card/back/" + getCardSetNameInLowerCase(set) + "." + set.getFileType()))); //$NON-NLS-1$
-			tracker.addImage(this.cardBacks.get(set), 2);
-		}
-		try {
-			tracker.waitForID(2);
-		} catch (final InterruptedException e) {
-			e.printStackTrace();
-		}
+	private static String getCardBackPath(final CardSet set) {
+		return IMAGE_PATH + "card/back/" + getCardSetNameInLowerCase(set) + "." + set.getFileType(); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static String getIconPath(final Icon icon, final IconSize size) {
+		return IMAGE_PATH + "gui/" //$NON-NLS-1$
+				+ icon.toString().toLowerCase() + '_' + size.toString().toLowerCase() + ".png"; //$NON-NLS-1$
 	}
 
-	private String getCardSetNameInLowerCase(final CardSet set) {
+	private static String getGuiImagePath(final String fileName) {
+		return IMAGE_PATH + "gui/" + fileName; //$NON-NLS-1$
+	}
+
+	private static String getCardSetNameInLowerCase(final CardSet set) {
 		return set.getName().toLowerCase().replace(" ", "");
 	}
 
@@ -227,7 +227,7 @@ public class JSkatGraphicRepository {
 	 */
 	public Image getIconImage(final Icon icon, final IconSize size) {
 
-		return awtIcons.get(icon.ordinal()).get(size.ordinal());
+		return getImage(getIconPath(icon, size));
 	}
 
 	/**
@@ -240,7 +240,15 @@ public class JSkatGraphicRepository {
 	 * @return Icon image
 	 */
 	public ImageView getImageView(final Icon icon, final IconSize size) {
-		return new ImageView(icons.get(icon).get(size));
+
+		final String path = getIconPath(icon, size);
+
+		javafx.scene.image.Image result = this.fxImages.get(path);
+		if (result == null) {
+			this.fxImages.putIfAbsent(path, new javafx.scene.image.Image(path));
+			result = this.fxImages.get(path);
+		}
+		return new ImageView(result);
 	}
 
 	/**
@@ -256,10 +264,13 @@ public class JSkatGraphicRepository {
 
 		if (card != null) {
 
-			result = this.cards.get(options.getCardSet()).get(card);
+			final CardSet cardSet = options.getCardSet();
+			// the card set might have been changed in the preferences
+			prefetchCardSet(cardSet);
+			result = getImage(getCardPath(cardSet, card));
 		} else {
 
-			result = this.cardBacks.get(CardSet.ISS_GERMAN);
+			result = getImage(getCardBackPath(CARD_BACK_SET));
 		}
 
 		return result;
@@ -273,7 +284,7 @@ public class JSkatGraphicRepository {
 	 * @return Flag image
 	 */
 	public Image getFlagImage(final Flag flag) {
-		return this.flags.get(flag.ordinal());
+		return getImage(getGuiImagePath("flag_" + flag.toString().toLowerCase() + ".png")); //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	/**
@@ -283,7 +294,7 @@ public class JSkatGraphicRepository {
 	 */
 	public Image getSkatTableImage() {
 
-		return this.skatTable;
+		return getImage(getGuiImagePath("skat_table.png")); //$NON-NLS-1$
 	}
 
 	/**
@@ -293,7 +304,7 @@ public class JSkatGraphicRepository {
 	 */
 	public Image getJSkatLogoImage() {
 
-		return this.jskatLogo;
+		return getImage(getGuiImagePath("jskat_logo.png")); //$NON-NLS-1$
 	}
 
 	public javafx.scene.image.Image getJSkatLogoImageFX() {
@@ -306,7 +317,7 @@ public class JSkatGraphicRepository {
 	 * @return Image for the left opponent bid bubble
 	 */
 	public Image getLeftBidBubble() {
-		return this.bidBubbles.get(0);
+		return getImage(getGuiImagePath("bid_left.png")); //$NON-NLS-1$
 	}
 
 	/**
@@ -315,7 +326,7 @@ public class JSkatGraphicRepository {
 	 * @return Image for the right opponent bid bubble
 	 */
 	public Image getRightBidBubble() {
-		return this.bidBubbles.get(1);
+		return getImage(getGuiImagePath("bid_right.png")); //$NON-NLS-1$
 	}
 
 	/**
@@ -324,9 +335,10 @@ public class JSkatGraphicRepository {
 	 * @return Image for the user bid bubble
 	 */
 	public Image getUserBidBubble() {
-		return this.bidBubbles.get(2);
+		return getImage(getGuiImagePath("bid_user.png")); //$NON-NLS-1$
 	}
 
+
     /**
      * Holds all icon types
      */
@@ -0,0 +1,167 @@
+/**
+ * This file is part of JSkat.
+ *
+ * JSkat is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * JSkat is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with JSkat.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.jskat.gui.img;
+
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jskat.data.JSkatOptions;
+import org.jskat.util.Card;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache for card images that are pre-rendered in the size they are painted<br>
+ * The images are scaled once with high quality interpolation into images that
+ * are compatible with the graphics configuration of the screen. The cache is
+ * only invalidated when the scale factor, the card set or the graphics
+ * configuration changes, so that repaints only have to copy the pixels.
+ */
+public class ScaledCardImageCache {
+
+	private static Logger log = LoggerFactory.getLogger(ScaledCardImageCache.class);
+
+	private static JSkatOptions options = JSkatOptions.instance();
+
+	private final JSkatGraphicRepository bitmaps;
+
+	private final Map<Card, Image> scaledCards = new EnumMap<Card, Image>(Card.class);
+	private Image scaledCardBack;
+
+	private CardSet cardSet;
+	private double scaleFactor = Double.NaN;
+	private GraphicsConfiguration graphicsConfiguration;
+
+	/**
+	 * Constructor
+	 */
+	public ScaledCardImageCache() {
+		this(JSkatGraphicRepository.INSTANCE);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param bitmaps
+	 *            Repository with the original card images
+	 */
+	public ScaledCardImageCache(final JSkatGraphicRepository bitmaps) {
+		this.bitmaps = bitmaps;
+	}
+
+	/**
+	 * Gets the scaled card image
+	 *
+	 * @param card
+	 *            Card, NULL for the card back
+	 * @param newScaleFactor
+	 *            Scale factor
+	 * @param component
+	 *            Component the image is painted on
+	 * @return Scaled card image
+	 */
+	public synchronized Image getCardImage(final Card card, final double newScaleFactor,
+			final Component component) {
+
+		validate(newScaleFactor, component.getGraphicsConfiguration());
+
+		Image result = null;
+		if (card == null) {
+			if (this.scaledCardBack == null) {
+				this.scaledCardBack = createScaledImage(this.bitmaps.getCardImage(null));
+			}
+			result = this.scaledCardBack;
+		} else {
+			result = this.scaledCards.get(card);
+			if (result == null) {
+				result = createScaledImage(this.bitmaps.getCardImage(card));
+				this.scaledCards.put(card, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Removes all scaled images, e.g. after the original images were reloaded
+	 */
+	public synchronized void invalidate() {
+		this.scaledCards.clear();
+		this.scaledCardBack = null;
+	}
+
+	private void validate(final double newScaleFactor,
+			final GraphicsConfiguration newGraphicsConfiguration) {
+
+		final CardSet newCardSet = options.getCardSet();
+
+		if (this.scaleFactor != newScaleFactor || this.cardSet != newCardSet
+				|| this.graphicsConfiguration != newGraphicsConfiguration) {
+
+			log.debug("Invalidating scaled card images for card set {} and scale factor {}", newCardSet, //$NON-NLS-1$
+					newScaleFactor);
+
+			invalidate();
+			this.scaleFactor = newScaleFactor;
+			this.cardSet = newCardSet;
+			this.graphicsConfiguration = newGraphicsConfiguration;
+		}
+	}
+
+	private Image createScaledImage(final Image image) {
+
+		final int width = image.getWidth(null);
+		final int height = image.getHeight(null);
+
+		if (width <= 0 || height <= 0) {
+			// image is not loaded yet, it will be painted unscaled
+			return image;
+		}
+
+		final int scaledWidth = Math.max(1, (int) Math.round(width * this.scaleFactor));
+		final int scaledHeight = Math.max(1, (int) Math.round(height * this.scaleFactor));
+
+		BufferedImage result = null;
+		if (this.graphicsConfiguration != null) {
+			result = this.graphicsConfiguration.createCompatibleImage(scaledWidth, scaledHeight,
+					Transparency.TRANSLUCENT);
+		} else {
+			// component is not displayed yet
+			result = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+		}
+
+		final Graphics2D g2D = result.createGraphics();
+		try {
+			g2D.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g2D.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			g2D.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			g2D.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION,
+					RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+			g2D.drawImage(image, 0, 0, scaledWidth, scaledHeight, null);
+		} finally {
+			g2D.dispose();
+		}
+
+		return result;
+	}
+}
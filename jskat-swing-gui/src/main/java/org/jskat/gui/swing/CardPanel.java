@@ -22,12 +22,12 @@ import java.awt.Image;
 import java.awt.RenderingHints;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.geom.AffineTransform;
 
 import javax.swing.JPanel;
 
 import org.jskat.data.JSkatOptions;
 import org.jskat.gui.img.JSkatGraphicRepository;
+import org.jskat.gui.img.ScaledCardImageCache;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.GameType;
@@ -43,6 +43,7 @@ public class CardPanel extends JPanel {
     private static Logger log = LoggerFactory.getLogger(CardPanel.class);
 
     protected final JSkatGraphicRepository bitmaps;
+    private final ScaledCardImageCache scaledBitmaps;
 
     protected Double scaleFactor = 1.0;
     private Boolean showBackside = true;
@@ -73,6 +74,7 @@ public class CardPanel extends JPanel {
         createMouseAdapter();
 
 		this.bitmaps = JSkatGraphicRepository.INSTANCE;
+        this.scaledBitmaps = new ScaledCardImageCache(this.bitmaps);
         this.scaleFactor = scaleFactor;
         this.showBackside = showBackside;
 
@@ -224,15 +226,15 @@ public class CardPanel extends JPanel {
         int cardNo = 0;
         for (final Card card : cardsToPaint) {
 
-            final AffineTransform transform = new AffineTransform();
-            transform.scale(this.scaleFactor, this.scaleFactor);
-
+            int cardPosition = 0;
             if (cardNo * cardGap <= this.activeCardMinXPosition) {
-                transform.translate(cardNo * cardGap, 0);
+                cardPosition = cardNo * cardGap;
             } else if (this.activeCardMaxXPosition < cardNo * cardGap + cardWidth) {
-                transform.translate((cardNo - 1) * cardGap + cardWidth, 0);
+                cardPosition = (cardNo - 1) * cardGap + cardWidth;
             }
-            g2D.drawImage(getCardImage(card), transform, this);
+            // card images are pre-scaled, only the position is scaled here
+            g2D.drawImage(getCardImage(card),
+                    (int) Math.round(cardPosition * this.scaleFactor), 0, this);
 
             cardNo++;
         }
@@ -252,14 +254,10 @@ public class CardPanel extends JPanel {
         Image image = null;
 
         if (this.showBackside) {
-            image = this.bitmaps.getCardImage(null);
+            image = this.scaledBitmaps.getCardImage(null, this.scaleFactor, this);
         } else {
-            if (card == null) {
-                // e.g. in debug mode
-                image = this.bitmaps.getCardImage(null);
-            } else {
-                image = this.bitmaps.getCardImage(card);
-            }
+            // card == null e.g. in debug mode
+            image = this.scaledBitmaps.getCardImage(card, this.scaleFactor, this);
         }
         return image;
     }
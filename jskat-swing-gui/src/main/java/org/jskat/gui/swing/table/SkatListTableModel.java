@@ -17,8 +17,11 @@
 package org.jskat.gui.swing.table;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
+import javax.swing.SwingWorker;
 import javax.swing.table.AbstractTableModel;
 
 import org.jskat.data.GameSummary;
@@ -30,7 +33,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Provides a model for the skat list table
+ * Provides a model for the skat list table<br>
+ * The model keeps the running sums of all players, so that a new game result
+ * only adds one row. After a change of the skat list mode all rows are
+ * calculated again in the background.
  */
 class SkatListTableModel extends AbstractTableModel {
 
@@ -43,11 +49,25 @@ class SkatListTableModel extends AbstractTableModel {
 	private SkatListMode mode = SkatListMode.NORMAL;
 
 	private int playerCount = 3;
-	private final List<Player> declarers;
-	private final List<List<Integer>> playerResults;
-	private final List<GameSummary> gameResults;
+	private final List<GameResult> gameResults;
 	private final List<String> columns;
-	private final List<List<Integer>> displayValues;
+	/**
+	 * Display values, one row per game, the last column holds the game value
+	 */
+	private List<Integer[]> displayValues;
+	/**
+	 * Running sums of the players for the current mode
+	 */
+	private int[] playerSums;
+	/**
+	 * Incremented on every change that makes a background calculation
+	 * obsolete
+	 */
+	private int calculationVersion = 0;
+	/**
+	 * TRUE, while the display values are calculated in the background
+	 */
+	private boolean calculationPending = false;
 
 	/**
 	 * Constructor
@@ -56,8 +76,6 @@ class SkatListTableModel extends AbstractTableModel {
 
 		this.strings = JSkatResourceBundle.INSTANCE;
 
-		this.declarers = new ArrayList<>();
-		this.playerResults = new ArrayList<>();
 		this.gameResults = new ArrayList<>();
 		this.displayValues = new ArrayList<>();
 		this.columns = new ArrayList<>();
@@ -79,7 +97,7 @@ class SkatListTableModel extends AbstractTableModel {
 	@Override
 	public int getRowCount() {
 
-		return this.declarers.size();
+		return this.displayValues.size();
 	}
 
 	/**
@@ -90,8 +108,8 @@ class SkatListTableModel extends AbstractTableModel {
 
 		Object result = null;
 
-		if (this.displayValues.get(rowIndex).get(columnIndex) != null) {
-			result = this.displayValues.get(rowIndex).get(columnIndex);
+		if (this.displayValues.get(rowIndex)[columnIndex] != null) {
+			result = this.displayValues.get(rowIndex)[columnIndex];
 		} else {
 			result = "-"; //$NON-NLS-1$
 		}
@@ -125,85 +143,131 @@ class SkatListTableModel extends AbstractTableModel {
 	}
 
 	/**
-	 * Sets the skat list mode
+	 * Sets the skat list mode<br>
+	 * The display values are calculated in the background, the table shows
+	 * the old values until the calculation is finished.
 	 * 
 	 * @param newMode
 	 */
 	void setSkatListMode(final SkatListMode newMode) {
 
 		this.mode = newMode;
+		this.calculationPending = true;
 
-		calculateDisplayValues();
-
-		fireTableDataChanged();
-	}
-
-	void calculateDisplayValues() {
-
-		int currResult = 0;
-		List<Integer> playerResultsSoFar = new ArrayList<>();
-		for (int i = 0; i < this.playerCount; i++) {
-			playerResultsSoFar.add(new Integer(0));
-		}
-
-		this.displayValues.clear();
+		final int version = ++this.calculationVersion;
+		final int currPlayerCount = this.playerCount;
+		final List<GameResult> games = new ArrayList<>(this.gameResults);
+		final int[] sums = new int[currPlayerCount];
 
-		for (int game = 0; game < this.gameResults.size(); game++) {
+		new SwingWorker<List<Integer[]>, Void>() {
 
-			this.displayValues.add(new ArrayList<>());
+			@Override
+			protected List<Integer[]> doInBackground() {
+				return calculateDisplayValues(newMode, currPlayerCount, games, sums);
+			}
 
-			// add player values
-			for (int player = 0; player < this.playerCount; player++) {
+			@Override
+			protected void done() {
+				if (version != SkatListTableModel.this.calculationVersion) {
+					// list was changed in the meantime
+					return;
+				}
+				try {
+					setDisplayValues(get(), sums);
+				} catch (InterruptedException | ExecutionException e) {
+					log.error("Calculation of skat list failed", e); //$NON-NLS-1$
+				}
+			}
+		}.execute();
+	}
 
-				int previousResult = 0;
-				currResult = 0;
+	private void setDisplayValues(final List<Integer[]> newDisplayValues, final int[] newPlayerSums) {
 
-				if (this.declarers.get(game) != null) {
+		this.displayValues = newDisplayValues;
+		this.playerSums = newPlayerSums;
+		this.calculationPending = false;
 
-					// get previous result for player values
-					previousResult = playerResultsSoFar.get(player).intValue();
+		// add the games that were finished during the calculation
+		for (int game = this.displayValues.size(); game < this.gameResults.size(); game++) {
+			this.displayValues.add(calculateRow(this.mode, this.playerCount, this.gameResults.get(game),
+					this.playerSums));
+		}
 
-					// get player results from current game
-					switch (this.mode) {
-					case NORMAL:
-						currResult = this.playerResults.get(player).get(game);
-						break;
-					case TOURNAMENT:
-						boolean isDeclarer = (this.playerResults.get(player).get(game) != 0);
-						currResult = SkatConstants.getTournamentGameValue(isDeclarer, this.gameResults.get(game)
-								.getGameValue(), this.playerCount);
-						break;
-					case BIERLACHS:
-						// FIXME jan 31.05.2010 add bierlachs value
-						break;
-					}
-				}
+		fireTableDataChanged();
+	}
 
-				if (currResult != 0) {
+	static List<Integer[]> calculateDisplayValues(final SkatListMode mode, final int playerCount,
+			final List<GameResult> games, final int[] playerSums) {
 
-					Integer newResult = new Integer(previousResult + currResult);
-					this.displayValues.get(game).add(newResult);
-					playerResultsSoFar.set(player, newResult);
+		Arrays.fill(playerSums, 0);
 
-				} else {
+		final List<Integer[]> result = new ArrayList<>(games.size());
+		for (GameResult game : games) {
+			result.add(calculateRow(mode, playerCount, game, playerSums));
+		}
+		return result;
+	}
 
-					this.displayValues.get(game).add(null);
+	/**
+	 * Calculates the display values of one game
+	 * 
+	 * @param mode
+	 *            Skat list mode
+	 * @param playerCount
+	 *            Number of players
+	 * @param game
+	 *            Game result
+	 * @param playerSums
+	 *            Running sums of the players before the game, will be updated
+	 * @return Display values of the players and the game value, NULL if the
+	 *         value of a player didn't change
+	 */
+	static Integer[] calculateRow(final SkatListMode mode, final int playerCount, final GameResult game,
+			final int[] playerSums) {
+
+		final Integer[] result = new Integer[playerCount + 1];
+
+		// add player values
+		for (int player = 0; player < playerCount; player++) {
+
+			int currResult = 0;
+
+			if (game.declarerColumn > -1) {
+
+				// get player results from current game
+				final boolean isDeclarer = player == game.declarerColumn && game.gameValue != 0;
+				switch (mode) {
+				case NORMAL:
+					currResult = isDeclarer ? game.gameValue : 0;
+					break;
+				case TOURNAMENT:
+					currResult = SkatConstants.getTournamentGameValue(isDeclarer, game.gameValue, playerCount);
+					break;
+				case BIERLACHS:
+					// FIXME jan 31.05.2010 add bierlachs value
+					break;
 				}
 			}
 
-			// get game result
-			switch (this.mode) {
-			case NORMAL:
-			case BIERLACHS:
-				currResult = this.gameResults.get(game).getGameValue();
-				break;
-			case TOURNAMENT:
-				currResult = SkatConstants.getTournamentGameValue(true, this.gameResults.get(game).getGameValue(),
-						this.playerCount);
-				break;
+			if (currResult != 0) {
+				playerSums[player] += currResult;
+				result[player] = Integer.valueOf(playerSums[player]);
 			}
-			this.displayValues.get(game).add(currResult);
 		}
+
+		// get game result
+		switch (mode) {
+		case NORMAL:
+		case BIERLACHS:
+			result[playerCount] = Integer.valueOf(game.gameValue);
+			break;
+		case TOURNAMENT:
+			result[playerCount] = Integer.valueOf(SkatConstants.getTournamentGameValue(true, game.gameValue,
+					playerCount));
+			break;
+		}
+
+		return result;
 	}
 
 	/**
@@ -225,24 +289,19 @@ class SkatListTableModel extends AbstractTableModel {
 
 		// FIXME works only on 3 player series
 		// FIXME (jansch 21.03.2011) provide only one method for addResult()
-		this.declarers.add(declarer);
-		this.gameResults.add(gameSummary);
-
-		int declarerColumn = getDeclarerColumn(leftOpponent, rightOpponent, user, declarer);
-
+		int declarerColumn = -1;
 		if (declarer != null) {
-			this.playerResults.get(declarerColumn).add(Integer.valueOf(gameSummary.getGameValue()));
-			this.playerResults.get((declarerColumn + 1) % 3).add(Integer.valueOf(0));
-			this.playerResults.get((declarerColumn + 2) % 3).add(Integer.valueOf(0));
-		} else {
-			// game was passed in
-			for (int i = 0; i < this.playerCount; i++) {
-				this.playerResults.get(i).add(0);
-			}
+			declarerColumn = getDeclarerColumn(leftOpponent, rightOpponent, user, declarer);
+		}
+		// otherwise the game was passed in
+		final GameResult game = new GameResult(declarerColumn, gameSummary.getGameValue());
+		this.gameResults.add(game);
+
+		if (!this.calculationPending) {
+			final int row = this.displayValues.size();
+			this.displayValues.add(calculateRow(this.mode, this.playerCount, game, this.playerSums));
+			fireTableRowsInserted(row, row);
 		}
-		calculateDisplayValues();
-
-		fireTableDataChanged();
 	}
 
 	static int getDeclarerColumn(final Player leftOpponent, final Player rightOpponent, final Player player,
@@ -266,20 +325,14 @@ class SkatListTableModel extends AbstractTableModel {
 	 */
 	void clearList() {
 
-		this.declarers.clear();
-		for (List<Integer> currList : this.playerResults) {
-
-			currList.clear();
-		}
 		this.gameResults.clear();
-		this.displayValues.clear();
+		resetDisplayValues();
 
 		fireTableDataChanged();
 	}
 
 	public void setPlayerCount(final int newPlayerCount) {
 
-		this.declarers.clear();
 		this.gameResults.clear();
 
 		this.playerCount = newPlayerCount;
@@ -292,18 +345,24 @@ class SkatListTableModel extends AbstractTableModel {
 
 	void setColumns() {
 
-		this.playerResults.clear();
-		this.displayValues.clear();
+		resetDisplayValues();
 		this.columns.clear();
 
 		for (int i = 0; i < this.playerCount; i++) {
 			// FIXME (jan 14.12.2010) get player names
 			this.columns.add("P" + i);
-			this.playerResults.add(new ArrayList<>());
-			this.displayValues.add(new ArrayList<>());
 		}
 		this.columns.add(this.strings.getString("games")); //$NON-NLS-1$
-		this.displayValues.add(new ArrayList<>());
+	}
+
+	private void resetDisplayValues() {
+
+		// a running background calculation is obsolete now
+		this.calculationVersion++;
+		this.calculationPending = false;
+
+		this.displayValues = new ArrayList<>();
+		this.playerSums = new int[this.playerCount];
 	}
 
 	void setPlayerNames(final String upperLeftPlayer, final String upperRightPlayer, final String lowerPlayer) {
@@ -313,4 +372,21 @@ class SkatListTableModel extends AbstractTableModel {
 		this.columns.set(2, lowerPlayer);
 		fireTableStructureChanged();
 	}
+
+	/**
+	 * Result of a single game in the skat list
+	 */
+	static final class GameResult {
+
+		/**
+		 * Column of the declarer, -1 for passed in games
+		 */
+		final int declarerColumn;
+		final int gameValue;
+
+		GameResult(final int declarerColumn, final int gameValue) {
+			this.declarerColumn = declarerColumn;
+			this.gameValue = gameValue;
+		}
+	}
 }
@@ -32,6 +32,7 @@ import javax.swing.JPanel;
 import org.jskat.data.JSkatOptions;
 import org.jskat.gui.img.CardFace;
 import org.jskat.gui.img.JSkatGraphicRepository;
+import org.jskat.gui.img.ScaledCardImageCache;
 import org.jskat.util.Card;
 import org.jskat.util.CardList;
 import org.jskat.util.Player;
@@ -50,6 +51,7 @@ class TrickPanel extends JPanel implements ComponentListener {
 
 	private static JSkatOptions options = JSkatOptions.instance();
 	private final JSkatGraphicRepository bitmaps = JSkatGraphicRepository.INSTANCE;
+	private final ScaledCardImageCache scaledBitmaps = new ScaledCardImageCache(this.bitmaps);
 	private final List<Double> cardRotations;
 	private final List<Player> positions;
 	private final CardList trick;
@@ -201,12 +203,21 @@ class TrickPanel extends JPanel implements ComponentListener {
 					posY = yBorder + yScaleSize * (2.0d / 3.0d);
 				}
 
-				final AffineTransform transform = new AffineTransform();
-				transform.translate(posX * cardScale, posY * cardScale);
-				transform.rotate(this.cardRotations.get(i).doubleValue());
-				transform.scale(cardScale, cardScale);
+				// card images are pre-scaled, only the position and the
+				// rotation are transformed here
+				final Image scaledImage = this.scaledBitmaps.getCardImage(card, cardScale, this);
+				final double rotation = this.cardRotations.get(i).doubleValue();
 
-				g2D.drawImage(this.bitmaps.getCardImage(card), transform, this);
+				if (rotation == 0.0d) {
+					g2D.drawImage(scaledImage, (int) Math.round(posX * cardScale),
+							(int) Math.round(posY * cardScale), this);
+				} else {
+					final AffineTransform transform = new AffineTransform();
+					transform.translate(posX * cardScale, posY * cardScale);
+					transform.rotate(rotation);
+
+					g2D.drawImage(scaledImage, transform, this);
+				}
 			}
 		}
 	}